@@ -0,0 +1,108 @@
+package org.kiwiproject.consul.benchmarks;
+
+import org.kiwiproject.consul.model.health.ImmutableHealthCheck;
+import org.kiwiproject.consul.model.health.ImmutableNode;
+import org.kiwiproject.consul.model.health.ImmutableService;
+import org.kiwiproject.consul.model.health.ImmutableServiceHealth;
+import org.kiwiproject.consul.model.health.ServiceHealth;
+import org.kiwiproject.consul.model.kv.ImmutableValue;
+import org.kiwiproject.consul.model.kv.Value;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic test data for the benchmarks.
+ * <p>
+ * All data is derived from a fixed seed so that every run, on every machine, measures the same payloads.
+ */
+public final class BenchmarkPayloads {
+
+    private static final long SEED = 42L;
+
+    private BenchmarkPayloads() {
+        // utility class
+    }
+
+    /**
+     * Create KV entries whose values are Base64-encoded random text of the given size.
+     *
+     * @param count          the number of entries
+     * @param valueSizeBytes the size of each decoded value
+     * @return the entries
+     */
+    public static List<Value> values(int count, int valueSizeBytes) {
+        var random = new Random(SEED);
+        var values = new ArrayList<Value>(count);
+        for (int i = 0; i < count; i++) {
+            var bytes = randomText(random, valueSizeBytes);
+            values.add(ImmutableValue.builder()
+                    .createIndex(i + 1L)
+                    .modifyIndex(i + 100L)
+                    .lockIndex(0)
+                    .key("config/app/key-" + i)
+                    .flags(0)
+                    .value(Base64.getEncoder().encodeToString(bytes))
+                    .build());
+        }
+        return values;
+    }
+
+    /**
+     * Create service health entries for one service with {@code count} instances, each with two checks.
+     *
+     * @param count the number of service instances
+     * @return the entries
+     */
+    public static List<ServiceHealth> serviceHealths(int count) {
+        var random = new Random(SEED);
+        var healths = new ArrayList<ServiceHealth>(count);
+        for (int i = 0; i < count; i++) {
+            var nodeName = "node-" + i;
+            var address = "10.0." + (i / 250) + "." + (i % 250);
+            var serviceId = "payments-" + i;
+            healths.add(ImmutableServiceHealth.builder()
+                    .node(ImmutableNode.builder()
+                            .node(nodeName)
+                            .address(address)
+                            .datacenter("dc1")
+                            .build())
+                    .service(ImmutableService.builder()
+                            .id(serviceId)
+                            .service("payments")
+                            .address(address)
+                            .port(8080 + random.nextInt(100))
+                            .addTags("v1", "primary")
+                            .putMeta("version", "1." + random.nextInt(10))
+                            .build())
+                    .addChecks(check(nodeName, "serfHealth", "Serf Health Status", null),
+                            check(nodeName, "service:" + serviceId, "Service 'payments' check", serviceId))
+                    .build());
+        }
+        return healths;
+    }
+
+    private static ImmutableHealthCheck check(String node, String checkId, String name, String serviceId) {
+        var builder = ImmutableHealthCheck.builder()
+                .node(node)
+                .checkId(checkId)
+                .name(name)
+                .status("passing")
+                .output("HTTP GET http://localhost:8080/health: 200 OK Output: ok");
+        if (serviceId != null) {
+            builder.serviceId(serviceId).serviceName("payments");
+        }
+        return builder.build();
+    }
+
+    private static byte[] randomText(Random random, int size) {
+        // lowercase ASCII letters only, so the UTF-8 and Base64 sizes are predictable
+        var chars = new byte[size];
+        for (int i = 0; i < size; i++) {
+            chars[i] = (byte) ('a' + random.nextInt(26));
+        }
+        return chars;
+    }
+}
@@ -0,0 +1,65 @@
+package org.kiwiproject.consul.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.kiwiproject.consul.model.health.ServiceHealth;
+import org.kiwiproject.consul.model.kv.Value;
+import org.kiwiproject.consul.util.Jackson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding of typical Consul response bodies into the Immutables models using {@link Jackson#MAPPER},
+ * which is the same mapper the Retrofit converter uses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@State(Scope.Benchmark)
+public class JacksonDecodingBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int entries;
+
+    @Param({ "64", "4096" })
+    public int kvValueSizeBytes;
+
+    private byte[] serviceHealthJson;
+    private byte[] valuesJson;
+    private ObjectReader serviceHealthReader;
+    private ObjectReader valuesReader;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        serviceHealthJson = Jackson.MAPPER.writeValueAsBytes(BenchmarkPayloads.serviceHealths(entries));
+        valuesJson = Jackson.MAPPER.writeValueAsBytes(BenchmarkPayloads.values(entries, kvValueSizeBytes));
+        serviceHealthReader = Jackson.MAPPER.readerFor(new TypeReference<List<ServiceHealth>>() {});
+        valuesReader = Jackson.MAPPER.readerFor(new TypeReference<List<Value>>() {});
+    }
+
+    @Benchmark
+    public List<ServiceHealth> decodeServiceHealth() throws IOException {
+        return serviceHealthReader.readValue(serviceHealthJson);
+    }
+
+    @Benchmark
+    public List<Value> decodeValues() throws IOException {
+        return valuesReader.readValue(valuesJson);
+    }
+}
@@ -0,0 +1,120 @@
+package org.kiwiproject.consul.cache;
+
+import com.google.common.collect.ImmutableMap;
+import org.kiwiproject.consul.async.ConsulResponseCallback;
+import org.kiwiproject.consul.benchmarks.BenchmarkPayloads;
+import org.kiwiproject.consul.config.CacheConfig;
+import org.kiwiproject.consul.model.ConsulResponse;
+import org.kiwiproject.consul.model.kv.ImmutableValue;
+import org.kiwiproject.consul.model.kv.Value;
+import org.kiwiproject.consul.monitoring.ClientEventHandler;
+import org.kiwiproject.consul.monitoring.NoOpClientEventCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Measures {@link ConsulCache#convertToMap(ConsulResponse)}, which builds the snapshot map on every poll.
+ * <p>
+ * The {@code scenario} parameter selects what the previous snapshot looks like:
+ * <ul>
+ *   <li>{@code first-poll}: there is no previous snapshot, so the map is always built from scratch</li>
+ *   <li>{@code unchanged}: the response equals the previous snapshot, which is returned as is</li>
+ *   <li>{@code small-delta}: one entry in a hundred (at least one) changed, so the unchanged instances are reused
+ *   in a new map</li>
+ * </ul>
+ * The responses always contain new instances equal to the previous ones, as a freshly decoded response would. The
+ * previous snapshot is set up by completing a poll of the started cache, as Consul would.
+ * <p>
+ * This lives in the {@code org.kiwiproject.consul.cache} package so it can call the package-private methods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@State(Scope.Benchmark)
+public class ConvertToMapBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int entries;
+
+    @Param({ "first-poll", "unchanged", "small-delta" })
+    public String scenario;
+
+    private ConsulCache<String, Value> cache;
+    private ConsulResponse<List<Value>> response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var callbackHolder = new AtomicReference<ConsulResponseCallback<List<Value>>>();
+        cache = new ConsulCache<>(
+                Value::getKey,
+                // only captures the callback, so the cache polls once the benchmark completes a poll, then waits
+                (index, callback) -> callbackHolder.set(callback),
+                CacheConfig.builder().build(),
+                new ClientEventHandler("benchmark", new NoOpClientEventCallback()),
+                new CacheDescriptor("keyvalue", "benchmark"));
+
+        var values = BenchmarkPayloads.values(entries, 64);
+        switch (scenario) {
+            case "first-poll" -> response = responseOf(values);
+            case "unchanged" -> {
+                completePoll(callbackHolder, values);
+                response = responseOf(BenchmarkPayloads.values(entries, 64));
+            }
+            case "small-delta" -> {
+                completePoll(callbackHolder, values);
+                response = responseOf(withChanges(BenchmarkPayloads.values(entries, 64)));
+            }
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        }
+    }
+
+    private void completePoll(AtomicReference<ConsulResponseCallback<List<Value>>> callbackHolder,
+                              List<Value> values) {
+        cache.start();
+        callbackHolder.get().onComplete(responseOf(values));
+    }
+
+    private static List<Value> withChanges(List<Value> values) {
+        var changed = new ArrayList<>(values);
+        for (int i = 0; i < changed.size(); i += 100) {
+            var value = changed.get(i);
+            changed.set(i, ImmutableValue.copyOf(value)
+                    .withModifyIndex(value.getModifyIndex() + 1)
+                    .withValue("Y2hhbmdlZA=="));
+        }
+        return changed;
+    }
+
+    private ConsulResponse<List<Value>> responseOf(List<Value> values) {
+        return new ConsulResponse<>(values, 0, true, BigInteger.valueOf(entries), null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cache.close();
+    }
+
+    @Benchmark
+    public ImmutableMap<String, Value> convertToMap() {
+        return cache.convertToMap(response);
+    }
+}
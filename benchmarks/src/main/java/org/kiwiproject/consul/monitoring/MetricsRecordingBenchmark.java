@@ -0,0 +1,90 @@
+package org.kiwiproject.consul.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.kiwiproject.consul.cache.CacheDescriptor;
+import org.kiwiproject.consul.monitoring.micrometer.MicrometerConsulMetricsRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost the metrics add to each request and cache poll, for each kind of registry. The no-op registry
+ * is the baseline, since that is what clients use unless configured otherwise.
+ * <p>
+ * Recorders are called on the requesting threads, so this runs with several threads to include contention.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@Threads(4)
+@State(Scope.Benchmark)
+public class MetricsRecordingBenchmark {
+
+    @Param({"noop", "in-memory", "micrometer"})
+    public String registryType;
+
+    private final CacheDescriptor cacheDescriptor = new CacheDescriptor("health.service", "my-service");
+    private final RuntimeException failure = new RuntimeException("benchmark");
+
+    private ConsulMetricsRegistry.HttpRequestRecorder httpRequestRecorder;
+    private ClientEventHandler eventHandler;
+    private ClientEventDispatcher dispatcher;
+
+    @Setup
+    public void setUp() {
+        var registry = switch (registryType) {
+            case "noop" -> new NoOpConsulMetricsRegistry();
+            case "in-memory" -> new InMemoryConsulMetricsRegistry();
+            case "micrometer" -> new MicrometerConsulMetricsRegistry(new SimpleMeterRegistry());
+            default -> throw new IllegalArgumentException("Unknown registry type: " + registryType);
+        };
+
+        httpRequestRecorder = registry.httpRequestRecorder("health", "GET", "health/service/{service}");
+        dispatcher = ClientEventDispatcher.create(1_024, ClientEventDispatcher.OverflowPolicy.DROP);
+        eventHandler = new ClientEventHandler("health", new NoOpClientEventCallback(), dispatcher, registry);
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Benchmark
+    public void recordResponse() {
+        httpRequestRecorder.recordResponse(200, 1_500_000, 0, 2_048);
+    }
+
+    @Benchmark
+    public void recordBlockingResponse() {
+        httpRequestRecorder.recordBlockingResponse(200, 5_000_000_000L, 0, 2_048);
+    }
+
+    @Benchmark
+    public void recordFailure() {
+        httpRequestRecorder.recordFailure(1_500_000, failure);
+    }
+
+    @Benchmark
+    public void cachePollingSuccess() {
+        eventHandler.cachePollingSuccess(cacheDescriptor, true, 25L);
+    }
+
+    @Benchmark
+    public void cacheListenersNotified() {
+        eventHandler.cacheListenersNotified(cacheDescriptor, 40_000);
+    }
+}
@@ -0,0 +1,62 @@
+package org.kiwiproject.consul.option;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link QueryOptions#toQuery()}, which runs for every query made through the clients.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@State(Scope.Benchmark)
+public class QueryOptionsBenchmark {
+
+    private QueryOptions blank;
+    private QueryOptions blocking;
+    private QueryOptions full;
+
+    @Setup
+    public void setUp() {
+        blank = Options.BLANK_QUERY_OPTIONS;
+        blocking = QueryOptions.blockSeconds(10, BigInteger.valueOf(123_456_789L)).build();
+        full = QueryOptions.blockSeconds(10, BigInteger.valueOf(123_456_789L))
+                .token("a5a8a6d4-7f29-4b8e-9a1e-0b1b8c4e2f11")
+                .consistencyMode(ConsistencyMode.STALE)
+                .near("_agent")
+                .datacenter("dc1")
+                .filter("Service.Meta.version == \"1.2\"")
+                .addTag("primary")
+                .addTag("v1")
+                .build();
+    }
+
+    @Benchmark
+    public Map<String, Object> blank() {
+        return blank.toQuery();
+    }
+
+    @Benchmark
+    public Map<String, Object> blocking() {
+        return blocking.toQuery();
+    }
+
+    @Benchmark
+    public Map<String, Object> full() {
+        return full.toQuery();
+    }
+}
@@ -0,0 +1,65 @@
+package org.kiwiproject.consul.util;
+
+import okhttp3.Headers;
+import org.kiwiproject.consul.model.ConsulResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import retrofit2.Response;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Http#consulResponse(Response)}, which runs for every successful Consul response and
+ * parses the {@code X-Consul-*} and agent caching headers (including creating a {@code BigInteger} index).
+ * <p>
+ * This lives in the {@code org.kiwiproject.consul.util} package so it can call the package-private method.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@State(Scope.Benchmark)
+public class HttpConsulResponseBenchmark {
+
+    @Param({ "minimal", "blocking", "agentCache" })
+    public String headerSet;
+
+    private Response<List<String>> response;
+
+    @Setup
+    public void setUp() {
+        var headers = switch (headerSet) {
+            case "minimal" -> Headers.of("Content-Type", "application/json");
+            case "blocking" -> Headers.of(
+                    "Content-Type", "application/json",
+                    "X-Consul-Index", "123456789012",
+                    "X-Consul-Knownleader", "true",
+                    "X-Consul-Lastcontact", "12");
+            case "agentCache" -> Headers.of(
+                    "Content-Type", "application/json",
+                    "X-Consul-Index", "123456789012",
+                    "X-Consul-Knownleader", "true",
+                    "X-Consul-Lastcontact", "12",
+                    "X-Cache", "HIT",
+                    "Age", "3");
+            default -> throw new IllegalArgumentException("Unknown header set: " + headerSet);
+        };
+        response = Response.success(List.of("a", "b"), headers);
+    }
+
+    @Benchmark
+    public ConsulResponse<List<String>> consulResponse() {
+        return Http.consulResponse(response);
+    }
+}
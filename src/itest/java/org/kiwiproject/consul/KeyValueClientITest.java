@@ -63,6 +63,19 @@ class KeyValueClientITest extends BaseIntegrationTest {
         assertThat(keyValueClient.getValueAsString(key)).contains(value);
     }
 
+    @Test
+    void shouldPutAndDeleteAsynchronously() throws Exception {
+        var key = randomUUIDString();
+        var value = randomUUIDString();
+
+        assertThat(keyValueClient.putValueAsync(key, value, 0L, Options.BLANK_PUT_OPTIONS, TEST_CHARSET)
+                .get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(keyValueClient.getValueAsString(key, TEST_CHARSET)).contains(value);
+
+        keyValueClient.deleteKeyAsync(key, Options.BLANK_DELETE_OPTIONS).get(5, TimeUnit.SECONDS);
+        assertThat(keyValueClient.getValue(key)).isEmpty();
+    }
+
     @Test
     void shouldPutAndReceiveStringWithAnotherCharset() {
         var key = randomUUIDString();
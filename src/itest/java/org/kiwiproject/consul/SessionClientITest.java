@@ -11,6 +11,7 @@ import org.kiwiproject.consul.model.session.SessionCreatedResponse;
 import org.kiwiproject.consul.model.session.SessionInfo;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 class SessionClientITest extends BaseIntegrationTest {
 
@@ -49,6 +50,20 @@ class SessionClientITest extends BaseIntegrationTest {
         sessionClient.destroySession(sessionResponse.getId());
     }
 
+    @Test
+    void shouldCreateRenewAndDestroySessionAsynchronously() throws Exception {
+        final Session value = ImmutableSession.builder().name("session_" + randomUUIDString()).build();
+
+        var info = sessionClient.createSessionAsync(value, null)
+                .thenCompose(session -> sessionClient.renewSessionAsync(null, session.getId()))
+                .get(5, TimeUnit.SECONDS)
+                .orElseThrow();
+
+        sessionClient.destroySessionAsync(info.getId(), null).get(5, TimeUnit.SECONDS);
+
+        assertThat(sessionClient.getSessionInfoAsync(info.getId(), null).get(5, TimeUnit.SECONDS)).isEmpty();
+    }
+
     @Test
     void testRenewSession() {
         final Session value = ImmutableSession.builder().name("session_" + randomUUIDString()).build();
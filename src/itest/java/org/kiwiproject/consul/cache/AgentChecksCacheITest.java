@@ -0,0 +1,45 @@
+package org.kiwiproject.consul.cache;
+
+import static java.util.Objects.nonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kiwiproject.consul.Awaiting.awaitAtMost1s;
+import static org.kiwiproject.consul.TestUtils.randomUUIDString;
+
+import org.junit.jupiter.api.Test;
+import org.kiwiproject.consul.BaseIntegrationTest;
+import org.kiwiproject.consul.model.State;
+
+import java.util.concurrent.TimeUnit;
+
+class AgentChecksCacheITest extends BaseIntegrationTest {
+
+    @Test
+    void shouldTrackStatusOfChecksRegisteredWithAgent() throws Exception {
+        var agentClient = client.agentClient();
+        var checkName = randomUUIDString();
+        var checkId = randomUUIDString();
+
+        try (var cache = AgentChecksCache.newCache(agentClient)) {
+            cache.start();
+            assertThat(cache.awaitInitialized(3, TimeUnit.SECONDS)).isTrue();
+
+            agentClient.registerCheck(checkId, checkName, 20L);
+            try {
+                agentClient.passCheck(checkId);
+                awaitAtMost1s().until(() -> hasStatus(cache, checkId, State.PASS));
+
+                agentClient.failCheck(checkId);
+                awaitAtMost1s().until(() -> hasStatus(cache, checkId, State.FAIL));
+            } finally {
+                agentClient.deregisterCheck(checkId);
+            }
+
+            awaitAtMost1s().until(() -> !cache.getMap().containsKey(checkId));
+        }
+    }
+
+    private static boolean hasStatus(AgentChecksCache cache, String checkId, State state) {
+        var check = cache.getMap().get(checkId);
+        return nonNull(check) && State.fromName(check.getStatus()) == state;
+    }
+}
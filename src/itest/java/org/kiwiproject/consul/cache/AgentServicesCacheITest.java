@@ -0,0 +1,46 @@
+package org.kiwiproject.consul.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kiwiproject.consul.Awaiting.awaitAtMost1s;
+import static org.kiwiproject.consul.TestUtils.randomUUIDString;
+
+import org.junit.jupiter.api.Test;
+import org.kiwiproject.consul.BaseIntegrationTest;
+import org.kiwiproject.consul.model.health.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+class AgentServicesCacheITest extends BaseIntegrationTest {
+
+    private static final List<String> NO_TAGS = List.of();
+    private static final Map<String, String> NO_META = Map.of();
+
+    @Test
+    void shouldContainServicesRegisteredWithAgent() throws InterruptedException {
+        var serviceName = randomUUIDString();
+        var serviceId = createAutoDeregisterServiceId();
+
+        List<Map<String, Service>> result = new CopyOnWriteArrayList<>();
+
+        try (var cache = AgentServicesCache.newCache(client.agentClient())) {
+            cache.addListener(result::add);
+            cache.start();
+            assertThat(cache.awaitInitialized(3, TimeUnit.SECONDS)).isTrue();
+            assertThat(cache.getMap()).doesNotContainKey(serviceId);
+
+            client.agentClient().register(20001, 20, serviceName, serviceId, NO_TAGS, NO_META);
+            awaitAtMost1s().until(() -> cache.getMap().containsKey(serviceId));
+
+            assertThat(cache.getMap().get(serviceId).getService()).isEqualTo(serviceName);
+
+            client.agentClient().deregister(serviceId);
+            awaitAtMost1s().until(() -> !cache.getMap().containsKey(serviceId));
+        }
+
+        // the initial snapshot, the registration, and the deregistration
+        assertThat(result).hasSize(3);
+    }
+}
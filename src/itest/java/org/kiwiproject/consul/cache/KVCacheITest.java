@@ -147,6 +147,41 @@ class KVCacheITest extends BaseIntegrationTest {
         kvClient.deleteKeys(root);
     }
 
+    @Test
+    void testSubTreeListeners() {
+        var root = randomUUIDString();
+        kvClient.putValue(root + "/flags/dark-mode", "off");
+        kvClient.putValue(root + "/limits/rate", "100");
+        final List<KVTrie> flagEvents = new ArrayList<>();
+
+        try (var cache = KVCache.newCache(kvClient, root + "/", 10)) {
+            cache.addSubTreeListener("flags/", flagEvents::add);
+            cache.start();
+
+            if (cacheNotInitializedWithinOneSecond(cache)) {
+                fail("cache initialization failed");
+            }
+            assertThat(flagEvents).hasSize(1);
+            assertThat(flagEvents.get(0).asMap()).containsOnlyKeys("flags/dark-mode");
+
+            kvClient.putValue(root + "/limits/rate", "200");
+            awaitAtMost500ms().until(() -> cache.getTree().get("limits/rate")
+                    .flatMap(Value::getValueAsString)
+                    .filter("200"::equals)
+                    .isPresent());
+            assertThat(flagEvents)
+                    .describedAs("changes outside the prefix should not notify the listener")
+                    .hasSize(1);
+
+            kvClient.putValue(root + "/flags/new-checkout", "on");
+            awaitAtMost500ms().until(() -> flagEvents.size() == 2);
+            assertThat(flagEvents.get(1).asMap()).containsOnlyKeys("flags/dark-mode", "flags/new-checkout");
+            assertThat(cache.subTree("limits/").asMap()).containsOnlyKeys("limits/rate");
+        }
+
+        kvClient.deleteKeys(root);
+    }
+
     @Test
     void testLateListenersGetValues() {
         var root = randomUUIDString();
@@ -24,6 +24,7 @@ import retrofit2.http.QueryMap;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class AclClient extends BaseClient {
 
@@ -120,6 +121,82 @@ public class AclClient extends BaseClient {
         http.extract(api.deleteRole(id));
     }
 
+    public CompletableFuture<PolicyResponse> createPolicyAsync(Policy policy) {
+        return http.extractAsync(api.createPolicy(policy));
+    }
+
+    public CompletableFuture<PolicyResponse> readPolicyAsync(String id) {
+        return http.extractAsync(api.readPolicy(id));
+    }
+
+    public CompletableFuture<PolicyResponse> readPolicyByNameAsync(String name) {
+        return http.extractAsync(api.readPolicyByName(name));
+    }
+
+    public CompletableFuture<PolicyResponse> updatePolicyAsync(String id, Policy policy) {
+        return http.extractAsync(api.updatePolicy(id, policy));
+    }
+
+    public CompletableFuture<Void> deletePolicyAsync(String id) {
+        return http.handleAsync(api.deletePolicy(id));
+    }
+
+    public CompletableFuture<List<PolicyResponse>> listPoliciesAsync() {
+        return http.extractAsync(api.listPolicies());
+    }
+
+    public CompletableFuture<TokenResponse> createTokenAsync(Token token) {
+        return http.extractAsync(api.createToken(token));
+    }
+
+    public CompletableFuture<TokenResponse> cloneTokenAsync(String id, Token token) {
+        return http.extractAsync(api.cloneToken(id, token));
+    }
+
+    public CompletableFuture<TokenResponse> readTokenAsync(String id) {
+        return http.extractAsync(api.readToken(id));
+    }
+
+    public CompletableFuture<TokenResponse> readSelfTokenAsync() {
+        return http.extractAsync(api.readToken("self"));
+    }
+
+    public CompletableFuture<TokenResponse> updateTokenAsync(String id, Token token) {
+        return http.extractAsync(api.updateToken(id, token));
+    }
+
+    public CompletableFuture<List<TokenListResponse>> listTokensAsync(TokenQueryOptions queryOptions) {
+        return http.extractAsync(api.listTokens(queryOptions.toQuery()));
+    }
+
+    public CompletableFuture<Void> deleteTokenAsync(String id) {
+        return http.handleAsync(api.deleteToken(id));
+    }
+
+    public CompletableFuture<RoleResponse> createRoleAsync(Role role) {
+        return http.extractAsync(api.createRole(role));
+    }
+
+    public CompletableFuture<RoleResponse> readRoleAsync(String id) {
+        return http.extractAsync(api.readRole(id));
+    }
+
+    public CompletableFuture<RoleResponse> readRoleByNameAsync(String name) {
+        return http.extractAsync(api.readRoleByName(name));
+    }
+
+    public CompletableFuture<RoleResponse> updateRoleAsync(String id, Role role) {
+        return http.extractAsync(api.updateRole(id, role));
+    }
+
+    public CompletableFuture<List<RoleListResponse>> listRolesAsync(RoleOptions roleOptions) {
+        return http.extractAsync(api.listRoles(roleOptions.toQuery()));
+    }
+
+    public CompletableFuture<Void> deleteRoleAsync(String id) {
+        return http.handleAsync(api.deleteRole(id));
+    }
+
     interface Api {
 
         @PUT("acl/policy")
@@ -32,13 +32,14 @@ import java.net.URL;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * HTTP Client for /v1/agent/ endpoints.
  *
  * @see <a href="https://developer.hashicorp.com/consul/api-docs/agent">The Consul API Docs</a>
  */
-public class AgentClient extends BaseClient {
+public class AgentClient extends BaseCacheableClient {
 
     private static final String CLIENT_NAME = "agent";
 
@@ -49,8 +50,9 @@ public class AgentClient extends BaseClient {
      *
      * @param retrofit The {@link Retrofit} to build a client from.
      */
-    AgentClient(Retrofit retrofit, ClientConfig config, ClientEventCallback eventCallback) {
-        super(CLIENT_NAME, config, eventCallback);
+    AgentClient(Retrofit retrofit, ClientConfig config, ClientEventCallback eventCallback,
+                NetworkTimeoutConfig networkTimeoutConfig) {
+        super(CLIENT_NAME, config, eventCallback, networkTimeoutConfig);
         this.api = retrofit.create(Api.class);
     }
 
@@ -461,6 +463,21 @@ public class AgentClient extends BaseClient {
         return http.extract(api.getChecks(queryOptions.toQuery()));
     }
 
+    /**
+     * Asynchronously retrieves all checks registered with the Agent.
+     * <p>
+     * This endpoint supports hash-based blocking queries; use {@link QueryOptions#blockSeconds(int, String)}
+     * with the {@link ConsulResponse#getContentHash() content hash} of a previous response to wait for changes.
+     * <p>
+     * GET /v1/agent/checks
+     *
+     * @param queryOptions The Query Options to use.
+     * @param callback     Callback implemented by callee to handle results, a Map of Check ID to Checks.
+     */
+    public void getChecks(QueryOptions queryOptions, ConsulResponseCallback<Map<String, HealthCheck>> callback) {
+        http.extractConsulResponse(api.getChecks(queryOptions.toQuery()), callback);
+    }
+
     /**
      * Retrieves all services registered with the Agent.
      * <p>
@@ -484,6 +501,21 @@ public class AgentClient extends BaseClient {
         return http.extract(api.getServices(queryOptions.toQuery()));
     }
 
+    /**
+     * Asynchronously retrieves all services registered with the Agent.
+     * <p>
+     * This endpoint supports hash-based blocking queries; use {@link QueryOptions#blockSeconds(int, String)}
+     * with the {@link ConsulResponse#getContentHash() content hash} of a previous response to wait for changes.
+     * <p>
+     * GET /v1/agent/services
+     *
+     * @param queryOptions The Query Options to use.
+     * @param callback     Callback implemented by callee to handle results, a Map of Service ID to Services.
+     */
+    public void getServices(QueryOptions queryOptions, ConsulResponseCallback<Map<String, Service>> callback) {
+        http.extractConsulResponse(api.getServices(queryOptions.toQuery()), callback);
+    }
+
     /**
      * Retrieves all information about a service.
      * <p>
@@ -867,6 +899,208 @@ public class AgentClient extends BaseClient {
         http.handle(api.toggleMaintenanceMode(serviceId, queryOptions.toQuery()));
     }
 
+    /**
+     * Asynchronously registers a service with the Agent.
+     * <p>
+     * PUT /v1/agent/service/register
+     *
+     * @param registration          The registration payload.
+     * @param options               A QueryOptions instance.
+     * @param queryParameterOptions The Query Parameter Options to use.
+     * @return A future that completes when the service has been registered.
+     */
+    public CompletableFuture<Void> registerAsync(Registration registration,
+                                                 QueryOptions options,
+                                                 QueryParameterOptions queryParameterOptions) {
+        return http.handleAsync(api.register(registration, options.toQuery(), queryParameterOptions.toQueryParameters()));
+    }
+
+    /**
+     * Asynchronously de-registers a particular service from the Agent.
+     * <p>
+     * PUT /v1/agent/service/deregister/{serviceId}
+     *
+     * @param serviceId the ID of the service to deregister
+     * @param options   the query options to use
+     * @return A future that completes when the service has been de-registered.
+     */
+    public CompletableFuture<Void> deregisterAsync(String serviceId, QueryOptions options) {
+        return http.handleAsync(api.deregister(serviceId, options.toQuery()));
+    }
+
+    /**
+     * Asynchronously registers a Health Check with the Agent.
+     * <p>
+     * PUT /v1/agent/check/register
+     *
+     * @param check The Check to register.
+     * @return A future that completes when the check has been registered.
+     */
+    public CompletableFuture<Void> registerCheckAsync(Check check) {
+        return http.handleAsync(api.registerCheck(check));
+    }
+
+    /**
+     * Asynchronously de-registers a Health Check with the Agent.
+     * <p>
+     * PUT /v1/agent/check/deregister/{checkId}
+     *
+     * @param checkId the id of the Check to deregister
+     * @return A future that completes when the check has been de-registered.
+     */
+    public CompletableFuture<Void> deregisterCheckAsync(String checkId) {
+        return http.handleAsync(api.deregisterCheck(checkId));
+    }
+
+    /**
+     * Asynchronously retrieves the Agent's configuration and member information.
+     * <p>
+     * GET /v1/agent/self
+     *
+     * @return A future containing the Agent information.
+     */
+    public CompletableFuture<Agent> getAgentAsync() {
+        return http.extractAsync(api.getAgent());
+    }
+
+    /**
+     * Asynchronously retrieves all checks registered with the Agent.
+     * <p>
+     * GET /v1/agent/checks
+     *
+     * @param queryOptions The Query Options to use.
+     * @return A future containing a map of Check ID to Checks.
+     */
+    public CompletableFuture<Map<String, HealthCheck>> getChecksAsync(QueryOptions queryOptions) {
+        return http.extractAsync(api.getChecks(queryOptions.toQuery()));
+    }
+
+    /**
+     * Asynchronously retrieves all services registered with the Agent.
+     * <p>
+     * GET /v1/agent/services
+     *
+     * @param queryOptions The Query Options to use.
+     * @return A future containing a map of Service ID to Services.
+     */
+    public CompletableFuture<Map<String, Service>> getServicesAsync(QueryOptions queryOptions) {
+        return http.extractAsync(api.getServices(queryOptions.toQuery()));
+    }
+
+    /**
+     * Asynchronously retrieves all information about a service.
+     * <p>
+     * GET /v1/agent/service/:service_id
+     *
+     * @param id           The service id.
+     * @param queryOptions The Query Options to use.
+     * @return A future containing a {@link ConsulResponse} with the {@link FullService} object.
+     */
+    public CompletableFuture<ConsulResponse<FullService>> getServiceAsync(String id, QueryOptions queryOptions) {
+        return http.extractConsulResponseAsync(api.getService(id, queryOptions.toQuery()));
+    }
+
+    /**
+     * Asynchronously retrieves all members that the Agent can see in the gossip pool.
+     * <p>
+     * GET /v1/agent/members
+     *
+     * @param queryOptions The Query Options to use.
+     * @return A future containing the list of Members.
+     */
+    public CompletableFuture<List<Member>> getMembersAsync(QueryOptions queryOptions) {
+        return http.extractAsync(api.getMembers(queryOptions.toQuery()));
+    }
+
+    /**
+     * Asynchronously instructs the agent to force a node into the "left" state.
+     * <p>
+     * PUT /v1/agent/force-leave/{node}
+     *
+     * @param node                  Node name
+     * @param queryParameterOptions The Query Parameters Options to use.
+     * @return A future that completes when the request has been accepted.
+     */
+    public CompletableFuture<Void> forceLeaveAsync(String node, QueryParameterOptions queryParameterOptions) {
+        return http.handleAsync(api.forceLeave(node, queryParameterOptions.toQueryParameters()));
+    }
+
+    /**
+     * Asynchronously pings the Consul Agent.
+     * <p>
+     * GET /v1/status/leader
+     *
+     * @return A future that completes when the Agent has responded successfully.
+     */
+    public CompletableFuture<Void> pingAsync() {
+        return http.handleAsync(api.ping());
+    }
+
+    /**
+     * Asynchronously instructs the agent to join a node.
+     * <p>
+     * PUT /v1/agent/join/{address}?{@code queryOptions}
+     * <p>
+     * Unlike {@link #join(String, QueryOptions)}, which returns <code>false</code> when the request fails, the
+     * future completes exceptionally with the failure.
+     *
+     * @param address      The address to join.
+     * @param queryOptions The Query Options to use.
+     * @return A future that completes when the agent has joined the node.
+     */
+    public CompletableFuture<Void> joinAsync(String address, QueryOptions queryOptions) {
+        return http.handleAsync(api.join(address, queryOptions.toQuery()));
+    }
+
+    /**
+     * Asynchronously checks in with Consul.
+     * <p>
+     * PUT /v1/agent/check/{state}/{checkId}
+     * <p>
+     * Unlike {@link #check(String, State, String)}, failures are not converted to {@link NotRegisteredException};
+     * the future completes exceptionally with the original failure, for example a {@link ConsulException}.
+     *
+     * @param checkId The Check ID to check in.
+     * @param state   The current state of the Check.
+     * @param note    Any note to associate with the Check.
+     * @return A future that completes when the check-in has been accepted.
+     */
+    public CompletableFuture<Void> checkAsync(String checkId, State state, String note) {
+        ImmutableQueryOptions queryOptions = ImmutableQueryOptions.builder().note(Optional.ofNullable(note)).build();
+
+        return http.handleAsync(api.check(state.getPath(), checkId, queryOptions.toQuery()));
+    }
+
+    /**
+     * Asynchronously checks in with Consul, using the check ID {@code "service:" + serviceId}.
+     * <p>
+     * PUT /v1/agent/check/{state}/service:{serviceId}
+     * <p>
+     * See {@link #checkTtl(String, State, String)} for when this check ID applies. As with
+     * {@link #checkAsync(String, State, String)}, failures are not converted to {@link NotRegisteredException}.
+     *
+     * @param serviceId The ID of the service to check.
+     * @param state     The current state of the Check.
+     * @param note      Any note to associate with the Check.
+     * @return A future that completes when the check-in has been accepted.
+     */
+    public CompletableFuture<Void> checkTtlAsync(String serviceId, State state, String note) {
+        return checkAsync("service:" + serviceId, state, note);
+    }
+
+    /**
+     * Asynchronously toggles maintenance mode for a service ID.
+     * <p>
+     * PUT /v1/agent/service/maintenance/{serviceId}
+     *
+     * @param serviceId    The service ID.
+     * @param queryOptions The Query Options to use.
+     * @return A future that completes when the request has been accepted.
+     */
+    public CompletableFuture<Void> toggleMaintenanceModeAsync(String serviceId, QueryOptions queryOptions) {
+        return http.handleAsync(api.toggleMaintenanceMode(serviceId, queryOptions.toQuery()));
+    }
+
     /**
      * Retrofit API interface.
      */
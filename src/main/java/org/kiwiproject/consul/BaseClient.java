@@ -13,7 +13,8 @@ abstract class BaseClient {
 
     protected BaseClient(String name, ClientConfig config, ClientEventCallback eventCallback) {
         this.config = config;
-        this.eventHandler = new ClientEventHandler(name, eventCallback);
+        this.eventHandler = new ClientEventHandler(name, eventCallback, config.getEventDispatcher(),
+                config.getMetricsRegistry());
         this.http = new Http(eventHandler);
     }
 
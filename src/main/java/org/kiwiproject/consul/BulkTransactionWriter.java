@@ -0,0 +1,294 @@
+package org.kiwiproject.consul;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.jspecify.annotations.Nullable;
+import org.kiwiproject.consul.async.ConsulResponseCallback;
+import org.kiwiproject.consul.model.ConsulResponse;
+import org.kiwiproject.consul.model.kv.Operation;
+import org.kiwiproject.consul.model.kv.TxError;
+import org.kiwiproject.consul.model.kv.TxResponse;
+import org.kiwiproject.consul.option.TransactionOptions;
+import org.kiwiproject.consul.util.Jackson;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * Writes any number of KV {@link Operation}s using Consul transactions.
+ * <p>
+ * Consul limits a transaction to {@value #MAX_OPERATIONS_PER_TRANSACTION} operations. This writer buffers
+ * operations, sends each full chunk as one asynchronous transaction, and keeps up to {@code maxInFlight}
+ * transactions in flight. When that limit is reached, {@link #add(Operation)} blocks until a transaction
+ * completes, so memory usage stays bounded however many operations are written.
+ * <p>
+ * Each chunk is its own transaction, so a failed chunk does not roll back chunks that have already been
+ * applied. Use {@link #finish()} to wait for all transactions and inspect the {@link ChunkResult} of each.
+ * <p>
+ * Instances are obtained from {@link KeyValueClient#newBulkTransactionWriter(TransactionOptions, int)}.
+ * A writer is meant to be used by a single thread and cannot be reused after it has been finished.
+ */
+public class BulkTransactionWriter implements AutoCloseable {
+
+    /**
+     * The maximum number of operations Consul accepts in a single transaction.
+     */
+    public static final int MAX_OPERATIONS_PER_TRANSACTION = 64;
+
+    private static final int CONFLICT_409 = 409;
+
+    private final KeyValueClient keyValueClient;
+    private final TransactionOptions transactionOptions;
+    private final int chunkSize;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final ConcurrentLinkedQueue<ChunkResult> results = new ConcurrentLinkedQueue<>();
+
+    private List<Operation> buffer;
+    private int nextChunkIndex;
+    private long nextOperationIndex;
+    private boolean finished;
+
+    BulkTransactionWriter(KeyValueClient keyValueClient,
+                          TransactionOptions transactionOptions,
+                          int chunkSize,
+                          int maxInFlight) {
+        checkArgument(chunkSize > 0 && chunkSize <= MAX_OPERATIONS_PER_TRANSACTION,
+                "chunkSize must be between 1 and %s", MAX_OPERATIONS_PER_TRANSACTION);
+        checkArgument(maxInFlight > 0, "maxInFlight must be positive");
+
+        this.keyValueClient = requireNonNull(keyValueClient, "keyValueClient must not be null");
+        this.transactionOptions = requireNonNull(transactionOptions, "transactionOptions must not be null");
+        this.chunkSize = chunkSize;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.buffer = new ArrayList<>(chunkSize);
+    }
+
+    /**
+     * Add an operation. If this completes a chunk, the chunk is sent, which blocks while the maximum
+     * number of transactions are in flight.
+     *
+     * @param operation the operation to add
+     * @throws InterruptedException  if interrupted while waiting for an in-flight transaction to complete
+     * @throws IllegalStateException if this writer has been finished
+     */
+    public void add(Operation operation) throws InterruptedException {
+        requireNonNull(operation, "operation must not be null");
+        checkState(!finished, "Cannot add operations to a finished writer");
+
+        buffer.add(operation);
+        if (buffer.size() == chunkSize) {
+            sendBuffer();
+        }
+    }
+
+    /**
+     * Add all operations from the given iterable, in order.
+     *
+     * @param operations the operations to add
+     * @throws InterruptedException if interrupted while waiting for an in-flight transaction to complete
+     * @see #add(Operation)
+     */
+    public void addAll(Iterable<? extends Operation> operations) throws InterruptedException {
+        for (Operation operation : operations) {
+            add(operation);
+        }
+    }
+
+    /**
+     * Add all operations from the given stream, in order. The stream is consumed lazily, so it may be
+     * arbitrarily large.
+     *
+     * @param operations the operations to add
+     * @throws InterruptedException if interrupted while waiting for an in-flight transaction to complete
+     * @see #add(Operation)
+     */
+    public void addAll(Stream<? extends Operation> operations) throws InterruptedException {
+        Iterator<? extends Operation> iterator = operations.iterator();
+        while (iterator.hasNext()) {
+            add(iterator.next());
+        }
+    }
+
+    private void sendBuffer() throws InterruptedException {
+        inFlight.acquire();
+
+        var operations = buffer.toArray(new Operation[0]);
+        var chunkIndex = nextChunkIndex++;
+        var firstOperationIndex = nextOperationIndex;
+        nextOperationIndex += operations.length;
+        buffer = new ArrayList<>(chunkSize);
+
+        var callback = new ConsulResponseCallback<TxResponse>() {
+            @Override
+            public void onComplete(ConsulResponse<TxResponse> consulResponse) {
+                complete(new ChunkResult(chunkIndex, firstOperationIndex, operations.length,
+                        consulResponse.getResponse(), null));
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                complete(new ChunkResult(chunkIndex, firstOperationIndex, operations.length,
+                        rolledBackResponseOrNull(throwable), throwable));
+            }
+        };
+
+        try {
+            keyValueClient.performTransaction(transactionOptions, callback, operations);
+        } catch (RuntimeException e) {
+            callback.onFailure(e);
+        }
+    }
+
+    private void complete(ChunkResult result) {
+        results.add(result);
+        inFlight.release();
+    }
+
+    /**
+     * When Consul rolls back a transaction, it responds with 409 and a body describing the errors.
+     */
+    private static @Nullable TxResponse rolledBackResponseOrNull(Throwable throwable) {
+        if (!(throwable instanceof ConsulException consulException) || consulException.getCode() != CONFLICT_409) {
+            return null;
+        }
+
+        return consulException.getResponseBody().map(body -> {
+            try {
+                return Jackson.MAPPER.readValue(body, TxResponse.class);
+            } catch (JsonProcessingException e) {
+                return null;
+            }
+        }).orElse(null);
+    }
+
+    /**
+     * Send any remaining buffered operations, then wait for all transactions to complete.
+     *
+     * @return the results of all chunks, ordered by chunk index
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public List<ChunkResult> finish() throws InterruptedException {
+        if (!finished) {
+            if (!buffer.isEmpty()) {
+                sendBuffer();
+            }
+            finished = true;
+        }
+
+        inFlight.acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+
+        return results.stream()
+                .sorted(Comparator.comparingInt(ChunkResult::getChunkIndex))
+                .toList();
+    }
+
+    /**
+     * Finish this writer, ignoring the results.
+     *
+     * @throws InterruptedException if interrupted while waiting for in-flight transactions
+     * @see #finish()
+     */
+    @Override
+    public void close() throws InterruptedException {
+        finish();
+    }
+
+    /**
+     * The outcome of a single transaction sent by a {@link BulkTransactionWriter}.
+     */
+    public static final class ChunkResult {
+
+        private final int chunkIndex;
+        private final long firstOperationIndex;
+        private final int operationCount;
+        private final TxResponse response;
+        private final Throwable failure;
+
+        private ChunkResult(int chunkIndex,
+                            long firstOperationIndex,
+                            int operationCount,
+                            @Nullable TxResponse response,
+                            @Nullable Throwable failure) {
+            this.chunkIndex = chunkIndex;
+            this.firstOperationIndex = firstOperationIndex;
+            this.operationCount = operationCount;
+            this.response = response;
+            this.failure = failure;
+        }
+
+        /**
+         * @return the zero-based index of this chunk
+         */
+        public int getChunkIndex() {
+            return chunkIndex;
+        }
+
+        /**
+         * @return the zero-based index, across all operations added to the writer, of the first operation in
+         * this chunk; add it to {@link TxError#opIndex()} to find the operation an error refers to
+         */
+        public long getFirstOperationIndex() {
+            return firstOperationIndex;
+        }
+
+        /**
+         * @return the number of operations in this chunk
+         */
+        public int getOperationCount() {
+            return operationCount;
+        }
+
+        /**
+         * @return the transaction response; present when the transaction succeeded, or when Consul rolled it back
+         * and described the errors
+         */
+        public Optional<TxResponse> getResponse() {
+            return Optional.ofNullable(response);
+        }
+
+        /**
+         * @return the errors reported by Consul for this transaction, or an empty list
+         */
+        public List<TxError> getErrors() {
+            return isNull(response) ? List.of() : response.errors();
+        }
+
+        /**
+         * @return the failure, if the transaction was not applied
+         */
+        public Optional<Throwable> getFailure() {
+            return Optional.ofNullable(failure);
+        }
+
+        /**
+         * @return true if the transaction was applied without errors
+         */
+        public boolean isSuccessful() {
+            return isNull(failure) && getErrors().isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return "ChunkResult{" +
+                    "chunkIndex=" + chunkIndex +
+                    ", firstOperationIndex=" + firstOperationIndex +
+                    ", operationCount=" + operationCount +
+                    ", errors=" + getErrors() +
+                    ", failure=" + failure +
+                    '}';
+        }
+    }
+}
@@ -23,6 +23,7 @@ import retrofit2.http.QueryMap;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * HTTP Client for /v1/catalog/ endpoints.
@@ -295,6 +296,99 @@ public class CatalogClient extends BaseCacheableClient {
         http.handle(api.deregister(deregistration, options.toQuery()));
     }
 
+    /**
+     * Asynchronously retrieves the list of datacenters.
+     * <p>
+     * GET /v1/catalog/datacenters
+     *
+     * @param queryOptions The Query Options to use.
+     * @return A future containing a list of datacenter names.
+     */
+    public CompletableFuture<List<String>> getDatacentersAsync(QueryOptions queryOptions) {
+        return http.extractAsync(api.getDatacenters(queryOptions.toHeaders()));
+    }
+
+    /**
+     * Asynchronously retrieves the nodes for a given datacenter with {@link QueryOptions}.
+     * <p>
+     * GET /v1/catalog/nodes?dc={datacenter}
+     *
+     * @param queryOptions The Query Options to use.
+     * @return A future containing a {@link ConsulResponse} with a list of {@link Node} objects.
+     */
+    public CompletableFuture<ConsulResponse<List<Node>>> getNodesAsync(QueryOptions queryOptions) {
+        return http.extractConsulResponseAsync(api.getNodes(queryOptions.toQuery(), queryOptions.getTag(),
+                queryOptions.getNodeMeta(), queryOptions.toHeaders()));
+    }
+
+    /**
+     * Asynchronously retrieves the services for a given datacenter.
+     * <p>
+     * GET /v1/catalog/services?dc={datacenter}
+     *
+     * @param queryOptions The Query Options to use.
+     * @return A future containing a {@link ConsulResponse} with a map of service name to a list of tags.
+     */
+    public CompletableFuture<ConsulResponse<Map<String, List<String>>>> getServicesAsync(QueryOptions queryOptions) {
+        return http.extractConsulResponseAsync(api.getServices(queryOptions.toQuery(),
+                queryOptions.getTag(), queryOptions.getNodeMeta(), queryOptions.toHeaders()));
+    }
+
+    /**
+     * Asynchronously retrieves a single service for a given datacenter with {@link QueryOptions}.
+     * <p>
+     * GET /v1/catalog/service/{service}?dc={datacenter}
+     *
+     * @param service      the name of the service to get
+     * @param queryOptions The Query Options to use.
+     * @return A future containing a {@link ConsulResponse} with a list of {@link CatalogService} objects.
+     */
+    public CompletableFuture<ConsulResponse<List<CatalogService>>> getServiceAsync(String service,
+                                                                                  QueryOptions queryOptions) {
+        return http.extractConsulResponseAsync(api.getService(service, queryOptions.toQuery(),
+                queryOptions.getTag(), queryOptions.getNodeMeta(), queryOptions.toHeaders()));
+    }
+
+    /**
+     * Asynchronously retrieves a single node for a given datacenter with {@link QueryOptions}.
+     * <p>
+     * GET /v1/catalog/node/{node}?dc={datacenter}
+     *
+     * @param node         the name of the node to get
+     * @param queryOptions The Query Options to use.
+     * @return A future containing a {@link ConsulResponse} with the {@link CatalogNode}.
+     */
+    public CompletableFuture<ConsulResponse<CatalogNode>> getNodeAsync(String node, QueryOptions queryOptions) {
+        return http.extractConsulResponseAsync(api.getNode(node, queryOptions.toQuery(),
+                queryOptions.getTag(), queryOptions.getNodeMeta(), queryOptions.toHeaders()));
+    }
+
+    /**
+     * Asynchronously registers a service or node.
+     * <p>
+     * PUT /v1/catalog/register
+     *
+     * @param registration A {@link CatalogRegistration}
+     * @param options      The Query Options to use.
+     * @return A future that completes when the registration has been accepted.
+     */
+    public CompletableFuture<Void> registerAsync(CatalogRegistration registration, QueryOptions options) {
+        return http.handleAsync(api.register(registration, options.toQuery()));
+    }
+
+    /**
+     * Asynchronously de-registers a service or node.
+     * <p>
+     * PUT /v1/catalog/deregister
+     *
+     * @param deregistration A {@link CatalogDeregistration}
+     * @param options        The Query Options to use.
+     * @return A future that completes when the de-registration has been accepted.
+     */
+    public CompletableFuture<Void> deregisterAsync(CatalogDeregistration deregistration, QueryOptions options) {
+        return http.handleAsync(api.deregister(deregistration, options.toQuery()));
+    }
+
     /**
      * Retrofit API interface.
      */
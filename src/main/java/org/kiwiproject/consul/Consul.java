@@ -16,12 +16,17 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import org.jspecify.annotations.Nullable;
 import org.kiwiproject.consul.cache.TimeoutInterceptor;
+import org.kiwiproject.consul.config.CacheConfig;
 import org.kiwiproject.consul.config.ClientConfig;
 import org.kiwiproject.consul.monitoring.ClientEventCallback;
+import org.kiwiproject.consul.monitoring.MetricsInterceptor;
 import org.kiwiproject.consul.monitoring.NoOpClientEventCallback;
+import org.kiwiproject.consul.monitoring.NoOpConsulMetricsRegistry;
 import org.kiwiproject.consul.util.Jackson;
+import org.kiwiproject.consul.util.RequestCoalescingInterceptor;
 import org.kiwiproject.consul.util.TrustManagerUtils;
 import org.kiwiproject.consul.util.Urls;
+import org.kiwiproject.consul.util.VirtualThreads;
 import org.kiwiproject.consul.util.bookend.ConsulBookend;
 import org.kiwiproject.consul.util.bookend.ConsulBookendInterceptor;
 import org.kiwiproject.consul.util.failover.ConsulFailoverInterceptor;
@@ -38,8 +43,10 @@ import java.net.Proxy;
 import java.net.URL;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.SynchronousQueue;
@@ -326,11 +333,14 @@ public class Consul {
         private Interceptor aclTokenInterceptor;
         private Interceptor headerInterceptor;
         private Interceptor consulBookendInterceptor;
+        private final List<Interceptor> observationInterceptors = new ArrayList<>();
+        private boolean requestCoalescing;
         private ConsulFailoverInterceptor consulFailoverInterceptor;
         private int numTimesConsulFailoverInterceptorSet;
         private int maxFailoverAttempts;
         private final org.kiwiproject.consul.NetworkTimeoutConfig.Builder networkTimeoutConfigBuilder = new org.kiwiproject.consul.NetworkTimeoutConfig.Builder();
         private ExecutorService executorService;
+        private boolean virtualThreads;
         private ConnectionPool connectionPool;
         private ClientConfig clientConfig;
         private ClientEventCallback clientEventCallback;
@@ -523,6 +533,43 @@ public class Consul {
             return this;
         }
 
+        /**
+         * Adds an interceptor that observes each Consul request, for example to record a tracing span such as
+         * {@code ObservationInterceptor} in the {@code org.kiwiproject.consul.monitoring.micrometer} package.
+         * <p>
+         * Observation interceptors run before all other interceptors except the metrics interceptor, in the order
+         * they were added, so they see each request once, however many failover attempts it takes.
+         *
+         * @param interceptor the interceptor
+         * @return The builder.
+         */
+        public Builder withObservationInterceptor(Interceptor interceptor) {
+            checkArgument(nonNull(interceptor), "interceptor must not be null");
+            observationInterceptors.add(interceptor);
+
+            return this;
+        }
+
+        /**
+         * Merges identical, concurrent GET requests into a single request to Consul.
+         * <p>
+         * When many threads read the same key or service at the same moment, for example during a deployment,
+         * only one request per distinct URL, query, and set of headers (which includes the ACL token) is sent,
+         * and every caller receives a copy of its response. A response body is buffered in memory only when
+         * another caller is waiting for it. Blocking queries and streaming calls are never coalesced.
+         * <p>
+         * Disabled by default.
+         *
+         * @param requestCoalescing true to coalesce identical concurrent GET requests
+         * @return The builder.
+         * @see RequestCoalescingInterceptor
+         */
+        public Builder withRequestCoalescing(boolean requestCoalescing) {
+            this.requestCoalescing = requestCoalescing;
+
+            return this;
+        }
+
         /**
         * Sets the URL from a {@link HostAndPort} object.
         *
@@ -837,6 +884,25 @@ public class Consul {
         }
 
 
+        /**
+         * Run the internal task dispatcher and the default scheduler of all caches on virtual threads.
+         * <p>
+         * By default, the dispatcher uses an unbounded pool of platform threads, and every in-flight request,
+         * including long-running blocking queries, occupies one of them. With virtual threads, thousands of
+         * concurrent blocking queries do not require thousands of platform threads and their stacks.
+         * <p>
+         * Requires Java 21 or later at runtime. Cannot be combined with {@link #withExecutorService(ExecutorService)}.
+         *
+         * @param virtualThreads true to use virtual threads
+         * @return The builder
+         * @see CacheConfig.Builder#withVirtualThreadScheduler(boolean)
+         */
+        public Builder withVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+
+            return this;
+        }
+
         /**
          * Sets the ConnectionPool to be used by OkHttp Client
          * <p>
@@ -888,9 +954,17 @@ public class Consul {
         * @return A new Consul client.
         */
         public Consul build() {
+            if (virtualThreads && nonNull(executorService)) {
+                throw new IllegalStateException(
+                        "Cannot use virtual threads with a custom ExecutorService; " +
+                                "configure withVirtualThreads or withExecutorService, not both");
+            }
+
             // if an ExecutorService is provided to the Builder, we use it, otherwise, we create one
             ExecutorService localExecutorService = this.executorService;
-            if (isNull(localExecutorService)) {
+            if (virtualThreads) {
+                localExecutorService = VirtualThreads.newThreadPerTaskExecutor("Consul-Client-OkHttp-Dispatcher-");
+            } else if (isNull(localExecutorService)) {
                 // mimics okhttp3.Dispatcher#executorService implementation, except
                 // using daemon thread so shutdown is not blocked (issue #133)
                 var threadFactory = newDaemonThreadFactory();
@@ -909,6 +983,12 @@ public class Consul {
             }
 
             ClientConfig config = nonNull(clientConfig) ? clientConfig : new ClientConfig();
+            if (virtualThreads) {
+                config = new ClientConfig(CacheConfig.builder()
+                        .from(config.getCacheConfig())
+                        .withVirtualThreadScheduler(true)
+                        .build(), config.getEventDispatcher(), config.getMetricsRegistry());
+            }
 
             var okHttpClient = createOkHttpClient(
                     this.sslContext,
@@ -930,7 +1010,7 @@ public class Consul {
                     clientEventCallback :
                     new NoOpClientEventCallback();
 
-            var agentClient = new AgentClient(retrofit, config, eventCallback);
+            var agentClient = new AgentClient(retrofit, config, eventCallback, networkTimeoutConfig);
             var healthClient = new HealthClient(retrofit, config, eventCallback, networkTimeoutConfig);
             var keyValueClient = new KeyValueClient(retrofit, config, eventCallback, networkTimeoutConfig);
             var catalogClient = new CatalogClient(retrofit, config, eventCallback, networkTimeoutConfig);
@@ -984,6 +1064,14 @@ public class Consul {
 
             final OkHttpClient.Builder builder = new OkHttpClient.Builder();
 
+            // outermost, so that latencies include failover attempts and coalesced requests are counted per caller
+            var metricsRegistry = clientConfig.getMetricsRegistry();
+            if (metricsRegistry.getClass() != NoOpConsulMetricsRegistry.class) {
+                builder.addInterceptor(new MetricsInterceptor(metricsRegistry));
+            }
+
+            observationInterceptors.forEach(builder::addInterceptor);
+
             if (nonNull(authInterceptor)) {
                 builder.addInterceptor(authInterceptor);
             }
@@ -1000,6 +1088,10 @@ public class Consul {
                 builder.addInterceptor(consulBookendInterceptor);
             }
 
+            if (requestCoalescing) {
+                builder.addInterceptor(new RequestCoalescingInterceptor());
+            }
+
             addConsulFailoverInterceptor(builder);
 
             addSslSocketFactory(sslContext, trustManager, builder);
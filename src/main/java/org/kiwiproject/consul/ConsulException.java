@@ -7,6 +7,7 @@ import retrofit2.Call;
 import retrofit2.Response;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * Wraps an exception thrown whilst interacting with the Consul API.
@@ -15,6 +16,7 @@ public class ConsulException extends RuntimeException {
 
     private final int code;
     private final boolean hasCode;
+    private final String responseBody;
 
     /**
      * Constructs an instance of this class.
@@ -25,6 +27,7 @@ public class ConsulException extends RuntimeException {
         super(message);
         this.code = 0;
         this.hasCode = false;
+        this.responseBody = null;
     }
 
     /**
@@ -37,6 +40,7 @@ public class ConsulException extends RuntimeException {
         super(message, throwable);
         this.code = 0;
         this.hasCode = false;
+        this.responseBody = null;
     }
 
     /**
@@ -51,6 +55,7 @@ public class ConsulException extends RuntimeException {
                 code, message(response)));
         this.code = code;
         this.hasCode = true;
+        this.responseBody = null;
     }
 
     /**
@@ -60,10 +65,15 @@ public class ConsulException extends RuntimeException {
      * @param response the {@link Response}
      */
     public ConsulException(Call<?> call, Response<?> response) {
+        this(call, response, errorBodyOrNull(response));
+    }
+
+    private ConsulException(Call<?> call, Response<?> response, String errorBody) {
         super(String.format("Consul request to [%s] failed with status [%s]: %s",
-                call.request().url(), response.code(), message(response)));
+                call.request().url(), response.code(), isNull(errorBody) ? response.message() : errorBody));
         this.code = response.code();
         this.hasCode = true;
+        this.responseBody = errorBody;
     }
 
     /**
@@ -75,14 +85,20 @@ public class ConsulException extends RuntimeException {
         super("Consul request failed", throwable);
         this.code = 0;
         this.hasCode = false;
+        this.responseBody = null;
     }
 
     static String message(Response<?> response) {
+        var errorBody = errorBodyOrNull(response);
+        return isNull(errorBody) ? response.message() : errorBody;
+    }
+
+    private static String errorBodyOrNull(Response<?> response) {
         try {
             ResponseBody responseBody = response.errorBody();
-            return isNull(responseBody) ? response.message() : responseBody.string();
+            return isNull(responseBody) ? null : responseBody.string();
         } catch (IOException e) {
-            return response.message();
+            return null;
         }
     }
 
@@ -105,4 +121,16 @@ public class ConsulException extends RuntimeException {
     public int getCode() {
         return code;
     }
+
+    /**
+     * Get the body of the HTTP error response that caused this exception, if any.
+     * <p>
+     * Some endpoints return structured details with an error status, for example the errors
+     * of a transaction that was rolled back.
+     *
+     * @return an Optional containing the error response body, or an empty Optional if not available
+     */
+    public Optional<String> getResponseBody() {
+        return Optional.ofNullable(responseBody);
+    }
 }
@@ -13,6 +13,8 @@ import retrofit2.http.QueryMap;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 
 /**
  * HTTP Client for /v1/coordinate/ endpoints.
@@ -47,6 +49,14 @@ public class CoordinateClient extends BaseClient {
         return getNodes(null);
     }
 
+    public CompletableFuture<List<Datacenter>> getDatacentersAsync() {
+        return http.extractAsync(api.getDatacenters());
+    }
+
+    public CompletableFuture<List<Coordinate>> getNodesAsync(String dc) {
+        return http.extractAsync(api.getNodes(dcQuery(dc)));
+    }
+
     /**
      * Retrofit API interface.
      */
@@ -1,5 +1,7 @@
 package org.kiwiproject.consul;
 
+import static java.util.Objects.isNull;
+
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
 import org.apache.commons.lang3.StringUtils;
@@ -24,6 +26,7 @@ import retrofit2.http.QueryMap;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * HTTP Client for /v1/event/ endpoints.
@@ -213,6 +216,45 @@ public class EventClient extends BaseClient {
         listEvents(null, Options.BLANK_QUERY_OPTIONS, callback);
     }
 
+    /**
+     * Asynchronously fires a Consul event.
+     * <p>
+     * PUT /v1/event/fire/{name}
+     *
+     * @param name         The name of the event.
+     * @param eventOptions The event specific options to use.
+     * @param payload      Optional string payload, or null for none.
+     * @return A future containing the newly created {@link Event}.
+     */
+    public CompletableFuture<Event> fireEventAsync(String name, EventOptions eventOptions, String payload) {
+        if (isNull(payload)) {
+            return http.extractAsync(api.fireEvent(name, eventOptions.toQuery()));
+        }
+
+        return http.extractAsync(api.fireEvent(name,
+                RequestBody.create(payload, MediaType.parse("text/plain")),
+                eventOptions.toQuery()));
+    }
+
+    /**
+     * Asynchronously lists events for the Consul agent.
+     * <p>
+     * GET /v1/event/list?name={name}
+     *
+     * @param name         Event name to filter, or null for all events.
+     * @param queryOptions The query options to use.
+     * @return A future containing an {@link EventResponse} with the list of {@link Event} objects.
+     */
+    public CompletableFuture<EventResponse> listEventsAsync(String name, QueryOptions queryOptions) {
+        final Map<String, Object> query = queryOptions.toQuery();
+        if (StringUtils.isNotEmpty(name)) {
+            query.put("name", name);
+        }
+
+        return http.extractConsulResponseAsync(api.listEvents(query),
+                response -> ImmutableEventResponse.of(response.getResponse(), response.getIndex()));
+    }
+
     /**
      * Retrofit API interface.
      */
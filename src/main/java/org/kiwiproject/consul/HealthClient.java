@@ -1,5 +1,6 @@
 package org.kiwiproject.consul;
 
+import okhttp3.ResponseBody;
 import org.kiwiproject.consul.async.ConsulResponseCallback;
 import org.kiwiproject.consul.config.ClientConfig;
 import org.kiwiproject.consul.model.ConsulResponse;
@@ -9,6 +10,7 @@ import org.kiwiproject.consul.model.health.ServiceHealth;
 import org.kiwiproject.consul.monitoring.ClientEventCallback;
 import org.kiwiproject.consul.option.Options;
 import org.kiwiproject.consul.option.QueryOptions;
+import org.kiwiproject.consul.util.JsonStreams;
 import retrofit2.Call;
 import retrofit2.Retrofit;
 import retrofit2.http.GET;
@@ -16,10 +18,13 @@ import retrofit2.http.HeaderMap;
 import retrofit2.http.Path;
 import retrofit2.http.Query;
 import retrofit2.http.QueryMap;
+import retrofit2.http.Streaming;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * HTTP Client for /v1/health/ endpoints.
@@ -275,6 +280,128 @@ public class HealthClient extends BaseCacheableClient {
                 queryOptions.getTag(), queryOptions.getNodeMeta(), queryOptions.toHeaders()), callback);
     }
 
+    /**
+     * Streams the healthchecks for all healthy service instances to the given consumer.
+     * <p>
+     * The response is decoded incrementally, and each {@link ServiceHealth} is passed to the consumer, on the
+     * calling thread, as soon as it has been read. Memory usage therefore depends on the size of a single
+     * instance, not on the number of instances.
+     * <p>
+     * GET /v1/health/service/{service}?dc={datacenter}&amp;passing
+     *
+     * @param service      The service to query.
+     * @param queryOptions The Query Options to use.
+     * @param consumer     Receives each {@link ServiceHealth}.
+     * @return A {@link ConsulResponse} containing the number of instances passed to the consumer.
+     */
+    public ConsulResponse<Long> streamHealthyServiceInstances(String service,
+                                                              QueryOptions queryOptions,
+                                                              Consumer<? super ServiceHealth> consumer) {
+        return http.extractStreamingConsulResponse(api.streamServiceInstances(service,
+                        optionsFrom(Map.of("passing", "true"), queryOptions.toQuery()),
+                        queryOptions.getTag(), queryOptions.getNodeMeta(), queryOptions.toHeaders()),
+                body -> JsonStreams.forEachArrayElement(body, ServiceHealth.class, consumer));
+    }
+
+    /**
+     * Streams the healthchecks for all service instances to the given consumer.
+     * <p>
+     * The response is decoded incrementally, and each {@link ServiceHealth} is passed to the consumer, on the
+     * calling thread, as soon as it has been read. Memory usage therefore depends on the size of a single
+     * instance, not on the number of instances.
+     * <p>
+     * GET /v1/health/service/{service}?dc={datacenter}
+     *
+     * @param service      The service to query.
+     * @param queryOptions The Query Options to use.
+     * @param consumer     Receives each {@link ServiceHealth}.
+     * @return A {@link ConsulResponse} containing the number of instances passed to the consumer.
+     */
+    public ConsulResponse<Long> streamAllServiceInstances(String service,
+                                                          QueryOptions queryOptions,
+                                                          Consumer<? super ServiceHealth> consumer) {
+        return http.extractStreamingConsulResponse(api.streamServiceInstances(service, queryOptions.toQuery(),
+                        queryOptions.getTag(), queryOptions.getNodeMeta(), queryOptions.toHeaders()),
+                body -> JsonStreams.forEachArrayElement(body, ServiceHealth.class, consumer));
+    }
+
+    /**
+     * Asynchronously retrieves the healthchecks for a node in a given datacenter with {@link QueryOptions}.
+     * <p>
+     * GET /v1/health/node/{node}?dc={datacenter}
+     *
+     * @param node         The node to return checks for
+     * @param queryOptions The Query Options to use.
+     * @return A future containing a {@link ConsulResponse} with a list of {@link HealthCheck} objects.
+     */
+    public CompletableFuture<ConsulResponse<List<HealthCheck>>> getNodeChecksAsync(String node,
+                                                                                  QueryOptions queryOptions) {
+        return http.extractConsulResponseAsync(api.getNodeChecks(node, queryOptions.toQuery(),
+                queryOptions.getTag(), queryOptions.getNodeMeta(), queryOptions.toHeaders()));
+    }
+
+    /**
+     * Asynchronously retrieves the healthchecks for a service in a given datacenter with {@link QueryOptions}.
+     * <p>
+     * GET /v1/health/checks/{service}?dc={datacenter}
+     *
+     * @param service      the name of the service to get health checks for
+     * @param queryOptions The Query Options to use.
+     * @return A future containing a {@link ConsulResponse} with a list of {@link HealthCheck} objects.
+     */
+    public CompletableFuture<ConsulResponse<List<HealthCheck>>> getServiceChecksAsync(String service,
+                                                                                     QueryOptions queryOptions) {
+        return http.extractConsulResponseAsync(api.getServiceChecks(service, queryOptions.toQuery(),
+                queryOptions.getTag(), queryOptions.getNodeMeta(), queryOptions.toHeaders()));
+    }
+
+    /**
+     * Asynchronously retrieves the healthchecks for a state in a given datacenter with {@link QueryOptions}.
+     * <p>
+     * GET /v1/health/state/{state}?dc={datacenter}
+     *
+     * @param state        The state to query.
+     * @param queryOptions The Query Options to use.
+     * @return A future containing a {@link ConsulResponse} with a list of {@link HealthCheck} objects.
+     */
+    public CompletableFuture<ConsulResponse<List<HealthCheck>>> getChecksByStateAsync(State state,
+                                                                                     QueryOptions queryOptions) {
+        return http.extractConsulResponseAsync(api.getChecksByState(state.getName(), queryOptions.toQuery(),
+                queryOptions.getTag(), queryOptions.getNodeMeta(), queryOptions.toHeaders()));
+    }
+
+    /**
+     * Asynchronously retrieves the healthchecks for all healthy service instances in a given datacenter with
+     * {@link QueryOptions}.
+     * <p>
+     * GET /v1/health/service/{service}?dc={datacenter}&amp;passing
+     *
+     * @param service      The service to query.
+     * @param queryOptions The Query Options to use.
+     * @return A future containing a {@link ConsulResponse} with a list of {@link ServiceHealth} objects.
+     */
+    public CompletableFuture<ConsulResponse<List<ServiceHealth>>> getHealthyServiceInstancesAsync(
+            String service, QueryOptions queryOptions) {
+        return http.extractConsulResponseAsync(api.getServiceInstances(service,
+                optionsFrom(Map.of("passing", "true"), queryOptions.toQuery()),
+                queryOptions.getTag(), queryOptions.getNodeMeta(), queryOptions.toHeaders()));
+    }
+
+    /**
+     * Asynchronously retrieves the healthchecks for all nodes in a given datacenter with {@link QueryOptions}.
+     * <p>
+     * GET /v1/health/service/{service}?dc={datacenter}
+     *
+     * @param service      The service to query.
+     * @param queryOptions The Query Options to use.
+     * @return A future containing a {@link ConsulResponse} with a list of {@link ServiceHealth} objects.
+     */
+    public CompletableFuture<ConsulResponse<List<ServiceHealth>>> getAllServiceInstancesAsync(
+            String service, QueryOptions queryOptions) {
+        return http.extractConsulResponseAsync(api.getServiceInstances(service, queryOptions.toQuery(),
+                queryOptions.getTag(), queryOptions.getNodeMeta(), queryOptions.toHeaders()));
+    }
+
     @SafeVarargs
     private static Map<String, Object> optionsFrom(Map<String, ?>... options) {
         Map<String, Object> result = new HashMap<>();
@@ -318,5 +445,13 @@ public class HealthClient extends BaseCacheableClient {
                                                       @Query("tag") List<String> tag,
                                                       @Query("node-meta") List<String> nodeMeta,
                                                       @HeaderMap Map<String, String> headers);
+
+        @Streaming
+        @GET("health/service/{service}")
+        Call<ResponseBody> streamServiceInstances(@Path("service") String service,
+                                                  @QueryMap Map<String, Object> query,
+                                                  @Query("tag") List<String> tag,
+                                                  @Query("node-meta") List<String> nodeMeta,
+                                                  @HeaderMap Map<String, String> headers);
     }
 }
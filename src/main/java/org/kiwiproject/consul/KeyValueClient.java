@@ -9,10 +9,12 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.annotations.VisibleForTesting;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
 import org.apache.commons.lang3.StringUtils;
 import org.kiwiproject.consul.async.ConsulResponseCallback;
 import org.kiwiproject.consul.config.ClientConfig;
 import org.kiwiproject.consul.model.ConsulResponse;
+import org.kiwiproject.consul.model.kv.DecodedValue;
 import org.kiwiproject.consul.model.kv.Operation;
 import org.kiwiproject.consul.model.kv.TxResponse;
 import org.kiwiproject.consul.model.kv.Value;
@@ -25,7 +27,10 @@ import org.kiwiproject.consul.option.Options;
 import org.kiwiproject.consul.option.PutOptions;
 import org.kiwiproject.consul.option.QueryOptions;
 import org.kiwiproject.consul.option.TransactionOptions;
+import org.kiwiproject.consul.util.Http;
 import org.kiwiproject.consul.util.Jackson;
+import org.kiwiproject.consul.util.JsonStreams;
+import org.kiwiproject.consul.util.Lists;
 import org.kiwiproject.consul.util.Strings;
 import retrofit2.Call;
 import retrofit2.Retrofit;
@@ -36,12 +41,19 @@ import retrofit2.http.Headers;
 import retrofit2.http.PUT;
 import retrofit2.http.Path;
 import retrofit2.http.QueryMap;
+import retrofit2.http.Streaming;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * HTTP Client for /v1/kv/ endpoints.
@@ -51,6 +63,7 @@ public class KeyValueClient extends BaseCacheableClient {
     private static final String CLIENT_NAME = "keyvalue";
     private static final String KEY_MUST_BE_DEFINED = "Key must be defined";
     private static final String RECURSE = "recurse";
+    private static final String RAW = "raw";
 
     public static final int NOT_FOUND_404 = 404;
 
@@ -189,7 +202,7 @@ public class KeyValueClient extends BaseCacheableClient {
         http.extractConsulResponse(api.getValue(Strings.trimLeadingSlash(key), queryOptions.toQuery()), wrapper, NOT_FOUND_404);
     }
 
-    private static <T> ConsulResponse<T> newConsulResponse(T value, ConsulResponse<List<Value>> response) {
+    private static <T> ConsulResponse<T> newConsulResponse(T value, ConsulResponse<?> response) {
         return new ConsulResponse<>(value,
                 response.getLastContact(),
                 response.isKnownLeader(),
@@ -281,6 +294,328 @@ public class KeyValueClient extends BaseCacheableClient {
         http.extractConsulResponse(api.getValue(Strings.trimLeadingSlash(key), query), callback, NOT_FOUND_404);
     }
 
+    /**
+     * Asynchronously retrieves a {@link Value} for a specific key from the key/value store.
+     * <p>
+     * GET /v1/kv/{key}
+     *
+     * @param key          The key to retrieve.
+     * @param queryOptions The query options.
+     * @return A future containing the value or {@link Optional#empty()} if the key does not exist
+     */
+    public CompletableFuture<Optional<Value>> getValueAsync(String key, QueryOptions queryOptions) {
+        return http.extractAsync(api.getValue(Strings.trimLeadingSlash(key), queryOptions.toQuery()),
+                Lists::firstValueOrEmpty, NOT_FOUND_404);
+    }
+
+    /**
+     * Asynchronously retrieves a list of {@link Value} objects for a specific key from the key/value store.
+     * <p>
+     * GET /v1/kv/{key}?recurse
+     *
+     * @param key          The key to retrieve.
+     * @param queryOptions The query options.
+     * @return A future containing a list of zero to many {@link Value} objects.
+     */
+    public CompletableFuture<List<Value>> getValuesAsync(String key, QueryOptions queryOptions) {
+        Map<String, Object> query = queryOptions.toQuery();
+
+        query.put(RECURSE, "true");
+
+        return http.extractAsync(api.getValue(Strings.trimLeadingSlash(key), query),
+                KeyValueClient::nullToEmpty, NOT_FOUND_404);
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return isNull(list) ? List.of() : list;
+    }
+
+    /**
+     * Streams the {@link Value} objects for a specific key from the key/value store to the given consumer.
+     * <p>
+     * Unlike {@link #getValues(String)}, the response is decoded incrementally, and each value is passed to the
+     * consumer as soon as it has been read. Memory usage therefore depends on the size of a single value, not
+     * on the size of the whole tree.
+     * <p>
+     * GET /v1/kv/{key}?recurse
+     *
+     * @param key      The key to retrieve.
+     * @param consumer Receives each {@link Value}, in the order returned by Consul.
+     * @return A {@link ConsulResponse} with the number of values passed to the consumer and
+     * consul response headers.
+     */
+    public ConsulResponse<Long> streamValues(String key, Consumer<? super Value> consumer) {
+        return streamValues(key, Options.BLANK_QUERY_OPTIONS, consumer);
+    }
+
+    /**
+     * Streams the {@link Value} objects for a specific key from the key/value store to the given consumer.
+     * <p>
+     * The consumer is invoked on the calling thread while the response is being received. If it throws an
+     * exception, the request is aborted.
+     * <p>
+     * GET /v1/kv/{key}?recurse
+     *
+     * @param key          The key to retrieve.
+     * @param queryOptions The query options to use.
+     * @param consumer     Receives each {@link Value}, in the order returned by Consul.
+     * @return A {@link ConsulResponse} with the number of values passed to the consumer and
+     * consul response headers.
+     */
+    public ConsulResponse<Long> streamValues(String key, QueryOptions queryOptions, Consumer<? super Value> consumer) {
+        Map<String, Object> query = queryOptions.toQuery();
+
+        query.put(RECURSE, "true");
+
+        return http.extractStreamingConsulResponse(api.streamValues(Strings.trimLeadingSlash(key), query),
+                body -> JsonStreams.forEachArrayElement(body, Value.class, consumer), NOT_FOUND_404);
+    }
+
+    /**
+     * Retrieves a {@link DecodedValue} for a specific key from the key/value store.
+     * <p>
+     * The value is decoded from Base64 once, while the response is parsed, and only the decoded bytes are kept.
+     * <p>
+     * GET /v1/kv/{key}
+     *
+     * @param key The key to retrieve.
+     * @return An {@link Optional} containing the value or {@link Optional#empty()}
+     */
+    public Optional<DecodedValue> getDecodedValue(String key) {
+        return getDecodedValue(key, Options.BLANK_QUERY_OPTIONS);
+    }
+
+    /**
+     * Retrieves a {@link DecodedValue} for a specific key from the key/value store.
+     * <p>
+     * GET /v1/kv/{key}
+     *
+     * @param key          The key to retrieve.
+     * @param queryOptions The query options.
+     * @return An {@link Optional} containing the value or {@link Optional#empty()}
+     */
+    public Optional<DecodedValue> getDecodedValue(String key, QueryOptions queryOptions) {
+        try {
+            Call<List<DecodedValue>> call = api.getDecodedValue(Strings.trimLeadingSlash(key), queryOptions.toQuery());
+            return firstValueOrEmpty(http.extract(call, NOT_FOUND_404));
+        } catch (ConsulException e) {
+            if (e.getCode() != NOT_FOUND_404) {
+                throw e;
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Retrieves a list of {@link DecodedValue} objects for a specific key from the key/value store.
+     * <p>
+     * GET /v1/kv/{key}?recurse
+     *
+     * @param key          The key to retrieve.
+     * @param queryOptions The query options.
+     * @return A list of zero to many {@link DecodedValue} objects.
+     */
+    public List<DecodedValue> getDecodedValues(String key, QueryOptions queryOptions) {
+        Map<String, Object> query = queryOptions.toQuery();
+
+        query.put(RECURSE, "true");
+
+        List<DecodedValue> result = http.extract(api.getDecodedValue(Strings.trimLeadingSlash(key), query), NOT_FOUND_404);
+
+        return isNull(result) ? List.of() : result;
+    }
+
+    /**
+     * Asynchronously retrieves a {@link DecodedValue} for a specific key from the key/value store.
+     * <p>
+     * GET /v1/kv/{key}
+     *
+     * @param key          The key to retrieve.
+     * @param queryOptions The query options.
+     * @return A future containing the value or {@link Optional#empty()} if the key does not exist
+     */
+    public CompletableFuture<Optional<DecodedValue>> getDecodedValueAsync(String key, QueryOptions queryOptions) {
+        return http.extractAsync(api.getDecodedValue(Strings.trimLeadingSlash(key), queryOptions.toQuery()),
+                Lists::firstValueOrEmpty, NOT_FOUND_404);
+    }
+
+    /**
+     * Asynchronously retrieves a list of {@link DecodedValue} objects for a specific key from the key/value store.
+     * <p>
+     * GET /v1/kv/{key}?recurse
+     *
+     * @param key          The key to retrieve.
+     * @param queryOptions The query options.
+     * @return A future containing a list of zero to many {@link DecodedValue} objects.
+     */
+    public CompletableFuture<List<DecodedValue>> getDecodedValuesAsync(String key, QueryOptions queryOptions) {
+        Map<String, Object> query = queryOptions.toQuery();
+
+        query.put(RECURSE, "true");
+
+        return http.extractAsync(api.getDecodedValue(Strings.trimLeadingSlash(key), query),
+                KeyValueClient::nullToEmpty, NOT_FOUND_404);
+    }
+
+    /**
+     * Streams the {@link DecodedValue} objects for a specific key from the key/value store to the given consumer.
+     * <p>
+     * This combines {@link #streamValues(String, QueryOptions, Consumer)} with single-pass Base64 decoding.
+     * <p>
+     * GET /v1/kv/{key}?recurse
+     *
+     * @param key          The key to retrieve.
+     * @param queryOptions The query options to use.
+     * @param consumer     Receives each {@link DecodedValue}, in the order returned by Consul.
+     * @return A {@link ConsulResponse} with the number of values passed to the consumer and
+     * consul response headers.
+     */
+    public ConsulResponse<Long> streamDecodedValues(String key,
+                                                   QueryOptions queryOptions,
+                                                   Consumer<? super DecodedValue> consumer) {
+        Map<String, Object> query = queryOptions.toQuery();
+
+        query.put(RECURSE, "true");
+
+        return http.extractStreamingConsulResponse(api.streamValues(Strings.trimLeadingSlash(key), query),
+                body -> JsonStreams.forEachArrayElement(body, DecodedValue.class, consumer), NOT_FOUND_404);
+    }
+
+    /**
+     * Retrieves the raw bytes of the value for a specific key from the key/value store.
+     * <p>
+     * The value is returned by Consul without the JSON envelope or Base64 encoding, so no JSON parsing
+     * or decoding is necessary.
+     * <p>
+     * GET /v1/kv/{key}?raw
+     *
+     * @param key The key to retrieve.
+     * @return An {@link Optional} containing the value or {@link Optional#empty()} if the key does not exist
+     */
+    public Optional<byte[]> getRawValue(String key) {
+        return getRawValue(key, Options.BLANK_QUERY_OPTIONS);
+    }
+
+    /**
+     * Retrieves the raw bytes of the value for a specific key from the key/value store.
+     * <p>
+     * GET /v1/kv/{key}?raw
+     *
+     * @param key          The key to retrieve.
+     * @param queryOptions The query options.
+     * @return An {@link Optional} containing the value or {@link Optional#empty()} if the key does not exist
+     */
+    public Optional<byte[]> getRawValue(String key, QueryOptions queryOptions) {
+        return readRawValue(key, queryOptions, InputStream::readAllBytes);
+    }
+
+    /**
+     * Retrieves the raw value for a specific key from the key/value store, wrapped in a {@link ByteBuffer}.
+     * <p>
+     * GET /v1/kv/{key}?raw
+     *
+     * @param key          The key to retrieve.
+     * @param queryOptions The query options.
+     * @return An {@link Optional} containing the value or {@link Optional#empty()} if the key does not exist
+     */
+    public Optional<ByteBuffer> getRawValueAsByteBuffer(String key, QueryOptions queryOptions) {
+        return getRawValue(key, queryOptions).map(ByteBuffer::wrap);
+    }
+
+    /**
+     * Reads the raw value for a specific key from the key/value store using the given reader.
+     * <p>
+     * The response body is not buffered. The reader receives an {@link InputStream} connected to the response,
+     * on the calling thread, and the stream is closed when this method returns.
+     * <p>
+     * GET /v1/kv/{key}?raw
+     *
+     * @param key          The key to retrieve.
+     * @param queryOptions The query options.
+     * @param reader       Reads the value from the stream.
+     * @param <R>          The type returned by the reader.
+     * @return An {@link Optional} containing the result of the reader or {@link Optional#empty()} if the key does
+     * not exist
+     */
+    public <R> Optional<R> readRawValue(String key, QueryOptions queryOptions, Http.BodyReader<R> reader) {
+        Map<String, Object> query = queryOptions.toQuery();
+
+        query.put(RAW, "true");
+
+        Call<ResponseBody> call = api.streamRawValue(Strings.trimLeadingSlash(key), query);
+        return Optional.ofNullable(http.extractOptionalStreamingConsulResponse(call, reader, NOT_FOUND_404)
+                .getResponse());
+    }
+
+    /**
+     * Asynchronously retrieves the raw bytes of the value for a specific key from the key/value store.
+     * <p>
+     * GET /v1/kv/{key}?raw
+     *
+     * @param key          The key to retrieve.
+     * @param queryOptions The query options.
+     * @param callback     Callback implemented by callee to handle results; the response is
+     *                     {@link Optional#empty()} if the key does not exist.
+     */
+    public void getRawValue(String key, QueryOptions queryOptions, ConsulResponseCallback<Optional<byte[]>> callback) {
+        ConsulResponseCallback<ResponseBody> wrapper = new ConsulResponseCallback<>() {
+            @Override
+            public void onComplete(ConsulResponse<ResponseBody> consulResponse) {
+                Optional<byte[]> maybeBytes;
+                try (ResponseBody body = consulResponse.getResponse()) {
+                    maybeBytes = isNull(body) ? Optional.empty() : Optional.of(body.bytes());
+                } catch (IOException e) {
+                    callback.onFailure(e);
+                    return;
+                }
+                callback.onComplete(newConsulResponse(maybeBytes, consulResponse));
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                callback.onFailure(throwable);
+            }
+        };
+
+        Map<String, Object> query = queryOptions.toQuery();
+
+        query.put(RAW, "true");
+
+        http.extractConsulResponse(api.getRawValue(Strings.trimLeadingSlash(key), query), wrapper, NOT_FOUND_404);
+    }
+
+    /**
+     * Asynchronously retrieves the raw bytes of the value for a specific key from the key/value store.
+     * <p>
+     * GET /v1/kv/{key}?raw
+     *
+     * @param key          The key to retrieve.
+     * @param queryOptions The query options.
+     * @return A future containing the value or {@link Optional#empty()} if the key does not exist; if the body
+     * cannot be read, the future completes exceptionally with an {@link UncheckedIOException}
+     */
+    public CompletableFuture<Optional<byte[]>> getRawValueAsync(String key, QueryOptions queryOptions) {
+        Map<String, Object> query = queryOptions.toQuery();
+
+        query.put(RAW, "true");
+
+        return http.extractAsync(api.getRawValue(Strings.trimLeadingSlash(key), query),
+                KeyValueClient::bytesOf, NOT_FOUND_404);
+    }
+
+    private static Optional<byte[]> bytesOf(ResponseBody body) {
+        if (isNull(body)) {
+            return Optional.empty();
+        }
+
+        try (body) {
+            return Optional.of(body.bytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Retrieves a string value for a specific key from the key/value store.
      * <p>
@@ -423,21 +758,37 @@ public class KeyValueClient extends BaseCacheableClient {
      * @return <code>true</code> if the value was successfully indexed.
      */
     public boolean putValue(String key, String value, long flags, PutOptions putOptions, Charset charset) {
+        return http.extract(putValueCall(key, value, flags, putOptions, charset));
+    }
 
-        checkArgument(StringUtils.isNotEmpty(key), KEY_MUST_BE_DEFINED);
-        Map<String, Object> query = putOptions.toQuery();
+    /**
+     * Asynchronously puts a value into the key/value store.
+     *
+     * @param key        The key to use as index.
+     * @param value      The value to index.
+     * @param flags      The flags for this key.
+     * @param putOptions PUT options (e.g. wait, acquire).
+     * @param charset    the {@link Charset} to use
+     * @return A future containing <code>true</code> if the value was successfully indexed.
+     */
+    public CompletableFuture<Boolean> putValueAsync(String key,
+                                                    String value,
+                                                    long flags,
+                                                    PutOptions putOptions,
+                                                    Charset charset) {
+        return http.extractAsync(putValueCall(key, value, flags, putOptions, charset));
+    }
 
-        if (flags != 0) {
-            query.put("flags", Long.toUnsignedString(flags));
-        }
+    private Call<Boolean> putValueCall(String key, String value, long flags, PutOptions putOptions, Charset charset) {
+        checkArgument(StringUtils.isNotEmpty(key), KEY_MUST_BE_DEFINED);
+        Map<String, Object> query = putQuery(flags, putOptions);
 
         if (isNull(value)) {
-            return http.extract(api.putValue(Strings.trimLeadingSlash(key),
-                    query));
-        } else {
-            return http.extract(api.putValue(Strings.trimLeadingSlash(key),
-                    RequestBody.create(value, MediaType.parse("text/plain; charset=" + charset.name())), query));
+            return api.putValue(Strings.trimLeadingSlash(key), query);
         }
+
+        return api.putValue(Strings.trimLeadingSlash(key),
+                RequestBody.create(value, MediaType.parse("text/plain; charset=" + charset.name())), query);
     }
 
     /**
@@ -450,21 +801,42 @@ public class KeyValueClient extends BaseCacheableClient {
      * @return <code>true</code> if the value was successfully indexed.
      */
     public boolean putValue(String key, byte[] value, long flags, PutOptions putOptions) {
+        return http.extract(putValueCall(key, value, flags, putOptions));
+    }
 
+    /**
+     * Asynchronously puts a value into the key/value store.
+     *
+     * @param key        The key to use as index.
+     * @param value      The value to index.
+     * @param flags      The flags for this key.
+     * @param putOptions PUT options (e.g. wait, acquire).
+     * @return A future containing <code>true</code> if the value was successfully indexed.
+     */
+    public CompletableFuture<Boolean> putValueAsync(String key, byte[] value, long flags, PutOptions putOptions) {
+        return http.extractAsync(putValueCall(key, value, flags, putOptions));
+    }
+
+    private Call<Boolean> putValueCall(String key, byte[] value, long flags, PutOptions putOptions) {
         checkArgument(StringUtils.isNotEmpty(key), KEY_MUST_BE_DEFINED);
+        Map<String, Object> query = putQuery(flags, putOptions);
+
+        if (isNull(value)) {
+            return api.putValue(Strings.trimLeadingSlash(key), query);
+        }
+
+        return api.putValue(Strings.trimLeadingSlash(key),
+                RequestBody.create(value, MediaType.parse("application/octet-stream")), query);
+    }
+
+    private static Map<String, Object> putQuery(long flags, PutOptions putOptions) {
         Map<String, Object> query = putOptions.toQuery();
 
         if (flags != 0) {
             query.put("flags", Long.toUnsignedString(flags));
         }
 
-        if (isNull(value)) {
-            return http.extract(api.putValue(Strings.trimLeadingSlash(key),
-                    query));
-        } else {
-            return http.extract(api.putValue(Strings.trimLeadingSlash(key),
-                    RequestBody.create(value, MediaType.parse("application/octet-stream")), query));
-        }
+        return query;
     }
 
     /**
@@ -517,14 +889,33 @@ public class KeyValueClient extends BaseCacheableClient {
      * @return A list of zero to many keys.
      */
     public List<String> getKeys(String key, String separator, QueryOptions queryOptions) {
+        Call<List<String>> call = api.getKeys(Strings.trimLeadingSlash(key), keysQuery(separator, queryOptions));
+        List<String> result = http.extract(call, NOT_FOUND_404);
+        return isNull(result) ? List.of() : result;
+    }
+
+    private static Map<String, Object> keysQuery(String separator, QueryOptions queryOptions) {
         Map<String, Object> query = queryOptions.toQuery();
         query.put("keys", "true");
         if (nonNull(separator)) {
             query.put("separator", separator);
         }
+        return query;
+    }
 
-        List<String> result = http.extract(api.getKeys(Strings.trimLeadingSlash(key), query), NOT_FOUND_404);
-        return isNull(result) ? List.of() : result;
+    /**
+     * Asynchronously retrieves a list of matching keys for the given key.
+     * <p>
+     * {@code GET /v1/kv/{key}?keys&separator={separator}}
+     *
+     * @param key          The key to retrieve.
+     * @param separator    The separator used to limit the prefix of keys returned, or null for no separator.
+     * @param queryOptions The query options.
+     * @return A future containing a list of zero to many keys.
+     */
+    public CompletableFuture<List<String>> getKeysAsync(String key, String separator, QueryOptions queryOptions) {
+        return http.extractAsync(api.getKeys(Strings.trimLeadingSlash(key), keysQuery(separator, queryOptions)),
+                KeyValueClient::nullToEmpty, NOT_FOUND_404);
     }
 
     /**
@@ -558,10 +949,27 @@ public class KeyValueClient extends BaseCacheableClient {
      * @param deleteOptions DELETE options (e.g., recurse, cas)
      */
     public void deleteKey(String key, DeleteOptions deleteOptions) {
+        http.handle(deleteKeyCall(key, deleteOptions));
+    }
+
+    /**
+     * Asynchronously deletes a specified key.
+     * <p>
+     * DELETE /v1/kv/{key}
+     *
+     * @param key           The key to delete.
+     * @param deleteOptions DELETE options (e.g., recurse, cas)
+     * @return A future that completes when the key has been deleted.
+     */
+    public CompletableFuture<Void> deleteKeyAsync(String key, DeleteOptions deleteOptions) {
+        return http.handleAsync(deleteKeyCall(key, deleteOptions));
+    }
+
+    private Call<Void> deleteKeyCall(String key, DeleteOptions deleteOptions) {
         checkArgument(StringUtils.isNotEmpty(key), KEY_MUST_BE_DEFINED);
         Map<String, Object> query = deleteOptions.toQuery();
 
-        http.handle(api.deleteValues(Strings.trimLeadingSlash(key), query));
+        return api.deleteValues(Strings.trimLeadingSlash(key), query);
     }
 
     /**
@@ -662,17 +1070,64 @@ public class KeyValueClient extends BaseCacheableClient {
      * @return A {@link ConsulResponse} containing results and potential errors.
      */
     public ConsulResponse<TxResponse> performTransaction(TransactionOptions transactionOptions, Operation... operations) {
+        return http.extractConsulResponse(performTransactionCall(transactionOptions, operations));
+    }
+
+    /**
+     * Asynchronously performs a Consul transaction.
+     * <p>
+     * PUT /v1/tx
+     *
+     * @param transactionOptions transaction options (e.g. dc, consistency).
+     * @param callback           Callback implemented by callee to handle results.
+     * @param operations         A list of KV operations.
+     */
+    public void performTransaction(TransactionOptions transactionOptions,
+                                   ConsulResponseCallback<TxResponse> callback,
+                                   Operation... operations) {
+        http.extractConsulResponse(performTransactionCall(transactionOptions, operations), callback);
+    }
+
+    /**
+     * Asynchronously performs a Consul transaction.
+     * <p>
+     * PUT /v1/tx
+     *
+     * @param transactionOptions transaction options (e.g. dc, consistency).
+     * @param operations         A list of KV operations.
+     * @return A future containing results and potential errors.
+     */
+    public CompletableFuture<ConsulResponse<TxResponse>> performTransactionAsync(TransactionOptions transactionOptions,
+                                                                                 Operation... operations) {
+        return http.extractConsulResponseAsync(performTransactionCall(transactionOptions, operations));
+    }
+
+    private Call<TxResponse> performTransactionCall(TransactionOptions transactionOptions, Operation... operations) {
         Map<String, Object> query = transactionOptions.toQuery();
 
         try {
             String json = Jackson.MAPPER.writeValueAsString(kv(operations));
             RequestBody requestBody = RequestBody.create(json, MediaType.parse("application/json"));
-            return http.extractConsulResponse(api.performTransaction(requestBody, query));
+            return api.performTransaction(requestBody, query);
         } catch (JsonProcessingException e) {
             throw new ConsulException("Error processing JSON", e);
         }
     }
 
+    /**
+     * Create a writer that splits any number of operations into transactions and performs several of them
+     * concurrently.
+     *
+     * @param transactionOptions transaction options (e.g. dc, consistency) used for every transaction.
+     * @param maxInFlight        the maximum number of transactions in flight at once.
+     * @return a new {@link BulkTransactionWriter}
+     * @see BulkTransactionWriter
+     */
+    public BulkTransactionWriter newBulkTransactionWriter(TransactionOptions transactionOptions, int maxInFlight) {
+        return new BulkTransactionWriter(this, transactionOptions, BulkTransactionWriter.MAX_OPERATIONS_PER_TRANSACTION,
+                maxInFlight);
+    }
+
     /**
      * Wraps {@link Operation} in a <code>"KV": { }</code> block.
      *
@@ -699,6 +1154,24 @@ public class KeyValueClient extends BaseCacheableClient {
         Call<List<Value>> getValue(@Path("key") String key,
                                    @QueryMap Map<String, Object> query);
 
+        @GET("kv/{key}")
+        Call<List<DecodedValue>> getDecodedValue(@Path("key") String key,
+                                                 @QueryMap Map<String, Object> query);
+
+        @Streaming
+        @GET("kv/{key}")
+        Call<ResponseBody> streamValues(@Path("key") String key,
+                                        @QueryMap Map<String, Object> query);
+
+        @GET("kv/{key}")
+        Call<ResponseBody> getRawValue(@Path("key") String key,
+                                       @QueryMap Map<String, Object> query);
+
+        @Streaming
+        @GET("kv/{key}")
+        Call<ResponseBody> streamRawValue(@Path("key") String key,
+                                          @QueryMap Map<String, Object> query);
+
         @GET("kv/{key}")
         Call<List<String>> getKeys(@Path("key") String key,
                                    @QueryMap Map<String, Object> query);
@@ -1,5 +1,7 @@
 package org.kiwiproject.consul;
 
+import static org.kiwiproject.consul.ConsulClients.dcQuery;
+
 import org.kiwiproject.consul.config.ClientConfig;
 import org.kiwiproject.consul.model.operator.RaftConfiguration;
 import org.kiwiproject.consul.monitoring.ClientEventCallback;
@@ -10,7 +12,9 @@ import retrofit2.http.GET;
 import retrofit2.http.Query;
 import retrofit2.http.QueryMap;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class OperatorClient extends BaseClient {
 
@@ -51,6 +55,20 @@ public class OperatorClient extends BaseClient {
         http.handle(api.deletePeer(address, Map.of("dc", datacenter)));
     }
 
+    public CompletableFuture<RaftConfiguration> getRaftConfigurationAsync(String datacenter) {
+        return http.extractAsync(api.getConfiguration(dcQuery(datacenter)));
+    }
+
+    public CompletableFuture<RaftConfiguration> getStaleRaftConfigurationAsync(String datacenter) {
+        Map<String, String> query = new HashMap<>(dcQuery(datacenter));
+        query.put("stale", "true");
+        return http.extractAsync(api.getConfiguration(query));
+    }
+
+    public CompletableFuture<Void> deletePeerAsync(String address, String datacenter) {
+        return http.handleAsync(api.deletePeer(address, dcQuery(datacenter)));
+    }
+
     interface Api {
 
         @GET("operator/raft/configuration")
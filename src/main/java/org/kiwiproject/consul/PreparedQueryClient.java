@@ -10,6 +10,7 @@ import org.kiwiproject.consul.model.query.QueryResults;
 import org.kiwiproject.consul.model.query.StoredQuery;
 import org.kiwiproject.consul.monitoring.ClientEventCallback;
 import org.kiwiproject.consul.option.QueryOptions;
+import org.kiwiproject.consul.util.Lists;
 import retrofit2.Call;
 import retrofit2.Retrofit;
 import retrofit2.http.Body;
@@ -22,6 +23,7 @@ import retrofit2.http.QueryMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class PreparedQueryClient extends BaseClient {
 
@@ -154,6 +156,70 @@ public class PreparedQueryClient extends BaseClient {
         http.extract(api.deletePreparedQuery(id, dcQuery(dc)));
     }
 
+    /**
+     * Asynchronously creates a prepared query.
+     * <p>
+     * POST /v1/query
+     *
+     * @param preparedQuery The prepared query to create.
+     * @param dc            The data center, or null for the agent's data center.
+     * @return A future containing the ID of the created query.
+     */
+    public CompletableFuture<String> createPreparedQueryAsync(PreparedQuery preparedQuery, final String dc) {
+        return http.extractAsync(api.createPreparedQuery(preparedQuery, dcQuery(dc)), QueryId::getId);
+    }
+
+    /**
+     * Asynchronously retrieves the list of prepared queries.
+     * <p>
+     * GET /v1/query
+     *
+     * @param dc The data center, or null for the agent's data center.
+     * @return A future containing the list of prepared queries.
+     */
+    public CompletableFuture<List<StoredQuery>> getPreparedQueriesAsync(final String dc) {
+        return http.extractAsync(api.getPreparedQueries(dcQuery(dc)));
+    }
+
+    /**
+     * Asynchronously retrieves a prepared query by its ID.
+     * <p>
+     * GET /v1/query/{id}
+     *
+     * @param id The query ID.
+     * @param dc The data center, or null for the agent's data center.
+     * @return A future containing the stored prepared query.
+     */
+    public CompletableFuture<Optional<StoredQuery>> getPreparedQueryAsync(String id, final String dc) {
+        return http.extractAsync(api.getPreparedQuery(id, dcQuery(dc)), Lists::firstValueOrEmpty);
+    }
+
+    /**
+     * Asynchronously executes a prepared query by its name or ID.
+     * <p>
+     * GET /v1/query/{nameOrId}/execute
+     *
+     * @param nameOrId The query name or ID.
+     * @param options  Query options.
+     * @return A future containing a {@link QueryResults} object with the service instances.
+     */
+    public CompletableFuture<QueryResults> executeAsync(String nameOrId, QueryOptions options) {
+        return http.extractAsync(api.execute(nameOrId, options.toQuery()));
+    }
+
+    /**
+     * Asynchronously deletes a prepared query by its ID.
+     * <p>
+     * DELETE /v1/query/{id}
+     *
+     * @param id The query ID
+     * @param dc The data center, or null for the agent's data center.
+     * @return A future that completes when the query has been deleted.
+     */
+    public CompletableFuture<Void> deletePreparedQueryAsync(String id, String dc) {
+        return http.handleAsync(api.deletePreparedQuery(id, dcQuery(dc)));
+    }
+
     /**
      * Retrofit API interface.
      */
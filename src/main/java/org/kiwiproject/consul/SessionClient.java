@@ -8,6 +8,7 @@ import org.kiwiproject.consul.model.session.Session;
 import org.kiwiproject.consul.model.session.SessionCreatedResponse;
 import org.kiwiproject.consul.model.session.SessionInfo;
 import org.kiwiproject.consul.monitoring.ClientEventCallback;
+import org.kiwiproject.consul.util.Lists;
 import retrofit2.Call;
 import retrofit2.Retrofit;
 import retrofit2.http.Body;
@@ -19,6 +20,7 @@ import retrofit2.http.QueryMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * HTTP Client for /v1/session/ endpoints.
@@ -157,6 +159,70 @@ public class SessionClient extends BaseClient {
         return listSessions(null);
     }
 
+    /**
+     * Asynchronously creates a session.
+     * <p>
+     * PUT /v1/session/create
+     *
+     * @param value The session to create.
+     * @param dc    The data center, or null for the agent's data center.
+     * @return A future containing the session ID.
+     */
+    public CompletableFuture<SessionCreatedResponse> createSessionAsync(final Session value, final String dc) {
+        return http.extractAsync(api.createSession(value, dcQuery(dc)));
+    }
+
+    /**
+     * Asynchronously renews a session.
+     * <p>
+     * PUT /v1/session/renew/{sessionId}
+     *
+     * @param dc        The datacenter, or null for the agent's data center.
+     * @param sessionId The session ID to renew.
+     * @return A future containing the {@link SessionInfo} object for the renewed session.
+     */
+    public CompletableFuture<Optional<SessionInfo>> renewSessionAsync(final String dc, final String sessionId) {
+        return http.extractAsync(api.renewSession(sessionId, Map.of(), dcQuery(dc)), Lists::firstValueOrEmpty);
+    }
+
+    /**
+     * Asynchronously destroys a session.
+     * <p>
+     * PUT /v1/session/destroy/{sessionId}
+     *
+     * @param sessionId The session ID to destroy.
+     * @param dc        The data center, or null for the agent's data center.
+     * @return A future that completes when the session has been destroyed.
+     */
+    public CompletableFuture<Void> destroySessionAsync(final String sessionId, final String dc) {
+        return http.handleAsync(api.destroySession(sessionId, dcQuery(dc)));
+    }
+
+    /**
+     * Asynchronously retrieves session info.
+     * <p>
+     * GET /v1/session/info/{sessionId}
+     *
+     * @param sessionId the session ID
+     * @param dc        Data center, or null for the agent's data center.
+     * @return A future containing the {@link SessionInfo}.
+     */
+    public CompletableFuture<Optional<SessionInfo>> getSessionInfoAsync(final String sessionId, final String dc) {
+        return http.extractAsync(api.getSessionInfo(sessionId, dcQuery(dc)), Lists::firstValueOrEmpty);
+    }
+
+    /**
+     * Asynchronously lists all sessions.
+     * <p>
+     * GET /v1/session/list
+     *
+     * @param dc The data center, or null for the agent's data center.
+     * @return A future containing the list of available sessions.
+     */
+    public CompletableFuture<List<SessionInfo>> listSessionsAsync(final String dc) {
+        return http.extractAsync(api.listSessions(dcQuery(dc)));
+    }
+
     /**
      * Retrofit API interface.
      */
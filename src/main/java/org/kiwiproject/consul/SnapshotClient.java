@@ -21,10 +21,12 @@ import retrofit2.http.Streaming;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * HTTP Client for /v1/snapshot/ endpoints.
@@ -88,6 +90,41 @@ public class SnapshotClient extends BaseClient {
         http.extractBasicResponse(api.restoreSnapshot(queryOptions.toQuery(), requestBody), callback);
     }
 
+    /**
+     * Asynchronously requests a new snapshot and saves it in a file.
+     * Only a subset of the QueryOptions is supported: datacenter, consistency mode, and token.
+     * <p>
+     * The snapshot is written to the file on the thread that receives the response.
+     *
+     * @param destinationFile file in which the snapshot is to be saved.
+     * @param queryOptions    query options. Only a subset of the QueryOptions is supported: datacenter, consistency mode, and token.
+     * @return a future containing the X-Consul-Index of the snapshot; if the file cannot be written, the future
+     * completes exceptionally with an {@link UncheckedIOException}
+     */
+    public CompletableFuture<BigInteger> saveAsync(File destinationFile, QueryOptions queryOptions) {
+        return http.extractConsulResponseAsync(api.generateSnapshot(queryOptions.toQuery()), consulResponse -> {
+            try (ResponseBody responseBody = consulResponse.getResponse();
+                 InputStream inputStream = responseBody.byteStream()) {
+                Files.copy(inputStream, destinationFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                return consulResponse.getIndex();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Asynchronously restores a snapshot stored in a file.
+     *
+     * @param sourceFile   source file where the snapshot is stored.
+     * @param queryOptions query options. Only a subset of the QueryOptions is supported: datacenter, token.
+     * @return a future that completes when the snapshot has been restored.
+     */
+    public CompletableFuture<Void> restoreAsync(File sourceFile, QueryOptions queryOptions) {
+        RequestBody requestBody = RequestBody.create(sourceFile, MediaType.parse("application/binary"));
+        return http.handleAsync(api.restoreSnapshot(queryOptions.toQuery(), requestBody));
+    }
+
     /**
      * Retrofit API interface.
      */
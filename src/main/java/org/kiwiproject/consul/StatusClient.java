@@ -11,6 +11,7 @@ import retrofit2.http.QueryMap;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class StatusClient extends BaseClient {
 
@@ -74,6 +75,30 @@ public class StatusClient extends BaseClient {
         return http.extract(api.getPeers(queryOptions.toQuery()));
     }
 
+    /**
+     * Asynchronously retrieves the host/port of the Consul leader.
+     * <p>
+     * GET /v1/status/leader
+     *
+     * @param queryOptions The Query Options to use.
+     * @return A future containing the host/port of the leader.
+     */
+    public CompletableFuture<String> getLeaderAsync(QueryOptions queryOptions) {
+        return http.extractAsync(api.getLeader(queryOptions.toQuery()), leader -> leader.replace("\"", "").trim());
+    }
+
+    /**
+     * Asynchronously retrieves a list of host/ports for raft peers.
+     * <p>
+     * GET /v1/status/peers
+     *
+     * @param queryOptions The Query Options to use.
+     * @return A future containing the list of host/ports for raft peers.
+     */
+    public CompletableFuture<List<String>> getPeersAsync(QueryOptions queryOptions) {
+        return http.extractAsync(api.getPeers(queryOptions.toQuery()));
+    }
+
     /**
      * Retrofit API interface.
      */
@@ -0,0 +1,61 @@
+package org.kiwiproject.consul.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.kiwiproject.consul.config.AdaptiveRateLimit;
+
+/**
+ * Computes the delay before the next request of a cache using an {@link AdaptiveRateLimit}.
+ * <p>
+ * Not thread-safe. A cache has at most one request outstanding, so its responses are handled one at a time.
+ */
+final class AdaptiveDelay {
+
+    private final long minDelayMillis;
+    private final long maxDelayMillis;
+    private long currentDelayMillis;
+    private long lastChangeMillis = -1;
+
+    AdaptiveDelay(AdaptiveRateLimit rateLimit) {
+        requireNonNull(rateLimit);
+        this.minDelayMillis = Math.max(1, rateLimit.getMinDelay().toMillis());
+        this.maxDelayMillis = Math.max(minDelayMillis, rateLimit.getMaxDelay().toMillis());
+        this.currentDelayMillis = minDelayMillis;
+    }
+
+    /**
+     * @param changed      whether the response changed the cache's contents
+     * @param responseSize the number of entries in the response
+     * @param nowMillis    the current time in milliseconds
+     * @return the minimum delay in milliseconds before the next request; zero after a response that did not change
+     * anything, since there is nothing to coalesce
+     */
+    long nextDelayMillis(boolean changed, int responseSize, long nowMillis) {
+        if (!changed) {
+            decrease();
+            return 0;
+        }
+
+        // a change arriving right after the previous wait ended means changes are waiting for us: back off more
+        boolean highChurn = lastChangeMillis >= 0 && nowMillis - lastChangeMillis <= 2 * currentDelayMillis;
+        lastChangeMillis = nowMillis;
+        if (highChurn) {
+            currentDelayMillis = Math.min(maxDelayMillis, 2 * currentDelayMillis);
+        } else {
+            decrease();
+        }
+
+        long sizeFactor = 1 + (responseSize / AdaptiveRateLimit.LARGE_RESPONSE_ENTRIES);
+        return Math.min(maxDelayMillis, currentDelayMillis * sizeFactor);
+    }
+
+    private void decrease() {
+        currentDelayMillis = Math.max(minDelayMillis, currentDelayMillis / 2);
+    }
+
+    @VisibleForTesting
+    long currentDelayMillis() {
+        return currentDelayMillis;
+    }
+}
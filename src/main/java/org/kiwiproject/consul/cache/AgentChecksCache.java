@@ -0,0 +1,63 @@
+package org.kiwiproject.consul.cache;
+
+import com.google.common.primitives.Ints;
+import org.kiwiproject.consul.AgentClient;
+import org.kiwiproject.consul.config.CacheConfig;
+import org.kiwiproject.consul.model.health.HealthCheck;
+import org.kiwiproject.consul.option.Options;
+import org.kiwiproject.consul.option.QueryOptions;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * A cache of the checks registered with the local agent, i.e., {@code /v1/agent/checks}.
+ * <p>
+ * Keys are the check IDs. The cache uses hash-based blocking queries, so each request waits until the
+ * checks registered with the agent, or their status, actually change (or the watch duration elapses).
+ */
+public class AgentChecksCache extends ConsulCache<String, HealthCheck> {
+
+    private AgentChecksCache(AgentClient agentClient,
+                             QueryOptions queryOptions,
+                             int watchSeconds,
+                             Scheduler callbackScheduler) {
+
+        super(HealthCheck::getCheckId,
+            (ContentHashCallbackConsumer<HealthCheck>) (contentHash, callback) -> {
+                checkWatch(agentClient.getNetworkTimeoutConfig().getClientReadTimeoutMillis(), watchSeconds);
+                QueryOptions params = hashWatchParams(contentHash, watchSeconds, queryOptions);
+                agentClient.getChecks(params, mapValuesCallback(callback));
+            },
+            agentClient.getConfig().getCacheConfig(),
+            agentClient.getEventHandler(),
+            new CacheDescriptor("agent.checks", null, qualifierOf(queryOptions)),
+            callbackScheduler,
+            HealthCheck.class);
+
+        checkMaxStaleness(agentClient.getConfig().getCacheConfig(), watchSeconds);
+    }
+
+    public static AgentChecksCache newCache(
+            final AgentClient agentClient,
+            final QueryOptions queryOptions,
+            final int watchSeconds,
+            final ScheduledExecutorService callbackExecutorService) {
+
+        Scheduler scheduler = createExternal(callbackExecutorService);
+        return new AgentChecksCache(agentClient, queryOptions, watchSeconds, scheduler);
+    }
+
+    public static AgentChecksCache newCache(
+            final AgentClient agentClient,
+            final QueryOptions queryOptions,
+            final int watchSeconds) {
+
+        return new AgentChecksCache(agentClient, queryOptions, watchSeconds, createDefault());
+    }
+
+    public static AgentChecksCache newCache(final AgentClient agentClient) {
+        CacheConfig cacheConfig = agentClient.getConfig().getCacheConfig();
+        int watchSeconds = Ints.checkedCast(cacheConfig.getWatchDuration().getSeconds());
+        return newCache(agentClient, Options.BLANK_QUERY_OPTIONS, watchSeconds);
+    }
+}
@@ -0,0 +1,63 @@
+package org.kiwiproject.consul.cache;
+
+import com.google.common.primitives.Ints;
+import org.kiwiproject.consul.AgentClient;
+import org.kiwiproject.consul.config.CacheConfig;
+import org.kiwiproject.consul.model.health.Service;
+import org.kiwiproject.consul.option.Options;
+import org.kiwiproject.consul.option.QueryOptions;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * A cache of the services registered with the local agent, i.e., {@code /v1/agent/services}.
+ * <p>
+ * Keys are the service IDs. The cache uses hash-based blocking queries, so each request waits until the
+ * set of services registered with the agent actually changes (or the watch duration elapses).
+ */
+public class AgentServicesCache extends ConsulCache<String, Service> {
+
+    private AgentServicesCache(AgentClient agentClient,
+                               QueryOptions queryOptions,
+                               int watchSeconds,
+                               Scheduler callbackScheduler) {
+
+        super(Service::getId,
+            (ContentHashCallbackConsumer<Service>) (contentHash, callback) -> {
+                checkWatch(agentClient.getNetworkTimeoutConfig().getClientReadTimeoutMillis(), watchSeconds);
+                QueryOptions params = hashWatchParams(contentHash, watchSeconds, queryOptions);
+                agentClient.getServices(params, mapValuesCallback(callback));
+            },
+            agentClient.getConfig().getCacheConfig(),
+            agentClient.getEventHandler(),
+            new CacheDescriptor("agent.services", null, qualifierOf(queryOptions)),
+            callbackScheduler,
+            Service.class);
+
+        checkMaxStaleness(agentClient.getConfig().getCacheConfig(), watchSeconds);
+    }
+
+    public static AgentServicesCache newCache(
+            final AgentClient agentClient,
+            final QueryOptions queryOptions,
+            final int watchSeconds,
+            final ScheduledExecutorService callbackExecutorService) {
+
+        Scheduler scheduler = createExternal(callbackExecutorService);
+        return new AgentServicesCache(agentClient, queryOptions, watchSeconds, scheduler);
+    }
+
+    public static AgentServicesCache newCache(
+            final AgentClient agentClient,
+            final QueryOptions queryOptions,
+            final int watchSeconds) {
+
+        return new AgentServicesCache(agentClient, queryOptions, watchSeconds, createDefault());
+    }
+
+    public static AgentServicesCache newCache(final AgentClient agentClient) {
+        CacheConfig cacheConfig = agentClient.getConfig().getCacheConfig();
+        int watchSeconds = Ints.checkedCast(cacheConfig.getWatchDuration().getSeconds());
+        return newCache(agentClient, Options.BLANK_QUERY_OPTIONS, watchSeconds);
+    }
+}
@@ -0,0 +1,208 @@
+package org.kiwiproject.consul.cache;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import org.jspecify.annotations.Nullable;
+import org.kiwiproject.consul.async.ConsulResponseCallback;
+import org.kiwiproject.consul.model.ConsulResponse;
+import org.kiwiproject.consul.option.Options;
+import org.kiwiproject.consul.option.QueryOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Flow.Publisher} of the responses to a Consul blocking query, for watching a single endpoint without
+ * creating a {@link ConsulCache}.
+ * <p>
+ * Each subscription runs its own sequence of queries, and only while it has outstanding demand: a query is sent
+ * when the subscriber requests a response, and the next one, which blocks until the index of the previous response
+ * changes, only once the subscriber requests again. A slow subscriber therefore receives the latest state of the
+ * endpoint rather than a backlog of intermediate ones, and a subscriber that stops requesting stops the polling.
+ * Responses whose index did not change, i.e. blocking queries that timed out, are not published.
+ * <p>
+ * Subscribers are signalled on the thread that completes the query, normally an HTTP client thread, so they should
+ * return quickly. A failed query terminates the subscription with {@code onError}; subscribing again starts over.
+ * <p>
+ * Example:
+ * <pre>
+ * var publisher = BlockingQueryPublisher.of(
+ *         (options, callback) -&gt; healthClient.getHealthyServiceInstances("web", options, callback), 60);
+ * </pre>
+ *
+ * @param <T> the type of the query's response
+ * @see CachePublisher
+ */
+public final class BlockingQueryPublisher<T> implements Flow.Publisher<ConsulResponse<T>> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BlockingQueryPublisher.class);
+
+    /**
+     * An asynchronous Consul query that supports blocking.
+     *
+     * @param <T> the type of the query's response
+     */
+    @FunctionalInterface
+    public interface Query<T> {
+
+        /**
+         * Send the query.
+         *
+         * @param queryOptions the options to send, including the index and wait time of the blocking query
+         * @param callback     the callback to complete with the response
+         */
+        void execute(QueryOptions queryOptions, ConsulResponseCallback<T> callback);
+    }
+
+    private final Query<T> query;
+    private final int blockSeconds;
+    private final QueryOptions queryOptions;
+
+    private BlockingQueryPublisher(Query<T> query, int blockSeconds, QueryOptions queryOptions) {
+        this.query = checkNotNull(query, "query must not be null");
+        checkArgument(blockSeconds > 0, "blockSeconds must be positive");
+        this.blockSeconds = blockSeconds;
+        this.queryOptions = checkNotNull(queryOptions, "queryOptions must not be null");
+        checkArgument(queryOptions.getIndex().isEmpty() && queryOptions.getHash().isEmpty() &&
+                        queryOptions.getWait().isEmpty(),
+                "Index, hash and wait cannot be overridden");
+    }
+
+    /**
+     * Create a publisher of the responses to the given query.
+     *
+     * @param query        the query to send
+     * @param blockSeconds the maximum time each blocking query waits for a change
+     * @param <T>          the type of the query's response
+     * @return a new publisher
+     */
+    public static <T> BlockingQueryPublisher<T> of(Query<T> query, int blockSeconds) {
+        return of(query, blockSeconds, Options.BLANK_QUERY_OPTIONS);
+    }
+
+    /**
+     * Create a publisher of the responses to the given query.
+     *
+     * @param query        the query to send
+     * @param blockSeconds the maximum time each blocking query waits for a change
+     * @param queryOptions additional options, such as a token or datacenter; must not set an index, hash, or wait
+     * @param <T>          the type of the query's response
+     * @return a new publisher
+     */
+    public static <T> BlockingQueryPublisher<T> of(Query<T> query, int blockSeconds, QueryOptions queryOptions) {
+        return new BlockingQueryPublisher<>(query, blockSeconds, queryOptions);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ConsulResponse<T>> subscriber) {
+        checkNotNull(subscriber, "subscriber must not be null");
+        subscriber.onSubscribe(new QuerySubscription(subscriber));
+    }
+
+    private final class QuerySubscription implements Flow.Subscription, ConsulResponseCallback<T> {
+
+        private final Flow.Subscriber<? super ConsulResponse<T>> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        // Set while a query is in flight, or while a thread is deciding whether to send one. Only the thread
+        // that set it signals the subscriber, so signals are never concurrent.
+        private final AtomicBoolean busy = new AtomicBoolean();
+
+        private volatile boolean cancelled;
+
+        @Nullable
+        private volatile BigInteger index;
+
+        QuerySubscription(Flow.Subscriber<? super ConsulResponse<T>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                var invalid = new IllegalArgumentException("request must be positive (Reactive Streams rule 3.9)");
+                error.compareAndSet(null, invalid);
+            } else {
+                demand.getAndAccumulate(n, CachePublisher::addCapped);
+            }
+            sendIfDemanded();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void sendIfDemanded() {
+            while (!cancelled && busy.compareAndSet(false, true)) {
+                var throwable = error.get();
+                if (nonNull(throwable)) {
+                    cancelled = true;
+                    subscriber.onError(throwable);
+                    return;
+                }
+
+                if (demand.get() > 0) {
+                    try {
+                        query.execute(ConsulCache.watchParams(index, blockSeconds, queryOptions), this);
+                        return;
+                    } catch (RuntimeException e) {
+                        error.compareAndSet(null, e);
+                    }
+                }
+
+                busy.set(false);
+
+                // demand or an error may have arrived after the checks above but before busy was cleared
+                if (demand.get() == 0 && isNull(error.get())) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void onComplete(ConsulResponse<T> consulResponse) {
+            if (cancelled) {
+                return;
+            }
+
+            var previousIndex = index;
+            var newIndex = consulResponse.getIndex();
+            if (nonNull(newIndex)) {
+                index = newIndex;
+            }
+
+            if (isNull(previousIndex) || !previousIndex.equals(newIndex)) {
+                demand.getAndUpdate(current -> current == Long.MAX_VALUE ? current : current - 1);
+                try {
+                    subscriber.onNext(consulResponse);
+                } catch (RuntimeException e) {
+                    LOG.warn("Subscriber's onNext method threw an exception. Cancelling its subscription.", e);
+                    cancelled = true;
+                }
+            }
+
+            busy.set(false);
+            sendIfDemanded();
+        }
+
+        @Override
+        public void onFailure(Throwable throwable) {
+            if (cancelled) {
+                return;
+            }
+            error.compareAndSet(null, throwable);
+            busy.set(false);
+            sendIfDemanded();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.kiwiproject.consul.cache;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
+/**
+ * Describes the difference between two consecutive snapshots of a {@link ConsulCache}.
+ * <p>
+ * A delta is computed once per changed poll and shared by all registered
+ * {@link ConsulCache.DeltaListener}s, so listeners can update their own data structures
+ * in place instead of rebuilding them from the full snapshot.
+ * <p>
+ * All maps are immutable. Keys in {@link #getAdded()}, {@link #getRemoved()}, and {@link #getChanged()}
+ * are disjoint.
+ *
+ * @param <K> the type of keys in the cache
+ * @param <V> the type of values in the cache
+ */
+public final class CacheDelta<K, V> {
+
+    private final ImmutableMap<K, V> added;
+    private final ImmutableMap<K, V> removed;
+    private final ImmutableMap<K, V> changed;
+    private final ImmutableMap<K, V> snapshot;
+
+    private CacheDelta(ImmutableMap<K, V> added,
+                       ImmutableMap<K, V> removed,
+                       ImmutableMap<K, V> changed,
+                       ImmutableMap<K, V> snapshot) {
+        this.added = added;
+        this.removed = removed;
+        this.changed = changed;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Compute the delta between two snapshots.
+     *
+     * @param previous the previous snapshot; may be null, which is treated as an empty map
+     * @param current  the current snapshot
+     * @param <K>      the type of keys
+     * @param <V>      the type of values
+     * @return a new delta describing how to get from {@code previous} to {@code current}
+     */
+    public static <K, V> CacheDelta<K, V> between(Map<K, V> previous, ImmutableMap<K, V> current) {
+        requireNonNull(current, "current must not be null");
+
+        if (isNull(previous) || previous.isEmpty()) {
+            return new CacheDelta<>(current, ImmutableMap.of(), ImmutableMap.of(), current);
+        }
+
+        ImmutableMap.Builder<K, V> added = ImmutableMap.builder();
+        ImmutableMap.Builder<K, V> changed = ImmutableMap.builder();
+        for (Map.Entry<K, V> entry : current.entrySet()) {
+            V oldValue = previous.get(entry.getKey());
+            if (isNull(oldValue)) {
+                added.put(entry);
+            } else if (oldValue != entry.getValue() && !oldValue.equals(entry.getValue())) {
+                changed.put(entry);
+            }
+        }
+
+        ImmutableMap.Builder<K, V> removed = ImmutableMap.builder();
+        for (Map.Entry<K, V> entry : previous.entrySet()) {
+            if (!current.containsKey(entry.getKey())) {
+                removed.put(entry);
+            }
+        }
+
+        return new CacheDelta<>(added.build(), removed.build(), changed.build(), current);
+    }
+
+    /**
+     * @return entries present in the current snapshot but not in the previous one
+     */
+    public ImmutableMap<K, V> getAdded() {
+        return added;
+    }
+
+    /**
+     * @return entries present in the previous snapshot but not in the current one, with their previous values
+     */
+    public ImmutableMap<K, V> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * @return entries present in both snapshots whose value changed, with their current values
+     */
+    public ImmutableMap<K, V> getChanged() {
+        return changed;
+    }
+
+    /**
+     * @return the full current snapshot this delta leads to
+     */
+    public ImmutableMap<K, V> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * @return true if nothing was added, removed, or changed
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "CacheDelta{" +
+                "added=" + added.size() +
+                ", removed=" + removed.size() +
+                ", changed=" + changed.size() +
+                ", snapshotSize=" + snapshot.size() +
+                '}';
+    }
+}
@@ -2,24 +2,47 @@ package org.kiwiproject.consul.cache;
 
 import static java.util.Objects.isNull;
 
+import com.google.common.hash.Hashing;
+import org.jspecify.annotations.Nullable;
+import org.kiwiproject.consul.config.CacheSnapshotStore;
+
+import java.nio.charset.StandardCharsets;
+
 /**
  * A {@link CacheDescriptor} describes an instance of a cache.
  * The cache is represented by an {@link CacheDescriptor#endpoint} and a {@link CacheDescriptor#key}.
  * For instance, a cache targeting "/v1/catalog/service/myService" will be represented by
  * the endpoint "catalog.service" and key "myService".
+ * <p>
+ * Caches with the same endpoint and key can still request different data, for instance with different query
+ * options. An optional {@link CacheDescriptor#qualifier} tells them apart where that matters, such as when
+ * naming their snapshots.
  */
 public class CacheDescriptor {
 
     private final String endpoint;
     private final String key;
+    private final String qualifier;
 
     public CacheDescriptor(String endpoint) {
         this(endpoint, null);
     }
 
     public CacheDescriptor(String endpoint, String key) {
+        this(endpoint, key, null);
+    }
+
+    /**
+     * @param endpoint  the endpoint, for instance "health.service"
+     * @param key       the key, for instance the service name, or null if the endpoint has none
+     * @param qualifier describes the request parameters that distinguish this cache from others with the same
+     *                  endpoint and key, or null if there are none; it is not included in {@link #toString()}
+     *                  since it may contain an ACL token
+     */
+    public CacheDescriptor(String endpoint, @Nullable String key, @Nullable String qualifier) {
         this.endpoint = endpoint;
         this.key = key;
+        this.qualifier = qualifier;
     }
 
     public String getEndpoint() {
@@ -30,6 +53,27 @@ public class CacheDescriptor {
         return key;
     }
 
+    @Nullable
+    public String getQualifier() {
+        return qualifier;
+    }
+
+    /**
+     * The ID under which the snapshots of the cache are stored in a {@link CacheSnapshotStore}. It starts with the
+     * endpoint, for readability, and ends with a hash of the endpoint, key and qualifier, since keys may be long or
+     * contain characters that are not valid in file names. Hashing also keeps an ACL token that is part of the
+     * qualifier out of the ID.
+     */
+    String snapshotId() {
+        var readableEndpoint = endpoint.replaceAll("[^A-Za-z0-9._-]", "_");
+        var fullDescriptor = isNull(qualifier) ? toString() : this + "?" + qualifier;
+        var hash = Hashing.sha256()
+                .hashString(fullDescriptor, StandardCharsets.UTF_8)
+                .toString()
+                .substring(0, 16);
+        return readableEndpoint + "-" + hash;
+    }
+
     @Override
     public String toString() {
         if (isNull(key)) {
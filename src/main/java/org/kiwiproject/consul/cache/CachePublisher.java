@@ -0,0 +1,290 @@
+package org.kiwiproject.consul.cache;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Flow.Publisher} of the snapshots of a {@link ConsulCache}.
+ * <p>
+ * Each subscriber receives the current snapshot once one is available, and then each new one, but never more than
+ * it has requested. While a subscriber has no outstanding demand only the latest snapshot is kept for it, and it is
+ * delivered when the subscriber next requests; since snapshots are complete, a slow subscriber only misses
+ * intermediate states. Subscribers are signalled on the publisher's executor, never on the cache's thread, and
+ * never concurrently.
+ * <p>
+ * A publisher created with {@link #of(ConsulCache)} is a view of a cache whose lifecycle is managed by the caller.
+ * One created with {@link #watching(Supplier)} manages the cache itself: it creates and starts a cache when the
+ * first subscriber subscribes and stops it when the last subscription is cancelled, so that Consul is not polled
+ * while nobody is subscribed.
+ * <p>
+ * Caches retry failed polls indefinitely, so subscribers are only sent {@code onError} if the subscription could
+ * not be set up or was misused, and are never sent {@code onComplete}. They stop receiving snapshots by cancelling
+ * their subscription.
+ *
+ * @param <K> the type of keys in the cache
+ * @param <V> the type of values in the cache
+ */
+public final class CachePublisher<K, V> implements Flow.Publisher<Map<K, V>> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachePublisher.class);
+
+    @Nullable
+    private final Supplier<? extends ConsulCache<K, V>> cacheFactory;
+    private final Executor executor;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // guarded by lock
+    private final Set<CacheSubscription> subscriptions = new HashSet<>();
+
+    // guarded by lock; null while a cache created by cacheFactory is not running
+    @Nullable
+    private ConsulCache<K, V> cache;
+
+    private CachePublisher(@Nullable ConsulCache<K, V> cache,
+                           @Nullable Supplier<? extends ConsulCache<K, V>> cacheFactory,
+                           Executor executor) {
+        this.cache = cache;
+        this.cacheFactory = cacheFactory;
+        this.executor = checkNotNull(executor, "executor must not be null");
+    }
+
+    /**
+     * Create a publisher of the snapshots of an existing cache, signalling subscribers on the
+     * {@link ForkJoinPool#commonPool() common pool}. Starting and stopping the cache is up to the caller.
+     *
+     * @param cache the cache to publish
+     * @param <K>   the type of keys in the cache
+     * @param <V>   the type of values in the cache
+     * @return a new publisher
+     */
+    public static <K, V> CachePublisher<K, V> of(ConsulCache<K, V> cache) {
+        return of(cache, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a publisher of the snapshots of an existing cache. Starting and stopping the cache is up to the caller.
+     *
+     * @param cache    the cache to publish
+     * @param executor the executor to signal subscribers on
+     * @param <K>      the type of keys in the cache
+     * @param <V>      the type of values in the cache
+     * @return a new publisher
+     */
+    public static <K, V> CachePublisher<K, V> of(ConsulCache<K, V> cache, Executor executor) {
+        checkNotNull(cache, "cache must not be null");
+        return new CachePublisher<>(cache, null, executor);
+    }
+
+    /**
+     * Create a publisher that watches Consul only while it has subscribers, signalling them on the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param cacheFactory creates a new, unstarted cache each time the first subscriber subscribes
+     * @param <K>          the type of keys in the cache
+     * @param <V>          the type of values in the cache
+     * @return a new publisher
+     * @see #watching(Supplier, Executor)
+     */
+    public static <K, V> CachePublisher<K, V> watching(Supplier<? extends ConsulCache<K, V>> cacheFactory) {
+        return watching(cacheFactory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a publisher that watches Consul only while it has subscribers.
+     * <p>
+     * When the first subscriber subscribes, a cache is obtained from {@code cacheFactory} and started. All
+     * subscribers share that cache, and it is stopped when the last subscription is cancelled. Since a stopped
+     * cache cannot be restarted, a new one is obtained if there are subscribers again later.
+     *
+     * @param cacheFactory creates a new, unstarted cache each time the first subscriber subscribes
+     * @param executor     the executor to signal subscribers on
+     * @param <K>          the type of keys in the cache
+     * @param <V>          the type of values in the cache
+     * @return a new publisher
+     */
+    public static <K, V> CachePublisher<K, V> watching(Supplier<? extends ConsulCache<K, V>> cacheFactory,
+                                                       Executor executor) {
+        checkNotNull(cacheFactory, "cacheFactory must not be null");
+        return new CachePublisher<>(null, cacheFactory, executor);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Map<K, V>> subscriber) {
+        checkNotNull(subscriber, "subscriber must not be null");
+
+        var subscription = new CacheSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+
+        lock.lock();
+        try {
+            if (subscription.cancelled) {
+                return;
+            }
+            if (isNull(cache)) {
+                startCache(subscription);
+            } else {
+                cache.addListener(subscription);
+            }
+            subscriptions.add(subscription);
+        } catch (RuntimeException e) {
+            subscription.fail(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void startCache(CacheSubscription subscription) {
+        var newCache = checkNotNull(cacheFactory.get(), "cacheFactory must not return null");
+        newCache.addListener(subscription);
+        try {
+            newCache.start();
+        } catch (RuntimeException e) {
+            newCache.stop();
+            throw e;
+        }
+        cache = newCache;
+    }
+
+    private void unsubscribe(CacheSubscription subscription) {
+        lock.lock();
+        try {
+            if (!subscriptions.remove(subscription)) {
+                return;
+            }
+            cache.removeListener(subscription);
+            if (nonNull(cacheFactory) && subscriptions.isEmpty()) {
+                cache.stop();
+                cache = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of active subscriptions.
+     *
+     * @return the number of subscribers that have not cancelled their subscription
+     */
+    public int getSubscriberCount() {
+        lock.lock();
+        try {
+            return subscriptions.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private final class CacheSubscription implements Flow.Subscription, ConsulCache.Listener<K, V> {
+
+        private final Flow.Subscriber<? super Map<K, V>> subscriber;
+        private final AtomicReference<Map<K, V>> latest = new AtomicReference<>();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final AtomicInteger signals = new AtomicInteger();
+        private volatile boolean cancelled;
+
+        CacheSubscription(Flow.Subscriber<? super Map<K, V>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void notify(Map<K, V> newValues) {
+            latest.set(newValues);
+            signal();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("request must be positive (Reactive Streams rule 3.9)"));
+                return;
+            }
+            demand.getAndAccumulate(n, CachePublisher::addCapped);
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                unsubscribe(this);
+            }
+        }
+
+        void fail(Throwable throwable) {
+            error.compareAndSet(null, throwable);
+            signal();
+        }
+
+        private void signal() {
+            if (signals.getAndIncrement() != 0) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                LOG.warn("Unable to signal subscriber {}; its executor rejected the task. Cancelling.", subscriber, e);
+                cancel();
+                subscriber.onError(e);
+            }
+        }
+
+        // Runs on the executor. The signals counter ensures only one drain runs at a time, and that a drain
+        // runs again if anything changed while it was running.
+        private void drain() {
+            var missed = 1;
+            do {
+                if (cancelled) {
+                    return;
+                }
+
+                var throwable = error.get();
+                if (nonNull(throwable)) {
+                    cancel();
+                    subscriber.onError(throwable);
+                    return;
+                }
+
+                if (demand.get() > 0) {
+                    var values = latest.getAndSet(null);
+                    if (nonNull(values)) {
+                        demand.getAndUpdate(current -> current == Long.MAX_VALUE ? current : current - 1);
+                        try {
+                            subscriber.onNext(values);
+                        } catch (RuntimeException e) {
+                            LOG.warn("Subscriber's onNext method threw an exception. Cancelling its subscription.", e);
+                            cancel();
+                            return;
+                        }
+                    }
+                }
+
+                missed = signals.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+
+    static long addCapped(long current, long n) {
+        var sum = current + n;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+}
@@ -0,0 +1,83 @@
+package org.kiwiproject.consul.cache;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link ConsulCache.Listener} that notifies another listener on an {@link Executor} instead of the cache's
+ * thread.
+ * <p>
+ * Only the latest snapshot is kept: if the delegate is still busy when new snapshots arrive, it is next notified
+ * with the most recent one, and the ones in between are skipped. Since each snapshot is the complete contents of
+ * the cache, a slow listener falls behind by at most one snapshot and never delays the cache.
+ * The delegate is never notified concurrently with itself.
+ */
+final class ConflatingListener<K, V> implements ConsulCache.Listener<K, V> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConflatingListener.class);
+
+    private final ConsulCache.Listener<K, V> delegate;
+    private final Executor executor;
+    private final AtomicReference<Map<K, V>> pending = new AtomicReference<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    ConflatingListener(ConsulCache.Listener<K, V> delegate, Executor executor) {
+        this.delegate = requireNonNull(delegate, "listener must not be null");
+        this.executor = requireNonNull(executor, "executor must not be null");
+    }
+
+    ConsulCache.Listener<K, V> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void notify(Map<K, V> newValues) {
+        pending.set(newValues);
+        scheduleIfIdle();
+    }
+
+    private void scheduleIfIdle() {
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+            LOG.warn("Unable to notify listener {}; its executor rejected the notification", delegate, e);
+        }
+    }
+
+    private void drain() {
+        Map<K, V> values;
+        while (nonNull(values = pending.getAndSet(null))) {
+            try {
+                delegate.notify(values);
+            } catch (RuntimeException e) {
+                LOG.warn("ConsulCache Listener's notify method threw an exception.", e);
+            }
+        }
+        scheduled.set(false);
+
+        // a snapshot may have arrived after the last check but before scheduled was cleared
+        if (nonNull(pending.get())) {
+            scheduleIfIdle();
+        }
+    }
+
+    @VisibleForTesting
+    boolean hasPendingNotification() {
+        return !isNull(pending.get());
+    }
+}
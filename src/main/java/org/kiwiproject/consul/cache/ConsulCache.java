@@ -9,32 +9,45 @@ import static java.util.Objects.requireNonNull;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.jspecify.annotations.Nullable;
 import org.kiwiproject.consul.async.ConsulResponseCallback;
 import org.kiwiproject.consul.config.CacheConfig;
+import org.kiwiproject.consul.config.CacheConfig.StalenessPolicy;
+import org.kiwiproject.consul.config.CacheSnapshot;
+import org.kiwiproject.consul.config.CacheSnapshotStore;
 import org.kiwiproject.consul.model.ConsulResponse;
 import org.kiwiproject.consul.monitoring.ClientEventHandler;
 import org.kiwiproject.consul.option.ImmutableQueryOptions;
 import org.kiwiproject.consul.option.Options;
 import org.kiwiproject.consul.option.QueryOptions;
+import org.kiwiproject.consul.util.VirtualThreads;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.math.BigInteger;
+import java.time.Clock;
 import java.time.Duration;
-import java.util.HashSet;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
@@ -54,12 +67,19 @@ import java.util.function.Supplier;
  *   <li>Start/stop the cache via {@link #start()} / {@link #stop()} (also {@link #close()}).</li>
  *   <li>Read the current snapshot with {@link #getMap()} or {@link #getMapWithMetadata()}.</li>
  *   <li>Wait for the first successful fetch with {@link #awaitInitialized(long, java.util.concurrent.TimeUnit)}.</li>
- *   <li>Register {@link Listener}s to be notified when the snapshot changes.</li>
+ *   <li>Check how fresh the data is with {@link #getStaleness()} and {@link #isStale()}.</li>
+ *   <li>Register {@link Listener}s to be notified when the snapshot changes, or {@link DeltaListener}s
+ *   to be notified only with the entries that were added, removed, or changed.</li>
+ *   <li>Subscribe to snapshots with back-pressure through a {@link CachePublisher}.</li>
  * </ul>
  *
  * <strong>Threading &amp; notifications</strong><br />
  * All public methods are safe for concurrent use. Listener callbacks are invoked on the cache’s internal
- * scheduler thread; implementations should return quickly and offload expensive work.
+ * scheduler thread; implementations should return quickly and offload expensive work. A listener added with
+ * {@link #addListener(Listener, Executor)} is instead notified on the given executor through a
+ * {@code ConflatingListener}, which keeps only the latest snapshot for it, so it cannot delay polling.
+ * {@link DeltaListener}s are always notified synchronously on the scheduler thread, since skipping a delta would
+ * lose changes.
  * <p>
  * <strong>Subclassing</strong><br />
  * This class is intended to be subclassed: constructors are {@code protected}. Typical subclasses bind a
@@ -69,7 +89,8 @@ import java.util.function.Supplier;
  *   <li>a {@code Function<V,K>} that derives keys for the snapshot map.</li>
  * </ul>
  * Subclasses usually expose public factory methods that call one of the protected constructors; overriding
- * lifecycle methods is not required.
+ * lifecycle methods is not required. Subclasses that maintain derived data can override {@link #tracksDeltas()}
+ * and {@link #onDelta(CacheDelta)}.
  *
  * @param <K> the type of keys this cache contains
  * @param <V> the type of values this cache contains
@@ -86,14 +107,19 @@ public class ConsulCache<K, V> implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(ConsulCache.class);
 
     private final AtomicReference<BigInteger> latestIndex = new AtomicReference<>(null);
+    private final AtomicReference<String> latestContentHash = new AtomicReference<>(null);
     private final AtomicLong lastContact = new AtomicLong();
     private final AtomicBoolean isKnownLeader = new AtomicBoolean();
     private final AtomicReference<ConsulResponse.CacheResponseInfo> lastCacheInfo = new AtomicReference<>(null);
     private final AtomicReference<ImmutableMap<K, V>> lastResponse = new AtomicReference<>(null);
     private final AtomicReference<State> state = new AtomicReference<>(State.LATENT);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong lastBackOffDelayMs = new AtomicLong();
+    private final AtomicReference<Instant> lastSuccessfulPoll = new AtomicReference<>(null);
     private final CountDownLatch initLatch = new CountDownLatch(1);
     private final Scheduler scheduler;
     private final CopyOnWriteArrayList<Listener<K, V>> listeners = new CopyOnWriteArrayList<>();
+    private final CopyOnWriteArrayList<DeltaListener<K, V>> deltaListeners = new CopyOnWriteArrayList<>();
     private final ReentrantLock listenersStartingLock = new ReentrantLock();
     private final Stopwatch stopwatch = Stopwatch.createUnstarted();
     private final ReentrantLock stopwatchLock = new ReentrantLock();
@@ -103,6 +129,12 @@ public class ConsulCache<K, V> implements AutoCloseable {
     private final ConsulResponseCallback<List<V>> responseCallback;
     private final ClientEventHandler eventHandler;
     private final CacheDescriptor cacheDescriptor;
+    private final CacheSnapshotStore snapshotStore;
+    private final SnapshotWriter<V> snapshotWriter;
+    private final Class<V> valueType;
+    private final Duration maxStaleness;
+    private final StalenessPolicy stalenessPolicy;
+    private Clock clock = Clock.systemUTC();
 
     protected ConsulCache(
             Function<V, K> keyConversion,
@@ -133,6 +165,24 @@ public class ConsulCache<K, V> implements AutoCloseable {
             CacheDescriptor cacheDescriptor,
             Scheduler callbackScheduler) {
 
+        this(keyConversion, callbackConsumer, cacheConfig, eventHandler, cacheDescriptor, callbackScheduler, null);
+    }
+
+    /**
+     * Creates a cache that can save its contents to, and restore them from, the
+     * {@link CacheConfig#getSnapshotStore() snapshot store} if one is configured.
+     *
+     * @param valueType the type of values, used to read snapshots; if null, snapshots are not used
+     */
+    protected ConsulCache(
+            Function<V, K> keyConversion,
+            CallbackConsumer<V> callbackConsumer,
+            CacheConfig cacheConfig,
+            ClientEventHandler eventHandler,
+            CacheDescriptor cacheDescriptor,
+            Scheduler callbackScheduler,
+            @Nullable Class<V> valueType) {
+
         checkArgument(nonNull(keyConversion), "keyConversion must not be null");
         checkArgument(nonNull(callbackConsumer), "callbackConsumer must not be null");
         checkArgument(nonNull(cacheConfig), "cacheConfig must not be null");
@@ -144,25 +194,34 @@ public class ConsulCache<K, V> implements AutoCloseable {
         this.callBackConsumer = callbackConsumer;
         this.eventHandler = eventHandler;
         this.cacheDescriptor = cacheDescriptor;
-        this.scheduler = callbackScheduler;
+        this.scheduler = resolveScheduler(callbackScheduler, cacheConfig);
+        this.snapshotStore = cacheConfig.getSnapshotStore().orElse(null);
+        this.valueType = valueType;
+        this.snapshotWriter = isNull(snapshotStore) || isNull(valueType) ?
+                null : new SnapshotWriter<>(snapshotStore, cacheDescriptor);
+        this.maxStaleness = cacheConfig.getMaxStaleness().orElse(null);
+        this.stalenessPolicy = cacheConfig.getStalenessPolicy();
 
         this.responseCallback = new DefaultConsulResponseCallback(cacheConfig);
     }
 
     /**
      * @implNote This was extracted from an anonymous class declaration into a separate class mainly
-     * for organization and (somewhat) better readability. Several small methods were also extracted
-     * such as notifyListeners, and the updateIndex method was moved into this class since it is
-     * only used here. It cannot be static because it uses instance fields from ConsulCache directly.
+     * for organization and (somewhat) better readability. Several small methods were also extracted,
+     * and the updateIndex method was moved into this class since it is only used here. The methods
+     * that notify listeners live in ConsulCache, since they are also used when loading a snapshot.
+     * It cannot be static because it uses instance fields from ConsulCache directly.
      * It might be possible to make it static if we pass in the required fields to the constructor, since
      * they are accessed only via their methods and are not reassigned.
      */
     class DefaultConsulResponseCallback implements ConsulResponseCallback<List<V>> {
 
         private final CacheConfig cacheConfig;
+        private final AdaptiveDelay adaptiveDelay;
 
         public DefaultConsulResponseCallback(CacheConfig cacheConfig) {
             this.cacheConfig = requireNonNull(cacheConfig);
+            this.adaptiveDelay = cacheConfig.getAdaptiveRateLimit().map(AdaptiveDelay::new).orElse(null);
         }
 
         @Override
@@ -173,12 +232,18 @@ public class ConsulCache<K, V> implements AutoCloseable {
 
             var elapsedTimeMillis = withStopwatchLock(() -> stopwatch.elapsed(TimeUnit.MILLISECONDS));
             updateIndex(consulResponse);
+            consecutiveFailures.set(0);
+            lastBackOffDelayMs.set(0);
+            lastSuccessfulPoll.set(clock.instant());
             LOG.debug("Consul cache updated for {} (index={}), request duration: {} ms",
                     cacheDescriptor, latestIndex, elapsedTimeMillis);
 
             ImmutableMap<K, V> full = convertToMap(consulResponse);
 
-            boolean changed = !full.equals(lastResponse.get());
+            // convertToMap returns the previous snapshot when nothing changed, and otherwise reuses unchanged
+            // values, so equals only has to compare the values that isSameVersion considered changed
+            ImmutableMap<K, V> lastSnapshot = lastResponse.get();
+            boolean changed = full != lastSnapshot && !full.equals(lastSnapshot);
             eventHandler.cachePollingSuccess(cacheDescriptor, changed, elapsedTimeMillis);
 
             // metadata changes; always set
@@ -188,9 +253,16 @@ public class ConsulCache<K, V> implements AutoCloseable {
 
             if (changed) {
                 // changes
-                lastResponse.set(full);
-
-                performListenerActionOptionallyLocking(() -> notifyListeners(full));
+                ImmutableMap<K, V> previous = lastResponse.getAndSet(full);
+
+                var dispatchStart = System.nanoTime();
+                performListenerActionOptionallyLocking(() -> publish(previous, full));
+                eventHandler.cacheListenersNotified(cacheDescriptor, System.nanoTime() - dispatchStart);
+                saveSnapshot(full);
+            } else if (full != lastSnapshot) {
+                // only indexes changed, which equals ignores; keep the new values so that the next poll compares
+                // against the latest indexes, without notifying listeners of a change they cannot see
+                lastResponse.compareAndSet(lastSnapshot, full);
             }
 
             if (state.compareAndSet(State.STARTING, State.STARTED)) {
@@ -203,6 +275,16 @@ public class ConsulCache<K, V> implements AutoCloseable {
                 timeToWait = minimumDelayOnEmptyResult;
             }
             timeToWait = timeToWait.minusMillis(elapsedTimeMillis);
+            if (nonNull(adaptiveDelay)) {
+                // the coalescing window starts when the change arrives, not when the request was sent; otherwise a
+                // blocking query that waited for the change would use up the window
+                var adaptive = Duration.ofMillis(
+                        adaptiveDelay.nextDelayMillis(changed, full.size(), clock.millis()));
+                if (isLongerThan(adaptive, timeToWait)) {
+                    LOG.trace("Delaying next request for {} by {} to coalesce changes", cacheDescriptor, adaptive);
+                    timeToWait = adaptive;
+                }
+            }
             if (timeToWait.isNegative()) {
                 // ensure a minimum non-negative wait time
                 timeToWait = Duration.ofMillis(1);
@@ -215,15 +297,8 @@ public class ConsulCache<K, V> implements AutoCloseable {
             if (nonNull(consulResponse) && nonNull(consulResponse.getIndex())) {
                 latestIndex.set(consulResponse.getIndex());
             }
-        }
-
-        private void notifyListeners(ImmutableMap<K, V> newValues) {
-            for (Listener<K, V> l : listeners) {
-                try {
-                    l.notify(newValues);
-                } catch (RuntimeException e) {
-                    LOG.warn("ConsulCache Listener's notify method threw an exception.", e);
-                }
+            if (nonNull(consulResponse)) {
+                consulResponse.getContentHash().ifPresent(latestContentHash::set);
             }
         }
 
@@ -231,18 +306,17 @@ public class ConsulCache<K, V> implements AutoCloseable {
             return isNull(consulResponse.getResponse()) || consulResponse.getResponse().isEmpty();
         }
 
-        private boolean isLongerThan(Duration duration1, Duration duration2) {
-            return duration1.compareTo(duration2) > 0;
-        }
-
         @Override
         public void onFailure(Throwable throwable) {
             if (isNotRunning()) {
                 return;
             }
 
+            int failures = consecutiveFailures.incrementAndGet();
             eventHandler.cachePollingError(cacheDescriptor, throwable);
-            long delayMs = computeBackOffDelayMs(cacheConfig);
+            warnIfStale();
+            long delayMs = computeBackOffDelayMs(cacheConfig, failures, lastBackOffDelayMs.get());
+            lastBackOffDelayMs.set(delayMs);
             String message = String.format("Error getting response from consul for %s, will retry in %d %s",
                     cacheDescriptor, delayMs, TimeUnit.MILLISECONDS);
 
@@ -284,9 +358,76 @@ public class ConsulCache<K, V> implements AutoCloseable {
         }
     }
 
+    private void publish(@Nullable ImmutableMap<K, V> previous, ImmutableMap<K, V> newValues) {
+        // compute once and share with the subclass and all delta listeners
+        CacheDelta<K, V> delta = null;
+        if (tracksDeltas() || !deltaListeners.isEmpty()) {
+            delta = CacheDelta.between(previous, newValues);
+        }
+
+        if (tracksDeltas()) {
+            try {
+                onDelta(delta);
+            } catch (RuntimeException e) {
+                LOG.warn("ConsulCache onDelta for {} threw an exception.", cacheDescriptor, e);
+            }
+        }
+
+        notifyListeners(newValues);
+        if (nonNull(delta)) {
+            notifyDeltaListeners(delta);
+        }
+    }
+
+    /**
+     * Subclasses that maintain data derived from the cache contents return true here to receive each
+     * {@link CacheDelta} in {@link #onDelta(CacheDelta)}.
+     *
+     * @return true to have {@link #onDelta(CacheDelta)} called; this implementation returns false
+     */
+    protected boolean tracksDeltas() {
+        return false;
+    }
+
+    /**
+     * Called with the difference between consecutive snapshots, before any listener is notified, if
+     * {@link #tracksDeltas()} returns true. The first delta after the cache starts reports every entry as added.
+     * <p>
+     * This is called on the same thread as listeners, and one delta at a time.
+     *
+     * @param delta the changes since the previous snapshot
+     */
+    protected void onDelta(CacheDelta<K, V> delta) {
+        // no-op by default
+    }
+
+    private void notifyListeners(ImmutableMap<K, V> newValues) {
+        for (Listener<K, V> l : listeners) {
+            try {
+                l.notify(newValues);
+            } catch (RuntimeException e) {
+                LOG.warn("ConsulCache Listener's notify method threw an exception.", e);
+            }
+        }
+    }
+
+    private void notifyDeltaListeners(CacheDelta<K, V> delta) {
+        for (DeltaListener<K, V> l : deltaListeners) {
+            try {
+                l.notify(delta);
+            } catch (RuntimeException e) {
+                LOG.warn("ConsulCache DeltaListener's notify method threw an exception.", e);
+            }
+        }
+    }
+
     static long computeBackOffDelayMs(CacheConfig cacheConfig) {
-        return cacheConfig.getMinimumBackOffDelay().toMillis() +
-                Math.round(Math.random() * (cacheConfig.getMaximumBackOffDelay().minus(cacheConfig.getMinimumBackOffDelay()).toMillis()));
+        return computeBackOffDelayMs(cacheConfig, 1, 0);
+    }
+
+    static long computeBackOffDelayMs(CacheConfig cacheConfig, int consecutiveFailures, long previousDelayMs) {
+        var delay = cacheConfig.getBackOffPolicy().nextDelay(consecutiveFailures, Duration.ofMillis(previousDelayMs));
+        return Math.max(0, delay.toMillis());
     }
 
     /**
@@ -302,9 +443,57 @@ public class ConsulCache<K, V> implements AutoCloseable {
         checkState(state.compareAndSet(State.LATENT, State.STARTING),
                 "Cannot transition from state %s to %s", state.get(), State.STARTING);
         eventHandler.cacheStart(cacheDescriptor);
+        loadSnapshot();
         runCallback();
     }
 
+    /**
+     * If a snapshot was saved by a previous run, initialize this cache from it so that it can serve data before
+     * Consul responds. Polling then resumes from the saved index (or content hash).
+     */
+    private void loadSnapshot() {
+        if (isNull(snapshotStore) || isNull(valueType)) {
+            return;
+        }
+
+        Optional<CacheSnapshot<V>> snapshot;
+        try {
+            snapshot = snapshotStore.load(cacheDescriptor.snapshotId(), valueType);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Unable to load snapshot for {}; waiting for the first response from Consul", cacheDescriptor, e);
+            return;
+        }
+
+        snapshot.ifPresent(loaded -> {
+            ImmutableMap<K, V> values = convertValuesToMap(loaded.getValues());
+            latestIndex.set(loaded.getIndex().orElse(null));
+            latestContentHash.set(loaded.getContentHash().orElse(null));
+            lastSuccessfulPoll.set(loaded.getSavedAt());
+            lastResponse.set(values);
+            LOG.debug("Consul cache for {} initialized from snapshot saved at {} (index={})",
+                    cacheDescriptor, loaded.getSavedAt(), latestIndex);
+
+            performListenerActionOptionallyLocking(() -> publish(ImmutableMap.of(), values));
+
+            if (state.compareAndSet(State.STARTING, State.STARTED)) {
+                initLatch.countDown();
+            }
+        });
+    }
+
+    /**
+     * Save the values in the background. The snapshot is taken here, so that it matches the index and content hash
+     * of the response the values came from, but it is written by the {@link SnapshotWriter}, off the polling thread.
+     */
+    private void saveSnapshot(ImmutableMap<K, V> values) {
+        if (isNull(snapshotWriter)) {
+            return;
+        }
+
+        snapshotWriter.save(new CacheSnapshot<>(values.values().asList(), latestIndex.get(), latestContentHash.get(),
+                clock.instant()));
+    }
+
     /**
      * Stops the cache and terminates any scheduled polling of Consul.
      * <p>
@@ -340,7 +529,7 @@ public class ConsulCache<K, V> implements AutoCloseable {
     private void runCallback() {
         if (isRunning()) {
             withStopwatchLock(() -> stopwatch.reset().start());
-            callBackConsumer.consume(latestIndex.get(), responseCallback);
+            callBackConsumer.consume(latestIndex.get(), latestContentHash.get(), responseCallback);
         }
     }
 
@@ -376,12 +565,28 @@ public class ConsulCache<K, V> implements AutoCloseable {
      *
      * @return an immutable map of the most recently cached Consul data, or an
      * empty map if the cache has not yet been initialized
+     * @throws StaleCacheException if the data is {@link #isStale() stale} and the staleness policy is
+     * {@link StalenessPolicy#FAIL FAIL}
      * @see #getMapWithMetadata()
      */
     public ImmutableMap<K, V> getMap() {
+        checkNotStale();
         return Optional.ofNullable(lastResponse.get()).orElseGet(ImmutableMap::of);
     }
 
+    /**
+     * Returns the number of entries in the most recent snapshot held by this cache.
+     * <p>
+     * Unlike {@link #getMap()}, this does not check staleness and never throws {@link StaleCacheException}, so it
+     * can be used to monitor a cache whose data is stale.
+     *
+     * @return the number of cached entries, or zero if the cache has not been initialized
+     */
+    public int size() {
+        var snapshot = lastResponse.get();
+        return isNull(snapshot) ? 0 : snapshot.size();
+    }
+
     /**
      * Returns the most recent cached data along with Consul response metadata.
      * <p>
@@ -400,9 +605,13 @@ public class ConsulCache<K, V> implements AutoCloseable {
      * @return a {@link ConsulResponse} containing the cached data (never {@code null},
      * but possibly empty) and associated metadata; prior to initialization some
      * metadata fields may be absent or hold default values as described above
+     * @throws StaleCacheException if the data is {@link #isStale() stale} and the staleness policy is
+     * {@link StalenessPolicy#FAIL FAIL}
      * @see #getMap()
+     * @see #getStaleness()
      */
     public ConsulResponse<ImmutableMap<K,V>> getMapWithMetadata() {
+        checkNotStale();
         return new ConsulResponse<>(
                 Optional.ofNullable(lastResponse.get()).orElseGet(ImmutableMap::of),
                 lastContact.get(),
@@ -412,35 +621,209 @@ public class ConsulCache<K, V> implements AutoCloseable {
         );
     }
 
+    /**
+     * Returns the time of the last successful poll of Consul. If the cache was initialized from a snapshot and
+     * has not yet received a response, this is when the snapshot was saved.
+     *
+     * @return an Optional containing the time of the last successful poll, or an empty Optional if there has
+     * been none
+     */
+    public Optional<Instant> getLastSuccessfulPollTime() {
+        return Optional.ofNullable(lastSuccessfulPoll.get());
+    }
+
+    /**
+     * Returns how old the cached data is: the time since the last successful poll, plus the {@code Age} of the
+     * response if it was served from the agent's cache.
+     *
+     * @return an Optional containing the staleness, or an empty Optional if there has been no successful poll
+     * @see #getLastSuccessfulPollTime()
+     * @see ConsulResponse#getCacheResponseInfo()
+     */
+    public Optional<Duration> getStaleness() {
+        var lastPoll = lastSuccessfulPoll.get();
+        if (isNull(lastPoll)) {
+            return Optional.empty();
+        }
+
+        var staleness = Duration.between(lastPoll, clock.instant());
+        var cacheInfo = lastCacheInfo.get();
+        if (nonNull(cacheInfo)) {
+            staleness = staleness.plusSeconds(cacheInfo.getAgeInSeconds().orElse(0L));
+        }
+        return Optional.of(staleness.isNegative() ? Duration.ZERO : staleness);
+    }
+
+    /**
+     * Is the cached data older than the maximum staleness configured in {@link CacheConfig}?
+     *
+     * @return true if a maximum staleness is configured and the data is older than it, otherwise false
+     */
+    public boolean isStale() {
+        return nonNull(maxStaleness) &&
+                getStaleness().filter(staleness -> isLongerThan(staleness, maxStaleness)).isPresent();
+    }
+
+    private void checkNotStale() {
+        if (stalenessPolicy == StalenessPolicy.FAIL && isStale()) {
+            throw new StaleCacheException(cacheDescriptor, getStaleness().orElseThrow(), maxStaleness);
+        }
+    }
+
+    private void warnIfStale() {
+        if (stalenessPolicy == StalenessPolicy.WARN && isStale()) {
+            LOG.warn("Data in cache for {} is stale: {} exceeds the maximum staleness of {}",
+                    cacheDescriptor, getStaleness().orElseThrow(), maxStaleness);
+        }
+    }
+
+    private static boolean isLongerThan(Duration duration1, Duration duration2) {
+        return duration1.compareTo(duration2) > 0;
+    }
+
+    @VisibleForTesting
+    void setClock(Clock clock) {
+        this.clock = requireNonNull(clock);
+    }
+
     @VisibleForTesting
     ImmutableMap<K, V> convertToMap(final ConsulResponse<List<V>> response) {
-        if (isNull(response) || isNull(response.getResponse()) || response.getResponse().isEmpty()) {
+        if (isNull(response)) {
+            return ImmutableMap.of();
+        }
+        return convertValuesToMap(response.getResponse());
+    }
+
+    /**
+     * Values that have not changed since the previous snapshot are replaced by the instances already in it, and if
+     * nothing changed at all, the previous snapshot itself is returned. Long-lived snapshots and values are then
+     * only replaced when they actually change, and comparisons between snapshots can mostly compare references.
+     */
+    private ImmutableMap<K, V> convertValuesToMap(@Nullable List<V> values) {
+        if (isNull(values) || values.isEmpty()) {
             return ImmutableMap.of();
         }
 
-        ImmutableMap.Builder<K, V> builder = ImmutableMap.builder();
-        Set<K> keySet = new HashSet<>();
-        for (V v : response.getResponse()) {
+        ImmutableMap<K, V> previous = lastResponse.get();
+        boolean unchanged = nonNull(previous) && previous.size() == values.size();
+
+        ImmutableMap.Builder<K, V> builder = ImmutableMap.builderWithExpectedSize(values.size());
+        Set<K> keySet = Sets.newHashSetWithExpectedSize(values.size());
+        for (V v : values) {
             K key = keyConversion.apply(v);
             if (nonNull(key)) {
                 if (keySet.contains(key)) {
                     LOG.warn("Duplicate service encountered. May differ by tags. Try using more specific tags? {}", key);
+                    unchanged = false;
                 } else {
-                    builder.put(key, v);
+                    V previousValue = isNull(previous) ? null : previous.get(key);
+                    boolean same = nonNull(previousValue) && isSameVersion(previousValue, v);
+                    unchanged = unchanged && same;
+                    builder.put(key, same ? previousValue : v);
                     keySet.add(key);
                 }
+            } else {
+                unchanged = false;
             }
         }
 
-        return builder.build();
+        return unchanged ? previous : builder.build();
+    }
+
+    /**
+     * Determines whether a value received from Consul is the same as the value with the same key in the previous
+     * snapshot, in which case the previous instance is kept. Subclasses whose values carry a modification index
+     * can override this to compare that instead of the whole value.
+     *
+     * @param previous the value in the previous snapshot
+     * @param current  the value just received, with the same key
+     * @return true if the values are the same; this implementation uses {@code equals}
+     */
+    protected boolean isSameVersion(V previous, V current) {
+        return previous.equals(current);
+    }
+
+    /**
+     * Describes the query options, and any other parameters, that select the data a cache requests, for use as the
+     * {@link CacheDescriptor#getQualifier() qualifier} of its descriptor.
+     *
+     * @param queryOptions the query options the cache uses
+     * @param parameters   other parameters, such as whether only passing instances are requested
+     * @return the description, or null if the query options are blank and there are no other parameters
+     */
+    @Nullable
+    protected static String qualifierOf(QueryOptions queryOptions, String... parameters) {
+        var parts = new ArrayList<>(List.of(parameters));
+        new TreeMap<>(queryOptions.toQuery()).forEach((name, value) -> parts.add(name + "=" + value));
+        queryOptions.getTagsQuery().forEach(tag -> parts.add("tag=" + tag));
+        queryOptions.getNodeMetaQuery().forEach(nodeMeta -> parts.add("node-meta=" + nodeMeta));
+        new TreeMap<>(queryOptions.toHeaders()).forEach((name, value) -> parts.add(name + ":" + value));
+        return parts.isEmpty() ? null : String.join("&", parts);
     }
 
     protected static QueryOptions watchParams(BigInteger index, int blockSeconds, QueryOptions queryOptions) {
-        checkArgument(queryOptions.getIndex().isEmpty() && queryOptions.getWait().isEmpty(),
-                "Index and wait cannot be overridden");
+        return withWatchOptions(watchDefaultParams(index, blockSeconds), queryOptions);
+    }
+
+    /**
+     * Like {@link #watchParams(BigInteger, int, QueryOptions)}, but blocks on the content hash of the previous
+     * response instead of its index. Use this for endpoints that support hash-based blocking queries.
+     *
+     * @param contentHash  the content hash of the previous response, or null for the first request
+     * @param blockSeconds the maximum time to block, in seconds
+     * @param queryOptions additional query options, which must not specify an index, hash, or wait
+     * @return the query options for the next request
+     */
+    protected static QueryOptions hashWatchParams(@Nullable String contentHash,
+                                                  int blockSeconds,
+                                                  QueryOptions queryOptions) {
+        var defaults = isNull(contentHash) ?
+                Options.BLANK_QUERY_OPTIONS : QueryOptions.blockSeconds(blockSeconds, contentHash).build();
+        return withWatchOptions(defaults, queryOptions);
+    }
+
+    /**
+     * Adapts a callback that expects a list of values to one that accepts a map, for endpoints such as
+     * {@code /v1/agent/services} that respond with a map. The map keys are discarded, so the cache's key
+     * conversion function must derive keys from the values. The index and content hash are preserved.
+     *
+     * @param callback the callback to receive the values of the map
+     * @param <V>      the type of values
+     * @return a callback accepting a map response
+     */
+    protected static <V> ConsulResponseCallback<Map<String, V>> mapValuesCallback(
+            ConsulResponseCallback<List<V>> callback) {
+
+        return new ConsulResponseCallback<>() {
+            @Override
+            public void onComplete(ConsulResponse<Map<String, V>> consulResponse) {
+                var map = consulResponse.getResponse();
+                List<V> values = isNull(map) ? List.of() : List.copyOf(map.values());
+
+                // agent-local endpoints do not support background refresh caching, so there are no cache headers
+                callback.onComplete(new ConsulResponse<>(values,
+                        consulResponse.getLastContact(),
+                        consulResponse.isKnownLeader(),
+                        consulResponse.getIndex(),
+                        null,
+                        null,
+                        consulResponse.getContentHash().orElse(null)));
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                callback.onFailure(throwable);
+            }
+        };
+    }
+
+    private static QueryOptions withWatchOptions(QueryOptions watchDefaults, QueryOptions queryOptions) {
+        checkArgument(queryOptions.getIndex().isEmpty() && queryOptions.getHash().isEmpty() &&
+                        queryOptions.getWait().isEmpty(),
+                "Index, hash and wait cannot be overridden");
 
         ImmutableQueryOptions.Builder builder =  ImmutableQueryOptions.builder()
-                .from(watchDefaultParams(index, blockSeconds))
+                .from(watchDefaults)
                 .token(queryOptions.getToken())
                 .consistencyMode(queryOptions.getConsistencyMode())
                 .near(queryOptions.getNear())
@@ -464,6 +847,20 @@ public class ConsulCache<K, V> implements AutoCloseable {
         return new DefaultScheduler();
     }
 
+    /**
+     * Replaces the default scheduler with one running on a virtual thread, if enabled in the cache configuration.
+     * Externally provided schedulers are never replaced.
+     */
+    @VisibleForTesting
+    static Scheduler resolveScheduler(Scheduler callbackScheduler, CacheConfig cacheConfig) {
+        if (callbackScheduler instanceof DefaultScheduler && cacheConfig.isVirtualThreadSchedulerEnabled()) {
+            // the default executor has not started any thread yet, so discarding it is cheap
+            callbackScheduler.shutdownNow();
+            return new DefaultScheduler(VirtualThreads.newThreadFactory("consulCacheScheduledCallback-"));
+        }
+        return callbackScheduler;
+    }
+
     protected static Scheduler createExternal(ScheduledExecutorService executor) {
         return new ExternalScheduler(executor);
     }
@@ -491,6 +888,57 @@ public class ConsulCache<K, V> implements AutoCloseable {
      */
     protected interface CallbackConsumer<V> {
         void consume(BigInteger index, ConsulResponseCallback<List<V>> callback);
+
+        /**
+         * Issues a request given both the index and the content hash of the previous response. The cache always
+         * calls this method; the default implementation ignores the content hash and delegates to
+         * {@link #consume(BigInteger, ConsulResponseCallback)}.
+         *
+         * @param index       the index of the previous response; may be {@code null}
+         * @param contentHash the {@code X-Consul-ContentHash} of the previous response; may be {@code null}
+         * @param callback    the callback to invoke with the result
+         */
+        default void consume(BigInteger index,
+                             @Nullable String contentHash,
+                             ConsulResponseCallback<List<V>> callback) {
+            consume(index, callback);
+        }
+    }
+
+    /**
+     * A {@link CallbackConsumer} for endpoints that support hash-based blocking queries, such as the
+     * agent-local {@code /v1/agent/services} and {@code /v1/agent/checks}.
+     * <p>
+     * These endpoints do not return a meaningful {@code X-Consul-Index}, so index-based blocking would return
+     * immediately on every request. Instead, implementations block on the content hash of the previous response,
+     * typically using {@link #hashWatchParams(String, int, QueryOptions)}, so that requests return only when
+     * the content has actually changed (or the wait time elapses).
+     *
+     * @param <V> the element type contained in the Consul response payload
+     */
+    @FunctionalInterface
+    protected interface ContentHashCallbackConsumer<V> extends CallbackConsumer<V> {
+
+        /**
+         * Issues a request that blocks on the given content hash.
+         *
+         * @param contentHash the {@code X-Consul-ContentHash} of the previous response; {@code null} on the
+         *                    first request, which must not block
+         * @param callback    the callback to invoke with the result
+         */
+        void consumeByHash(@Nullable String contentHash, ConsulResponseCallback<List<V>> callback);
+
+        @Override
+        default void consume(BigInteger index, ConsulResponseCallback<List<V>> callback) {
+            consumeByHash(null, callback);
+        }
+
+        @Override
+        default void consume(BigInteger index,
+                             @Nullable String contentHash,
+                             ConsulResponseCallback<List<V>> callback) {
+            consumeByHash(contentHash, callback);
+        }
     }
 
     /**
@@ -503,7 +951,8 @@ public class ConsulCache<K, V> implements AutoCloseable {
      * <p>
      * <strong>Threading &amp; performance:</strong> notifications are dispatched on the cache's
      * internal scheduler thread. Implementations should return quickly and offload any
-     * expensive work to another thread to avoid delaying later polling cycles.
+     * expensive work to another thread to avoid delaying later polling cycles, or be added using
+     * {@link #addListener(Listener, Executor)}.
      * <p>
      * The {@code newValues} map provided to {@link #notify(Map)} is an immutable snapshot;
      * callers must not attempt to modify it.
@@ -545,7 +994,96 @@ public class ConsulCache<K, V> implements AutoCloseable {
         return true;
     }
 
-    private void performListenerActionOptionallyLocking(Runnable action) {
+    /**
+     * Add a new listener that is notified on the given executor instead of the cache's thread, so that it cannot
+     * delay polling however long it takes.
+     * <p>
+     * Each listener added this way has its own single-slot queue: if it is still processing a snapshot when newer
+     * ones arrive, it is next notified with only the latest one. Snapshots are complete, so nothing is lost except
+     * intermediate states. The listener is never notified concurrently with itself, even if the executor has
+     * several threads, so one executor can be shared by many listeners.
+     * <p>
+     * The listener can be removed by passing it to {@link #removeListener(Listener)}.
+     *
+     * @param listener the listener to add
+     * @param executor the executor to notify the listener on
+     * @return true to indicate the listener was added
+     */
+    public boolean addListener(Listener<K, V> listener, Executor executor) {
+        return addListener(new ConflatingListener<>(listener, executor));
+    }
+
+    /**
+     * Callback interface notified with the <em>difference</em> between consecutive snapshots.
+     * <p>
+     * The {@link CacheDelta} is computed once per changed poll and shared by all delta listeners, so
+     * listeners that maintain their own derived data (e.g., load-balancer tables) can apply only the
+     * added, removed, and changed entries instead of rebuilding from the full snapshot.
+     * If a delta listener is added while the cache is already {@link State#STARTED}, it immediately
+     * receives a delta in which every entry of the current snapshot is reported as added.
+     * <p>
+     * The same threading rules as {@link Listener} apply.
+     *
+     * @param <K> the type of keys in the cached map
+     * @param <V> the type of values in the cached map
+     */
+    public interface DeltaListener<K, V> {
+
+        /**
+         * Called when the cache publishes a new snapshot.
+         *
+         * @param delta the changes since the previous snapshot; never {@code null}
+         */
+        void notify(CacheDelta<K, V> delta);
+    }
+
+    /**
+     * Add a new delta listener.
+     *
+     * @param listener the listener to add
+     * @return true to indicate the listener was added
+     * @see #addListener(Listener)
+     */
+    public boolean addDeltaListener(DeltaListener<K, V> listener) {
+        performListenerActionOptionallyLocking(() -> {
+            deltaListeners.add(listener);
+            if (state.get() == State.STARTED) {
+                try {
+                    var snapshot = Optional.ofNullable(lastResponse.get()).orElseGet(ImmutableMap::of);
+                    listener.notify(CacheDelta.between(ImmutableMap.of(), snapshot));
+                } catch (RuntimeException e) {
+                    LOG.warn("ConsulCache DeltaListener's notify method threw an exception.", e);
+                }
+            }
+        });
+
+        return true;
+    }
+
+    /**
+     * Returns an immutable snapshot of the currently registered delta listeners.
+     *
+     * @return an unmodifiable list of registered delta listeners in registration order
+     */
+    public List<DeltaListener<K, V>> getDeltaListeners() {
+        return List.copyOf(deltaListeners);
+    }
+
+    /**
+     * Unregisters a previously added delta listener.
+     *
+     * @param listener the listener to remove
+     * @return {@code true} if the listener was present and removed; {@code false} otherwise
+     */
+    public boolean removeDeltaListener(DeltaListener<K, V> listener) {
+        return deltaListeners.remove(listener);
+    }
+
+    /**
+     * Run an action that registers or notifies listeners. While the cache is starting, this holds a lock so that
+     * adding a listener does not interleave with the first notification of listeners.
+     */
+    void performListenerActionOptionallyLocking(Runnable action) {
         var locked = false;
         if (state.get() == State.STARTING) {
             listenersStartingLock.lock();
@@ -568,7 +1106,7 @@ public class ConsulCache<K, V> implements AutoCloseable {
      * @return an unmodifiable list of registered listeners in registration order
      */
     public List<Listener<K, V>> getListeners() {
-        return List.copyOf(listeners);
+        return listeners.stream().map(ConsulCache::unwrap).toList();
     }
 
     /**
@@ -578,7 +1116,16 @@ public class ConsulCache<K, V> implements AutoCloseable {
      * @return {@code true} if the listener was present and removed; {@code false} otherwise
      */
     public boolean removeListener(Listener<K, V> listener) {
-        return listeners.remove(listener);
+        for (Listener<K, V> registered : listeners) {
+            if (registered.equals(listener) || unwrap(registered).equals(listener)) {
+                return listeners.remove(registered);
+            }
+        }
+        return false;
+    }
+
+    private static <K, V> Listener<K, V> unwrap(Listener<K, V> listener) {
+        return listener instanceof ConflatingListener<K, V> conflating ? conflating.getDelegate() : listener;
     }
 
     /**
@@ -591,6 +1138,24 @@ public class ConsulCache<K, V> implements AutoCloseable {
         return state.get();
     }
 
+    /**
+     * Returns the descriptor identifying the Consul endpoint and key watched by this cache.
+     *
+     * @return the cache descriptor
+     */
+    public CacheDescriptor getCacheDescriptor() {
+        return cacheDescriptor;
+    }
+
+    /**
+     * Returns the number of consecutive failed polls. This is reset to zero after each successful poll.
+     *
+     * @return the number of consecutive failed polls; zero if the last poll succeeded or no poll has completed yet
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
     protected static class Scheduler {
         public Scheduler(ScheduledExecutorService executor) {
             this.executor = executor;
@@ -609,11 +1174,14 @@ public class ConsulCache<K, V> implements AutoCloseable {
 
     private static class DefaultScheduler extends Scheduler {
         public DefaultScheduler() {
-            super(Executors.newSingleThreadScheduledExecutor(
-                new ThreadFactoryBuilder()
+            this(new ThreadFactoryBuilder()
                     .setNameFormat("consulCacheScheduledCallback-%d")
                     .setDaemon(true)
-                    .build()));
+                    .build());
+        }
+
+        public DefaultScheduler(ThreadFactory threadFactory) {
+            super(Executors.newSingleThreadScheduledExecutor(threadFactory));
         }
     }
 
@@ -636,6 +1204,24 @@ public class ConsulCache<K, V> implements AutoCloseable {
         }
     }
 
+    /**
+     * Checks that the maximum staleness in the cache configuration, if any, is longer than a poll cycle of a cache
+     * that blocks for {@code cacheWatchSeconds}. Otherwise, the data of a cache whose blocking query is waiting
+     * normally for changes becomes stale.
+     *
+     * @throws IllegalArgumentException if the maximum staleness is too short
+     * @see CacheConfig#getLongestPollCycle(Duration)
+     */
+    protected static void checkMaxStaleness(CacheConfig cacheConfig, int cacheWatchSeconds) {
+        cacheConfig.getMaxStaleness().ifPresent(maxStaleness -> {
+            var pollCycle = cacheConfig.getLongestPollCycle(Duration.ofSeconds(cacheWatchSeconds));
+            checkArgument(maxStaleness.compareTo(pollCycle) > 0,
+                    "Max staleness (%s) must be longer than the cache watch duration (%s sec) plus jitter and the"
+                            + " delay between requests (%s), or the cache becomes stale while polling normally",
+                    maxStaleness, cacheWatchSeconds, pollCycle);
+        });
+    }
+
     @CanIgnoreReturnValue
     private <T> T withStopwatchLock(Supplier<T> action) {
         stopwatchLock.lock();
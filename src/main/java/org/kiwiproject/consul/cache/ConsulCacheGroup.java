@@ -0,0 +1,344 @@
+package org.kiwiproject.consul.cache;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Runs many {@link ConsulCache} instances on a single, shared scheduler.
+ * <p>
+ * By default, every cache creates its own single-threaded scheduler, so an application watching hundreds
+ * of services ends up with hundreds of mostly idle threads. A cache's scheduler only needs to <em>initiate</em>
+ * the next (asynchronous) Consul request, so a small, bounded pool is enough to drive any number of caches.
+ * A group owns such a pool, starts and stops its caches together, and reports their aggregate {@link Health}.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * var group = ConsulCacheGroup.newGroup(2);
+ * var payments = group.newCache(executor ->
+ *         ServiceHealthCache.newCache(healthClient, "payments", true, 10, Options.BLANK_QUERY_OPTIONS,
+ *                 ServiceHealthKey::fromServiceHealth, executor));
+ * group.start();
+ * group.awaitInitialized(5, TimeUnit.SECONDS);
+ * }</pre>
+ * Caches added after the group has been started are started immediately.
+ */
+public class ConsulCacheGroup implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConsulCacheGroup.class);
+
+    @VisibleForTesting
+    static final int DEFAULT_THREAD_COUNT = 2;
+
+    private final ScheduledExecutorService executor;
+    private final boolean ownsExecutor;
+    private final CopyOnWriteArrayList<ConsulCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+    private final AtomicReference<ConsulCache.State> state = new AtomicReference<>(ConsulCache.State.LATENT);
+
+    // serializes add, start and stop, so that each cache is started or stopped exactly once
+    private final ReentrantLock lifecycleLock = new ReentrantLock();
+
+    private ConsulCacheGroup(ScheduledExecutorService executor, boolean ownsExecutor) {
+        this.executor = requireNonNull(executor, "executor must not be null");
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Create a new group backed by a scheduler with two daemon threads.
+     *
+     * @return the new group
+     */
+    public static ConsulCacheGroup newGroup() {
+        return newGroup(DEFAULT_THREAD_COUNT);
+    }
+
+    /**
+     * Create a new group backed by a scheduler with the given number of daemon threads.
+     *
+     * @param threadCount the number of scheduler threads, regardless of how many caches are added
+     * @return the new group
+     */
+    public static ConsulCacheGroup newGroup(int threadCount) {
+        checkArgument(threadCount > 0, "threadCount must be positive");
+        var executor = Executors.newScheduledThreadPool(threadCount,
+                new ThreadFactoryBuilder()
+                        .setNameFormat("consulCacheGroup-%d")
+                        .setDaemon(true)
+                        .build());
+        return new ConsulCacheGroup(executor, true);
+    }
+
+    /**
+     * Create a new group using an externally managed scheduler. The group will not shut it down.
+     *
+     * @param executor the scheduler shared by all caches in the group
+     * @return the new group
+     */
+    public static ConsulCacheGroup newGroup(ScheduledExecutorService executor) {
+        return new ConsulCacheGroup(executor, false);
+    }
+
+    /**
+     * Returns the shared scheduler. Pass it to the cache factory methods that accept a
+     * {@link ScheduledExecutorService}, then {@link #add(ConsulCache) add} the cache to this group.
+     *
+     * @return the shared scheduler
+     */
+    public ScheduledExecutorService getScheduledExecutorService() {
+        return executor;
+    }
+
+    /**
+     * Create a cache using the shared scheduler and add it to this group.
+     *
+     * @param cacheFactory function that creates a cache given the shared scheduler
+     * @param <C>          the cache type
+     * @return the new cache
+     */
+    public <C extends ConsulCache<?, ?>> C newCache(Function<ScheduledExecutorService, C> cacheFactory) {
+        return add(cacheFactory.apply(executor));
+    }
+
+    /**
+     * Add an existing cache to this group. The cache should have been created using
+     * {@link #getScheduledExecutorService()}, otherwise it will still use its own scheduler.
+     * <p>
+     * If the group has already been started, the cache is started immediately.
+     *
+     * @param cache the cache to add
+     * @param <C>   the cache type
+     * @return the given cache
+     * @throws IllegalStateException if the group has been stopped
+     */
+    public <C extends ConsulCache<?, ?>> C add(C cache) {
+        requireNonNull(cache, "cache must not be null");
+
+        lifecycleLock.lock();
+        try {
+            checkState(state.get() != ConsulCache.State.STOPPED, "Cannot add a cache to a stopped group");
+
+            caches.add(cache);
+            if (state.get() == ConsulCache.State.STARTED) {
+                startIfLatent(cache);
+            }
+        } finally {
+            lifecycleLock.unlock();
+        }
+        return cache;
+    }
+
+    /**
+     * Remove a cache from this group. The cache is <em>not</em> stopped.
+     *
+     * @param cache the cache to remove
+     * @return true if the cache was part of this group
+     */
+    public boolean remove(ConsulCache<?, ?> cache) {
+        return caches.remove(cache);
+    }
+
+    /**
+     * @return an unmodifiable list of the caches in this group, in the order they were added
+     */
+    public List<ConsulCache<?, ?>> getCaches() {
+        return List.copyOf(caches);
+    }
+
+    /**
+     * Start all caches in this group that have not been started yet.
+     *
+     * @throws IllegalStateException if the group has already been started or stopped
+     */
+    public void start() {
+        lifecycleLock.lock();
+        try {
+            checkState(state.compareAndSet(ConsulCache.State.LATENT, ConsulCache.State.STARTED),
+                    "Cannot start group in state %s", state.get());
+            caches.forEach(ConsulCacheGroup::startIfLatent);
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    private static void startIfLatent(ConsulCache<?, ?> cache) {
+        if (cache.getState() == ConsulCache.State.LATENT) {
+            cache.start();
+        }
+    }
+
+    /**
+     * Wait until every cache in the group has been initialized, or the timeout elapses.
+     *
+     * @param timeout the maximum time to wait for all caches together
+     * @param unit    the time unit of the {@code timeout} argument
+     * @return true if all caches initialized before the timeout expired, otherwise false
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public boolean awaitInitialized(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+        for (ConsulCache<?, ?> cache : caches) {
+            long remainingNanos = Math.max(0, deadlineNanos - System.nanoTime());
+            if (!cache.awaitInitialized(remainingNanos, TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stop all caches in this group, and shut down the shared scheduler if the group created it.
+     */
+    public void stop() {
+        lifecycleLock.lock();
+        try {
+            if (state.getAndSet(ConsulCache.State.STOPPED) == ConsulCache.State.STOPPED) {
+                return;
+            }
+
+            for (ConsulCache<?, ?> cache : caches) {
+                try {
+                    cache.stop();
+                } catch (RuntimeException e) {
+                    LOG.warn("Error stopping cache {}", cache.getCacheDescriptor(), e);
+                }
+            }
+        } finally {
+            lifecycleLock.unlock();
+        }
+
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Closes this group by delegating to {@link #stop()}.
+     */
+    @Override
+    public void close() {
+        stop();
+    }
+
+    /**
+     * @return a point-in-time summary of the state of all caches in this group
+     */
+    public Health getHealth() {
+        int latent = 0;
+        int starting = 0;
+        int started = 0;
+        int stopped = 0;
+        var failing = new ArrayList<CacheDescriptor>();
+        var stale = new ArrayList<CacheDescriptor>();
+        for (ConsulCache<?, ?> cache : caches) {
+            switch (cache.getState()) {
+                case LATENT -> latent++;
+                case STARTING -> starting++;
+                case STARTED -> started++;
+                case STOPPED -> stopped++;
+            }
+            if (cache.getConsecutiveFailures() > 0) {
+                failing.add(cache.getCacheDescriptor());
+            }
+            if (cache.isStale()) {
+                stale.add(cache.getCacheDescriptor());
+            }
+        }
+        return new Health(latent, starting, started, stopped, failing, stale);
+    }
+
+    /**
+     * Aggregate health of the caches in a {@link ConsulCacheGroup}.
+     */
+    public static final class Health {
+
+        private final int latent;
+        private final int starting;
+        private final int started;
+        private final int stopped;
+        private final List<CacheDescriptor> failing;
+        private final List<CacheDescriptor> stale;
+
+        private Health(int latent,
+                       int starting,
+                       int started,
+                       int stopped,
+                       List<CacheDescriptor> failing,
+                       List<CacheDescriptor> stale) {
+            this.latent = latent;
+            this.starting = starting;
+            this.started = started;
+            this.stopped = stopped;
+            this.failing = List.copyOf(failing);
+            this.stale = List.copyOf(stale);
+        }
+
+        public int getTotal() {
+            return latent + starting + started + stopped;
+        }
+
+        public int getLatent() {
+            return latent;
+        }
+
+        public int getStarting() {
+            return starting;
+        }
+
+        public int getStarted() {
+            return started;
+        }
+
+        public int getStopped() {
+            return stopped;
+        }
+
+        /**
+         * @return descriptors of the caches whose most recent poll failed
+         */
+        public List<CacheDescriptor> getFailing() {
+            return failing;
+        }
+
+        /**
+         * @return descriptors of the caches whose data is older than the configured maximum staleness
+         * @see ConsulCache#isStale()
+         */
+        public List<CacheDescriptor> getStale() {
+            return stale;
+        }
+
+        /**
+         * @return true if every cache has been initialized and none is currently failing or stale
+         */
+        public boolean isHealthy() {
+            return started == getTotal() && failing.isEmpty() && stale.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return "Health{" +
+                    "latent=" + latent +
+                    ", starting=" + starting +
+                    ", started=" + started +
+                    ", stopped=" + stopped +
+                    ", failing=" + failing +
+                    ", stale=" + stale +
+                    '}';
+        }
+    }
+}
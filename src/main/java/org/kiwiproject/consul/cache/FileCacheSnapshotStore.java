@@ -0,0 +1,103 @@
+package org.kiwiproject.consul.cache;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.annotations.VisibleForTesting;
+import org.kiwiproject.consul.config.CacheSnapshot;
+import org.kiwiproject.consul.config.CacheSnapshotStore;
+import org.kiwiproject.consul.util.Jackson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@link CacheSnapshotStore} that keeps one JSON file per cache in a directory, named after the ID of the cache.
+ * <p>
+ * Each file contains the cache's values, in the same JSON representation Consul uses, along with the index and
+ * content hash of the response they came from. Files are written to a temporary file and then renamed, so a
+ * snapshot is either completely replaced or left as it was, even if the application stops while saving.
+ */
+public class FileCacheSnapshotStore implements CacheSnapshotStore {
+
+    private static final String INDEX = "index";
+    private static final String CONTENT_HASH = "contentHash";
+    private static final String SAVED_AT = "savedAt";
+    private static final String VALUES = "values";
+
+    private final Path directory;
+
+    /**
+     * @param directory the directory to store snapshots in; it is created if it does not exist
+     */
+    public FileCacheSnapshotStore(Path directory) {
+        this.directory = requireNonNull(directory, "directory must not be null");
+    }
+
+    @Override
+    public <V> void save(String cacheId, CacheSnapshot<V> snapshot) throws IOException {
+        ObjectNode root = Jackson.MAPPER.createObjectNode();
+        snapshot.getIndex().ifPresent(index -> root.put(INDEX, index));
+        snapshot.getContentHash().ifPresent(contentHash -> root.put(CONTENT_HASH, contentHash));
+        root.put(SAVED_AT, snapshot.getSavedAt().toEpochMilli());
+        root.set(VALUES, Jackson.MAPPER.valueToTree(snapshot.getValues()));
+
+        Files.createDirectories(directory);
+        var target = pathFor(cacheId);
+        var temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                Jackson.MAPPER.writeValue(out, root);
+            }
+            moveReplacing(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public <V> Optional<CacheSnapshot<V>> load(String cacheId, Class<V> valueType) throws IOException {
+        JsonNode root;
+        try (var in = Files.newInputStream(pathFor(cacheId))) {
+            root = Jackson.MAPPER.readTree(in);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+
+        JavaType listType = Jackson.MAPPER.getTypeFactory().constructCollectionType(List.class, valueType);
+        List<V> values = root.has(VALUES) ? Jackson.MAPPER.readerFor(listType).readValue(root.get(VALUES)) : List.of();
+        BigInteger index = root.has(INDEX) ? root.get(INDEX).bigIntegerValue() : null;
+        String contentHash = root.has(CONTENT_HASH) ? root.get(CONTENT_HASH).asText() : null;
+        var savedAt = Instant.ofEpochMilli(root.path(SAVED_AT).asLong());
+
+        return Optional.of(new CacheSnapshot<>(values, index, contentHash, savedAt));
+    }
+
+    @VisibleForTesting
+    Path pathFor(String cacheId) {
+        checkArgument(nonNull(cacheId) && cacheId.matches("[A-Za-z0-9._-]+"),
+                "cacheId must contain only letters, digits, '.', '_' and '-'");
+        return directory.resolve(cacheId + ".json");
+    }
+}
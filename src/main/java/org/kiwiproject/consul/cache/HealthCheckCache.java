@@ -29,8 +29,16 @@ public class HealthCheckCache extends ConsulCache<String, HealthCheck> {
             },
             healthClient.getConfig().getCacheConfig(),
             healthClient.getEventHandler(),
-            new CacheDescriptor("health.state", checkState.getName()),
-            callbackScheduler);
+            new CacheDescriptor("health.state", checkState.getName(), qualifierOf(queryOptions)),
+            callbackScheduler,
+            HealthCheck.class);
+
+        checkMaxStaleness(healthClient.getConfig().getCacheConfig(), watchSeconds);
+    }
+
+    @Override
+    protected boolean isSameVersion(HealthCheck previous, HealthCheck current) {
+        return ModifyIndexes.isSameVersion(previous, current);
     }
 
     /**
@@ -1,6 +1,7 @@
 package org.kiwiproject.consul.cache;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.primitives.Ints;
@@ -9,12 +10,29 @@ import org.kiwiproject.consul.config.CacheConfig;
 import org.kiwiproject.consul.model.kv.Value;
 import org.kiwiproject.consul.option.Options;
 import org.kiwiproject.consul.option.QueryOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
+/**
+ * A cache of the KV entries under a root path.
+ * <p>
+ * In addition to the flat map provided by {@link ConsulCache}, the entries are indexed in a {@link KVTrie}, so
+ * that one cache watching a large root path can cheaply serve many components that are each interested in a
+ * sub-prefix: see {@link #subTree(String)} and {@link #addSubTreeListener(String, SubTreeListener)}.
+ */
 public class KVCache extends ConsulCache<String, Value> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(KVCache.class);
+
+    private final AtomicReference<KVTrie> tree = new AtomicReference<>(KVTrie.empty());
+    private final CopyOnWriteArrayList<PrefixedListener> subTreeListeners = new CopyOnWriteArrayList<>();
+
     // The getNetworkTimeoutConfig() override in KeyValueClient returns the deprecated Consul.NetworkTimeoutConfig
     // (the inner class). This suppression can be removed when that override is removed in 2.0.0.
     @SuppressWarnings("removal")
@@ -32,8 +50,133 @@ public class KVCache extends ConsulCache<String, Value> {
             },
             kvClient.getConfig().getCacheConfig(),
             kvClient.getEventHandler(),
-            new CacheDescriptor("keyvalue", rootPath),
-            callbackScheduler);
+            new CacheDescriptor("keyvalue", rootPath, qualifierOf(queryOptions)),
+            callbackScheduler,
+            Value.class);
+
+        checkMaxStaleness(kvClient.getConfig().getCacheConfig(), watchSeconds);
+    }
+
+    /**
+     * Returns the current contents of this cache as a prefix trie. Keys are the same as in {@link #getMap()}.
+     *
+     * @return the current trie; empty until the cache has received data
+     */
+    public KVTrie getTree() {
+        return tree.get();
+    }
+
+    /**
+     * Returns the entries of this cache whose key starts with the given prefix.
+     *
+     * @param prefix the key prefix, relative to the root path of this cache
+     * @return the matching entries
+     * @see KVTrie#subTree(String)
+     */
+    public KVTrie subTree(String prefix) {
+        return tree.get().subTree(prefix);
+    }
+
+    /**
+     * Callback interface notified when the entries under a prefix change.
+     * <p>
+     * The same threading rules as {@link ConsulCache.Listener} apply.
+     */
+    @FunctionalInterface
+    public interface SubTreeListener {
+
+        /**
+         * Called when any entry under the prefix the listener was registered with is added, removed, or changed.
+         *
+         * @param subTree the entries under the prefix; may be empty if all of them were removed
+         */
+        void notify(KVTrie subTree);
+    }
+
+    /**
+     * Add a listener that is only notified when entries whose key starts with {@code prefix} change.
+     * <p>
+     * If the cache is already started, the listener is notified with the current sub-tree immediately.
+     *
+     * @param prefix   the key prefix, relative to the root path of this cache
+     * @param listener the listener to add
+     * @return true to indicate the listener was added
+     */
+    public boolean addSubTreeListener(String prefix, SubTreeListener listener) {
+        var prefixed = new PrefixedListener(prefix, listener);
+        performListenerActionOptionallyLocking(() -> {
+            subTreeListeners.add(prefixed);
+            if (getState() == State.STARTED) {
+                prefixed.notify(subTree(prefix));
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Unregisters a previously added sub-tree listener, for all prefixes it was registered with.
+     *
+     * @param listener the listener to remove
+     * @return {@code true} if the listener was present and removed; {@code false} otherwise
+     */
+    public boolean removeSubTreeListener(SubTreeListener listener) {
+        return subTreeListeners.removeIf(prefixed -> prefixed.listener.equals(listener));
+    }
+
+    /**
+     * @return an unmodifiable list of registered sub-tree listeners in registration order
+     */
+    public List<SubTreeListener> getSubTreeListeners() {
+        return subTreeListeners.stream().map(prefixed -> prefixed.listener).toList();
+    }
+
+    @Override
+    protected boolean tracksDeltas() {
+        return true;
+    }
+
+    @Override
+    protected void onDelta(CacheDelta<String, Value> delta) {
+        var previous = tree.get();
+        var current = previous.apply(delta);
+        tree.set(current);
+
+        for (PrefixedListener prefixed : subTreeListeners) {
+            var subTree = current.subTree(prefixed.prefix);
+            // shared sub-trees make this cheap when nothing under the prefix changed
+            if (!subTree.equals(previous.subTree(prefixed.prefix))) {
+                prefixed.notify(subTree);
+            }
+        }
+    }
+
+    /**
+     * Consul changes the {@code ModifyIndex} of a key on every write, so comparing indexes is enough to know that
+     * a value is unchanged, without comparing its (possibly large) contents.
+     */
+    @Override
+    protected boolean isSameVersion(Value previous, Value current) {
+        return previous.getModifyIndex() == current.getModifyIndex()
+                && previous.getCreateIndex() == current.getCreateIndex();
+    }
+
+    private static final class PrefixedListener {
+
+        final String prefix;
+        final SubTreeListener listener;
+
+        PrefixedListener(String prefix, SubTreeListener listener) {
+            this.prefix = requireNonNull(prefix, "prefix must not be null");
+            this.listener = requireNonNull(listener, "listener must not be null");
+        }
+
+        void notify(KVTrie subTree) {
+            try {
+                listener.notify(subTree);
+            } catch (RuntimeException e) {
+                LOG.warn("KVCache SubTreeListener's notify method threw an exception.", e);
+            }
+        }
     }
 
     @VisibleForTesting
@@ -0,0 +1,377 @@
+package org.kiwiproject.consul.cache;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import org.jspecify.annotations.Nullable;
+import org.kiwiproject.consul.model.kv.Value;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable prefix trie of KV entries, keyed by path segment (the parts of a key between slashes).
+ * <p>
+ * Updates return a new trie that shares every unchanged sub-tree with the original, so keeping the trie in step
+ * with a {@link KVCache} costs time proportional to the size of each change rather than the size of the cache,
+ * and {@link #subTree(String)} views cost time proportional to the depth of the prefix.
+ * <p>
+ * Keys are the keys of the {@link KVCache} the trie belongs to, i.e. relative to its root path.
+ * Iteration order is by path segment, e.g. {@code a/b} before {@code a/b/c} before {@code a/c}.
+ */
+public final class KVTrie {
+
+    private static final KVTrie EMPTY = new KVTrie(Node.EMPTY);
+
+    private final Node root;
+
+    private KVTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * @return an empty trie
+     */
+    public static KVTrie empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a trie containing the given entries.
+     *
+     * @param values the entries, keyed by their KV key
+     * @return a new trie
+     */
+    public static KVTrie of(Map<String, Value> values) {
+        checkNotNull(values, "values must not be null");
+        if (values.isEmpty()) {
+            return EMPTY;
+        }
+
+        var builder = new MutableNode();
+        values.forEach((key, value) -> {
+            var node = builder;
+            for (String segment : segments(key)) {
+                node = node.children.computeIfAbsent(segment, ignored -> new MutableNode());
+            }
+            node.key = key;
+            node.value = value;
+        });
+        return new KVTrie(builder.freeze());
+    }
+
+    /**
+     * @param key   the key
+     * @param value the value
+     * @return a trie with the given entry added, or replaced if the key is already present
+     */
+    public KVTrie with(String key, Value value) {
+        checkNotNull(key, "key must not be null");
+        checkNotNull(value, "value must not be null");
+        return new KVTrie(with(root, segments(key), 0, key, value));
+    }
+
+    private static Node with(Node node, String[] segments, int depth, String key, Value value) {
+        if (depth == segments.length) {
+            return node.withValue(key, value);
+        }
+        var child = node.children.getOrDefault(segments[depth], Node.EMPTY);
+        return node.withChild(segments[depth], with(child, segments, depth + 1, key, value));
+    }
+
+    /**
+     * @param key the key
+     * @return a trie without the given key; this trie if the key is not present
+     */
+    public KVTrie without(String key) {
+        checkNotNull(key, "key must not be null");
+        var newRoot = without(root, segments(key), 0);
+        return newRoot == root ? this : new KVTrie(newRoot);
+    }
+
+    private static Node without(Node node, String[] segments, int depth) {
+        if (depth == segments.length) {
+            return node.withValue(null, null);
+        }
+        var child = node.children.get(segments[depth]);
+        if (isNull(child)) {
+            return node;
+        }
+        var newChild = without(child, segments, depth + 1);
+        return newChild == child ? node : node.withChild(segments[depth], newChild);
+    }
+
+    /**
+     * Applies the changes between two consecutive snapshots of a {@link KVCache}.
+     *
+     * @param delta the changes to apply
+     * @return a trie reflecting {@link CacheDelta#getSnapshot() the current snapshot} of the delta
+     */
+    public KVTrie apply(CacheDelta<String, Value> delta) {
+        checkNotNull(delta, "delta must not be null");
+        int changes = delta.getAdded().size() + delta.getRemoved().size() + delta.getChanged().size();
+        if (changes > size() / 2) {
+            // updating one entry at a time copies a path per change; building from scratch is cheaper here
+            return of(delta.getSnapshot());
+        }
+
+        var trie = this;
+        for (String key : delta.getRemoved().keySet()) {
+            trie = trie.without(key);
+        }
+        for (Map.Entry<String, Value> entry : delta.getAdded().entrySet()) {
+            trie = trie.with(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, Value> entry : delta.getChanged().entrySet()) {
+            trie = trie.with(entry.getKey(), entry.getValue());
+        }
+        return trie;
+    }
+
+    /**
+     * @param key the key
+     * @return the value for the given key, or an empty Optional if it is not present
+     */
+    public Optional<Value> get(String key) {
+        checkNotNull(key, "key must not be null");
+        var node = root;
+        for (String segment : segments(key)) {
+            node = node.children.get(segment);
+            if (isNull(node)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.ofNullable(node.value);
+    }
+
+    /**
+     * Returns a view of the entries whose key starts with the given prefix. Keys in the returned trie are
+     * unchanged, i.e. they still start with the prefix.
+     * <p>
+     * The prefix is a plain string prefix: {@code "feature/flags/"} matches keys under {@code feature/flags/},
+     * while {@code "feature/flags"} also matches {@code feature/flags} itself and keys such as
+     * {@code feature/flags-old/x}.
+     *
+     * @param prefix the key prefix; an empty string returns this trie
+     * @return the matching entries, which share structure with this trie
+     */
+    public KVTrie subTree(String prefix) {
+        checkNotNull(prefix, "prefix must not be null");
+        if (prefix.isEmpty()) {
+            return this;
+        }
+
+        var segments = segments(prefix);
+        int last = segments.length - 1;
+        var node = root;
+        for (int i = 0; i < last; i++) {
+            node = node.children.get(segments[i]);
+            if (isNull(node)) {
+                return EMPTY;
+            }
+        }
+
+        var subTree = node.matchingChildren(segments[last]);
+        if (subTree.isEmpty()) {
+            return EMPTY;
+        }
+        for (int i = last - 1; i >= 0; i--) {
+            subTree = Node.EMPTY.withChild(segments[i], subTree);
+        }
+        return new KVTrie(subTree);
+    }
+
+    /**
+     * @return the number of entries
+     */
+    public int size() {
+        return root.size;
+    }
+
+    /**
+     * @return true if there are no entries
+     */
+    public boolean isEmpty() {
+        return root.size == 0;
+    }
+
+    /**
+     * Performs the given action for each entry, in iteration order.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(BiConsumer<String, Value> action) {
+        checkNotNull(action, "action must not be null");
+        root.forEach(action);
+    }
+
+    /**
+     * @return the entries as an immutable map, in iteration order
+     */
+    public ImmutableMap<String, Value> asMap() {
+        var builder = ImmutableMap.<String, Value>builderWithExpectedSize(size());
+        forEach(builder::put);
+        return builder.build();
+    }
+
+    /**
+     * Two tries are equal if they contain the same entries. Sub-trees shared by both tries are not compared
+     * entry by entry, so comparing a trie with an updated version of itself is cheap.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof KVTrie other)) {
+            return false;
+        }
+        return root.contentEquals(other.root);
+    }
+
+    @Override
+    public int hashCode() {
+        return root.hash();
+    }
+
+    @Override
+    public String toString() {
+        return "KVTrie{" +
+                "size=" + size() +
+                '}';
+    }
+
+    private static String[] segments(String key) {
+        return key.split("/", -1);
+    }
+
+    private static final class Node {
+
+        static final Node EMPTY = new Node(null, null, ImmutableSortedMap.of());
+
+        final @Nullable String key;
+        final @Nullable Value value;
+        final ImmutableSortedMap<String, Node> children;
+        final int size;
+
+        // computed on first use, since hashing a value hashes its (possibly large) contents; as in String, the
+        // fields are only ever set to their final values, so racing threads at worst compute the hash twice
+        private int hash;
+        private boolean hashIsZero;
+
+        Node(@Nullable String key, @Nullable Value value, ImmutableSortedMap<String, Node> children) {
+            this.key = key;
+            this.value = value;
+            this.children = children;
+
+            int count = isNull(value) ? 0 : 1;
+            for (Node child : children.values()) {
+                count += child.size;
+            }
+            this.size = count;
+        }
+
+        int hash() {
+            int h = hash;
+            if (h == 0 && !hashIsZero) {
+                h = isNull(value) ? 0 : key.hashCode() ^ value.hashCode();
+                for (Node child : children.values()) {
+                    h += child.hash();
+                }
+                if (h == 0) {
+                    hashIsZero = true;
+                } else {
+                    hash = h;
+                }
+            }
+            return h;
+        }
+
+        Node withValue(@Nullable String newKey, @Nullable Value newValue) {
+            if (value == newValue && Objects.equals(key, newKey)) {
+                return this;
+            }
+            return new Node(newKey, newValue, children);
+        }
+
+        Node withChild(String segment, Node child) {
+            if (children.get(segment) == child) {
+                return this;
+            }
+            var newChildren = new TreeMap<>(children);
+            if (child.size == 0) {
+                newChildren.remove(segment);
+            } else {
+                newChildren.put(segment, child);
+            }
+            return new Node(key, value, ImmutableSortedMap.copyOfSorted(newChildren));
+        }
+
+        Node matchingChildren(String segmentPrefix) {
+            if (segmentPrefix.isEmpty() && isNull(value)) {
+                return this;
+            }
+            var matching = ImmutableSortedMap.<String, Node>naturalOrder();
+            children.forEach((segment, child) -> {
+                if (segment.startsWith(segmentPrefix)) {
+                    matching.put(segment, child);
+                }
+            });
+            return new Node(null, null, matching.build());
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void forEach(BiConsumer<String, Value> action) {
+            if (nonNull(value)) {
+                action.accept(key, value);
+            }
+            for (Node child : children.values()) {
+                child.forEach(action);
+            }
+        }
+
+        boolean contentEquals(Node other) {
+            if (this == other) {
+                return true;
+            }
+            if (size != other.size
+                    || !Objects.equals(key, other.key) || !Objects.equals(value, other.value)
+                    || !children.keySet().equals(other.children.keySet())) {
+                return false;
+            }
+            for (Map.Entry<String, Node> entry : children.entrySet()) {
+                if (!entry.getValue().contentEquals(other.children.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class MutableNode {
+
+        final TreeMap<String, MutableNode> children = new TreeMap<>();
+        String key;
+        Value value;
+
+        Node freeze() {
+            var frozen = ImmutableSortedMap.<String, Node>naturalOrder();
+            children.forEach((segment, child) -> {
+                var node = child.freeze();
+                if (!node.isEmpty()) {
+                    frozen.put(segment, node);
+                }
+            });
+            return new Node(key, value, frozen.build());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.kiwiproject.consul.cache;
+
+import org.kiwiproject.consul.model.catalog.CatalogService;
+import org.kiwiproject.consul.model.health.HealthCheck;
+import org.kiwiproject.consul.model.health.Node;
+import org.kiwiproject.consul.model.health.Service;
+import org.kiwiproject.consul.model.health.ServiceHealth;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Change detection for {@link ConsulCache#isSameVersion(Object, Object)} based on the {@code ModifyIndex} that
+ * Consul assigns to catalog entries, which changes whenever the entry does. Comparing indexes is much cheaper than
+ * comparing whole values, e.g. health checks with long outputs.
+ * <p>
+ * Values without an index on either side, such as those returned by agent endpoints, are compared using
+ * {@code equals}. The indexes are {@code Value.Auxiliary} attributes of the models, so {@code equals} ignores them.
+ */
+final class ModifyIndexes {
+
+    private ModifyIndexes() {
+        // utility class
+    }
+
+    static boolean isSameVersion(HealthCheck previous, HealthCheck current) {
+        return sameIndexOrEqual(previous, current, HealthCheck::getModifyIndex);
+    }
+
+    static boolean isSameVersion(Node previous, Node current) {
+        return sameIndexOrEqual(previous, current, Node::getModifyIndex);
+    }
+
+    /**
+     * The {@code ModifyIndex} of a catalog service belongs to the service entry; Consul does not change it when only
+     * the node of the service changes, so the node fields are compared as well.
+     */
+    static boolean isSameVersion(CatalogService previous, CatalogService current) {
+        return sameIndexOrEqual(previous, current, CatalogService::getModifyIndex)
+                && previous.getNode().equals(current.getNode())
+                && previous.getAddress().equals(current.getAddress())
+                && previous.getDatacenter().equals(current.getDatacenter())
+                && previous.getNodeMeta().equals(current.getNodeMeta());
+    }
+
+    static boolean isSameVersion(ServiceHealth previous, ServiceHealth current) {
+        return isSameVersion(previous.getNode(), current.getNode())
+                && sameIndexOrEqual(previous.getService(), current.getService(), Service::getModifyIndex)
+                && isSameVersion(previous.getChecks(), current.getChecks());
+    }
+
+    private static boolean isSameVersion(List<HealthCheck> previous, List<HealthCheck> current) {
+        if (previous.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < previous.size(); i++) {
+            if (!isSameVersion(previous.get(i), current.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> boolean sameIndexOrEqual(T previous, T current, Function<T, Optional<Long>> modifyIndex) {
+        Optional<Long> previousIndex = modifyIndex.apply(previous);
+        Optional<Long> currentIndex = modifyIndex.apply(current);
+        if (previousIndex.isPresent() || currentIndex.isPresent()) {
+            // the indexes are not part of equals, so an index that appeared or disappeared must be checked here
+            return previousIndex.equals(currentIndex);
+        }
+        return previous.equals(current);
+    }
+}
@@ -25,8 +25,16 @@ public class NodesCatalogCache extends ConsulCache<String, Node> {
               },
               catalogClient.getConfig().getCacheConfig(),
               catalogClient.getEventHandler(),
-              new CacheDescriptor("catalog.nodes"),
-              callbackScheduler);
+              new CacheDescriptor("catalog.nodes", null, qualifierOf(queryOptions)),
+              callbackScheduler,
+              Node.class);
+
+        checkMaxStaleness(catalogClient.getConfig().getCacheConfig(), watchSeconds);
+    }
+
+    @Override
+    protected boolean isSameVersion(Node previous, Node current) {
+        return ModifyIndexes.isSameVersion(previous, current);
     }
 
     public static NodesCatalogCache newCache(
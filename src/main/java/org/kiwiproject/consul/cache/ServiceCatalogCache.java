@@ -27,8 +27,16 @@ public class ServiceCatalogCache extends ConsulCache<String, CatalogService> {
             },
             catalogClient.getConfig().getCacheConfig(),
             catalogClient.getEventHandler(),
-            new CacheDescriptor("catalog.service", serviceName),
-            callbackScheduler);
+            new CacheDescriptor("catalog.service", serviceName, qualifierOf(queryOptions)),
+            callbackScheduler,
+            CatalogService.class);
+
+        checkMaxStaleness(catalogClient.getConfig().getCacheConfig(), watchSeconds);
+    }
+
+    @Override
+    protected boolean isSameVersion(CatalogService previous, CatalogService current) {
+        return ModifyIndexes.isSameVersion(previous, current);
     }
 
     public static ServiceCatalogCache newCache(
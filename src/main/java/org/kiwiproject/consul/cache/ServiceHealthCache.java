@@ -35,8 +35,16 @@ public class ServiceHealthCache extends ConsulCache<ServiceHealthKey, ServiceHea
               },
               healthClient.getConfig().getCacheConfig(),
               healthClient.getEventHandler(),
-              new CacheDescriptor("health.service", serviceName),
-              callbackScheduler);
+              new CacheDescriptor("health.service", serviceName, qualifierOf(queryOptions, "passing=" + passing)),
+              callbackScheduler,
+              ServiceHealth.class);
+
+        checkMaxStaleness(healthClient.getConfig().getCacheConfig(), watchSeconds);
+    }
+
+    @Override
+    protected boolean isSameVersion(ServiceHealth previous, ServiceHealth current) {
+        return ModifyIndexes.isSameVersion(previous, current);
     }
 
     /**
@@ -0,0 +1,99 @@
+package org.kiwiproject.consul.cache;
+
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.kiwiproject.consul.config.CacheSnapshot;
+import org.kiwiproject.consul.config.CacheSnapshotStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Saves the snapshots of one {@link ConsulCache} to a {@link CacheSnapshotStore} on an {@link Executor}, so that
+ * writing them never delays polling.
+ * <p>
+ * Only the latest snapshot is kept: if a save is still in progress when newer snapshots arrive, only the most
+ * recent one is saved next, and the ones in between are skipped. Snapshots of one cache are never saved
+ * concurrently, so an older snapshot never replaces a newer one.
+ *
+ * @param <V> the type of values in the cache
+ */
+final class SnapshotWriter<V> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotWriter.class);
+
+    /**
+     * Shared by all caches, since saves are short and infrequent. The thread is only started by the first save.
+     */
+    private static final Executor DEFAULT_EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("consulCacheSnapshotWriter-%d")
+            .setDaemon(true)
+            .build());
+
+    private final CacheSnapshotStore store;
+    private final CacheDescriptor descriptor;
+    private final String cacheId;
+    private final Executor executor;
+    private final AtomicReference<CacheSnapshot<V>> pending = new AtomicReference<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    SnapshotWriter(CacheSnapshotStore store, CacheDescriptor descriptor) {
+        this(store, descriptor, DEFAULT_EXECUTOR);
+    }
+
+    @VisibleForTesting
+    SnapshotWriter(CacheSnapshotStore store, CacheDescriptor descriptor, Executor executor) {
+        this.store = requireNonNull(store, "store must not be null");
+        this.descriptor = requireNonNull(descriptor, "descriptor must not be null");
+        this.cacheId = descriptor.snapshotId();
+        this.executor = requireNonNull(executor, "executor must not be null");
+    }
+
+    void save(CacheSnapshot<V> snapshot) {
+        pending.set(snapshot);
+        scheduleIfIdle();
+    }
+
+    private void scheduleIfIdle() {
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+            LOG.warn("Unable to save snapshot for {}; its executor rejected the save", descriptor, e);
+        }
+    }
+
+    private void drain() {
+        CacheSnapshot<V> snapshot;
+        while (nonNull(snapshot = pending.getAndSet(null))) {
+            try {
+                store.save(cacheId, snapshot);
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Unable to save snapshot for {}", descriptor, e);
+            }
+        }
+        scheduled.set(false);
+
+        // a snapshot may have arrived after the last check but before scheduled was cleared
+        if (nonNull(pending.get())) {
+            scheduleIfIdle();
+        }
+    }
+
+    @VisibleForTesting
+    boolean hasPendingSnapshot() {
+        return nonNull(pending.get());
+    }
+}
@@ -0,0 +1,37 @@
+package org.kiwiproject.consul.cache;
+
+import org.kiwiproject.consul.ConsulException;
+
+import java.time.Duration;
+
+/**
+ * Thrown when reading a cache whose data is older than the configured maximum staleness, and whose
+ * staleness policy is {@link org.kiwiproject.consul.config.CacheConfig.StalenessPolicy#FAIL FAIL}.
+ */
+public class StaleCacheException extends ConsulException {
+
+    private final Duration staleness;
+    private final Duration maxStaleness;
+
+    /**
+     * Constructs an instance of this class.
+     *
+     * @param cacheDescriptor the descriptor of the stale cache
+     * @param staleness       how stale the cached data is
+     * @param maxStaleness    the maximum staleness that was exceeded
+     */
+    public StaleCacheException(CacheDescriptor cacheDescriptor, Duration staleness, Duration maxStaleness) {
+        super(String.format("Data in cache for %s is stale: %s exceeds the maximum staleness of %s",
+                cacheDescriptor, staleness, maxStaleness));
+        this.staleness = staleness;
+        this.maxStaleness = maxStaleness;
+    }
+
+    public Duration getStaleness() {
+        return staleness;
+    }
+
+    public Duration getMaxStaleness() {
+        return maxStaleness;
+    }
+}
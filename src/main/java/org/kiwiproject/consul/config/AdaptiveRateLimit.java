@@ -0,0 +1,82 @@
+package org.kiwiproject.consul.config;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.time.Duration;
+
+/**
+ * Limits how often a cache delivers new data to its listeners when the data it watches changes very frequently.
+ * <p>
+ * After each response that changes the cache's contents, the cache waits before sending the next request. Any
+ * further changes that happen during that wait are coalesced: the next response contains only the latest state.
+ * The wait starts at {@code 1 / maxUpdatesPerSecond} seconds. While each request keeps returning a change as soon
+ * as the previous wait ends, the wait doubles, up to {@code maxDelay}; it halves again once changes slow down.
+ * The wait is also multiplied for large responses, since each change causes the whole response to be fetched
+ * and converted again.
+ *
+ * @see CacheConfig.Builder#withAdaptiveRateLimit(int, Duration)
+ */
+public final class AdaptiveRateLimit {
+
+    /**
+     * The number of entries in a response above which the delay is increased, by one multiple of the current
+     * delay for each multiple of this number of entries.
+     */
+    public static final int LARGE_RESPONSE_ENTRIES = 1_000;
+
+    private final int maxUpdatesPerSecond;
+    private final Duration maxDelay;
+
+    private AdaptiveRateLimit(int maxUpdatesPerSecond, Duration maxDelay) {
+        this.maxUpdatesPerSecond = maxUpdatesPerSecond;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Creates a new rate limit.
+     *
+     * @param maxUpdatesPerSecond the maximum number of changed snapshots per second delivered to listeners
+     * @param maxDelay            the maximum delay after a changed response, however frequent the changes
+     * @return a new instance
+     * @throws IllegalArgumentException if {@code maxUpdatesPerSecond} is not positive, or if {@code maxDelay} is
+     *                                  less than {@code 1 / maxUpdatesPerSecond} seconds
+     */
+    public static AdaptiveRateLimit of(int maxUpdatesPerSecond, Duration maxDelay) {
+        checkArgument(maxUpdatesPerSecond > 0, "maxUpdatesPerSecond must be positive");
+        checkNotNull(maxDelay, "Maximum delay cannot be null");
+        var limit = new AdaptiveRateLimit(maxUpdatesPerSecond, maxDelay);
+        checkArgument(maxDelay.compareTo(limit.getMinDelay()) >= 0,
+                "Maximum delay must be at least 1 / maxUpdatesPerSecond seconds");
+        return limit;
+    }
+
+    /**
+     * @return the maximum number of changed snapshots per second delivered to listeners
+     */
+    public int getMaxUpdatesPerSecond() {
+        return maxUpdatesPerSecond;
+    }
+
+    /**
+     * @return the delay after a changed response while changes are infrequent, i.e. the coalescing window
+     */
+    public Duration getMinDelay() {
+        return Duration.ofNanos(Duration.ofSeconds(1).toNanos() / maxUpdatesPerSecond);
+    }
+
+    /**
+     * @return the maximum delay after a changed response
+     */
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveRateLimit{" +
+                "maxUpdatesPerSecond=" + maxUpdatesPerSecond +
+                ", maxDelay=" + maxDelay +
+                '}';
+    }
+}
@@ -0,0 +1,131 @@
+package org.kiwiproject.consul.config;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Determines how long a cache waits before retrying after a failed poll.
+ * <p>
+ * When many caches (possibly across many processes) fail at the same time, for example because a Consul server
+ * restarted, a policy that grows the delay with consecutive failures and adds jitter spreads their retries out
+ * instead of having them all retry at about the same time.
+ *
+ * @see CacheConfig.Builder#withBackOffPolicy(BackOffPolicy)
+ * @see <a href="https://aws.amazon.com/blogs/architecture/exponential-backoff-and-jitter/">Exponential Backoff And Jitter</a>
+ */
+@JsonIgnoreType
+@FunctionalInterface
+public interface BackOffPolicy {
+
+    /**
+     * Computes the delay before the next retry.
+     *
+     * @param consecutiveFailures the number of consecutive failed polls, including the one that just failed;
+     *                            always at least 1, and reset when a poll succeeds
+     * @param previousDelay       the delay returned for the previous consecutive failure, or zero if this is the
+     *                            first failure since the last success
+     * @return the delay before the next retry; must not be negative
+     */
+    Duration nextDelay(int consecutiveFailures, Duration previousDelay);
+
+    /**
+     * A random delay between {@code minDelay} and {@code maxDelay} (inclusive), regardless of the number of
+     * consecutive failures. This is the default policy.
+     *
+     * @param minDelay the minimum delay
+     * @param maxDelay the maximum delay
+     * @return a new policy
+     */
+    static BackOffPolicy uniform(Duration minDelay, Duration maxDelay) {
+        checkDelays(minDelay, maxDelay);
+        long minMillis = minDelay.toMillis();
+        long maxMillis = maxDelay.toMillis();
+        return (consecutiveFailures, previousDelay) -> Duration.ofMillis(randomBetween(minMillis, maxMillis));
+    }
+
+    /**
+     * A delay that starts at {@code initialDelay} and doubles with each consecutive failure, up to {@code maxDelay}.
+     *
+     * @param initialDelay the delay after the first failure; must be positive
+     * @param maxDelay     the maximum delay
+     * @return a new policy
+     */
+    static BackOffPolicy exponential(Duration initialDelay, Duration maxDelay) {
+        checkExponentialDelays(initialDelay, maxDelay);
+        return (consecutiveFailures, previousDelay) -> exponentialDelay(initialDelay, maxDelay, consecutiveFailures);
+    }
+
+    /**
+     * Like {@link #exponential(Duration, Duration)}, but each delay is chosen at random between
+     * {@code initialDelay} and the exponential delay, so that caches which failed together do not retry together.
+     *
+     * @param initialDelay the minimum delay, and the delay after the first failure; must be positive
+     * @param maxDelay     the maximum delay
+     * @return a new policy
+     */
+    static BackOffPolicy exponentialWithJitter(Duration initialDelay, Duration maxDelay) {
+        checkExponentialDelays(initialDelay, maxDelay);
+        return (consecutiveFailures, previousDelay) -> {
+            var upperBound = exponentialDelay(initialDelay, maxDelay, consecutiveFailures);
+            return Duration.ofMillis(randomBetween(initialDelay.toMillis(), upperBound.toMillis()));
+        };
+    }
+
+    /**
+     * "Decorrelated jitter": each delay is chosen at random between {@code baseDelay} and three times the
+     * previous delay, capped at {@code maxDelay}. Delays grow quickly while failures continue but stay spread out.
+     *
+     * @param baseDelay the minimum delay; must be positive
+     * @param maxDelay  the maximum delay
+     * @return a new policy
+     */
+    static BackOffPolicy decorrelatedJitter(Duration baseDelay, Duration maxDelay) {
+        checkExponentialDelays(baseDelay, maxDelay);
+        long baseMillis = baseDelay.toMillis();
+        long maxMillis = maxDelay.toMillis();
+        return (consecutiveFailures, previousDelay) -> {
+            long previousMillis = Math.max(baseMillis, previousDelay.toMillis());
+            long upperBound = Math.min(maxMillis, saturatedMultiply(previousMillis, 3));
+            return Duration.ofMillis(randomBetween(baseMillis, Math.max(baseMillis, upperBound)));
+        };
+    }
+
+    private static Duration exponentialDelay(Duration initialDelay, Duration maxDelay, int consecutiveFailures) {
+        // beyond 2^30 the delay is always capped, and limiting the exponent avoids overflow
+        int exponent = Math.min(Math.max(consecutiveFailures, 1) - 1, 30);
+        var delay = initialDelay.multipliedBy(1L << exponent);
+        return delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
+    }
+
+    private static long randomBetween(long minInclusive, long maxInclusive) {
+        if (minInclusive >= maxInclusive) {
+            return minInclusive;
+        }
+        return ThreadLocalRandom.current().nextLong(minInclusive, maxInclusive + 1);
+    }
+
+    private static long saturatedMultiply(long value, long factor) {
+        try {
+            return Math.multiplyExact(value, factor);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static void checkDelays(Duration minDelay, Duration maxDelay) {
+        checkNotNull(minDelay, "Minimum delay cannot be null");
+        checkNotNull(maxDelay, "Maximum delay cannot be null");
+        checkArgument(!minDelay.isNegative(), "Minimum delay must be positive");
+        checkArgument(!maxDelay.minus(minDelay).isNegative(), "Minimum delay must be less than maximum delay");
+    }
+
+    private static void checkExponentialDelays(Duration initialDelay, Duration maxDelay) {
+        checkDelays(initialDelay, maxDelay);
+        checkArgument(!initialDelay.isZero(), "Initial delay must be positive");
+    }
+}
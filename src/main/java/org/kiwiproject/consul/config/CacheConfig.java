@@ -2,12 +2,16 @@ package org.kiwiproject.consul.config;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Objects.nonNull;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreType;
 import com.google.common.annotations.VisibleForTesting;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.time.Duration;
+import java.util.Optional;
 
 public class CacheConfig {
 
@@ -25,32 +29,58 @@ public class CacheConfig {
     static final Duration DEFAULT_TIMEOUT_AUTO_ADJUSTMENT_MARGIN = Duration.ofSeconds(2);
     @VisibleForTesting
     static final RefreshErrorLogConsumer DEFAULT_REFRESH_ERROR_LOG_CONSUMER = Logger::error;
+    @VisibleForTesting
+    static final boolean DEFAULT_VIRTUAL_THREAD_SCHEDULER_ENABLED = false;
+    @VisibleForTesting
+    static final StalenessPolicy DEFAULT_STALENESS_POLICY = StalenessPolicy.SERVE;
 
     private final Duration watchDuration;
     private final Duration minBackOffDelay;
     private final Duration maxBackOffDelay;
+    private final BackOffPolicy customBackOffPolicy;
+    private final BackOffPolicy backOffPolicy;
     private final Duration minDelayBetweenRequests;
     private final Duration minDelayOnEmptyResult;
     private final Duration timeoutAutoAdjustmentMargin;
     private final boolean timeoutAutoAdjustmentEnabled;
     private final RefreshErrorLogConsumer refreshErrorLogConsumer;
+    private final boolean virtualThreadSchedulerEnabled;
+    private final CacheSnapshotStore snapshotStore;
+    private final Duration maxStaleness;
+    private final StalenessPolicy stalenessPolicy;
+    private final AdaptiveRateLimit adaptiveRateLimit;
 
     private CacheConfig(Duration watchDuration,
                         Duration minBackOffDelay,
                         Duration maxBackOffDelay,
+                        @Nullable BackOffPolicy customBackOffPolicy,
                         Duration minDelayBetweenRequests,
                         Duration minDelayOnEmptyResult,
                         boolean timeoutAutoAdjustmentEnabled,
                         Duration timeoutAutoAdjustmentMargin,
-                        RefreshErrorLogConsumer refreshErrorLogConsumer) {
+                        RefreshErrorLogConsumer refreshErrorLogConsumer,
+                        boolean virtualThreadSchedulerEnabled,
+                        @Nullable CacheSnapshotStore snapshotStore,
+                        @Nullable Duration maxStaleness,
+                        StalenessPolicy stalenessPolicy,
+                        @Nullable AdaptiveRateLimit adaptiveRateLimit) {
         this.watchDuration = watchDuration;
         this.minBackOffDelay = minBackOffDelay;
         this.maxBackOffDelay = maxBackOffDelay;
+        this.customBackOffPolicy = customBackOffPolicy;
+        this.backOffPolicy = nonNull(customBackOffPolicy)
+                ? customBackOffPolicy
+                : BackOffPolicy.uniform(minBackOffDelay, maxBackOffDelay);
         this.minDelayBetweenRequests = minDelayBetweenRequests;
         this.minDelayOnEmptyResult = minDelayOnEmptyResult;
         this.timeoutAutoAdjustmentEnabled = timeoutAutoAdjustmentEnabled;
         this.timeoutAutoAdjustmentMargin = timeoutAutoAdjustmentMargin;
         this.refreshErrorLogConsumer = refreshErrorLogConsumer;
+        this.virtualThreadSchedulerEnabled = virtualThreadSchedulerEnabled;
+        this.snapshotStore = snapshotStore;
+        this.maxStaleness = maxStaleness;
+        this.stalenessPolicy = stalenessPolicy;
+        this.adaptiveRateLimit = adaptiveRateLimit;
     }
 
     /**
@@ -80,6 +110,19 @@ public class CacheConfig {
         return maxBackOffDelay;
     }
 
+    /**
+     * Gets the policy that determines how long caches wait before retrying after a failed poll.
+     * <p>
+     * Unless a policy was set using {@link Builder#withBackOffPolicy(BackOffPolicy)}, this is a
+     * {@link BackOffPolicy#uniform(Duration, Duration) uniform} policy between the
+     * {@link #getMinimumBackOffDelay() minimum} and {@link #getMaximumBackOffDelay() maximum} back-off delays.
+     *
+     * @return the back-off policy
+     */
+    public BackOffPolicy getBackOffPolicy() {
+        return backOffPolicy;
+    }
+
     /**
      * Is the automatic adjustment of read timeout enabled?
      *
@@ -127,6 +170,83 @@ public class CacheConfig {
         return refreshErrorLogConsumer;
     }
 
+    /**
+     * Should caches that create their own scheduler run it on a virtual thread instead of a platform thread?
+     * <p>
+     * This only applies to caches created without an externally provided {@code ScheduledExecutorService}.
+     *
+     * @return true if caches should use a virtual thread for their default scheduler
+     */
+    public boolean isVirtualThreadSchedulerEnabled() {
+        return virtualThreadSchedulerEnabled;
+    }
+
+    /**
+     * Gets the store that caches save their contents to, and load them from when started.
+     *
+     * @return an Optional containing the snapshot store, or an empty Optional if snapshots are disabled
+     */
+    @JsonIgnore
+    public Optional<CacheSnapshotStore> getSnapshotStore() {
+        return Optional.ofNullable(snapshotStore);
+    }
+
+    /**
+     * Gets the maximum staleness of cached data, beyond which the {@link #getStalenessPolicy() staleness policy}
+     * applies.
+     *
+     * @return an Optional containing the maximum staleness, or an empty Optional if data never becomes stale
+     */
+    public Optional<Duration> getMaxStaleness() {
+        return Optional.ofNullable(maxStaleness);
+    }
+
+    /**
+     * Gets what caches do when their data is older than the {@link #getMaxStaleness() maximum staleness}.
+     *
+     * @return the staleness policy
+     */
+    public StalenessPolicy getStalenessPolicy() {
+        return stalenessPolicy;
+    }
+
+    /**
+     * Gets the adaptive limit on how often caches deliver changes, if any. When present, it applies in addition
+     * to the {@link #getMinimumDurationBetweenRequests() minimum time between requests}.
+     *
+     * @return an Optional containing the adaptive rate limit, or an empty Optional if it is disabled
+     */
+    public Optional<AdaptiveRateLimit> getAdaptiveRateLimit() {
+        return Optional.ofNullable(adaptiveRateLimit);
+    }
+
+    /**
+     * Gets the longest time between two successful polls of a cache that blocks for the given watch duration while
+     * Consul is reachable: the watch duration, plus up to 1/16 of it that Consul adds as jitter, plus the longest
+     * delay before the next request. A {@link #getMaxStaleness() maximum staleness} must be longer than this.
+     *
+     * @param watchDuration how long each request of the cache blocks
+     * @return the longest poll cycle
+     */
+    public Duration getLongestPollCycle(Duration watchDuration) {
+        return longestPollCycle(watchDuration, minDelayBetweenRequests, minDelayOnEmptyResult, adaptiveRateLimit);
+    }
+
+    private static Duration longestPollCycle(Duration watchDuration,
+                                             Duration minDelayBetweenRequests,
+                                             Duration minDelayOnEmptyResult,
+                                             @Nullable AdaptiveRateLimit adaptiveRateLimit) {
+        var delay = max(minDelayBetweenRequests, minDelayOnEmptyResult);
+        if (nonNull(adaptiveRateLimit)) {
+            delay = max(delay, adaptiveRateLimit.getMaxDelay());
+        }
+        return watchDuration.plus(watchDuration.dividedBy(16)).plus(delay);
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
     /**
      * Creates a new {@link CacheConfig.Builder} object.
      *
@@ -143,16 +263,47 @@ public class CacheConfig {
         private Duration watchDuration = DEFAULT_WATCH_DURATION;
         private Duration minBackOffDelay = DEFAULT_BACKOFF_DELAY;
         private Duration maxBackOffDelay = DEFAULT_BACKOFF_DELAY;
+        private BackOffPolicy backOffPolicy;
         private Duration minDelayBetweenRequests = DEFAULT_MIN_DELAY_BETWEEN_REQUESTS;
         private Duration minDelayOnEmptyResult = DEFAULT_MIN_DELAY_ON_EMPTY_RESULT;
         private Duration timeoutAutoAdjustmentMargin = DEFAULT_TIMEOUT_AUTO_ADJUSTMENT_MARGIN;
         private boolean timeoutAutoAdjustmentEnabled = DEFAULT_TIMEOUT_AUTO_ADJUSTMENT_ENABLED;
         private RefreshErrorLogConsumer refreshErrorLogConsumer = DEFAULT_REFRESH_ERROR_LOG_CONSUMER;
+        private boolean virtualThreadSchedulerEnabled = DEFAULT_VIRTUAL_THREAD_SCHEDULER_ENABLED;
+        private CacheSnapshotStore snapshotStore;
+        private Duration maxStaleness;
+        private StalenessPolicy stalenessPolicy = DEFAULT_STALENESS_POLICY;
+        private AdaptiveRateLimit adaptiveRateLimit;
 
         private Builder() {
 
         }
 
+        /**
+         * Copies all settings from an existing configuration into this builder.
+         *
+         * @param cacheConfig the configuration to copy
+         * @return the Builder instance
+         */
+        public Builder from(CacheConfig cacheConfig) {
+            checkNotNull(cacheConfig, "cacheConfig cannot be null");
+            this.watchDuration = cacheConfig.watchDuration;
+            this.minBackOffDelay = cacheConfig.minBackOffDelay;
+            this.maxBackOffDelay = cacheConfig.maxBackOffDelay;
+            this.backOffPolicy = cacheConfig.customBackOffPolicy;
+            this.minDelayBetweenRequests = cacheConfig.minDelayBetweenRequests;
+            this.minDelayOnEmptyResult = cacheConfig.minDelayOnEmptyResult;
+            this.timeoutAutoAdjustmentMargin = cacheConfig.timeoutAutoAdjustmentMargin;
+            this.timeoutAutoAdjustmentEnabled = cacheConfig.timeoutAutoAdjustmentEnabled;
+            this.refreshErrorLogConsumer = cacheConfig.refreshErrorLogConsumer;
+            this.virtualThreadSchedulerEnabled = cacheConfig.virtualThreadSchedulerEnabled;
+            this.snapshotStore = cacheConfig.snapshotStore;
+            this.maxStaleness = cacheConfig.maxStaleness;
+            this.stalenessPolicy = cacheConfig.stalenessPolicy;
+            this.adaptiveRateLimit = cacheConfig.adaptiveRateLimit;
+            return this;
+        }
+
         /**
          * Sets the watch duration used in caches.
          *
@@ -168,6 +319,8 @@ public class CacheConfig {
 
         /**
          * Sets the back-off delay used in caches.
+         * <p>
+         * This replaces any policy set using {@link #withBackOffPolicy(BackOffPolicy)}.
          *
          * @param delay the back-off delay to use
          * @return the Builder instance
@@ -177,11 +330,14 @@ public class CacheConfig {
             this.minBackOffDelay = checkNotNull(delay, DELAY_CANNOT_BE_NULL);
             this.maxBackOffDelay = delay;
             checkArgument(!delay.isNegative(), "Delay must be positive");
+            this.backOffPolicy = null;
             return this;
         }
 
         /**
          * Sets a random delay between the {@code minDelay} and {@code maxDelay} (inclusive) to occur between retries.
+         * <p>
+         * This replaces any policy set using {@link #withBackOffPolicy(BackOffPolicy)}.
          *
          * @param minDelay the minimum delay between retries
          * @param maxDelay the maximum delay between retries
@@ -194,6 +350,23 @@ public class CacheConfig {
             this.maxBackOffDelay = checkNotNull(maxDelay, "Maximum delay cannot be null");
             checkArgument(!minDelay.isNegative(), "Minimum delay must be positive");
             checkArgument(!maxDelay.minus(minDelay).isNegative(), "Minimum delay must be less than maximum delay");
+            this.backOffPolicy = null;
+            return this;
+        }
+
+        /**
+         * Sets the policy that determines how long caches wait before retrying after a failed poll, for example
+         * {@link BackOffPolicy#exponentialWithJitter(Duration, Duration)} or
+         * {@link BackOffPolicy#decorrelatedJitter(Duration, Duration)}.
+         * <p>
+         * This takes precedence over the delays set using {@code withBackOffDelay}, until one of those methods is
+         * called again. Each cache counts its consecutive failures, and resets the count when a poll succeeds.
+         *
+         * @param backOffPolicy the back-off policy to use
+         * @return the Builder instance
+         */
+        public Builder withBackOffPolicy(BackOffPolicy backOffPolicy) {
+            this.backOffPolicy = checkNotNull(backOffPolicy, "Back-off policy cannot be null");
             return this;
         }
 
@@ -274,16 +447,147 @@ public class CacheConfig {
             return this;
         }
 
+        /**
+         * Enable/Disable running the default scheduler of each cache on a virtual thread.
+         * <p>
+         * Requires Java 21 or later at runtime; caches will fail to be created on earlier versions
+         * when this is enabled.
+         *
+         * @param enabled use true to schedule cache callbacks on virtual threads, false to use platform threads
+         * @return the Builder instance
+         */
+        public Builder withVirtualThreadScheduler(boolean enabled) {
+            this.virtualThreadSchedulerEnabled = enabled;
+            return this;
+        }
+
+        /**
+         * Sets the store that caches save their contents to whenever they change, and load them from when started.
+         * <p>
+         * A cache that finds a snapshot when it starts is initialized from it immediately, so
+         * {@code awaitInitialized} returns without waiting for Consul, and it then resumes blocking from the saved
+         * index. This allows applications to start, and keep serving their last known data, while Consul is
+         * unavailable. The snapshot may be stale until the first successful response is received.
+         *
+         * @param snapshotStore the snapshot store to use, or null to disable snapshots (the default)
+         * @return the Builder instance
+         * @see org.kiwiproject.consul.cache.FileCacheSnapshotStore
+         */
+        public Builder withSnapshotStore(@Nullable CacheSnapshotStore snapshotStore) {
+            this.snapshotStore = snapshotStore;
+            return this;
+        }
+
+        /**
+         * Sets how old cached data may become, and what caches do once it is older than that.
+         * <p>
+         * The staleness of a cache is the time since its last successful poll, plus the {@code Age} reported by
+         * Consul when the response came from the agent's cache. While Consul is reachable, a blocking query can
+         * take the watch duration plus the random jitter Consul adds (up to 1/16 of the watch duration), and the
+         * cache may then wait before sending the next one, so staleness regularly grows to about that long even
+         * though the data is current. Beyond that, it grows only while polls are failing.
+         * <p>
+         * The maximum staleness must therefore be longer than that poll cycle, i.e. the watch duration plus its
+         * jitter plus the longest delay between requests (the minimum delay between requests, the minimum delay on
+         * empty results, and the maximum delay of the adaptive rate limit, if any). This is checked when the
+         * configuration is built, since those settings may be changed after this one. Leave some margin for the
+         * response time of Consul as well.
+         *
+         * @param maxStaleness the maximum staleness
+         * @param policy       what to do when the data is older than {@code maxStaleness}
+         * @return the Builder instance
+         * @throws IllegalArgumentException if {@code maxStaleness} is negative
+         */
+        public Builder withMaxStaleness(Duration maxStaleness, StalenessPolicy policy) {
+            this.maxStaleness = checkNotNull(maxStaleness, "Max staleness cannot be null");
+            this.stalenessPolicy = checkNotNull(policy, "Staleness policy cannot be null");
+            checkArgument(!maxStaleness.isNegative(), "Max staleness must be positive");
+            return this;
+        }
+
+        /**
+         * Limits caches to delivering at most {@code maxUpdatesPerSecond} changed snapshots per second, and makes
+         * them wait longer between requests while the data they watch keeps changing, or when it is large.
+         * <p>
+         * This is intended for data that changes many times a second, such as a busy KV prefix, where fetching
+         * and delivering every single change wastes network, CPU and memory. Each snapshot delivered is the latest
+         * state; intermediate states may be skipped.
+         *
+         * @param maxUpdatesPerSecond the maximum number of changed snapshots per second
+         * @param maxDelay            the maximum delay after a changed response
+         * @return the Builder instance
+         * @see AdaptiveRateLimit
+         */
+        public Builder withAdaptiveRateLimit(int maxUpdatesPerSecond, Duration maxDelay) {
+            this.adaptiveRateLimit = AdaptiveRateLimit.of(maxUpdatesPerSecond, maxDelay);
+            return this;
+        }
+
+        /**
+         * Disables the adaptive rate limit (the default).
+         *
+         * @return the Builder instance
+         */
+        public Builder withoutAdaptiveRateLimit() {
+            this.adaptiveRateLimit = null;
+            return this;
+        }
+
+        /**
+         * @return the new CacheConfig
+         * @throws IllegalArgumentException if the maximum staleness is not longer than a poll cycle of a cache
+         *                                  whose data is current
+         * @see #withMaxStaleness(Duration, StalenessPolicy)
+         */
         public CacheConfig build() {
+            if (nonNull(maxStaleness)) {
+                var pollCycle = longestPollCycle(watchDuration, minDelayBetweenRequests, minDelayOnEmptyResult,
+                        adaptiveRateLimit);
+                checkArgument(maxStaleness.compareTo(pollCycle) > 0,
+                        "Max staleness (%s) must be longer than the watch duration plus jitter and the delay between"
+                                + " requests (%s), or caches become stale while polling normally",
+                        maxStaleness, pollCycle);
+            }
+
             return new CacheConfig(watchDuration,
                     minBackOffDelay,
                     maxBackOffDelay,
+                    backOffPolicy,
                     minDelayBetweenRequests,
                     minDelayOnEmptyResult,
                     timeoutAutoAdjustmentEnabled,
                     timeoutAutoAdjustmentMargin,
-                    refreshErrorLogConsumer);
+                    refreshErrorLogConsumer,
+                    virtualThreadSchedulerEnabled,
+                    snapshotStore,
+                    maxStaleness,
+                    stalenessPolicy,
+                    adaptiveRateLimit);
         }
+
+    }
+
+    /**
+     * What a cache does when its data is older than the configured maximum staleness.
+     */
+    public enum StalenessPolicy {
+
+        /**
+         * Keep serving the stale data. Callers can check staleness themselves.
+         */
+        SERVE,
+
+        /**
+         * Keep serving the stale data, and log a warning each time a poll fails while the data is stale.
+         */
+        WARN,
+
+        /**
+         * Refuse to serve stale data: reading the cache throws a
+         * {@link org.kiwiproject.consul.cache.StaleCacheException StaleCacheException}.
+         * Listeners are not affected.
+         */
+        FAIL
     }
 
     @JsonIgnoreType
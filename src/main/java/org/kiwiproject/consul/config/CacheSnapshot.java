@@ -0,0 +1,65 @@
+package org.kiwiproject.consul.config;
+
+import static java.util.Objects.requireNonNull;
+
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The contents of a {@link org.kiwiproject.consul.cache.ConsulCache ConsulCache} at a point in time, as saved to and
+ * loaded from a {@link CacheSnapshotStore}.
+ * <p>
+ * Only the values are stored; a cache rebuilds its keys from them when the snapshot is loaded.
+ *
+ * @param <V> the type of values in the cache
+ */
+public final class CacheSnapshot<V> {
+
+    private final List<V> values;
+    private final BigInteger index;
+    private final String contentHash;
+    private final Instant savedAt;
+
+    /**
+     * @param values      the values in the cache
+     * @param index       the {@code X-Consul-Index} of the response the values came from, if any
+     * @param contentHash the {@code X-Consul-ContentHash} of the response the values came from, if any
+     * @param savedAt     when the snapshot was taken
+     */
+    public CacheSnapshot(List<V> values, @Nullable BigInteger index, @Nullable String contentHash, Instant savedAt) {
+        this.values = List.copyOf(requireNonNull(values, "values must not be null"));
+        this.index = index;
+        this.contentHash = contentHash;
+        this.savedAt = requireNonNull(savedAt, "savedAt must not be null");
+    }
+
+    public List<V> getValues() {
+        return values;
+    }
+
+    public Optional<BigInteger> getIndex() {
+        return Optional.ofNullable(index);
+    }
+
+    public Optional<String> getContentHash() {
+        return Optional.ofNullable(contentHash);
+    }
+
+    public Instant getSavedAt() {
+        return savedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheSnapshot{" +
+                "values=" + values.size() +
+                ", index=" + index +
+                ", contentHash=" + contentHash +
+                ", savedAt=" + savedAt +
+                '}';
+    }
+}
@@ -0,0 +1,47 @@
+package org.kiwiproject.consul.config;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Persists the contents of caches so that they can be served immediately when an application restarts, even
+ * before (or without) a successful response from Consul.
+ * <p>
+ * When a store is configured via {@link CacheConfig.Builder#withSnapshotStore}, each cache saves a snapshot
+ * whenever its contents change, and loads its last snapshot when started. A loaded snapshot initializes the cache,
+ * and polling then resumes from the saved index.
+ * <p>
+ * Snapshots are saved on a background thread rather than the thread that polls Consul; when a cache changes faster
+ * than its snapshots can be saved, only its latest snapshot is saved. Snapshots are stored under an ID derived
+ * from the endpoint, key and query options of the cache, so that caches of the same endpoint and key with
+ * different query options do not replace each other's snapshots. The ID contains only letters, digits, and the
+ * characters {@code .}, {@code _} and {@code -}, so it can be used as a file name, and the query options are
+ * hashed since they may contain an ACL token.
+ * <p>
+ * Implementations must be thread-safe, since many caches may share one store.
+ *
+ * @see org.kiwiproject.consul.cache.FileCacheSnapshotStore
+ */
+public interface CacheSnapshotStore {
+
+    /**
+     * Save a snapshot of the cache with the given ID, replacing any previous snapshot.
+     *
+     * @param cacheId  the ID of the cache
+     * @param snapshot the snapshot to save
+     * @param <V>      the type of values in the cache
+     * @throws IOException if the snapshot could not be saved
+     */
+    <V> void save(String cacheId, CacheSnapshot<V> snapshot) throws IOException;
+
+    /**
+     * Load the last snapshot saved for the cache with the given ID.
+     *
+     * @param cacheId   the ID of the cache
+     * @param valueType the type of values in the cache
+     * @param <V>       the type of values in the cache
+     * @return an Optional containing the snapshot, or an empty Optional if none has been saved
+     * @throws IOException if a snapshot exists but could not be read
+     */
+    <V> Optional<CacheSnapshot<V>> load(String cacheId, Class<V> valueType) throws IOException;
+}
@@ -2,19 +2,45 @@ package org.kiwiproject.consul.config;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import org.kiwiproject.consul.monitoring.ClientEventDispatcher;
+import org.kiwiproject.consul.monitoring.ConsulMetricsRegistry;
+import org.kiwiproject.consul.monitoring.NoOpConsulMetricsRegistry;
+
 public class ClientConfig {
 
     private final CacheConfig cacheConfig;
+    private final ClientEventDispatcher eventDispatcher;
+    private final ConsulMetricsRegistry metricsRegistry;
 
     public ClientConfig() {
         this(CacheConfig.builder().build());
     }
 
     public ClientConfig(CacheConfig cacheConfig) {
+        this(cacheConfig, ClientEventDispatcher.shared());
+    }
+
+    public ClientConfig(CacheConfig cacheConfig, ClientEventDispatcher eventDispatcher) {
+        this(cacheConfig, eventDispatcher, new NoOpConsulMetricsRegistry());
+    }
+
+    public ClientConfig(CacheConfig cacheConfig,
+                        ClientEventDispatcher eventDispatcher,
+                        ConsulMetricsRegistry metricsRegistry) {
         this.cacheConfig = checkNotNull(cacheConfig, "Cache configuration is mandatory");
+        this.eventDispatcher = checkNotNull(eventDispatcher, "Event dispatcher is mandatory");
+        this.metricsRegistry = checkNotNull(metricsRegistry, "Metrics registry is mandatory");
     }
 
     public CacheConfig getCacheConfig() {
         return cacheConfig;
     }
+
+    public ClientEventDispatcher getEventDispatcher() {
+        return eventDispatcher;
+    }
+
+    public ConsulMetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
 }
@@ -58,6 +58,7 @@ public class ConsulResponse<T> {
     private final boolean knownLeader;
     private final BigInteger index;
     private final CacheResponseInfo cacheResponseInfo;
+    private final String contentHash;
 
     @Nullable
     @VisibleForTesting
@@ -77,6 +78,20 @@ public class ConsulResponse<T> {
         this(response, lastContact, knownLeader, index, buildCacheResponseInfo(headerHitMiss, headerAge));
     }
 
+    /**
+     * @param contentHash the value of the {@code X-Consul-ContentHash} header, which Consul returns from endpoints
+     *                    that support hash-based blocking queries, such as {@code /v1/agent/services}
+     */
+    public ConsulResponse(T response,
+                          long lastContact,
+                          boolean knownLeader,
+                          BigInteger index,
+                          String headerHitMiss,
+                          String headerAge,
+                          @Nullable String contentHash) throws NumberFormatException {
+        this(response, lastContact, knownLeader, index, buildCacheResponseInfo(headerHitMiss, headerAge), contentHash);
+    }
+
     /**
      * @deprecated replaced by {@link #ConsulResponse(Object, long, boolean, BigInteger, CacheResponseInfo)};
      *             will be removed in 2.0.0
@@ -96,11 +111,21 @@ public class ConsulResponse<T> {
                           boolean knownLeader,
                           BigInteger index,
                           @Nullable CacheResponseInfo cacheInfo) {
+        this(response, lastContact, knownLeader, index, cacheInfo, (String) null);
+    }
+
+    private ConsulResponse(T response,
+                           long lastContact,
+                           boolean knownLeader,
+                           BigInteger index,
+                           @Nullable CacheResponseInfo cacheInfo,
+                           @Nullable String contentHash) {
         this.response = response;
         this.lastContact = lastContact;
         this.knownLeader = knownLeader;
         this.index = index;
         this.cacheResponseInfo = cacheInfo;
+        this.contentHash = contentHash;
     }
 
     public T getResponse() {
@@ -152,6 +177,20 @@ public class ConsulResponse<T> {
         return cacheResponseInfo;
     }
 
+    /**
+     * Returns the content hash of the response, for use in hash-based blocking queries.
+     * <p>
+     * Only some endpoints, such as the agent-local {@code /v1/agent/services} and {@code /v1/agent/checks},
+     * return a content hash.
+     *
+     * @return an Optional containing the value of the {@code X-Consul-ContentHash} header, or an empty Optional
+     * @see org.kiwiproject.consul.option.QueryOptions#blockSeconds(int, String)
+     * @see <a href="https://developer.hashicorp.com/consul/api-docs/features/blocking#hash-based-blocking-queries">Hash-based Blocking Queries</a>
+     */
+    public Optional<String> getContentHash() {
+        return Optional.ofNullable(contentHash);
+    }
+
     @Override
     public String toString() {
         return "ConsulResponse{" +
@@ -160,6 +199,7 @@ public class ConsulResponse<T> {
                 ", knownLeader=" + knownLeader +
                 ", index=" + index +
                 ", cache=" + cacheResponseInfo +
+                ", contentHash=" + contentHash +
                 '}';
     }
 
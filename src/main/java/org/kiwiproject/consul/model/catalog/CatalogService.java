@@ -52,4 +52,12 @@ public abstract class CatalogService {
 
     @JsonProperty("NodeMeta")
     public abstract Map<String,String> getNodeMeta();
+
+    @Value.Auxiliary
+    @JsonProperty("CreateIndex")
+    public abstract Optional<Long> getCreateIndex();
+
+    @Value.Auxiliary
+    @JsonProperty("ModifyIndex")
+    public abstract Optional<Long> getModifyIndex();
 }
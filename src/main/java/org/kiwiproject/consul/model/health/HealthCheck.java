@@ -45,4 +45,11 @@ public abstract class HealthCheck {
     @JsonDeserialize(as = ImmutableList.class, contentAs = String.class)
     public abstract List<String> getServiceTags();
 
+    @Value.Auxiliary
+    @JsonProperty("CreateIndex")
+    public abstract Optional<Long> getCreateIndex();
+
+    @Value.Auxiliary
+    @JsonProperty("ModifyIndex")
+    public abstract Optional<Long> getModifyIndex();
 }
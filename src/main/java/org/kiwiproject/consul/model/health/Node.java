@@ -31,4 +31,12 @@ public abstract class Node {
 
     @JsonProperty("Meta")
     public abstract Optional<Map<String,String>> getNodeMeta();
+
+    @Value.Auxiliary
+    @JsonProperty("CreateIndex")
+    public abstract Optional<Long> getCreateIndex();
+
+    @Value.Auxiliary
+    @JsonProperty("ModifyIndex")
+    public abstract Optional<Long> getModifyIndex();
 }
@@ -43,4 +43,12 @@ public abstract class Service {
 
     @JsonProperty("Weights")
     public abstract Optional<ServiceWeights> getWeights();
+
+    @Value.Auxiliary
+    @JsonProperty("CreateIndex")
+    public abstract Optional<Long> getCreateIndex();
+
+    @Value.Auxiliary
+    @JsonProperty("ModifyIndex")
+    public abstract Optional<Long> getModifyIndex();
 }
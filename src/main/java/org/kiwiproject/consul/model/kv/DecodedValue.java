@@ -0,0 +1,119 @@
+package org.kiwiproject.consul.model.kv;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.immutables.value.Value.Immutable;
+import org.immutables.value.Value.Style;
+import org.kiwiproject.consul.util.UnsignedLongDeserializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Optional;
+
+/**
+ * A key/value entry whose value is decoded from Base64 once, while the JSON is being parsed.
+ * <p>
+ * Unlike {@link Value}, which keeps the Base64 string and decodes it again on each distinct accessor,
+ * a {@code DecodedValue} holds only the decoded bytes. The {@link ByteBuffer} and {@link InputStream}
+ * accessors are views of those bytes, so a 1 MB value occupies about 1 MB on the heap.
+ */
+@Immutable
+@Style(jakarta = true)
+@JsonDeserialize(as = ImmutableDecodedValue.class)
+@JsonSerialize(as = ImmutableDecodedValue.class)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public abstract class DecodedValue {
+
+    @JsonProperty("CreateIndex")
+    public abstract long getCreateIndex();
+
+    @JsonProperty("ModifyIndex")
+    public abstract long getModifyIndex();
+
+    @JsonProperty("LockIndex")
+    public abstract long getLockIndex();
+
+    @JsonProperty("Key")
+    public abstract String getKey();
+
+    @JsonProperty("Flags")
+    @JsonDeserialize(using = UnsignedLongDeserializer.class)
+    public abstract long getFlags();
+
+    /**
+     * The decoded bytes. Not exposed directly, since a {@link ByteBuffer} has mutable position and limit.
+     */
+    @JsonProperty("Value")
+    abstract Optional<ByteBuffer> valueBuffer();
+
+    @JsonProperty("Session")
+    public abstract Optional<String> getSession();
+
+    /**
+     * @return a new read-only view of the decoded value; the bytes are not copied
+     */
+    @JsonIgnore
+    public Optional<ByteBuffer> getValueAsByteBuffer() {
+        return valueBuffer().map(ByteBuffer::asReadOnlyBuffer);
+    }
+
+    /**
+     * @return a new stream over the decoded value; the bytes are not copied
+     */
+    @JsonIgnore
+    public Optional<InputStream> getValueAsInputStream() {
+        return valueBuffer().map(DecodedValue::newInputStream);
+    }
+
+    /**
+     * @return a copy of the decoded value
+     */
+    @JsonIgnore
+    public Optional<byte[]> getValueAsBytes() {
+        return valueBuffer().map(buffer -> {
+            var bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            return bytes;
+        });
+    }
+
+    /**
+     * @return the decoded value as a string, using the default charset
+     */
+    @JsonIgnore
+    public Optional<String> getValueAsString() {
+        return getValueAsString(Charset.defaultCharset());
+    }
+
+    /**
+     * @param charset the charset of the value
+     * @return the decoded value as a string
+     */
+    @JsonIgnore
+    public Optional<String> getValueAsString(Charset charset) {
+        return valueBuffer().map(buffer -> charset.decode(buffer.duplicate()).toString());
+    }
+
+    /**
+     * @return the size of the decoded value in bytes, or zero if there is no value
+     */
+    @JsonIgnore
+    public int getValueSize() {
+        return valueBuffer().map(ByteBuffer::remaining).orElse(0);
+    }
+
+    private static InputStream newInputStream(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return new ByteArrayInputStream(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+
+        var bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return new ByteArrayInputStream(bytes);
+    }
+}
@@ -52,7 +52,7 @@ public abstract class Value {
     @JsonIgnore
     @Lazy
     public Optional<String> getValueAsString(Charset charset) {
-        return getValue().map(s -> new String(Base64.getDecoder().decode(s), charset));
+        return getValueAsBytes().map(bytes -> new String(bytes, charset));
     }
 
     @JsonIgnore
@@ -0,0 +1,85 @@
+package org.kiwiproject.consul.monitoring;
+
+import org.kiwiproject.consul.cache.CacheDescriptor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics for the polls made by one cache, kept by {@link InMemoryConsulMetricsRegistry}.
+ */
+public final class CachePollMetrics implements ConsulMetricsRegistry.CachePollRecorder {
+
+    private final String clientName;
+    private final CacheDescriptor cacheDescriptor;
+    private final LatencyHistogram duration = new LatencyHistogram();
+    private final LatencyHistogram listenerDispatch = new LatencyHistogram();
+    private final LongAdder changes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    CachePollMetrics(String clientName, CacheDescriptor cacheDescriptor) {
+        this.clientName = clientName;
+        this.cacheDescriptor = cacheDescriptor;
+    }
+
+    @Override
+    public void recordSuccess(boolean changed, long durationNanos) {
+        duration.recordNanos(durationNanos);
+        if (changed) {
+            changes.increment();
+        }
+    }
+
+    @Override
+    public void recordFailure(Throwable throwable) {
+        failures.increment();
+    }
+
+    @Override
+    public void recordListenerDispatch(long durationNanos) {
+        listenerDispatch.recordNanos(durationNanos);
+    }
+
+    public String getClientName() {
+        return clientName;
+    }
+
+    public CacheDescriptor getCacheDescriptor() {
+        return cacheDescriptor;
+    }
+
+    /**
+     * Returns the durations of successful polls. For blocking queries, this includes the time spent waiting for
+     * a change.
+     *
+     * @return the duration histogram
+     */
+    public LatencyHistogram getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns how long it took to notify the listeners each time the contents of the cache changed.
+     *
+     * @return the listener dispatch histogram
+     */
+    public LatencyHistogram getListenerDispatch() {
+        return listenerDispatch;
+    }
+
+    public long getSuccessCount() {
+        return duration.getCount();
+    }
+
+    /**
+     * Returns the number of successful polls that changed the contents of the cache.
+     *
+     * @return the number of changes
+     */
+    public long getChangeCount() {
+        return changes.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+}
@@ -0,0 +1,235 @@
+package org.kiwiproject.consul.monitoring;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs {@link ClientEventCallback} invocations on a single background thread.
+ * <p>
+ * Events are queued in a bounded, lock-free ring buffer, so that recording an event never blocks the HTTP or
+ * cache thread that produced it, and memory use stays bounded however fast events are produced. The dispatcher
+ * thread drains events in batches and sleeps only when the buffer is empty. When the buffer is full, the
+ * {@link OverflowPolicy} decides what happens to new events.
+ * <p>
+ * All clients use the {@link #shared() shared} dispatcher unless another one is set in the
+ * {@link org.kiwiproject.consul.config.ClientConfig ClientConfig}.
+ */
+public final class ClientEventDispatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClientEventDispatcher.class);
+
+    /**
+     * The default number of events that can be waiting to be dispatched.
+     */
+    public static final int DEFAULT_CAPACITY = 8_192;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int MAX_BATCH_SIZE = 256;
+
+    /**
+     * What to do with an event when the buffer is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Discard the event. Dropped events are counted, see {@link #getDroppedEventCount()}.
+         */
+        DROP,
+
+        /**
+         * Run the callback on the thread that produced the event, which slows down that thread
+         * until the dispatcher catches up.
+         */
+        CALLER_RUNS
+    }
+
+    private static final class SharedHolder {
+        static final ClientEventDispatcher INSTANCE = new ClientEventDispatcher(DEFAULT_CAPACITY, OverflowPolicy.DROP);
+    }
+
+    private final OverflowPolicy overflowPolicy;
+    private final Runnable[] events;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final Thread thread;
+
+    // only accessed by the dispatcher thread
+    private long head;
+
+    private volatile boolean waiting;
+    private volatile boolean running = true;
+
+    private ClientEventDispatcher(int capacity, OverflowPolicy overflowPolicy) {
+        checkArgument(capacity > 0 && capacity <= MAX_CAPACITY, "capacity must be between 1 and %s", MAX_CAPACITY);
+        this.overflowPolicy = checkNotNull(overflowPolicy, "overflowPolicy must not be null");
+
+        var size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.events = new Runnable[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+
+        this.thread = new Thread(this::run, "consul-client-event-dispatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Returns the dispatcher used by default, which has the {@link #DEFAULT_CAPACITY default capacity} and drops
+     * events when it is full.
+     *
+     * @return the shared dispatcher
+     */
+    public static ClientEventDispatcher shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Create a new dispatcher with its own thread.
+     *
+     * @param capacity       the maximum number of events waiting to be dispatched; rounded up to a power of two
+     * @param overflowPolicy what to do with new events when the buffer is full
+     * @return a new dispatcher
+     */
+    public static ClientEventDispatcher create(int capacity, OverflowPolicy overflowPolicy) {
+        return new ClientEventDispatcher(capacity, overflowPolicy);
+    }
+
+    /**
+     * Queue an event to be run on the dispatcher thread.
+     *
+     * @param event the callback invocation
+     * @return true if the event was queued or, with {@link OverflowPolicy#CALLER_RUNS}, run;
+     * false if it was dropped
+     */
+    public boolean dispatch(Runnable event) {
+        if (!running) {
+            return false;
+        }
+
+        if (offer(event)) {
+            if (waiting) {
+                LockSupport.unpark(thread);
+            }
+            return true;
+        }
+
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            runSafely(event);
+            return true;
+        }
+
+        var dropped = droppedEvents.incrementAndGet();
+        if (Long.bitCount(dropped) == 1) {
+            LOG.warn("Client event buffer is full; dropped {} event(s) so far", dropped);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedEventCount() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * Returns the maximum number of events that can be waiting to be dispatched.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return events.length;
+    }
+
+    /**
+     * Stop the dispatcher thread. Events still in the buffer are discarded, and later events are dropped.
+     */
+    public void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    // Multi-producer, single-consumer ring buffer (after Dmitry Vyukov's bounded queue). Each slot's sequence
+    // says whether it is free for the producer claiming position p (sequence == p) or holds the event at position
+    // p for the consumer (sequence == p + 1). Producers only contend on the tail counter.
+    private boolean offer(Runnable event) {
+        var position = tail.get();
+        while (true) {
+            var index = (int) (position & mask);
+            var difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    events[index] = event;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private Runnable poll() {
+        var index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        var event = events[index];
+        events[index] = null;
+        sequences.set(index, head + events.length);
+        head++;
+        return event;
+    }
+
+    private boolean isEmpty() {
+        return sequences.get((int) (head & mask)) != head + 1;
+    }
+
+    private void run() {
+        while (running) {
+            var drained = 0;
+            Runnable event;
+            while (drained < MAX_BATCH_SIZE && (event = poll()) != null) {
+                runSafely(event);
+                drained++;
+            }
+
+            if (drained == 0) {
+                waiting = true;
+                // an event may have been queued before the producer could see that this thread is waiting
+                if (isEmpty() && running) {
+                    LockSupport.park(this);
+                }
+                waiting = false;
+            }
+        }
+    }
+
+    private static void runSafely(Runnable event) {
+        try {
+            event.run();
+        } catch (RuntimeException e) {
+            LOG.warn("ClientEventCallback threw an exception.", e);
+        }
+    }
+}
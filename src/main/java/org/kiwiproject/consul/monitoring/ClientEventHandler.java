@@ -1,63 +1,125 @@
 package org.kiwiproject.consul.monitoring;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Objects.nonNull;
+
 import okhttp3.Request;
 import org.kiwiproject.consul.cache.CacheDescriptor;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports client events to a {@link ClientEventCallback} through a {@link ClientEventDispatcher}, and cache polls
+ * to a {@link ConsulMetricsRegistry}.
+ * <p>
+ * When the callback is a {@link NoOpClientEventCallback}, which is the default, events are not dispatched at all.
+ * Likewise, nothing is recorded when the registry is a {@link NoOpConsulMetricsRegistry}.
+ */
 public class ClientEventHandler {
 
-    private static final ScheduledExecutorService EVENT_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
-            new ThreadFactoryBuilder().setNameFormat("event-executor-%s").setDaemon(true).build());
-
     private final String clientName;
     private final ClientEventCallback callback;
+    private final ClientEventDispatcher dispatcher;
+    private final ConsulMetricsRegistry metricsRegistry;
+    private final boolean enabled;
+    private final boolean metricsEnabled;
 
     public ClientEventHandler(String clientName, ClientEventCallback callback) {
+        this(clientName, callback, ClientEventDispatcher.shared());
+    }
+
+    public ClientEventHandler(String clientName, ClientEventCallback callback, ClientEventDispatcher dispatcher) {
+        this(clientName, callback, dispatcher, new NoOpConsulMetricsRegistry());
+    }
+
+    public ClientEventHandler(String clientName,
+                              ClientEventCallback callback,
+                              ClientEventDispatcher dispatcher,
+                              ConsulMetricsRegistry metricsRegistry) {
         this.clientName = clientName;
         this.callback = callback;
+        this.dispatcher = checkNotNull(dispatcher, "dispatcher must not be null");
+        this.metricsRegistry = checkNotNull(metricsRegistry, "metricsRegistry must not be null");
+
+        // only the exact no-op classes are skipped, since subclasses may override some of the methods
+        this.enabled = nonNull(callback) && callback.getClass() != NoOpClientEventCallback.class;
+        this.metricsEnabled = metricsRegistry.getClass() != NoOpConsulMetricsRegistry.class;
     }
 
     public void httpRequestSuccess(Request request) {
-        EVENT_EXECUTOR.submit(() -> callback.onHttpRequestSuccess(clientName, request.method(), request.url().query()));
+        if (enabled) {
+            dispatcher.dispatch(() -> callback.onHttpRequestSuccess(clientName, request.method(), request.url().query()));
+        }
     }
 
     public void httpRequestInvalid(Request request, Throwable throwable) {
-        EVENT_EXECUTOR.submit(() ->
-                callback.onHttpRequestInvalid(clientName, request.method(), request.url().query(), throwable));
+        if (enabled) {
+            dispatcher.dispatch(() ->
+                    callback.onHttpRequestInvalid(clientName, request.method(), request.url().query(), throwable));
+        }
     }
 
     public void httpRequestFailure(Request request, Throwable throwable) {
-        EVENT_EXECUTOR.submit(() ->
-                callback.onHttpRequestFailure(clientName, request.method(), request.url().query(), throwable));
+        if (enabled) {
+            dispatcher.dispatch(() ->
+                    callback.onHttpRequestFailure(clientName, request.method(), request.url().query(), throwable));
+        }
     }
 
     public void cacheStart(CacheDescriptor cacheDescriptor) {
-        EVENT_EXECUTOR.submit(() -> callback.onCacheStart(clientName, cacheDescriptor));
+        if (enabled) {
+            dispatcher.dispatch(() -> callback.onCacheStart(clientName, cacheDescriptor));
+        }
     }
 
     public void cacheStop(CacheDescriptor cacheDescriptor) {
-        EVENT_EXECUTOR.submit(() -> callback.onCacheStop(clientName, cacheDescriptor));
+        if (enabled) {
+            dispatcher.dispatch(() -> callback.onCacheStop(clientName, cacheDescriptor));
+        }
     }
 
     public void cachePollingError(CacheDescriptor cacheDescriptor, Throwable throwable) {
-        EVENT_EXECUTOR.submit(() -> callback.onCachePollingError(clientName, cacheDescriptor, throwable));
+        if (metricsEnabled) {
+            metricsRegistry.cachePollRecorder(clientName, cacheDescriptor).recordFailure(throwable);
+        }
+        if (enabled) {
+            dispatcher.dispatch(() -> callback.onCachePollingError(clientName, cacheDescriptor, throwable));
+        }
     }
 
     public void cachePollingSuccess(CacheDescriptor cacheDescriptor, boolean withNotification, Duration duration) {
-        EVENT_EXECUTOR.submit(() -> callback.onCachePollingSuccess(clientName, cacheDescriptor, withNotification, duration));
+        if (metricsEnabled) {
+            metricsRegistry.cachePollRecorder(clientName, cacheDescriptor)
+                    .recordSuccess(withNotification, duration.toNanos());
+        }
+        if (enabled) {
+            dispatcher.dispatch(() -> callback.onCachePollingSuccess(clientName, cacheDescriptor, withNotification, duration));
+        }
     }
 
     public void cachePollingSuccess(CacheDescriptor cacheDescriptor, boolean withNotification, long durationMillis) {
-        EVENT_EXECUTOR.submit(() -> callback.onCachePollingSuccess(clientName, cacheDescriptor, withNotification, Duration.of(durationMillis, ChronoUnit.MILLIS)));
+        if (metricsEnabled) {
+            metricsRegistry.cachePollRecorder(clientName, cacheDescriptor)
+                    .recordSuccess(withNotification, TimeUnit.MILLISECONDS.toNanos(durationMillis));
+        }
+        if (enabled) {
+            dispatcher.dispatch(() -> callback.onCachePollingSuccess(clientName, cacheDescriptor, withNotification, Duration.of(durationMillis, ChronoUnit.MILLIS)));
+        }
+    }
+
+    public void cacheListenersNotified(CacheDescriptor cacheDescriptor, long durationNanos) {
+        if (metricsEnabled) {
+            metricsRegistry.cachePollRecorder(clientName, cacheDescriptor).recordListenerDispatch(durationNanos);
+        }
     }
 
+    /**
+     * Stops the dispatcher used by this handler. Note that this affects every client that uses the same dispatcher.
+     */
     public void stop() {
-        EVENT_EXECUTOR.shutdownNow();
+        dispatcher.stop();
     }
 
 }
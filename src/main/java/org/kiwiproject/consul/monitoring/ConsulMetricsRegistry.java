@@ -0,0 +1,107 @@
+package org.kiwiproject.consul.monitoring;
+
+import org.kiwiproject.consul.cache.CacheDescriptor;
+
+/**
+ * Receives metrics about the HTTP requests made by the clients and the polls made by caches.
+ * <p>
+ * Recorders are looked up once per client, HTTP method, and endpoint template (e.g. {@code health/service/{service}},
+ * never the actual path, so the number of recorders stays small), and once per cache, and are then reused for
+ * every request or poll. Recorders are called on the thread making the request, so they must be thread-safe and
+ * return quickly.
+ * <p>
+ * {@link InMemoryConsulMetricsRegistry} keeps the metrics in memory. Other implementations can forward them to a
+ * metrics library.
+ *
+ * @see NoOpConsulMetricsRegistry
+ */
+public interface ConsulMetricsRegistry {
+
+    /**
+     * Returns the recorder for requests to an endpoint.
+     *
+     * @param clientName the name of the client, e.g. {@code health}
+     * @param method     the HTTP method
+     * @param endpoint   the endpoint template, relative to {@code /v1/}, e.g. {@code health/service/{service}}
+     * @return the recorder
+     */
+    HttpRequestRecorder httpRequestRecorder(String clientName, String method, String endpoint);
+
+    /**
+     * Returns the recorder for the polls made by a cache.
+     *
+     * @param clientName      the name of the client that created the cache
+     * @param cacheDescriptor describes the cache
+     * @return the recorder
+     */
+    CachePollRecorder cachePollRecorder(String clientName, CacheDescriptor cacheDescriptor);
+
+    /**
+     * Records the outcome of requests to one endpoint.
+     */
+    interface HttpRequestRecorder {
+
+        /**
+         * Record a request that received a response, whatever its status code.
+         *
+         * @param statusCode    the HTTP status code
+         * @param latencyNanos  the time until the response headers were received
+         * @param bytesSent     the size of the request body, or zero if there was none or it was unknown
+         * @param bytesReceived the size of the response body, or zero if there was none or it was unknown
+         */
+        void recordResponse(int statusCode, long latencyNanos, long bytesSent, long bytesReceived);
+
+        /**
+         * Record a blocking query that received a response. The latency of a blocking query is mostly the time
+         * the server waited for a change, so implementations should keep it apart from the latency of other
+         * requests. This implementation calls {@link #recordResponse(int, long, long, long)}.
+         *
+         * @param statusCode    the HTTP status code
+         * @param waitNanos     the time until the response headers were received, including the wait time
+         * @param bytesSent     the size of the request body, or zero if there was none or it was unknown
+         * @param bytesReceived the size of the response body, or zero if there was none or it was unknown
+         */
+        default void recordBlockingResponse(int statusCode, long waitNanos, long bytesSent, long bytesReceived) {
+            recordResponse(statusCode, waitNanos, bytesSent, bytesReceived);
+        }
+
+        /**
+         * Record a request that failed without a response, e.g. because of a connection failure or timeout.
+         *
+         * @param latencyNanos the time until the request failed
+         * @param throwable    the cause of the failure
+         */
+        void recordFailure(long latencyNanos, Throwable throwable);
+    }
+
+    /**
+     * Records the outcome of the polls made by one cache.
+     */
+    interface CachePollRecorder {
+
+        /**
+         * Record a successful poll.
+         *
+         * @param changed        whether the response changed the contents of the cache
+         * @param durationNanos  how long the poll took, including the time blocked waiting for a change
+         */
+        void recordSuccess(boolean changed, long durationNanos);
+
+        /**
+         * Record a failed poll.
+         *
+         * @param throwable the cause of the failure
+         */
+        void recordFailure(Throwable throwable);
+
+        /**
+         * Record how long it took to notify the listeners of a cache after its contents changed. This
+         * implementation does nothing.
+         *
+         * @param durationNanos how long the listeners took, including {@code onDelta} and delta listeners
+         */
+        default void recordListenerDispatch(long durationNanos) {
+            // no-op by default
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.kiwiproject.consul.monitoring;
+
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Metrics for the requests a client made to one endpoint, kept by {@link InMemoryConsulMetricsRegistry}.
+ */
+public final class EndpointMetrics implements ConsulMetricsRegistry.HttpRequestRecorder {
+
+    private static final int MAX_STATUS_CODE = 599;
+
+    private final String clientName;
+    private final String method;
+    private final String endpoint;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram blockingLatency = new LatencyHistogram();
+    private final AtomicLongArray statusCodeCounts = new AtomicLongArray(MAX_STATUS_CODE + 1);
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+
+    EndpointMetrics(String clientName, String method, String endpoint) {
+        this.clientName = clientName;
+        this.method = method;
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public void recordResponse(int statusCode, long latencyNanos, long bytesSent, long bytesReceived) {
+        latency.recordNanos(latencyNanos);
+        recordStatusAndSizes(statusCode, bytesSent, bytesReceived);
+    }
+
+    @Override
+    public void recordBlockingResponse(int statusCode, long waitNanos, long bytesSent, long bytesReceived) {
+        blockingLatency.recordNanos(waitNanos);
+        recordStatusAndSizes(statusCode, bytesSent, bytesReceived);
+    }
+
+    private void recordStatusAndSizes(int statusCode, long bytesSent, long bytesReceived) {
+        statusCodeCounts.incrementAndGet(Math.min(Math.max(statusCode, 0), MAX_STATUS_CODE));
+        this.bytesSent.add(bytesSent);
+        this.bytesReceived.add(bytesReceived);
+    }
+
+    @Override
+    public void recordFailure(long latencyNanos, Throwable throwable) {
+        latency.recordNanos(latencyNanos);
+        failures.increment();
+    }
+
+    public String getClientName() {
+        return clientName;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Returns the latencies of all requests, including failed ones, except blocking queries that received a
+     * response.
+     *
+     * @return the latency histogram
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Returns the latencies of blocking queries that received a response, which are mostly the time the server
+     * waited for a change.
+     *
+     * @return the blocking query latency histogram
+     */
+    public LatencyHistogram getBlockingLatency() {
+        return blockingLatency;
+    }
+
+    /**
+     * Returns the number of responses received with each status code.
+     *
+     * @return an immutable map from status code to count, containing only the status codes that were received
+     */
+    public Map<Integer, Long> getStatusCodeCounts() {
+        return IntStream.rangeClosed(0, MAX_STATUS_CODE)
+                .filter(code -> statusCodeCounts.get(code) > 0)
+                .boxed()
+                .collect(toUnmodifiableMap(code -> code, statusCodeCounts::get));
+    }
+
+    /**
+     * Returns the number of requests that failed without a response.
+     *
+     * @return the number of failures
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+}
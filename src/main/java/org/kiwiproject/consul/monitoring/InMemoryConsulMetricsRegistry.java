@@ -0,0 +1,66 @@
+package org.kiwiproject.consul.monitoring;
+
+import org.kiwiproject.consul.cache.CacheDescriptor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link ConsulMetricsRegistry} that keeps metrics in memory, for applications to read and export, e.g. to
+ * a dashboard or health check.
+ */
+public class InMemoryConsulMetricsRegistry implements ConsulMetricsRegistry {
+
+    private record EndpointKey(String clientName, String method, String endpoint) {
+    }
+
+    private record CacheKey(String clientName, String endpoint, String key) {
+    }
+
+    private final ConcurrentHashMap<EndpointKey, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<CacheKey, CachePollMetrics> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public EndpointMetrics httpRequestRecorder(String clientName, String method, String endpoint) {
+        return endpoints.computeIfAbsent(new EndpointKey(clientName, method, endpoint),
+                key -> new EndpointMetrics(clientName, method, endpoint));
+    }
+
+    @Override
+    public CachePollMetrics cachePollRecorder(String clientName, CacheDescriptor cacheDescriptor) {
+        return caches.computeIfAbsent(
+                new CacheKey(clientName, cacheDescriptor.getEndpoint(), cacheDescriptor.getKey()),
+                key -> new CachePollMetrics(clientName, cacheDescriptor));
+    }
+
+    /**
+     * Returns the metrics of every endpoint that was called.
+     *
+     * @return an immutable list of endpoint metrics, in no particular order
+     */
+    public List<EndpointMetrics> getEndpointMetrics() {
+        return List.copyOf(endpoints.values());
+    }
+
+    /**
+     * Returns the metrics of one endpoint.
+     *
+     * @param clientName the name of the client, e.g. {@code health}
+     * @param method     the HTTP method
+     * @param endpoint   the endpoint template, e.g. {@code health/service/{service}}
+     * @return the metrics, or an empty Optional if the endpoint was not called
+     */
+    public Optional<EndpointMetrics> getEndpointMetrics(String clientName, String method, String endpoint) {
+        return Optional.ofNullable(endpoints.get(new EndpointKey(clientName, method, endpoint)));
+    }
+
+    /**
+     * Returns the poll metrics of every cache that polled Consul.
+     *
+     * @return an immutable list of cache poll metrics, in no particular order
+     */
+    public List<CachePollMetrics> getCachePollMetrics() {
+        return List.copyOf(caches.values());
+    }
+}
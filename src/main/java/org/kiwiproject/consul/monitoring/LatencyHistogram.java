@@ -0,0 +1,137 @@
+package org.kiwiproject.consul.monitoring;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe histogram of latencies with a fixed memory footprint, in the style of HdrHistogram.
+ * <p>
+ * Values are recorded with microsecond resolution into log-linear buckets: each power of two is split into 16
+ * equal buckets, so any reported value is within about 6% of the recorded one, from one microsecond up to about
+ * nineteen hours. Recording a value is a few shifts and atomic increments, and never allocates.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final long MAX_MICROS = (1L << 36) - 1;
+
+    @VisibleForTesting
+    static final int BUCKET_COUNT = bucketIndex(MAX_MICROS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Record a latency.
+     *
+     * @param nanos the latency in nanoseconds; negative values are recorded as zero
+     */
+    public void recordNanos(long nanos) {
+        var micros = Math.min(Math.max(nanos, 0) / 1_000, MAX_MICROS);
+        counts.incrementAndGet(bucketIndex(micros));
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param latency the latency
+     */
+    public void record(Duration latency) {
+        recordNanos(latency.toNanos());
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the maximum, or zero if nothing was recorded
+     */
+    public Duration getMax() {
+        return Duration.ofNanos(maxMicros.get() * 1_000);
+    }
+
+    /**
+     * Returns the mean of the recorded values.
+     *
+     * @return the mean, or zero if nothing was recorded
+     */
+    public Duration getMean() {
+        var n = count.sum();
+        return n == 0 ? Duration.ZERO : Duration.ofNanos(totalMicros.sum() * 1_000 / n);
+    }
+
+    /**
+     * Returns the value below which the given percentage of recorded values fall, e.g. 99 for the 99th percentile.
+     * The result is the upper bound of the bucket containing that value, and never more than {@link #getMax()}.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value at the percentile, or zero if nothing was recorded
+     */
+    public Duration getValueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "percentile must be between 0 and 100");
+
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+
+        var target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Duration.ofNanos(Math.min(bucketUpperBound(i), maxMicros.get()) * 1_000);
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Values below {@code LINEAR_LIMIT} have a bucket each. Above that, a value whose highest set bit is {@code b}
+     * is shifted right by {@code b - SUB_BUCKET_BITS}, which leaves a number between {@code SUB_BUCKETS} and
+     * {@code 2 * SUB_BUCKETS - 1} selecting one of the 16 buckets for that power of two.
+     */
+    @VisibleForTesting
+    static int bucketIndex(long micros) {
+        if (micros < LINEAR_LIMIT) {
+            return (int) micros;
+        }
+        var shift = (63 - Long.numberOfLeadingZeros(micros)) - SUB_BUCKET_BITS;
+        var subBucket = (int) (micros >>> shift) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    @VisibleForTesting
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        var shift = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        var top = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((long) (top + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,167 @@
+package org.kiwiproject.consul.monitoring;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.kiwiproject.consul.util.Http.isBlockingQuery;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import retrofit2.Invocation;
+import retrofit2.http.DELETE;
+import retrofit2.http.GET;
+import retrofit2.http.HEAD;
+import retrofit2.http.HTTP;
+import retrofit2.http.OPTIONS;
+import retrofit2.http.PATCH;
+import retrofit2.http.POST;
+import retrofit2.http.PUT;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An OkHttp interceptor that records the latency, status code, and body sizes of every request in a
+ * {@link ConsulMetricsRegistry}.
+ * <p>
+ * Requests are grouped by client and endpoint template, which are taken from the Retrofit {@link Invocation} that
+ * made the request: the client name is that of the client class declaring the Retrofit interface (e.g.
+ * {@code health} for {@code HealthClient}), and the endpoint is the path in its HTTP annotation
+ * (e.g. {@code health/service/{service}}). Both are worked out once per Retrofit method, so each request costs one
+ * map lookup plus the recording itself. Requests not made through Retrofit are grouped under {@code unknown}.
+ * <p>
+ * The latency is the time until the response headers are received. Blocking queries, i.e. requests with an
+ * {@code index} or {@code hash} parameter, are recorded with
+ * {@link ConsulMetricsRegistry.HttpRequestRecorder#recordBlockingResponse(int, long, long, long)}, since their
+ * latency is mostly the time the server waited for a change. Body sizes are only known when the request or response
+ * declares a content length.
+ */
+public class MetricsInterceptor implements Interceptor {
+
+    /**
+     * The client name and endpoint of requests that were not made through Retrofit.
+     */
+    public static final String UNKNOWN = "unknown";
+
+    private final ConsulMetricsRegistry registry;
+    private final ConcurrentHashMap<Method, ConsulMetricsRegistry.HttpRequestRecorder> recorders =
+            new ConcurrentHashMap<>();
+
+    public MetricsInterceptor(ConsulMetricsRegistry registry) {
+        this.registry = checkNotNull(registry, "registry must not be null");
+    }
+
+    @NonNull
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        var recorder = recorderFor(request);
+
+        var start = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException | RuntimeException e) {
+            recorder.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+
+        var latencyNanos = System.nanoTime() - start;
+        if (isBlockingQuery(request)) {
+            recorder.recordBlockingResponse(response.code(), latencyNanos,
+                    lengthOf(request.body()), lengthOf(response.body()));
+        } else {
+            recorder.recordResponse(response.code(), latencyNanos,
+                    lengthOf(request.body()), lengthOf(response.body()));
+        }
+        return response;
+    }
+
+    private ConsulMetricsRegistry.HttpRequestRecorder recorderFor(Request request) {
+        var invocation = request.tag(Invocation.class);
+        if (isNull(invocation)) {
+            return registry.httpRequestRecorder(UNKNOWN, request.method(), UNKNOWN);
+        }
+
+        var method = invocation.method();
+        var recorder = recorders.get(method);
+        if (isNull(recorder)) {
+            recorder = recorders.computeIfAbsent(method, key ->
+                    registry.httpRequestRecorder(clientNameOf(key), request.method(), endpointOf(key)));
+        }
+        return recorder;
+    }
+
+    /**
+     * Returns the name of the client declaring a Retrofit method. The Retrofit interfaces are nested in the client
+     * classes, e.g. {@code HealthClient.Api}, and each client is named after its class, e.g. {@code health}.
+     *
+     * @param method the Retrofit method, from {@link Invocation#method()}
+     * @return the client name, or {@link #UNKNOWN} if the method is not declared in a nested interface
+     */
+    public static String clientNameOf(Method method) {
+        var clientClass = method.getDeclaringClass().getEnclosingClass();
+        if (isNull(clientClass)) {
+            return UNKNOWN;
+        }
+        var name = clientClass.getSimpleName();
+        if (name.endsWith("Client")) {
+            name = name.substring(0, name.length() - "Client".length());
+        }
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the endpoint template of a Retrofit method, which is the path in its HTTP annotation.
+     *
+     * @param method the Retrofit method, from {@link Invocation#method()}
+     * @return the endpoint, e.g. {@code health/service/{service}}, or {@link #UNKNOWN} if there is no path
+     */
+    public static String endpointOf(Method method) {
+        for (Annotation annotation : method.getAnnotations()) {
+            var path = pathOf(annotation);
+            if (nonNull(path)) {
+                return path.isEmpty() ? UNKNOWN : path;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    @Nullable
+    private static String pathOf(Annotation annotation) {
+        if (annotation instanceof GET get) {
+            return get.value();
+        } else if (annotation instanceof PUT put) {
+            return put.value();
+        } else if (annotation instanceof POST post) {
+            return post.value();
+        } else if (annotation instanceof DELETE delete) {
+            return delete.value();
+        } else if (annotation instanceof HEAD head) {
+            return head.value();
+        } else if (annotation instanceof PATCH patch) {
+            return patch.value();
+        } else if (annotation instanceof OPTIONS options) {
+            return options.value();
+        } else if (annotation instanceof HTTP http) {
+            return http.path();
+        }
+        return null;
+    }
+
+    private static long lengthOf(@Nullable RequestBody body) throws IOException {
+        return isNull(body) ? 0 : Math.max(body.contentLength(), 0);
+    }
+
+    private static long lengthOf(@Nullable ResponseBody body) {
+        return isNull(body) ? 0 : Math.max(body.contentLength(), 0);
+    }
+}
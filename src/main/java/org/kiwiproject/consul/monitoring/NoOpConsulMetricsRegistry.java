@@ -0,0 +1,44 @@
+package org.kiwiproject.consul.monitoring;
+
+import org.kiwiproject.consul.cache.CacheDescriptor;
+
+/**
+ * A "no-op" implementation of {@link ConsulMetricsRegistry}. When it is used, which is the default, the clients
+ * do not measure anything.
+ */
+public class NoOpConsulMetricsRegistry implements ConsulMetricsRegistry {
+
+    private static final HttpRequestRecorder NO_OP_HTTP_REQUEST_RECORDER = new HttpRequestRecorder() {
+        @Override
+        public void recordResponse(int statusCode, long latencyNanos, long bytesSent, long bytesReceived) {
+            // no-op
+        }
+
+        @Override
+        public void recordFailure(long latencyNanos, Throwable throwable) {
+            // no-op
+        }
+    };
+
+    private static final CachePollRecorder NO_OP_CACHE_POLL_RECORDER = new CachePollRecorder() {
+        @Override
+        public void recordSuccess(boolean changed, long durationNanos) {
+            // no-op
+        }
+
+        @Override
+        public void recordFailure(Throwable throwable) {
+            // no-op
+        }
+    };
+
+    @Override
+    public HttpRequestRecorder httpRequestRecorder(String clientName, String method, String endpoint) {
+        return NO_OP_HTTP_REQUEST_RECORDER;
+    }
+
+    @Override
+    public CachePollRecorder cachePollRecorder(String clientName, CacheDescriptor cacheDescriptor) {
+        return NO_OP_CACHE_POLL_RECORDER;
+    }
+}
@@ -0,0 +1,80 @@
+package org.kiwiproject.consul.monitoring.micrometer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.isNull;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jspecify.annotations.NonNull;
+import org.kiwiproject.consul.cache.ConsulCache;
+
+/**
+ * Binds gauges describing the state of a {@link ConsulCache} to a Micrometer {@link MeterRegistry}: how stale its
+ * data is, how many polls in a row have failed, and how many entries it holds.
+ * <p>
+ * The gauges use the same tags as the cache metrics of {@link MicrometerConsulMetricsRegistry}, including the
+ * {@code qualifier} tag that tells apart caches of the same endpoint and key with different query options. Binding
+ * a second cache with the same tags to a registry fails, since it watches the same data. The gauges only hold a weak
+ * reference to the cache, so they do not keep a stopped cache from being garbage collected.
+ *
+ * <pre>
+ * var cache = ServiceHealthCache.newCache(consul.healthClient(), "my-service");
+ * new ConsulCacheMetrics("health", cache).bindTo(meterRegistry);
+ * </pre>
+ */
+public class ConsulCacheMetrics implements MeterBinder {
+
+    public static final String STALENESS = "consul.cache.staleness";
+    public static final String CONSECUTIVE_FAILURES = "consul.cache.consecutive.failures";
+    public static final String SIZE = "consul.cache.size";
+
+    private final String clientName;
+    private final ConsulCache<?, ?> cache;
+
+    /**
+     * @param clientName the name of the client that created the cache, e.g. {@code health}
+     * @param cache      the cache
+     */
+    public ConsulCacheMetrics(String clientName, ConsulCache<?, ?> cache) {
+        this.clientName = checkNotNull(clientName, "clientName must not be null");
+        this.cache = checkNotNull(cache, "cache must not be null");
+    }
+
+    /**
+     * @throws IllegalStateException if gauges with the same tags are already registered, since they would report
+     *                               the other cache instead of this one
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        var tags = MicrometerConsulMetricsRegistry.cacheTags(clientName, cache.getCacheDescriptor());
+        checkState(isNull(registry.find(SIZE).tags(tags).gauge()),
+                "Gauges for a cache tagged %s are already registered", tags);
+
+        Gauge.builder(STALENESS, cache, ConsulCacheMetrics::stalenessSeconds)
+                .description("Time since the last successful poll of a Consul cache, plus the age of its response")
+                .baseUnit("seconds")
+                .tags(tags)
+                .register(registry);
+
+        Gauge.builder(CONSECUTIVE_FAILURES, cache, ConsulCache::getConsecutiveFailures)
+                .description("Number of polls of a Consul cache that failed since the last successful one")
+                .tags(tags)
+                .register(registry);
+
+        Gauge.builder(SIZE, cache, ConsulCache::size)
+                .description("Number of entries in a Consul cache")
+                .tags(tags)
+                .register(registry);
+    }
+
+    /**
+     * A cache that has never polled successfully has no staleness, which Micrometer reports as {@code NaN}.
+     */
+    private static double stalenessSeconds(ConsulCache<?, ?> cache) {
+        return cache.getStaleness()
+                .map(staleness -> staleness.toNanos() / 1e9)
+                .orElse(Double.NaN);
+    }
+}
@@ -0,0 +1,202 @@
+package org.kiwiproject.consul.monitoring.micrometer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNullElse;
+
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.kiwiproject.consul.cache.CacheDescriptor;
+import org.kiwiproject.consul.monitoring.ConsulMetricsRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link ConsulMetricsRegistry} that records metrics in a Micrometer {@link MeterRegistry}, from which they can be
+ * exported to Prometheus, OpenTelemetry, and the other systems Micrometer supports.
+ * <p>
+ * Requests are tagged with {@code client}, {@code method}, and {@code endpoint}, and responses also with
+ * {@code status}. Blocking queries are recorded in {@value #BLOCKING_QUERIES} rather than {@value #REQUESTS}, so
+ * the time the server waits for a change does not hide how long the server takes to answer other requests. Cache
+ * metrics are tagged with {@code client}, {@code endpoint}, {@code key} (which is {@value #NO_KEY} for caches
+ * without a key), and {@code qualifier}. Several caches can watch the same endpoint and key with different query
+ * options, e.g. one for passing instances of a service and one for all of them. The qualifier tag tells them apart:
+ * it is a short hash of the {@link CacheDescriptor#getQualifier() qualifier} of the cache, which may contain an ACL
+ * token, or {@value #NO_QUALIFIER} for caches without one.
+ * <p>
+ * Micrometer is an optional dependency of this library, so applications using this class must depend on
+ * {@code io.micrometer:micrometer-core} themselves.
+ *
+ * @see ConsulCacheMetrics
+ * @see ObservationInterceptor
+ */
+public class MicrometerConsulMetricsRegistry implements ConsulMetricsRegistry {
+
+    public static final String REQUESTS = "consul.client.requests";
+    public static final String BLOCKING_QUERIES = "consul.client.blocking.queries";
+    public static final String REQUEST_FAILURES = "consul.client.request.failures";
+    public static final String REQUEST_SIZE = "consul.client.request.size";
+    public static final String RESPONSE_SIZE = "consul.client.response.size";
+    public static final String CACHE_POLLS = "consul.cache.polls";
+    public static final String CACHE_POLL_FAILURES = "consul.cache.poll.failures";
+    public static final String CACHE_LISTENER_DISPATCH = "consul.cache.listener.dispatch";
+
+    static final String NO_KEY = "none";
+    static final String NO_QUALIFIER = "none";
+
+    private record CacheKey(String clientName, String endpoint, String key, String qualifier) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<CacheKey, CachePollRecorder> cacheRecorders = new ConcurrentHashMap<>();
+
+    public MicrometerConsulMetricsRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = checkNotNull(meterRegistry, "meterRegistry must not be null");
+    }
+
+    @Override
+    public HttpRequestRecorder httpRequestRecorder(String clientName, String method, String endpoint) {
+        return new MicrometerHttpRequestRecorder(meterRegistry,
+                Tags.of("client", clientName, "method", method, "endpoint", endpoint));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Caches ask for their recorder on every poll, so recorders are kept per cache.
+     */
+    @Override
+    public CachePollRecorder cachePollRecorder(String clientName, CacheDescriptor cacheDescriptor) {
+        return cacheRecorders.computeIfAbsent(
+                new CacheKey(clientName, cacheDescriptor.getEndpoint(), cacheDescriptor.getKey(),
+                        cacheDescriptor.getQualifier()),
+                key -> new MicrometerCachePollRecorder(meterRegistry, cacheTags(clientName, cacheDescriptor)));
+    }
+
+    static Tags cacheTags(String clientName, CacheDescriptor cacheDescriptor) {
+        return Tags.of(
+                "client", clientName,
+                "endpoint", cacheDescriptor.getEndpoint(),
+                "key", requireNonNullElse(cacheDescriptor.getKey(), NO_KEY),
+                "qualifier", qualifierTag(cacheDescriptor));
+    }
+
+    private static String qualifierTag(CacheDescriptor cacheDescriptor) {
+        var qualifier = cacheDescriptor.getQualifier();
+        if (isNull(qualifier)) {
+            return NO_QUALIFIER;
+        }
+        return Hashing.sha256().hashString(qualifier, StandardCharsets.UTF_8).toString().substring(0, 8);
+    }
+
+    private static class MicrometerHttpRequestRecorder implements HttpRequestRecorder {
+
+        private final MeterRegistry meterRegistry;
+        private final Tags tags;
+        private final DistributionSummary requestSize;
+        private final DistributionSummary responseSize;
+        private final ConcurrentHashMap<Integer, Timer> requestTimers = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Integer, Timer> blockingQueryTimers = new ConcurrentHashMap<>();
+
+        MicrometerHttpRequestRecorder(MeterRegistry meterRegistry, Tags tags) {
+            this.meterRegistry = meterRegistry;
+            this.tags = tags;
+            this.requestSize = DistributionSummary.builder(REQUEST_SIZE)
+                    .description("Size of the bodies of requests to Consul")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(meterRegistry);
+            this.responseSize = DistributionSummary.builder(RESPONSE_SIZE)
+                    .description("Size of the bodies of responses from Consul")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public void recordResponse(int statusCode, long latencyNanos, long bytesSent, long bytesReceived) {
+            requestTimers.computeIfAbsent(statusCode, code -> timer(REQUESTS,
+                            "Time until Consul answered requests other than blocking queries", code))
+                    .record(latencyNanos, TimeUnit.NANOSECONDS);
+            recordSizes(bytesSent, bytesReceived);
+        }
+
+        @Override
+        public void recordBlockingResponse(int statusCode, long waitNanos, long bytesSent, long bytesReceived) {
+            blockingQueryTimers.computeIfAbsent(statusCode, code -> timer(BLOCKING_QUERIES,
+                            "Time until Consul answered blocking queries, including the wait for a change", code))
+                    .record(waitNanos, TimeUnit.NANOSECONDS);
+            recordSizes(bytesSent, bytesReceived);
+        }
+
+        private Timer timer(String name, String description, int statusCode) {
+            return Timer.builder(name)
+                    .description(description)
+                    .tags(tags)
+                    .tag("status", String.valueOf(statusCode))
+                    .register(meterRegistry);
+        }
+
+        private void recordSizes(long bytesSent, long bytesReceived) {
+            requestSize.record(bytesSent);
+            responseSize.record(bytesReceived);
+        }
+
+        @Override
+        public void recordFailure(long latencyNanos, Throwable throwable) {
+            meterRegistry.counter(REQUEST_FAILURES,
+                            tags.and("exception", throwable.getClass().getSimpleName()))
+                    .increment();
+        }
+    }
+
+    private static class MicrometerCachePollRecorder implements CachePollRecorder {
+
+        private final MeterRegistry meterRegistry;
+        private final Tags tags;
+        private final Timer changedPolls;
+        private final Timer unchangedPolls;
+        private final Timer listenerDispatch;
+
+        MicrometerCachePollRecorder(MeterRegistry meterRegistry, Tags tags) {
+            this.meterRegistry = meterRegistry;
+            this.tags = tags;
+            this.changedPolls = pollTimer(meterRegistry, tags, true);
+            this.unchangedPolls = pollTimer(meterRegistry, tags, false);
+            this.listenerDispatch = Timer.builder(CACHE_LISTENER_DISPATCH)
+                    .description("Time taken to notify the listeners of a Consul cache after it changed")
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+
+        private static Timer pollTimer(MeterRegistry meterRegistry, Tags tags, boolean changed) {
+            return Timer.builder(CACHE_POLLS)
+                    .description("Duration of successful Consul cache polls, including the wait for a change")
+                    .tags(tags)
+                    .tag("changed", String.valueOf(changed))
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public void recordSuccess(boolean changed, long durationNanos) {
+            (changed ? changedPolls : unchangedPolls).record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void recordFailure(Throwable throwable) {
+            meterRegistry.counter(CACHE_POLL_FAILURES,
+                            tags.and("exception", throwable.getClass().getSimpleName()))
+                    .increment();
+        }
+
+        @Override
+        public void recordListenerDispatch(long durationNanos) {
+            listenerDispatch.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.kiwiproject.consul.monitoring.micrometer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.RequestReplySenderContext;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jspecify.annotations.NonNull;
+import org.kiwiproject.consul.monitoring.MetricsInterceptor;
+import org.kiwiproject.consul.util.Http;
+import retrofit2.Invocation;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An OkHttp interceptor that wraps each request to Consul in a Micrometer {@link Observation}, which a tracing
+ * bridge such as {@code micrometer-tracing-bridge-otel} turns into a client span, propagating the trace context in
+ * the request headers. Install it with {@link org.kiwiproject.consul.Consul.Builder#withObservationInterceptor}.
+ * <p>
+ * Observations are named {@value #OBSERVATION_NAME} and have the same {@code client}, {@code method}, and
+ * {@code endpoint} key values as the metrics of {@link MicrometerConsulMetricsRegistry}, plus {@code blocking},
+ * which tells blocking queries apart, and {@code status}. Every poll of a
+ * {@link org.kiwiproject.consul.cache.ConsulCache} is a request, so it is observed too.
+ * <p>
+ * Since the trace context is sent in headers, requests made in different traces are never merged by request
+ * coalescing.
+ */
+public class ObservationInterceptor implements Interceptor {
+
+    public static final String OBSERVATION_NAME = "consul.client.request";
+
+    private record Endpoint(String clientName, String endpoint) {
+    }
+
+    private static final Endpoint UNKNOWN_ENDPOINT =
+            new Endpoint(MetricsInterceptor.UNKNOWN, MetricsInterceptor.UNKNOWN);
+
+    private final ObservationRegistry observationRegistry;
+    private final ConcurrentHashMap<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public ObservationInterceptor(ObservationRegistry observationRegistry) {
+        this.observationRegistry = checkNotNull(observationRegistry, "observationRegistry must not be null");
+    }
+
+    @NonNull
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (observationRegistry.isNoop()) {
+            return chain.proceed(request);
+        }
+
+        var carrier = request.newBuilder();
+        var context = new RequestReplySenderContext<Request.Builder, Response>((builder, key, value) -> {
+            if (nonNull(builder)) {
+                builder.header(key, value);
+            }
+        });
+        context.setCarrier(carrier);
+        context.setRemoteServiceName("consul");
+
+        var endpoint = endpointOf(request);
+        var observation = Observation.createNotStarted(OBSERVATION_NAME, () -> context, observationRegistry)
+                .contextualName(request.method() + " " + endpoint.endpoint())
+                .lowCardinalityKeyValue("client", endpoint.clientName())
+                .lowCardinalityKeyValue("method", request.method())
+                .lowCardinalityKeyValue("endpoint", endpoint.endpoint())
+                .lowCardinalityKeyValue("blocking", String.valueOf(Http.isBlockingQuery(request)))
+                .highCardinalityKeyValue("path", request.url().encodedPath())
+                .start();
+
+        try (var ignored = observation.openScope()) {
+            var response = chain.proceed(carrier.build());
+            context.setResponse(response);
+            observation.lowCardinalityKeyValue("status", String.valueOf(response.code()));
+            return response;
+        } catch (IOException | RuntimeException e) {
+            observation.lowCardinalityKeyValue("status", "IO_ERROR");
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private Endpoint endpointOf(Request request) {
+        var invocation = request.tag(Invocation.class);
+        if (isNull(invocation)) {
+            return UNKNOWN_ENDPOINT;
+        }
+
+        return endpoints.computeIfAbsent(invocation.method(), method ->
+                new Endpoint(MetricsInterceptor.clientNameOf(method), MetricsInterceptor.endpointOf(method)));
+    }
+}
@@ -6,6 +6,8 @@ import static java.util.Objects.nonNull;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Sets;
 import okhttp3.Headers;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.jspecify.annotations.NonNull;
 import org.kiwiproject.consul.ConsulException;
@@ -17,7 +19,10 @@ import retrofit2.Call;
 import retrofit2.Response;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 public class Http {
 
@@ -27,6 +32,18 @@ public class Http {
         this.eventHandler = eventHandler;
     }
 
+    /**
+     * Check whether a request is a Consul blocking query, which the server holds until the data changes or the
+     * wait time elapses.
+     *
+     * @param request the request
+     * @return true if the server may hold the request until the index or hash changes
+     */
+    public static boolean isBlockingQuery(Request request) {
+        var url = request.url();
+        return nonNull(url.queryParameter("index")) || nonNull(url.queryParameter("hash"));
+    }
+
     private static boolean isSuccessful(Response<?> response, Integer... okCodes) {
         return response.isSuccessful() || Sets.newHashSet(okCodes).contains(response.code());
     }
@@ -48,6 +65,89 @@ public class Http {
         return consulResponse(response);
     }
 
+    /**
+     * Execute a call whose response body is not buffered, and decode the body incrementally using the given reader.
+     * <p>
+     * The reader is invoked on the calling thread while the body is still being received. If the response
+     * is not successful but its status code is one of the {@code okCodes}, the reader receives an empty stream.
+     * The response body is always closed before this method returns. The request is reported to the event handler
+     * as a success only once the body has been read; if reading fails, it is reported as a failure instead.
+     *
+     * @param call    the call, which should be declared with {@link retrofit2.http.Streaming}
+     * @param reader  reads the response body
+     * @param okCodes additional status codes to treat as success
+     * @param <R>     the type returned by the reader
+     * @return a {@link ConsulResponse} containing the value returned by the reader and the Consul response headers
+     */
+    public <R> ConsulResponse<R> extractStreamingConsulResponse(Call<ResponseBody> call,
+                                                                BodyReader<R> reader,
+                                                                Integer... okCodes) {
+        Response<ResponseBody> response = executeCall(call);
+        ensureResponseStatusAcceptable(call, response, okCodes);
+        return readStreamingResponse(call, response, reader);
+    }
+
+    /**
+     * Execute a call whose response body is not buffered, and decode the body incrementally using the given reader,
+     * unless the status code is one of the {@code absentCodes}.
+     * <p>
+     * This is like {@link #extractStreamingConsulResponse(Call, BodyReader, Integer...)}, except that when the
+     * response is not successful but its status code is one of the {@code absentCodes}, the reader is not invoked
+     * and the response of the returned {@link ConsulResponse} is null. Use it for resources that may not exist,
+     * where an empty stream would be indistinguishable from an empty value.
+     *
+     * @param call        the call, which should be declared with {@link retrofit2.http.Streaming}
+     * @param reader      reads the response body
+     * @param absentCodes status codes meaning the resource does not exist
+     * @param <R>         the type returned by the reader
+     * @return a {@link ConsulResponse} containing the value returned by the reader, or null if the resource does not
+     * exist, and the Consul response headers
+     */
+    public <R> ConsulResponse<R> extractOptionalStreamingConsulResponse(Call<ResponseBody> call,
+                                                                        BodyReader<R> reader,
+                                                                        Integer... absentCodes) {
+        Response<ResponseBody> response = executeCall(call);
+        ensureResponseStatusAcceptable(call, response, absentCodes);
+        if (!response.isSuccessful()) {
+            try (ResponseBody ignored = response.errorBody()) {
+                eventHandler.httpRequestSuccess(call.request());
+                return consulResponse(response.headers(), null);
+            }
+        }
+        return readStreamingResponse(call, response, reader);
+    }
+
+    private <R> ConsulResponse<R> readStreamingResponse(Call<ResponseBody> call,
+                                                        Response<ResponseBody> response,
+                                                        BodyReader<R> reader) {
+        try (ResponseBody body = response.body(); ResponseBody errorBody = response.errorBody()) {
+            InputStream in = isNull(body) ? InputStream.nullInputStream() : body.byteStream();
+            var consulResponse = consulResponse(response.headers(), reader.read(in));
+            eventHandler.httpRequestSuccess(call.request());
+            return consulResponse;
+        } catch (IOException e) {
+            eventHandler.httpRequestFailure(call.request(), e);
+            var message = String.format("Reading response from [%s] failed due to IOException", requestUrlOf(call));
+            throw new ConsulException(message, e);
+        }
+    }
+
+    /**
+     * Reads a streamed response body.
+     *
+     * @param <R> the type of result
+     */
+    @FunctionalInterface
+    public interface BodyReader<R> {
+
+        /**
+         * @param body the response body
+         * @return the result of reading the body
+         * @throws IOException if the body cannot be read or decoded
+         */
+        R read(InputStream body) throws IOException;
+    }
+
     private <T> Response<T> executeCall(Call<T> call) {
         try {
             return call.execute();
@@ -63,9 +163,16 @@ public class Http {
     }
 
     private <T> void ensureResponseSuccessful(Call<T> call, Response<T> response, Integer... okCodes) {
-        if (isSuccessful(response, okCodes)) {
-            eventHandler.httpRequestSuccess(call.request());
-        } else {
+        ensureResponseStatusAcceptable(call, response, okCodes);
+        eventHandler.httpRequestSuccess(call.request());
+    }
+
+    /**
+     * Like {@link #ensureResponseSuccessful(Call, Response, Integer...)}, but without reporting a success, for
+     * responses whose body has yet to be read.
+     */
+    private <T> void ensureResponseStatusAcceptable(Call<T> call, Response<T> response, Integer... okCodes) {
+        if (!isSuccessful(response, okCodes)) {
             var exception = new ConsulException(call, response);
             eventHandler.httpRequestInvalid(call.request(), exception);
             throw exception;
@@ -77,6 +184,120 @@ public class Http {
         call.enqueue(retrofitCallback);
     }
 
+    /**
+     * Asynchronously execute a call, completing the returned future with the response body.
+     * <p>
+     * Cancelling the future cancels the HTTP call.
+     *
+     * @param call    the call to execute
+     * @param okCodes additional status codes to treat as success
+     * @param <T>     the response type
+     * @return a future that completes with the response body, or exceptionally with a {@link ConsulException}
+     * or the underlying failure
+     */
+    public <T> CompletableFuture<T> extractAsync(Call<T> call, Integer... okCodes) {
+        return enqueueAsync(call, ConsulResponse::getResponse, okCodes);
+    }
+
+    /**
+     * Asynchronously execute a call, completing the returned future with the response body converted by the
+     * given mapper.
+     * <p>
+     * The mapper runs on the thread that receives the response. Cancelling the future cancels the HTTP call, which
+     * would not be the case when applying the mapper to the future returned by {@link #extractAsync(Call, Integer...)}.
+     *
+     * @param call    the call to execute
+     * @param mapper  converts the response body, which is null if the status code is one of the {@code okCodes}
+     *                and there is no body
+     * @param okCodes additional status codes to treat as success
+     * @param <T>     the response type
+     * @param <R>     the result type
+     * @return a future that completes with the converted response body, or exceptionally with a
+     * {@link ConsulException}, the underlying failure, or the exception thrown by the mapper
+     */
+    public <T, R> CompletableFuture<R> extractAsync(Call<T> call,
+                                                    Function<? super T, ? extends R> mapper,
+                                                    Integer... okCodes) {
+        return enqueueAsync(call, consulResponse -> mapper.apply(consulResponse.getResponse()), okCodes);
+    }
+
+    /**
+     * Asynchronously execute a call that has no response body.
+     * <p>
+     * Cancelling the future cancels the HTTP call.
+     *
+     * @param call    the call to execute
+     * @param okCodes additional status codes to treat as success
+     * @return a future that completes when the call succeeds, or exceptionally with a {@link ConsulException}
+     * or the underlying failure
+     */
+    public CompletableFuture<Void> handleAsync(Call<Void> call, Integer... okCodes) {
+        return extractAsync(call, okCodes);
+    }
+
+    /**
+     * Asynchronously execute a call, completing the returned future with a {@link ConsulResponse}.
+     * <p>
+     * The call is enqueued on the OkHttp dispatcher, so no thread is blocked while waiting for the response.
+     * Cancelling the future cancels the HTTP call.
+     *
+     * @param call    the call to execute
+     * @param okCodes additional status codes to treat as success
+     * @param <T>     the response type
+     * @return a future that completes with the response, or exceptionally with a {@link ConsulException}
+     * or the underlying failure
+     */
+    public <T> CompletableFuture<ConsulResponse<T>> extractConsulResponseAsync(Call<T> call, Integer... okCodes) {
+        return enqueueAsync(call, Function.identity(), okCodes);
+    }
+
+    /**
+     * Asynchronously execute a call, completing the returned future with the {@link ConsulResponse} converted by
+     * the given mapper.
+     * <p>
+     * The mapper runs on the thread that receives the response. Cancelling the future cancels the HTTP call.
+     *
+     * @param call    the call to execute
+     * @param mapper  converts the response
+     * @param okCodes additional status codes to treat as success
+     * @param <T>     the response type
+     * @param <R>     the result type
+     * @return a future that completes with the converted response, or exceptionally with a
+     * {@link ConsulException}, the underlying failure, or the exception thrown by the mapper
+     */
+    public <T, R> CompletableFuture<R> extractConsulResponseAsync(Call<T> call,
+                                                                  Function<ConsulResponse<T>, ? extends R> mapper,
+                                                                  Integer... okCodes) {
+        return enqueueAsync(call, mapper, okCodes);
+    }
+
+    private <T, R> CompletableFuture<R> enqueueAsync(Call<T> call,
+                                                     Function<ConsulResponse<T>, ? extends R> resultMapper,
+                                                     Integer... okCodes) {
+        var future = new CompletableFuture<R>();
+        extractConsulResponse(call, new ConsulResponseCallback<>() {
+            @Override
+            public void onComplete(ConsulResponse<T> consulResponse) {
+                try {
+                    future.complete(resultMapper.apply(consulResponse));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+        }, okCodes);
+        future.whenComplete((response, throwable) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
     @VisibleForTesting
     <T> retrofit2.Callback<T> createRetrofitCallback(ConsulResponseCallback<T> callback, Integer... okCodes) {
         return new retrofit2.Callback<>() {
@@ -121,7 +342,10 @@ public class Http {
 
     @VisibleForTesting
     static <T> ConsulResponse<T> consulResponse(Response<T> response) {
-        Headers headers = response.headers();
+        return consulResponse(response.headers(), response.body());
+    }
+
+    private static <T> ConsulResponse<T> consulResponse(Headers headers, T body) {
         String indexHeaderValue = headers.get("X-Consul-Index");
         String lastContactHeaderValue = headers.get("X-Consul-Lastcontact");
         String knownLeaderHeaderValue = headers.get("X-Consul-Knownleader");
@@ -129,7 +353,7 @@ public class Http {
         BigInteger index = isNull(indexHeaderValue) ? BigInteger.ZERO : new BigInteger(indexHeaderValue);
         long lastContact = isNull(lastContactHeaderValue) ? 0 : NumberUtils.toLong(lastContactHeaderValue);
         boolean knownLeader = nonNull(knownLeaderHeaderValue) && Boolean.parseBoolean(knownLeaderHeaderValue);
-        return new ConsulResponse<>(response.body(), lastContact, knownLeader, index,
-                                    headers.get("X-Cache"), headers.get("Age"));
+        return new ConsulResponse<>(body, lastContact, knownLeader, index,
+                                    headers.get("X-Cache"), headers.get("Age"), headers.get("X-Consul-ContentHash"));
     }
 }
@@ -0,0 +1,65 @@
+package org.kiwiproject.consul.util;
+
+import static java.util.Objects.isNull;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Static utilities to incrementally decode JSON without materializing the whole document.
+ */
+public class JsonStreams {
+
+    private JsonStreams() {
+        // utility class
+    }
+
+    /**
+     * Decode each element of a top-level JSON array and pass it to the given consumer as soon as it has
+     * been read, so that at most one element is held in memory at a time.
+     * <p>
+     * An empty input or a JSON {@code null} is treated as an empty array. Elements that are JSON {@code null}
+     * are skipped. The input stream is closed when this method returns.
+     *
+     * @param in          the input containing a JSON array
+     * @param elementType the type to decode each element into
+     * @param consumer    receives each decoded element, in order
+     * @param <T>         the element type
+     * @return the number of elements passed to the consumer
+     * @throws IOException if the input cannot be read or is not a JSON array of {@code elementType}
+     */
+    public static <T> long forEachArrayElement(InputStream in,
+                                               Class<T> elementType,
+                                               Consumer<? super T> consumer) throws IOException {
+        ObjectReader reader = Jackson.MAPPER.readerFor(elementType);
+        try (JsonParser parser = Jackson.MAPPER.createParser(in)) {
+            JsonToken token = parser.nextToken();
+            if (isNull(token) || token == JsonToken.VALUE_NULL) {
+                return 0;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a JSON array but found " + token);
+            }
+
+            long count = 0;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (isNull(token)) {
+                    throw new JsonParseException(parser, "Unexpected end of input inside JSON array");
+                }
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                T element = reader.readValue(parser);
+                consumer.accept(element);
+                count++;
+            }
+            return count;
+        }
+    }
+}
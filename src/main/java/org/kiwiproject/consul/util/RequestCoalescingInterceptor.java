@@ -0,0 +1,239 @@
+package org.kiwiproject.consul.util;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jspecify.annotations.NonNull;
+import retrofit2.Invocation;
+import retrofit2.http.Streaming;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * An OkHttp interceptor that merges identical, concurrent GET requests into a single request to Consul.
+ * <p>
+ * The first request for a given method, URL (including the query string) and set of headers is sent to Consul.
+ * Requests with the same key that arrive while it is in flight wait for it, and each receives its own copy
+ * of the response. Since the ACL token is sent either as a query parameter or as a header, requests made
+ * with different tokens are never merged.
+ * <p>
+ * The response body is read fully into memory only when another request is waiting for it; otherwise the response
+ * is returned as-is, so that its body is still streamed. A waiting request gives up when its own call is cancelled
+ * or its call timeout elapses. If the first request is cancelled, the waiting requests are sent on their own.
+ * <p>
+ * Requests other than GET, blocking queries, and calls to Retrofit methods annotated with {@link Streaming} are
+ * always sent as-is.
+ */
+public class RequestCoalescingInterceptor implements Interceptor {
+
+    private static final long CANCELLATION_CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final ConcurrentHashMap<RequestKey, InFlightRequest> inFlight = new ConcurrentHashMap<>();
+
+    @NonNull
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!isCoalescable(request)) {
+            return chain.proceed(request);
+        }
+
+        var key = new RequestKey(request.url(), request.headers());
+        var inFlightRequest = new InFlightRequest();
+        var existing = inFlight.putIfAbsent(key, inFlightRequest);
+        if (nonNull(existing)) {
+            return existing.join() ? awaitShared(chain, existing) : chain.proceed(request);
+        }
+
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException | RuntimeException e) {
+            inFlight.remove(key, inFlightRequest);
+            inFlightRequest.fail(chain, e);
+            throw e;
+        }
+
+        inFlight.remove(key, inFlightRequest);
+        if (!inFlightRequest.closeAndHasWaiters()) {
+            return response;
+        }
+
+        try {
+            var sharedResponse = SharedResponse.of(response);
+            inFlightRequest.future.complete(sharedResponse);
+            return sharedResponse.toResponse(request);
+        } catch (IOException | RuntimeException e) {
+            inFlightRequest.fail(chain, e);
+            throw e;
+        }
+    }
+
+    private static boolean isCoalescable(Request request) {
+        if (!"GET".equals(request.method()) || Http.isBlockingQuery(request)) {
+            return false;
+        }
+        var invocation = request.tag(Invocation.class);
+        return isNull(invocation) || !invocation.method().isAnnotationPresent(Streaming.class);
+    }
+
+    /**
+     * Wait for the shared response, for no longer than the call timeout of the waiting request, and while its call
+     * has not been cancelled. If the shared request was cancelled, send the waiting request on its own.
+     */
+    private static Response awaitShared(Chain chain, InFlightRequest inFlightRequest) throws IOException {
+        var call = chain.call();
+        var timeoutNanos = call.timeout().timeoutNanos();
+        var deadline = timeoutNanos > 0 ? System.nanoTime() + timeoutNanos : Long.MAX_VALUE;
+
+        SharedResponse sharedResponse;
+        try {
+            while (true) {
+                if (call.isCanceled()) {
+                    throw new IOException("Canceled");
+                }
+                var remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    throw new InterruptedIOException("timeout");
+                }
+                try {
+                    sharedResponse = inFlightRequest.future.get(
+                            Math.min(remainingNanos, CANCELLATION_CHECK_INTERVAL_NANOS), TimeUnit.NANOSECONDS);
+                    break;
+                } catch (TimeoutException e) {
+                    // check for cancellation and the deadline again
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            var interruptedIOException = new InterruptedIOException("Interrupted waiting for coalesced request");
+            interruptedIOException.initCause(e);
+            throw interruptedIOException;
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw new IOException("Coalesced request failed: " + ioException.getMessage(), ioException);
+            }
+            throw new IOException("Coalesced request failed", cause);
+        }
+
+        return isNull(sharedResponse) ? chain.proceed(chain.request()) : sharedResponse.toResponse(chain.request());
+    }
+
+    /**
+     * @return the number of distinct requests currently in flight
+     */
+    @VisibleForTesting
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static final class RequestKey {
+
+        private final HttpUrl url;
+        private final Headers headers;
+
+        RequestKey(HttpUrl url, Headers headers) {
+            this.url = url;
+            this.headers = headers;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RequestKey that)) {
+                return false;
+            }
+            return url.equals(that.url) && headers.equals(that.headers);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, headers);
+        }
+    }
+
+    /**
+     * A request that is in flight, and the requests waiting for its response.
+     * <p>
+     * Once closed, no more requests can wait for it. The future completes with null when the request was cancelled,
+     * so that waiting requests are sent on their own instead of failing.
+     */
+    private static final class InFlightRequest {
+
+        private final CompletableFuture<SharedResponse> future = new CompletableFuture<>();
+        private int waiters;
+        private boolean closed;
+
+        /**
+         * @return true if the caller may wait for the response, or false if it is too late to share it
+         */
+        synchronized boolean join() {
+            if (closed) {
+                return false;
+            }
+            waiters++;
+            return true;
+        }
+
+        synchronized boolean closeAndHasWaiters() {
+            closed = true;
+            return waiters > 0;
+        }
+
+        void fail(Chain chain, Exception e) {
+            closeAndHasWaiters();
+            if (chain.call().isCanceled()) {
+                future.complete(null);
+            } else {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class SharedResponse {
+
+        private final Response response;
+        private final byte[] body;
+        private final MediaType contentType;
+
+        private SharedResponse(Response response, byte[] body, MediaType contentType) {
+            this.response = response;
+            this.body = body;
+            this.contentType = contentType;
+        }
+
+        static SharedResponse of(Response response) throws IOException {
+            try (ResponseBody responseBody = response.body()) {
+                if (isNull(responseBody)) {
+                    return new SharedResponse(response, new byte[0], null);
+                }
+                return new SharedResponse(response, responseBody.bytes(), responseBody.contentType());
+            }
+        }
+
+        Response toResponse(Request request) {
+            return response.newBuilder()
+                    .request(request)
+                    .body(ResponseBody.create(body, contentType))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.kiwiproject.consul.util;
+
+import static java.util.Objects.nonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Static utilities to create virtual threads when running on Java 21 or later.
+ * <p>
+ * This library is compiled for Java 17, so the virtual thread APIs are looked up reflectively
+ * once, when this class is initialized. Use {@link #isSupported()} to check whether they are available.
+ */
+public class VirtualThreads {
+
+    private static final MethodHandle OF_VIRTUAL;
+    private static final MethodHandle NAME;
+    private static final MethodHandle FACTORY;
+    private static final MethodHandle NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle name = null;
+        MethodHandle factory = null;
+        MethodHandle newThreadPerTaskExecutor = null;
+        try {
+            var lookup = MethodHandles.publicLookup();
+            var builderClass = Class.forName("java.lang.Thread$Builder");
+            var virtualBuilderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(virtualBuilderClass));
+            name = lookup.findVirtual(virtualBuilderClass, "name",
+                    MethodType.methodType(virtualBuilderClass, String.class, long.class));
+            factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+            newThreadPerTaskExecutor = lookup.findStatic(Executors.class, "newThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+        } catch (ReflectiveOperationException e) {
+            // running on a JDK without virtual threads
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+        // utility class
+    }
+
+    /**
+     * @return true if the running JVM supports virtual threads
+     */
+    public static boolean isSupported() {
+        return nonNull(NEW_THREAD_PER_TASK_EXECUTOR);
+    }
+
+    /**
+     * Create a factory for virtual threads named using the given prefix followed by a counter starting at zero.
+     *
+     * @param namePrefix the thread name prefix
+     * @return a new ThreadFactory that creates virtual threads
+     * @throws IllegalStateException if virtual threads are not supported by the running JVM
+     */
+    public static ThreadFactory newThreadFactory(String namePrefix) {
+        checkSupported();
+        try {
+            var builder = OF_VIRTUAL.invoke();
+            builder = NAME.invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Unable to create virtual thread factory", e);
+        }
+    }
+
+    /**
+     * Create an executor that starts a new virtual thread for each task.
+     *
+     * @param namePrefix the thread name prefix
+     * @return a new ExecutorService that runs each task in its own virtual thread
+     * @throws IllegalStateException if virtual threads are not supported by the running JVM
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        var threadFactory = newThreadFactory(namePrefix);
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(threadFactory);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Unable to create virtual thread executor", e);
+        }
+    }
+
+    @VisibleForTesting
+    static void checkSupported() {
+        if (!isSupported()) {
+            throw new IllegalStateException("Virtual threads require Java 21 or later; running on Java "
+                    + Runtime.version().feature());
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.kiwiproject.consul.util.failover.strategy.ConsulFailoverStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Optional;
 
@@ -115,10 +116,22 @@ public class ConsulFailoverInterceptor implements Interceptor {
                         // Cache for the next cycle if needed
                         previousRequest = nextRequest;
 
+                        strategy.markRequestStarted(nextRequest);
+                        var startNanos = System.nanoTime();
+
                         // Anything other than an exception is valid here.
                         // This is because a 400-series error is a valid code (Permission Denied/Key Not Found)
-                        return chain.proceed(nextRequest);
+                        var response = chain.proceed(nextRequest);
+                        strategy.markRequestCompleted(nextRequest, response,
+                                Duration.ofNanos(System.nanoTime() - startNanos));
+                        return response;
                     } catch (Exception ex) {
+                        // A cancelled call fails on every server, and says nothing about this one
+                        if (chain.call().isCanceled()) {
+                            strategy.markRequestCancelled(nextRequest);
+                            throw new ConsulException("Request to " + nextRequest.url() + " was cancelled", ex);
+                        }
+
                         logExceptionThrownOnRequest(LOG, ex, nextRequest);
                         strategy.markRequestFailed(nextRequest);
                         exception = ex;
@@ -5,6 +5,7 @@ import okhttp3.Response;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Optional;
 
 /**
@@ -58,6 +59,46 @@ public interface ConsulFailoverStrategy {
      */
     void markRequestFailed(@NonNull Request request);
 
+    /**
+     * Called just before the specified request is sent, i.e., before each attempt. Implementations that balance
+     * load between servers can use this to count the requests in flight to each one.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param request the request about to be sent, as returned by {@link #computeNextStage(Request)}
+     */
+    default void markRequestStarted(@NonNull Request request) {
+        // no-op
+    }
+
+    /**
+     * Called when the specified request received a response, whatever its status code. Each request passed to
+     * {@link #markRequestStarted(Request)} is then passed to exactly one of this method,
+     * {@link #markRequestFailed(Request)}, or {@link #markRequestCancelled(Request)}.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param request  the request that was sent
+     * @param response the response; its body must not be consumed
+     * @param latency  the time from sending the request until the response headers were received
+     */
+    default void markRequestCompleted(@NonNull Request request, @NonNull Response response, @NonNull Duration latency) {
+        // no-op
+    }
+
+    /**
+     * Called instead of {@link #markRequestFailed(Request)} when the specified request failed because the caller
+     * cancelled it. A cancellation says nothing about the server, so implementations should not count it against
+     * the server, and no other server is tried.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param request the request that was cancelled
+     */
+    default void markRequestCancelled(@NonNull Request request) {
+        // no-op
+    }
+
     /**
      * Reset the state when all options are exhausted (if needed).
      * <p>
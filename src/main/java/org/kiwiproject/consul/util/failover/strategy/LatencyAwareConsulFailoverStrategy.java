@@ -0,0 +1,290 @@
+package org.kiwiproject.consul.util.failover.strategy;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toUnmodifiableMap;
+import static org.kiwiproject.consul.util.HostAndPorts.hostAndPortFromOkHttpRequest;
+import static org.kiwiproject.consul.util.Http.isBlockingQuery;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.net.HostAndPort;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A {@link ConsulFailoverStrategy} that sends each request to the Consul server likely to answer it fastest, so that
+ * a server which is degraded but still up receives few requests.
+ * <p>
+ * For each server, this strategy tracks an exponentially weighted moving average (EWMA) of its response times and
+ * the number of requests in flight to it. The cost of a server is its average response time multiplied by one
+ * more than its requests in flight. Each request goes to the cheaper of two servers picked at random
+ * ("power of two choices"), which avoids sending every request to the same server at once, as always picking the
+ * cheapest server would.
+ * <p>
+ * The average is peak-sensitive: a response slower than the average replaces it immediately, while faster responses
+ * pull it down gradually. The average also decays toward zero while a server receives no requests, at a rate set
+ * by the decay time, so a server that was slow or failed gets requests again after a while.
+ * <p>
+ * A failed request, or a response with a 5xx status code, counts as a response that took the failure penalty.
+ * A server that failed is not tried again for the same request; when every server has failed, the request is
+ * aborted. A request cancelled by the caller only stops counting as in flight, and is not retried. Blocking queries
+ * do not affect the averages or the requests in flight, since their response time depends on when the data changes
+ * rather than on the server.
+ */
+public class LatencyAwareConsulFailoverStrategy implements ConsulFailoverStrategy {
+
+    /**
+     * The default time for the average response time of a server to decay by a factor of <em>e</em>.
+     */
+    public static final Duration DEFAULT_DECAY_TIME = Duration.ofSeconds(10);
+
+    /**
+     * The default response time recorded for a failed request.
+     */
+    public static final Duration DEFAULT_FAILURE_PENALTY = Duration.ofSeconds(5);
+
+    private final List<TargetStats> targets;
+    private final Map<HostAndPort, TargetStats> targetsByHostAndPort;
+    private final double decayNanos;
+    private final long failurePenaltyNanos;
+    private final Ticker ticker;
+
+    // the targets that failed during the current request on this thread; null until one fails
+    private final ThreadLocal<Set<HostAndPort>> failedTargetsThreadLocal = new ThreadLocal<>();
+
+    /**
+     * Create a new instance with the given Consul target servers, using the default decay time and failure penalty.
+     *
+     * @param targets the Consul servers
+     */
+    public LatencyAwareConsulFailoverStrategy(Collection<HostAndPort> targets) {
+        this(targets, DEFAULT_DECAY_TIME, DEFAULT_FAILURE_PENALTY);
+    }
+
+    /**
+     * Create a new instance with the given Consul target servers.
+     *
+     * @param targets        the Consul servers
+     * @param decayTime      the time for the average response time of a server to decay by a factor of <em>e</em>;
+     *                       shorter times react faster but are noisier
+     * @param failurePenalty the response time recorded for a failed request
+     */
+    public LatencyAwareConsulFailoverStrategy(Collection<HostAndPort> targets,
+                                              Duration decayTime,
+                                              Duration failurePenalty) {
+        this(targets, decayTime, failurePenalty, Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    LatencyAwareConsulFailoverStrategy(Collection<HostAndPort> targets,
+                                       Duration decayTime,
+                                       Duration failurePenalty,
+                                       Ticker ticker) {
+        checkArgument(nonNull(targets) && !targets.isEmpty(), "targets must not be null or empty");
+        this.targets = targets.stream().distinct().map(TargetStats::new).toList();
+        this.targetsByHostAndPort = this.targets.stream()
+                .collect(toUnmodifiableMap(TargetStats::getTarget, Function.identity()));
+
+        checkArgument(nonNull(decayTime), "decayTime must not be null");
+        checkArgument(decayTime.isPositive(), "decayTime must be positive");
+        this.decayNanos = decayTime.toNanos();
+
+        checkArgument(nonNull(failurePenalty), "failurePenalty must not be null");
+        checkArgument(failurePenalty.isPositive(), "failurePenalty must be positive");
+        this.failurePenaltyNanos = failurePenalty.toNanos();
+
+        this.ticker = ticker;
+    }
+
+    @NonNull
+    @Override
+    public Optional<Request> computeNextStage(Request previousRequest) {
+        return computeNextStage(previousRequest, null);
+    }
+
+    @SuppressWarnings("removal")
+    @NonNull
+    @Override
+    public Optional<Request> computeNextStage(@NonNull Request previousRequest, @Nullable Response previousResponse) {
+        return chooseTarget().map(target -> {
+            HttpUrl nextURL = previousRequest.url().newBuilder()
+                    .host(target.getHost())
+                    .port(target.getPort())
+                    .build();
+            return previousRequest.newBuilder().url(nextURL).build();
+        });
+    }
+
+    private Optional<HostAndPort> chooseTarget() {
+        var failedTargets = failedTargetsThreadLocal.get();
+        var candidates = isNull(failedTargets) ? targets : targets.stream()
+                .filter(stats -> !failedTargets.contains(stats.getTarget()))
+                .toList();
+
+        return switch (candidates.size()) {
+            case 0 -> Optional.empty();
+            case 1 -> Optional.of(candidates.get(0).getTarget());
+            default -> Optional.of(cheaperOfTwo(candidates).getTarget());
+        };
+    }
+
+    private TargetStats cheaperOfTwo(List<TargetStats> candidates) {
+        var random = ThreadLocalRandom.current();
+        var first = random.nextInt(candidates.size());
+        var second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        var now = ticker.read();
+        var a = candidates.get(first);
+        var b = candidates.get(second);
+        return a.cost(now, decayNanos) <= b.cost(now, decayNanos) ? a : b;
+    }
+
+    @Override
+    public boolean isRequestViable(@NonNull Request request) {
+        var failedTargets = failedTargetsThreadLocal.get();
+        return isNull(failedTargets) || failedTargets.size() < targets.size();
+    }
+
+    @Override
+    public void markRequestStarted(@NonNull Request request) {
+        if (isBlockingQuery(request)) {
+            return;
+        }
+
+        var stats = targetsByHostAndPort.get(hostAndPortFromOkHttpRequest(request));
+        if (nonNull(stats)) {
+            stats.inFlight.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void markRequestCompleted(@NonNull Request request, @NonNull Response response, @NonNull Duration latency) {
+        if (isBlockingQuery(request)) {
+            return;
+        }
+
+        var stats = targetsByHostAndPort.get(hostAndPortFromOkHttpRequest(request));
+        if (nonNull(stats)) {
+            stats.decrementInFlight();
+            var latencyNanos = response.code() >= 500 ? failurePenaltyNanos : latency.toNanos();
+            stats.observe(latencyNanos, ticker.read(), decayNanos);
+        }
+    }
+
+    @Override
+    public void markRequestFailed(@NonNull Request request) {
+        var target = hostAndPortFromOkHttpRequest(request);
+
+        var failedTargets = failedTargetsThreadLocal.get();
+        if (isNull(failedTargets)) {
+            failedTargets = new HashSet<>();
+            failedTargetsThreadLocal.set(failedTargets);
+        }
+        failedTargets.add(target);
+
+        var stats = targetsByHostAndPort.get(target);
+        if (nonNull(stats)) {
+            // a failed blocking query says as much about the server as any other failed request,
+            // but blocking queries were not counted as in flight
+            if (!isBlockingQuery(request)) {
+                stats.decrementInFlight();
+            }
+            stats.observe(failurePenaltyNanos, ticker.read(), decayNanos);
+        }
+    }
+
+    @Override
+    public void markRequestCancelled(@NonNull Request request) {
+        if (isBlockingQuery(request)) {
+            return;
+        }
+
+        var stats = targetsByHostAndPort.get(hostAndPortFromOkHttpRequest(request));
+        if (nonNull(stats)) {
+            stats.decrementInFlight();
+        }
+    }
+
+    @Override
+    public void reset() {
+        failedTargetsThreadLocal.remove();
+    }
+
+    @VisibleForTesting
+    TargetStats statsFor(HostAndPort target) {
+        return targetsByHostAndPort.get(target);
+    }
+
+    /**
+     * The response time average and requests in flight of one server.
+     */
+    @VisibleForTesting
+    static final class TargetStats {
+
+        private final HostAndPort target;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double averageNanos;
+        private long lastObservedAtNanos;
+
+        TargetStats(HostAndPort target) {
+            this.target = target;
+        }
+
+        HostAndPort getTarget() {
+            return target;
+        }
+
+        int getInFlight() {
+            return inFlight.get();
+        }
+
+        void decrementInFlight() {
+            inFlight.updateAndGet(count -> Math.max(count - 1, 0));
+        }
+
+        synchronized void observe(long latencyNanos, long nowNanos, double decayNanos) {
+            if (latencyNanos > averageNanos) {
+                averageNanos = latencyNanos;
+            } else {
+                var weight = decayWeight(nowNanos, decayNanos);
+                averageNanos = averageNanos * weight + latencyNanos * (1 - weight);
+            }
+            lastObservedAtNanos = nowNanos;
+        }
+
+        synchronized double averageNanos(long nowNanos, double decayNanos) {
+            return averageNanos * decayWeight(nowNanos, decayNanos);
+        }
+
+        /**
+         * Servers without a recorded response time are compared by their requests in flight alone.
+         */
+        double cost(long nowNanos, double decayNanos) {
+            return (averageNanos(nowNanos, decayNanos) + 1) * (inFlight.get() + 1);
+        }
+
+        private double decayWeight(long nowNanos, double decayNanos) {
+            var elapsed = Math.max(nowNanos - lastObservedAtNanos, 0);
+            return Math.exp(-elapsed / decayNanos);
+        }
+    }
+}
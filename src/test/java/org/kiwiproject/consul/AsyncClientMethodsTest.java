@@ -0,0 +1,575 @@
+package org.kiwiproject.consul;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kiwiproject.consul.config.ClientConfig;
+import org.kiwiproject.consul.model.State;
+import org.kiwiproject.consul.model.catalog.CatalogNode;
+import org.kiwiproject.consul.model.coordinate.Coordinate;
+import org.kiwiproject.consul.model.event.Event;
+import org.kiwiproject.consul.model.health.HealthCheck;
+import org.kiwiproject.consul.model.health.ServiceHealth;
+import org.kiwiproject.consul.model.kv.DecodedValue;
+import org.kiwiproject.consul.model.kv.Value;
+import org.kiwiproject.consul.model.operator.RaftConfiguration;
+import org.kiwiproject.consul.model.query.QueryId;
+import org.kiwiproject.consul.model.query.StoredQuery;
+import org.kiwiproject.consul.monitoring.NoOpClientEventCallback;
+import org.kiwiproject.consul.option.Options;
+import retrofit2.Call;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.mock.Calls;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the CompletableFuture-based methods of the clients: each completes with the response, completes
+ * exceptionally with a {@link ConsulException} for an error status, and cancels the HTTP call when cancelled.
+ */
+@DisplayName("Async client methods")
+class AsyncClientMethodsTest {
+
+    private Retrofit retrofit;
+    private ClientConfig config;
+    private NoOpClientEventCallback eventCallback;
+    private NetworkTimeoutConfig networkTimeoutConfig;
+
+    @BeforeEach
+    void setUp() {
+        retrofit = mock(Retrofit.class);
+        config = new ClientConfig();
+        eventCallback = new NoOpClientEventCallback();
+        networkTimeoutConfig = new NetworkTimeoutConfig.Builder().build();
+    }
+
+    private <A> A mockApi(Class<A> apiClass) {
+        A api = mock(apiClass);
+        when(retrofit.create(apiClass)).thenReturn(api);
+        return api;
+    }
+
+    @Nested
+    class HealthClientAsync {
+
+        private HealthClient.Api api;
+        private HealthClient client;
+
+        @BeforeEach
+        void setUp() {
+            api = mockApi(HealthClient.Api.class);
+            client = new HealthClient(retrofit, config, eventCallback, networkTimeoutConfig);
+        }
+
+        @Test
+        void shouldCompleteWithChecks() {
+            List<HealthCheck> checks = List.of(mock(HealthCheck.class));
+            when(api.getNodeChecks(eq("node1"), anyMap(), any(), any(), anyMap())).thenReturn(success(checks));
+            when(api.getServiceChecks(eq("api"), anyMap(), any(), any(), anyMap())).thenReturn(success(checks));
+            when(api.getChecksByState(eq("critical"), anyMap(), any(), any(), anyMap())).thenReturn(success(checks));
+
+            assertThat(completed(client.getNodeChecksAsync("node1", Options.BLANK_QUERY_OPTIONS)).getResponse())
+                    .isSameAs(checks);
+            assertThat(completed(client.getServiceChecksAsync("api", Options.BLANK_QUERY_OPTIONS)).getResponse())
+                    .isSameAs(checks);
+            assertThat(completed(client.getChecksByStateAsync(State.FAIL, Options.BLANK_QUERY_OPTIONS))
+                    .getIndex())
+                    .isEqualTo(BigInteger.TEN);
+        }
+
+        @Test
+        void shouldCompleteWithServiceInstances() {
+            List<ServiceHealth> instances = List.of(mock(ServiceHealth.class));
+            when(api.getServiceInstances(eq("api"), anyMap(), any(), any(), anyMap()))
+                    .thenReturn(success(instances), success(instances));
+
+            assertThat(completed(client.getHealthyServiceInstancesAsync("api", Options.BLANK_QUERY_OPTIONS))
+                    .getResponse())
+                    .isSameAs(instances);
+            assertThat(completed(client.getAllServiceInstancesAsync("api", Options.BLANK_QUERY_OPTIONS))
+                    .getResponse())
+                    .isSameAs(instances);
+            verify(api).getServiceInstances(eq("api"), eq(Map.of("passing", "true")), any(), any(), anyMap());
+        }
+
+        @Test
+        void shouldCompleteExceptionally_WhenStatusIsError() {
+            when(api.getServiceInstances(anyString(), anyMap(), any(), any(), anyMap())).thenReturn(error(500));
+
+            assertFailsWithConsulException(client.getAllServiceInstancesAsync("api", Options.BLANK_QUERY_OPTIONS));
+        }
+
+        @Test
+        void shouldCancelCall_WhenFutureIsCancelled() {
+            Call<List<ServiceHealth>> call = mock();
+            when(api.getServiceInstances(anyString(), anyMap(), any(), any(), anyMap())).thenReturn(call);
+
+            client.getHealthyServiceInstancesAsync("api", Options.BLANK_QUERY_OPTIONS).cancel(true);
+
+            verify(call).cancel();
+        }
+    }
+
+    @Nested
+    class CatalogClientAsync {
+
+        private CatalogClient.Api api;
+        private CatalogClient client;
+
+        @BeforeEach
+        void setUp() {
+            api = mockApi(CatalogClient.Api.class);
+            client = new CatalogClient(retrofit, config, eventCallback, networkTimeoutConfig);
+        }
+
+        @Test
+        void shouldCompleteWithResponses() {
+            when(api.getDatacenters(anyMap())).thenReturn(success(List.of("dc1")));
+            when(api.getNodes(anyMap(), any(), any(), anyMap())).thenReturn(success(List.of()));
+            when(api.getServices(anyMap(), any(), any(), anyMap())).thenReturn(success(Map.of("api", List.of())));
+            when(api.getService(eq("api"), anyMap(), any(), any(), anyMap())).thenReturn(success(List.of()));
+            var node = mock(CatalogNode.class);
+            when(api.getNode(eq("node1"), anyMap(), any(), any(), anyMap())).thenReturn(success(node));
+
+            assertThat(completed(client.getDatacentersAsync(Options.BLANK_QUERY_OPTIONS))).containsExactly("dc1");
+            assertThat(completed(client.getNodesAsync(Options.BLANK_QUERY_OPTIONS)).getResponse()).isEmpty();
+            assertThat(completed(client.getServicesAsync(Options.BLANK_QUERY_OPTIONS)).getResponse())
+                    .containsOnlyKeys("api");
+            assertThat(completed(client.getServiceAsync("api", Options.BLANK_QUERY_OPTIONS)).getResponse())
+                    .isEmpty();
+            assertThat(completed(client.getNodeAsync("node1", Options.BLANK_QUERY_OPTIONS)).getResponse())
+                    .isSameAs(node);
+        }
+
+        @Test
+        void shouldCompleteExceptionally_WhenStatusIsError() {
+            when(api.getNode(anyString(), anyMap(), any(), any(), anyMap())).thenReturn(error(500));
+
+            assertFailsWithConsulException(client.getNodeAsync("node1", Options.BLANK_QUERY_OPTIONS));
+        }
+
+        @Test
+        void shouldCancelCall_WhenFutureIsCancelled() {
+            Call<Map<String, List<String>>> call = mock();
+            when(api.getServices(anyMap(), any(), any(), anyMap())).thenReturn(call);
+
+            client.getServicesAsync(Options.BLANK_QUERY_OPTIONS).cancel(true);
+
+            verify(call).cancel();
+        }
+    }
+
+    @Nested
+    class KeyValueClientAsync {
+
+        private KeyValueClient.Api api;
+        private KeyValueClient client;
+
+        @BeforeEach
+        void setUp() {
+            api = mock(KeyValueClient.Api.class);
+            client = new KeyValueClient(api, config, eventCallback, networkTimeoutConfig);
+        }
+
+        @Test
+        void shouldCompleteWithValues() {
+            var value = mock(Value.class);
+            when(api.getValue(eq("key"), anyMap())).thenReturn(success(List.of(value)), success(List.of(value)));
+            var decodedValue = mock(DecodedValue.class);
+            when(api.getDecodedValue(eq("key"), anyMap()))
+                    .thenReturn(success(List.of(decodedValue)), success(List.of(decodedValue)));
+
+            assertThat(completed(client.getValueAsync("/key", Options.BLANK_QUERY_OPTIONS))).containsSame(value);
+            assertThat(completed(client.getValuesAsync("key", Options.BLANK_QUERY_OPTIONS))).containsExactly(value);
+            assertThat(completed(client.getDecodedValueAsync("key", Options.BLANK_QUERY_OPTIONS)))
+                    .containsSame(decodedValue);
+            assertThat(completed(client.getDecodedValuesAsync("key", Options.BLANK_QUERY_OPTIONS)))
+                    .containsExactly(decodedValue);
+        }
+
+        @Test
+        void shouldCompleteWithRawValueAndKeys() {
+            var body = ResponseBody.create(new byte[] { 1, 2 }, MediaType.parse("application/octet-stream"));
+            when(api.getRawValue(eq("key"), anyMap())).thenReturn(success(body));
+            when(api.getKeys(eq("key"), anyMap())).thenReturn(success(List.of("key/a", "key/b")));
+
+            assertThat(completed(client.getRawValueAsync("key", Options.BLANK_QUERY_OPTIONS)))
+                    .hasValueSatisfying(bytes -> assertThat(bytes).containsExactly(1, 2));
+            assertThat(completed(client.getKeysAsync("key", "/", Options.BLANK_QUERY_OPTIONS)))
+                    .containsExactly("key/a", "key/b");
+            verify(api).getKeys("key", Map.of("keys", "true", "separator", "/"));
+        }
+
+        @Test
+        void shouldCompleteWithEmptyResults_WhenKeyDoesNotExist() {
+            when(api.getValue(anyString(), anyMap())).thenReturn(error(404), error(404));
+            when(api.getRawValue(anyString(), anyMap())).thenReturn(error(404));
+            when(api.getKeys(anyString(), anyMap())).thenReturn(error(404));
+
+            assertThat(completed(client.getValueAsync("key", Options.BLANK_QUERY_OPTIONS))).isEmpty();
+            assertThat(completed(client.getValuesAsync("key", Options.BLANK_QUERY_OPTIONS))).isEmpty();
+            assertThat(completed(client.getRawValueAsync("key", Options.BLANK_QUERY_OPTIONS))).isEmpty();
+            assertThat(completed(client.getKeysAsync("key", null, Options.BLANK_QUERY_OPTIONS))).isEmpty();
+        }
+
+        @Test
+        void shouldCompleteExceptionally_WhenStatusIsError() {
+            when(api.getValue(anyString(), anyMap())).thenReturn(error(403));
+
+            assertFailsWithConsulException(client.getValueAsync("key", Options.BLANK_QUERY_OPTIONS));
+        }
+
+        @Test
+        void shouldCancelCall_WhenFutureIsCancelled() {
+            Call<List<String>> call = mock();
+            when(api.getKeys(anyString(), anyMap())).thenReturn(call);
+
+            client.getKeysAsync("key", null, Options.BLANK_QUERY_OPTIONS).cancel(true);
+
+            verify(call).cancel();
+        }
+    }
+
+    @Nested
+    class AgentClientAsync {
+
+        private AgentClient.Api api;
+        private AgentClient client;
+
+        @BeforeEach
+        void setUp() {
+            api = mockApi(AgentClient.Api.class);
+            client = new AgentClient(retrofit, config, eventCallback, networkTimeoutConfig);
+        }
+
+        @Test
+        void shouldComplete_WhenRequestsSucceed() {
+            when(api.ping()).thenReturn(success(null));
+            when(api.join(eq("10.0.0.2"), anyMap())).thenReturn(success(null));
+            when(api.check(eq("pass"), eq("service:api"), anyMap())).thenReturn(success(null));
+
+            assertThat(client.pingAsync()).succeedsWithin(1, TimeUnit.SECONDS);
+            assertThat(client.joinAsync("10.0.0.2", Options.BLANK_QUERY_OPTIONS)).succeedsWithin(1, TimeUnit.SECONDS);
+            assertThat(client.checkTtlAsync("api", State.PASS, null)).succeedsWithin(1, TimeUnit.SECONDS);
+        }
+
+        @Test
+        void shouldCompleteExceptionally_WhenStatusIsError() {
+            when(api.join(anyString(), anyMap())).thenReturn(error(500));
+
+            assertFailsWithConsulException(client.joinAsync("10.0.0.2", Options.BLANK_QUERY_OPTIONS));
+        }
+
+        @Test
+        void shouldCancelCall_WhenFutureIsCancelled() {
+            Call<Void> call = mock();
+            when(api.ping()).thenReturn(call);
+
+            client.pingAsync().cancel(true);
+
+            verify(call).cancel();
+        }
+    }
+
+    @Nested
+    class EventClientAsync {
+
+        private EventClient.Api api;
+        private EventClient client;
+
+        @BeforeEach
+        void setUp() {
+            api = mockApi(EventClient.Api.class);
+            client = new EventClient(retrofit, config, eventCallback);
+        }
+
+        @Test
+        void shouldCompleteWithEvents() {
+            var event = mock(Event.class);
+            when(api.fireEvent(eq("deploy"), any(RequestBody.class), anyMap())).thenReturn(success(event));
+            when(api.fireEvent(eq("restart"), anyMap())).thenReturn(success(event));
+            when(api.listEvents(anyMap())).thenReturn(success(List.of(event)));
+
+            assertThat(completed(client.fireEventAsync("deploy", Options.BLANK_EVENT_OPTIONS, "v2"))).isSameAs(event);
+            assertThat(completed(client.fireEventAsync("restart", Options.BLANK_EVENT_OPTIONS, null))).isSameAs(event);
+
+            var eventResponse = completed(client.listEventsAsync("deploy", Options.BLANK_QUERY_OPTIONS));
+            assertThat(eventResponse.getEvents()).containsExactly(event);
+            assertThat(eventResponse.getIndex()).isEqualTo(BigInteger.TEN);
+            verify(api).listEvents(Map.of("name", "deploy"));
+        }
+
+        @Test
+        void shouldCompleteExceptionally_WhenStatusIsError() {
+            when(api.listEvents(anyMap())).thenReturn(error(500));
+
+            assertFailsWithConsulException(client.listEventsAsync(null, Options.BLANK_QUERY_OPTIONS));
+        }
+
+        @Test
+        void shouldCancelCall_WhenFutureIsCancelled() {
+            Call<List<Event>> call = mock();
+            when(api.listEvents(anyMap())).thenReturn(call);
+
+            client.listEventsAsync(null, Options.BLANK_QUERY_OPTIONS).cancel(true);
+
+            verify(call).cancel();
+        }
+    }
+
+    @Nested
+    class StatusClientAsync {
+
+        private StatusClient.Api api;
+        private StatusClient client;
+
+        @BeforeEach
+        void setUp() {
+            api = mockApi(StatusClient.Api.class);
+            client = new StatusClient(retrofit, config, eventCallback);
+        }
+
+        @Test
+        void shouldCompleteWithLeaderAndPeers() {
+            when(api.getLeader(anyMap())).thenReturn(success("\"127.0.0.1:8300\""));
+            when(api.getPeers(anyMap())).thenReturn(success(List.of("127.0.0.1:8300")));
+
+            assertThat(completed(client.getLeaderAsync(Options.BLANK_QUERY_OPTIONS))).isEqualTo("127.0.0.1:8300");
+            assertThat(completed(client.getPeersAsync(Options.BLANK_QUERY_OPTIONS))).containsExactly("127.0.0.1:8300");
+        }
+
+        @Test
+        void shouldCompleteExceptionally_WhenStatusIsError() {
+            when(api.getLeader(anyMap())).thenReturn(error(500));
+
+            assertFailsWithConsulException(client.getLeaderAsync(Options.BLANK_QUERY_OPTIONS));
+        }
+
+        @Test
+        void shouldCancelCall_WhenFutureIsCancelled() {
+            Call<String> call = mock();
+            when(api.getLeader(anyMap())).thenReturn(call);
+
+            client.getLeaderAsync(Options.BLANK_QUERY_OPTIONS).cancel(true);
+
+            verify(call).cancel();
+        }
+    }
+
+    @Nested
+    class CoordinateClientAsync {
+
+        private CoordinateClient.Api api;
+        private CoordinateClient client;
+
+        @BeforeEach
+        void setUp() {
+            api = mockApi(CoordinateClient.Api.class);
+            client = new CoordinateClient(retrofit, config, eventCallback);
+        }
+
+        @Test
+        void shouldCompleteWithCoordinates() {
+            var coordinate = mock(Coordinate.class);
+            when(api.getDatacenters()).thenReturn(success(List.of()));
+            when(api.getNodes(Map.of("dc", "dc1"))).thenReturn(success(List.of(coordinate)));
+
+            assertThat(completed(client.getDatacentersAsync())).isEmpty();
+            assertThat(completed(client.getNodesAsync("dc1"))).containsExactly(coordinate);
+        }
+
+        @Test
+        void shouldCompleteExceptionally_WhenStatusIsError() {
+            when(api.getNodes(anyMap())).thenReturn(error(500));
+
+            assertFailsWithConsulException(client.getNodesAsync(null));
+        }
+
+        @Test
+        void shouldCancelCall_WhenFutureIsCancelled() {
+            Call<List<Coordinate>> call = mock();
+            when(api.getNodes(anyMap())).thenReturn(call);
+
+            client.getNodesAsync(null).cancel(true);
+
+            verify(call).cancel();
+        }
+    }
+
+    @Nested
+    class PreparedQueryClientAsync {
+
+        private PreparedQueryClient.Api api;
+        private PreparedQueryClient client;
+
+        @BeforeEach
+        void setUp() {
+            api = mockApi(PreparedQueryClient.Api.class);
+            client = new PreparedQueryClient(retrofit, config, eventCallback);
+        }
+
+        @Test
+        void shouldCompleteWithQueries() {
+            var queryId = mock(QueryId.class);
+            when(queryId.getId()).thenReturn("query-1");
+            when(api.createPreparedQuery(any(), anyMap())).thenReturn(success(queryId));
+            var storedQuery = mock(StoredQuery.class);
+            when(api.getPreparedQueries(anyMap())).thenReturn(success(List.of(storedQuery)));
+            when(api.getPreparedQuery(eq("query-1"), anyMap())).thenReturn(success(List.of(storedQuery)));
+            when(api.deletePreparedQuery(eq("query-1"), anyMap())).thenReturn(success(null));
+
+            assertThat(completed(client.createPreparedQueryAsync(null, "dc1"))).isEqualTo("query-1");
+            assertThat(completed(client.getPreparedQueriesAsync(null))).containsExactly(storedQuery);
+            assertThat(completed(client.getPreparedQueryAsync("query-1", null))).containsSame(storedQuery);
+            assertThat(client.deletePreparedQueryAsync("query-1", null)).succeedsWithin(1, TimeUnit.SECONDS);
+            verify(api).createPreparedQuery(null, Map.of("dc", "dc1"));
+        }
+
+        @Test
+        void shouldCompleteExceptionally_WhenStatusIsError() {
+            when(api.execute(anyString(), anyMap())).thenReturn(error(500));
+
+            assertFailsWithConsulException(client.executeAsync("query-1", Options.BLANK_QUERY_OPTIONS));
+        }
+
+        @Test
+        void shouldCancelCall_WhenFutureIsCancelled() {
+            Call<List<StoredQuery>> call = mock();
+            when(api.getPreparedQuery(anyString(), anyMap())).thenReturn(call);
+
+            client.getPreparedQueryAsync("query-1", null).cancel(true);
+
+            verify(call).cancel();
+        }
+    }
+
+    @Nested
+    class OperatorClientAsync {
+
+        private OperatorClient.Api api;
+        private OperatorClient client;
+
+        @BeforeEach
+        void setUp() {
+            api = mockApi(OperatorClient.Api.class);
+            client = new OperatorClient(retrofit, config, eventCallback);
+        }
+
+        @Test
+        void shouldCompleteWithRaftConfiguration() {
+            var raftConfiguration = mock(RaftConfiguration.class);
+            when(api.getConfiguration(Map.of())).thenReturn(success(raftConfiguration));
+            when(api.getConfiguration(Map.of("dc", "dc1", "stale", "true"))).thenReturn(success(raftConfiguration));
+            when(api.deletePeer("10.0.0.2:8300", Map.of())).thenReturn(success(null));
+
+            assertThat(completed(client.getRaftConfigurationAsync(null))).isSameAs(raftConfiguration);
+            assertThat(completed(client.getStaleRaftConfigurationAsync("dc1"))).isSameAs(raftConfiguration);
+            assertThat(client.deletePeerAsync("10.0.0.2:8300", null)).succeedsWithin(1, TimeUnit.SECONDS);
+        }
+
+        @Test
+        void shouldCompleteExceptionally_WhenStatusIsError() {
+            when(api.deletePeer(anyString(), anyMap())).thenReturn(error(500));
+
+            assertFailsWithConsulException(client.deletePeerAsync("10.0.0.2:8300", "dc1"));
+        }
+
+        @Test
+        void shouldCancelCall_WhenFutureIsCancelled() {
+            Call<RaftConfiguration> call = mock();
+            when(api.getConfiguration(anyMap())).thenReturn(call);
+
+            client.getRaftConfigurationAsync("dc1").cancel(true);
+
+            verify(call).cancel();
+        }
+    }
+
+    @Nested
+    class SnapshotClientAsync {
+
+        private SnapshotClient.Api api;
+        private SnapshotClient client;
+
+        @BeforeEach
+        void setUp() {
+            api = mockApi(SnapshotClient.Api.class);
+            client = new SnapshotClient(retrofit, config, eventCallback);
+        }
+
+        @Test
+        void shouldSaveAndRestoreSnapshot(@TempDir Path tempDir) throws IOException {
+            var snapshotFile = tempDir.resolve("backup.snap").toFile();
+            var body = ResponseBody.create("snapshot", MediaType.parse("application/x-gzip"));
+            when(api.generateSnapshot(anyMap())).thenReturn(success(body));
+            when(api.restoreSnapshot(anyMap(), any(RequestBody.class))).thenReturn(success(null));
+
+            assertThat(completed(client.saveAsync(snapshotFile, Options.BLANK_QUERY_OPTIONS)))
+                    .isEqualTo(BigInteger.TEN);
+            assertThat(Files.readString(snapshotFile.toPath())).isEqualTo("snapshot");
+
+            assertThat(client.restoreAsync(snapshotFile, Options.BLANK_QUERY_OPTIONS))
+                    .succeedsWithin(1, TimeUnit.SECONDS);
+        }
+
+        @Test
+        void shouldCompleteExceptionally_WhenStatusIsError(@TempDir Path tempDir) {
+            when(api.generateSnapshot(anyMap())).thenReturn(error(403));
+
+            assertFailsWithConsulException(client.saveAsync(tempDir.resolve("backup.snap").toFile(),
+                    Options.BLANK_QUERY_OPTIONS));
+        }
+
+        @Test
+        void shouldCancelCall_WhenFutureIsCancelled(@TempDir Path tempDir) {
+            Call<ResponseBody> call = mock();
+            when(api.generateSnapshot(anyMap())).thenReturn(call);
+
+            client.saveAsync(tempDir.resolve("backup.snap").toFile(), Options.BLANK_QUERY_OPTIONS).cancel(true);
+
+            verify(call).cancel();
+        }
+    }
+
+    private static <T> Call<T> success(T body) {
+        return Calls.response(Response.success(body, Headers.of("X-Consul-Index", "10")));
+    }
+
+    private static <T> Call<T> error(int statusCode) {
+        return Calls.response(Response.error(statusCode, ResponseBody.create("failure", MediaType.parse("text/plain"))));
+    }
+
+    private static <T> T completed(CompletableFuture<T> future) {
+        return future.orTimeout(1, TimeUnit.SECONDS).join();
+    }
+
+    private static void assertFailsWithConsulException(CompletableFuture<?> future) {
+        assertThat(future).failsWithin(1, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(ConsulException.class);
+    }
+}
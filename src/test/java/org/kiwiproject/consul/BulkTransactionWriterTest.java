@@ -0,0 +1,174 @@
+package org.kiwiproject.consul;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kiwiproject.consul.async.ConsulResponseCallback;
+import org.kiwiproject.consul.model.ConsulResponse;
+import org.kiwiproject.consul.model.kv.ImmutableTxResponse;
+import org.kiwiproject.consul.model.kv.Operation;
+import org.kiwiproject.consul.model.kv.TxResponse;
+import org.kiwiproject.consul.model.kv.Verb;
+import org.kiwiproject.consul.option.Options;
+import org.kiwiproject.consul.option.TransactionOptions;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+class BulkTransactionWriterTest {
+
+    private KeyValueClient keyValueClient;
+    private List<Operation[]> sentChunks;
+    private List<ConsulResponseCallback<TxResponse>> pendingCallbacks;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        keyValueClient = mock(KeyValueClient.class);
+        sentChunks = new CopyOnWriteArrayList<>();
+        pendingCallbacks = new CopyOnWriteArrayList<>();
+
+        doAnswer(invocation -> {
+            pendingCallbacks.add(invocation.getArgument(1));
+            sentChunks.add(invocation.getArgument(2));
+            return null;
+        }).when(keyValueClient).performTransaction(any(TransactionOptions.class), any(ConsulResponseCallback.class),
+                any(Operation[].class));
+    }
+
+    @Test
+    void shouldSplitOperationsIntoChunks() throws InterruptedException {
+        var writer = newWriter(BulkTransactionWriter.MAX_OPERATIONS_PER_TRANSACTION, 10);
+
+        writer.addAll(IntStream.range(0, 150).mapToObj(BulkTransactionWriterTest::setOperation));
+        pendingCallbacks.forEach(callback -> callback.onComplete(successResponse()));
+        var results = writer.finish();
+
+        assertThat(sentChunks).extracting(chunk -> chunk.length).containsExactly(64, 64, 22);
+        assertThat(sentChunks.get(2)[21].key()).contains("key-149");
+        assertThat(results).extracting(BulkTransactionWriter.ChunkResult::getChunkIndex).containsExactly(0, 1, 2);
+        assertThat(results).extracting(BulkTransactionWriter.ChunkResult::getFirstOperationIndex)
+                .containsExactly(0L, 64L, 128L);
+        assertThat(results).allMatch(BulkTransactionWriter.ChunkResult::isSuccessful);
+    }
+
+    @Test
+    void shouldBlock_WhenMaxInFlightIsReached() throws InterruptedException {
+        var writer = newWriter(1, 1);
+        writer.add(setOperation(0));
+
+        var producer = new Thread(() -> {
+            try {
+                writer.add(setOperation(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> producer.getState() == Thread.State.WAITING);
+        assertThat(sentChunks).hasSize(1);
+
+        pendingCallbacks.get(0).onComplete(successResponse());
+        producer.join(5_000);
+
+        assertThat(producer.isAlive()).isFalse();
+        assertThat(sentChunks).hasSize(2);
+
+        pendingCallbacks.get(1).onComplete(successResponse());
+        assertThat(writer.finish()).hasSize(2);
+    }
+
+    @Test
+    void shouldReportErrors_WhenTransactionIsRolledBack() throws InterruptedException {
+        var writer = newWriter(2, 2);
+        writer.addAll(List.of(setOperation(0), setOperation(1), setOperation(2)));
+
+        pendingCallbacks.get(0).onComplete(successResponse());
+        pendingCallbacks.get(1).onFailure(conflict(
+                "{\"Results\":[],\"Errors\":[{\"OpIndex\":0,\"What\":\"failed to set key\"}]}"));
+        var results = writer.finish();
+
+        assertThat(results.get(0).isSuccessful()).isTrue();
+
+        var rolledBack = results.get(1);
+        assertThat(rolledBack.isSuccessful()).isFalse();
+        assertThat(rolledBack.getFirstOperationIndex()).isEqualTo(2);
+        assertThat(rolledBack.getFailure()).containsInstanceOf(ConsulException.class);
+        assertThat(rolledBack.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.opIndex()).contains(BigInteger.ZERO);
+            assertThat(error.what()).contains("failed to set key");
+        });
+    }
+
+    @Test
+    void shouldReportFailure_WhenRequestFails() throws InterruptedException {
+        var writer = newWriter(1, 1);
+        writer.add(setOperation(0));
+
+        pendingCallbacks.get(0).onFailure(new ConsulException("connection refused"));
+        var results = writer.finish();
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.isSuccessful()).isFalse();
+            assertThat(result.getResponse()).isEmpty();
+            assertThat(result.getErrors()).isEmpty();
+            assertThat(result.getFailure()).isPresent();
+        });
+    }
+
+    @Test
+    void shouldNotAllowAdding_AfterFinish() throws InterruptedException {
+        var writer = newWriter(1, 1);
+        assertThat(writer.finish()).isEmpty();
+
+        assertThatIllegalStateException().isThrownBy(() -> writer.add(setOperation(0)));
+    }
+
+    @Test
+    void shouldRejectInvalidChunkSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> newWriter(65, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> newWriter(0, 1));
+    }
+
+    @Test
+    void shouldRejectInvalidMaxInFlight() {
+        assertThatIllegalArgumentException().isThrownBy(() -> newWriter(10, 0));
+    }
+
+    private BulkTransactionWriter newWriter(int chunkSize, int maxInFlight) {
+        return new BulkTransactionWriter(keyValueClient, Options.BLANK_TRANSACTION_OPTIONS, chunkSize, maxInFlight);
+    }
+
+    private static Operation setOperation(int i) {
+        return Operation.builder(Verb.SET).key("key-" + i).value("value-" + i).build();
+    }
+
+    private static ConsulResponse<TxResponse> successResponse() {
+        return new ConsulResponse<>(ImmutableTxResponse.builder().build(), 0, true, BigInteger.ONE, null, null);
+    }
+
+    private static ConsulException conflict(String body) {
+        Call<TxResponse> call = mock();
+        when(call.request()).thenReturn(new Request.Builder().url("http://localhost:8500/v1/txn").build());
+        Response<TxResponse> response = Response.error(409,
+                ResponseBody.create(body, MediaType.get("application/json")));
+        return new ConsulException(call, response);
+    }
+}
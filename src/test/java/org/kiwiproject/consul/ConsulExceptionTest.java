@@ -82,7 +82,8 @@ class ConsulExceptionTest {
             () -> assertThat(ex.getMessage()).isEqualTo("Consul request to [%s] failed with status [404]: Not Found", request.url()),
             () -> assertThat(ex.getCause()).isNull(),
             () -> assertThat(ex.getCode()).isEqualTo(404),
-            () -> assertThat(ex.hasCode()).isTrue()
+            () -> assertThat(ex.hasCode()).isTrue(),
+            () -> assertThat(ex.getResponseBody()).contains("Not Found")
         );
     }
 
@@ -95,5 +96,6 @@ class ConsulExceptionTest {
         assertThat(ex.getCause()).isSameAs(cause);
         assertThat(ex.getCode()).isZero();
         assertThat(ex.hasCode()).isFalse();
+        assertThat(ex.getResponseBody()).isEmpty();
     }
 }
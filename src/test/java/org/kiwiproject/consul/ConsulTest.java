@@ -19,6 +19,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -38,6 +40,7 @@ import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
@@ -393,6 +396,45 @@ class ConsulTest {
         }
     }
 
+    @Nested
+    class WithVirtualThreads {
+
+        @Test
+        void shouldReturnBuilder() {
+            var builder = Consul.builder();
+            assertThat(builder.withVirtualThreads(true)).isSameAs(builder);
+        }
+
+        @Test
+        void shouldThrowIllegalStateException_WhenCustomExecutorServiceIsAlsoConfigured() {
+            var executorService = Executors.newSingleThreadExecutor();
+            try {
+                var builder = Consul.builder()
+                        .withVirtualThreads(true)
+                        .withExecutorService(executorService);
+
+                assertThatExceptionOfType(IllegalStateException.class)
+                        .isThrownBy(builder::build)
+                        .withMessage("Cannot use virtual threads with a custom ExecutorService; " +
+                                "configure withVirtualThreads or withExecutorService, not both");
+            } finally {
+                executorService.shutdownNow();
+            }
+        }
+
+        @Test
+        @EnabledForJreRange(min = JRE.JAVA_21)
+        void shouldEnableVirtualThreadSchedulerForCaches() {
+            var consul = Consul.builder().withVirtualThreads(true).build();
+            try {
+                assertThat(consul.keyValueClient().getConfig().getCacheConfig().isVirtualThreadSchedulerEnabled())
+                        .isTrue();
+            } finally {
+                consul.destroy();
+            }
+        }
+    }
+
     @Nested
     class AddUnixDomainSocketFactory {
 
@@ -7,17 +7,32 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import okhttp3.Headers;
+import okhttp3.MediaType;
 import okhttp3.Request;
+import okhttp3.ResponseBody;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.kiwiproject.consul.async.ConsulResponseCallback;
 import org.kiwiproject.consul.config.ClientConfig;
+import org.kiwiproject.consul.model.ConsulResponse;
 import org.kiwiproject.consul.monitoring.NoOpClientEventCallback;
 import org.kiwiproject.consul.option.Options;
 import retrofit2.Call;
 import retrofit2.Response;
+import retrofit2.mock.Calls;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 class KeyValueClientTest {
 
@@ -75,6 +90,143 @@ class KeyValueClientTest {
         }
     }
 
+    @Nested
+    class StreamValues {
+
+        @Test
+        void shouldPassEachValueToConsumer() {
+            var json = """
+                    [
+                      {"Key":"config/a","CreateIndex":1,"ModifyIndex":2,"LockIndex":0,"Flags":0,"Value":"YQ=="},
+                      {"Key":"config/b","CreateIndex":3,"ModifyIndex":4,"LockIndex":0,"Flags":0,"Value":"Yg=="}
+                    ]
+                    """;
+            var body = ResponseBody.create(json, MediaType.parse("application/json"));
+            when(api.streamValues(anyString(), anyMap()))
+                    .thenReturn(Calls.response(Response.success(body, Headers.of("X-Consul-Index", "42"))));
+
+            var keys = new ArrayList<String>();
+            var response = keyValueClient.streamValues("/config", value -> keys.add(value.getKey()));
+
+            assertThat(keys).containsExactly("config/a", "config/b");
+            assertThat(response.getResponse()).isEqualTo(2L);
+            assertThat(response.getIndex()).isEqualTo(BigInteger.valueOf(42));
+        }
+
+        @Test
+        void shouldReturnZero_WhenKeyDoesNotExist() {
+            var body = ResponseBody.create("", MediaType.parse("application/json"));
+            when(api.streamValues(anyString(), anyMap()))
+                    .thenReturn(Calls.response(Response.<ResponseBody>error(404, body)));
+
+            var response = keyValueClient.streamValues("missing", value -> {
+                throw new AssertionError("should not be called");
+            });
+
+            assertThat(response.getResponse()).isZero();
+        }
+    }
+
+    @Nested
+    class GetRawValue {
+
+        @Test
+        void shouldReturnBytes() {
+            var body = ResponseBody.create(new byte[] { 1, 2, 3 }, MediaType.parse("application/octet-stream"));
+            when(api.streamRawValue(anyString(), anyMap())).thenReturn(Calls.response(body));
+
+            assertThat(keyValueClient.getRawValue("/someKey")).hasValueSatisfying(bytes ->
+                    assertThat(bytes).containsExactly(1, 2, 3));
+        }
+
+        @Test
+        void shouldReturnByteBuffer() {
+            var body = ResponseBody.create("value", MediaType.parse("text/plain"));
+            when(api.streamRawValue(anyString(), anyMap())).thenReturn(Calls.response(body));
+
+            assertThat(keyValueClient.getRawValueAsByteBuffer("someKey", Options.BLANK_QUERY_OPTIONS))
+                    .contains(ByteBuffer.wrap("value".getBytes(StandardCharsets.UTF_8)));
+        }
+
+        @Test
+        void shouldPassStreamToReader() {
+            var body = ResponseBody.create("a longer value", MediaType.parse("text/plain"));
+            when(api.streamRawValue(anyString(), anyMap())).thenReturn(Calls.response(body));
+
+            Optional<Long> skipped = keyValueClient.readRawValue("someKey", Options.BLANK_QUERY_OPTIONS,
+                    in -> in.skip(Long.MAX_VALUE));
+
+            assertThat(skipped).contains(14L);
+        }
+
+        @Test
+        void shouldReturnEmptyOptional_WhenKeyDoesNotExist() {
+            var body = ResponseBody.create("", MediaType.parse("text/plain"));
+            when(api.streamRawValue(anyString(), anyMap()))
+                    .thenReturn(Calls.response(Response.<ResponseBody>error(404, body)));
+
+            assertThat(keyValueClient.getRawValue("someKey")).isEmpty();
+        }
+
+        @Test
+        void shouldReturnEmptyValue_WhenValueIsEmpty() {
+            var body = ResponseBody.create(new byte[0], MediaType.parse("application/octet-stream"));
+            when(api.streamRawValue(anyString(), anyMap())).thenReturn(Calls.response(body));
+
+            assertThat(keyValueClient.getRawValue("someKey")).hasValueSatisfying(bytes -> assertThat(bytes).isEmpty());
+        }
+
+        @Test
+        void shouldNotCallReader_WhenKeyDoesNotExist() {
+            var body = ResponseBody.create("", MediaType.parse("text/plain"));
+            when(api.streamRawValue(anyString(), anyMap()))
+                    .thenReturn(Calls.response(Response.<ResponseBody>error(404, body)));
+
+            Optional<Integer> result = keyValueClient.readRawValue("someKey", Options.BLANK_QUERY_OPTIONS, in -> {
+                throw new AssertionError("should not be called");
+            });
+
+            assertThat(result).isEmpty();
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = { 401, 403, 500, 502, 503 })
+        void shouldThrowConsulException_WhenStatusCodeIsOtherThan404(int statusCode) {
+            var body = ResponseBody.create("", MediaType.parse("text/plain"));
+            when(api.streamRawValue(anyString(), anyMap()))
+                    .thenReturn(Calls.response(Response.<ResponseBody>error(statusCode, body)));
+
+            assertThatThrownBy(() -> keyValueClient.getRawValue("someKey"))
+                    .isInstanceOf(ConsulException.class)
+                    .extracting("code")
+                    .isEqualTo(statusCode);
+        }
+
+        @Test
+        void shouldReturnBytesAsynchronously() throws InterruptedException {
+            var body = ResponseBody.create(new byte[] { 4, 5 }, MediaType.parse("application/octet-stream"));
+            when(api.getRawValue(anyString(), anyMap())).thenReturn(Calls.response(body));
+
+            var latch = new CountDownLatch(1);
+            var result = new AtomicReference<Optional<byte[]>>();
+            keyValueClient.getRawValue("someKey", Options.BLANK_QUERY_OPTIONS, new ConsulResponseCallback<>() {
+                @Override
+                public void onComplete(ConsulResponse<Optional<byte[]>> consulResponse) {
+                    result.set(consulResponse.getResponse());
+                    latch.countDown();
+                }
+
+                @Override
+                public void onFailure(Throwable throwable) {
+                    latch.countDown();
+                }
+            });
+
+            assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(result.get()).hasValueSatisfying(bytes -> assertThat(bytes).containsExactly(4, 5));
+        }
+    }
+
     private static Call<String> mockCall() {
         var request = new Request.Builder().url("http://localhost:9200").build();
         Call<String> call = mock();
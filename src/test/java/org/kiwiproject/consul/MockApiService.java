@@ -2,6 +2,8 @@ package org.kiwiproject.consul;
 
 import okhttp3.Headers;
 import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import org.kiwiproject.consul.model.kv.DecodedValue;
 import org.kiwiproject.consul.model.kv.TxResponse;
 import org.kiwiproject.consul.model.kv.Value;
 import retrofit2.Call;
@@ -27,6 +29,26 @@ public class MockApiService implements KeyValueClient.Api {
         return delegate.returning(call).getValue(key, query);
     }
 
+    @Override
+    public Call<List<DecodedValue>> getDecodedValue(String key, Map<String, Object> query) {
+        return delegate.returningResponse(List.of()).getDecodedValue(key, query);
+    }
+
+    @Override
+    public Call<ResponseBody> streamValues(String key, Map<String, Object> query) {
+        return delegate.returningResponse(ResponseBody.create("[]", null)).streamValues(key, query);
+    }
+
+    @Override
+    public Call<ResponseBody> getRawValue(String key, Map<String, Object> query) {
+        return delegate.returningResponse(ResponseBody.create(new byte[0], null)).getRawValue(key, query);
+    }
+
+    @Override
+    public Call<ResponseBody> streamRawValue(String key, Map<String, Object> query) {
+        return delegate.returningResponse(ResponseBody.create(new byte[0], null)).streamRawValue(key, query);
+    }
+
     @Override
     public Call<List<String>> getKeys(String key, Map<String, Object> query) {
         return delegate.returningResponse(List.of()).getKeys(key, query);
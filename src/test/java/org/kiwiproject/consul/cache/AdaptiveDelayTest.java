@@ -0,0 +1,71 @@
+package org.kiwiproject.consul.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kiwiproject.consul.config.AdaptiveRateLimit;
+
+import java.time.Duration;
+
+class AdaptiveDelayTest {
+
+    private AdaptiveDelay adaptiveDelay;
+
+    @BeforeEach
+    void setUp() {
+        // at most 10 snapshots per second, i.e. a 100 ms coalescing window
+        adaptiveDelay = new AdaptiveDelay(AdaptiveRateLimit.of(10, Duration.ofSeconds(2)));
+    }
+
+    @Test
+    void shouldUseCoalescingWindow_ForInfrequentChanges() {
+        assertThat(adaptiveDelay.nextDelayMillis(true, 5, 0)).isEqualTo(100);
+        assertThat(adaptiveDelay.nextDelayMillis(true, 5, 10_000)).isEqualTo(100);
+        assertThat(adaptiveDelay.nextDelayMillis(true, 5, 20_000)).isEqualTo(100);
+    }
+
+    @Test
+    void shouldNotDelay_AfterUnchangedResponse() {
+        assertThat(adaptiveDelay.nextDelayMillis(false, 5, 0)).isZero();
+    }
+
+    @Test
+    void shouldDoubleDelay_WhileChangesArriveBackToBack_UpToMax() {
+        long now = 0;
+        assertThat(adaptiveDelay.nextDelayMillis(true, 5, now)).isEqualTo(100);
+
+        long[] expected = { 200, 400, 800, 1_600, 2_000, 2_000 };
+        for (long expectedDelay : expected) {
+            now += adaptiveDelay.currentDelayMillis() + 10;
+            assertThat(adaptiveDelay.nextDelayMillis(true, 5, now)).isEqualTo(expectedDelay);
+        }
+    }
+
+    @Test
+    void shouldDecreaseDelay_WhenChangesSlowDown() {
+        long now = 0;
+        adaptiveDelay.nextDelayMillis(true, 5, now);
+        for (int i = 0; i < 3; i++) {
+            now += adaptiveDelay.currentDelayMillis();
+            adaptiveDelay.nextDelayMillis(true, 5, now);
+        }
+        assertThat(adaptiveDelay.currentDelayMillis()).isEqualTo(800);
+
+        now += 60_000;
+        assertThat(adaptiveDelay.nextDelayMillis(true, 5, now)).isEqualTo(400);
+
+        adaptiveDelay.nextDelayMillis(false, 5, now + 70_000);
+        assertThat(adaptiveDelay.currentDelayMillis()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldIncreaseDelay_ForLargeResponses() {
+        assertThat(adaptiveDelay.nextDelayMillis(true, 2_500, 0)).isEqualTo(300);
+    }
+
+    @Test
+    void shouldCapDelayForLargeResponses_AtMax() {
+        assertThat(adaptiveDelay.nextDelayMillis(true, 1_000_000, 0)).isEqualTo(2_000);
+    }
+}
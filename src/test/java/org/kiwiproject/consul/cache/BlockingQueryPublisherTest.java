@@ -0,0 +1,113 @@
+package org.kiwiproject.consul.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kiwiproject.consul.async.ConsulResponseCallback;
+import org.kiwiproject.consul.model.ConsulResponse;
+import org.kiwiproject.consul.option.QueryOptions;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+class BlockingQueryPublisherTest {
+
+    private record SentQuery(QueryOptions queryOptions, ConsulResponseCallback<String> callback) {
+    }
+
+    private Queue<SentQuery> queries;
+    private RecordingSubscriber<ConsulResponse<String>> subscriber;
+
+    @BeforeEach
+    void setUp() {
+        queries = new ArrayDeque<>();
+        subscriber = new RecordingSubscriber<>();
+        var publisher = BlockingQueryPublisher.<String>of(
+                (queryOptions, callback) -> queries.add(new SentQuery(queryOptions, callback)), 30);
+        publisher.subscribe(subscriber);
+    }
+
+    @Test
+    void shouldOnlyQuery_WhenSubscriberHasDemand() {
+        assertThat(queries).isEmpty();
+
+        subscriber.request(1);
+
+        assertThat(queries).singleElement()
+                .satisfies(query -> assertThat(query.queryOptions().getIndex()).isEmpty());
+
+        complete(queries.remove(), "v1", 5);
+
+        assertThat(subscriber.getItems()).extracting(ConsulResponse::getResponse).containsExactly("v1");
+        assertThat(queries)
+                .describedAs("should not poll until the subscriber requests again")
+                .isEmpty();
+    }
+
+    @Test
+    void shouldBlockOnPreviousIndex_AndSkipUnchangedResponses() {
+        subscriber.request(1);
+        complete(queries.remove(), "v1", 5);
+        subscriber.request(1);
+
+        var second = queries.remove();
+        assertThat(second.queryOptions().getIndex()).contains(BigInteger.valueOf(5));
+        assertThat(second.queryOptions().getWait()).contains("30s");
+
+        complete(second, "v1", 5);
+        assertThat(subscriber.getItems()).hasSize(1);
+
+        var third = queries.remove();
+        assertThat(third.queryOptions().getIndex()).contains(BigInteger.valueOf(5));
+        complete(third, "v2", 7);
+
+        assertThat(subscriber.getItems()).extracting(ConsulResponse::getResponse).containsExactly("v1", "v2");
+        assertThat(queries).isEmpty();
+    }
+
+    @Test
+    void shouldSignalError_WhenQueryFails() {
+        subscriber.request(1);
+
+        queries.remove().callback().onFailure(new RuntimeException("connection refused"));
+
+        assertThat(subscriber.getError()).hasMessage("connection refused");
+        subscriber.request(1);
+        assertThat(queries).isEmpty();
+    }
+
+    @Test
+    void shouldSignalError_WhenRequestIsNotPositive() {
+        subscriber.request(-1);
+
+        assertThat(subscriber.getError()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(queries).isEmpty();
+    }
+
+    @Test
+    void shouldStopQuerying_WhenCancelled() {
+        subscriber.request(Long.MAX_VALUE);
+        var query = queries.remove();
+
+        subscriber.cancel();
+        complete(query, "v1", 5);
+
+        assertThat(subscriber.getItems()).isEmpty();
+        assertThat(queries).isEmpty();
+    }
+
+    @Test
+    void shouldNotAllowOverridingIndex() {
+        var queryOptions = QueryOptions.blockSeconds(10, BigInteger.ONE).build();
+
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                BlockingQueryPublisher.<String>of((options, callback) -> { }, 30, queryOptions));
+    }
+
+    private static void complete(SentQuery query, String response, long index) {
+        query.callback().onComplete(new ConsulResponse<>(response, 0, true, BigInteger.valueOf(index), null, null));
+    }
+}
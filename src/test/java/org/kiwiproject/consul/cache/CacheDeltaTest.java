@@ -0,0 +1,48 @@
+package org.kiwiproject.consul.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+class CacheDeltaTest {
+
+    @Test
+    void shouldTreatNullPreviousAsEmpty() {
+        var current = ImmutableMap.of("a", 1, "b", 2);
+
+        var delta = CacheDelta.between(null, current);
+
+        assertThat(delta.getAdded()).isSameAs(current);
+        assertThat(delta.getRemoved()).isEmpty();
+        assertThat(delta.getChanged()).isEmpty();
+        assertThat(delta.getSnapshot()).isSameAs(current);
+        assertThat(delta.isEmpty()).isFalse();
+    }
+
+    @Test
+    void shouldComputeAddedRemovedAndChanged() {
+        var previous = ImmutableMap.of("a", 1, "b", 2, "c", 3);
+        var current = ImmutableMap.of("b", 2, "c", 30, "d", 4);
+
+        var delta = CacheDelta.between(previous, current);
+
+        assertThat(delta.getAdded()).containsExactly(Map.entry("d", 4));
+        assertThat(delta.getRemoved()).containsExactly(Map.entry("a", 1));
+        assertThat(delta.getChanged()).containsExactly(Map.entry("c", 30));
+        assertThat(delta.getSnapshot()).isSameAs(current);
+    }
+
+    @Test
+    void shouldBeEmpty_WhenSnapshotsAreEqual() {
+        var previous = ImmutableMap.of("a", 1, "b", 2);
+        var current = ImmutableMap.of("a", 1, "b", 2);
+
+        var delta = CacheDelta.between(previous, current);
+
+        assertThat(delta.isEmpty()).isTrue();
+        assertThat(delta).hasToString("CacheDelta{added=0, removed=0, changed=0, snapshotSize=2}");
+    }
+}
@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 class CacheDescriptorTest {
 
     @Nested
@@ -27,7 +29,19 @@ class CacheDescriptorTest {
 
             assertAll(
                     () -> assertThat(descriptor.getEndpoint()).isEqualTo("catalog.service"),
-                    () -> assertThat(descriptor.getKey()).isEqualTo("myService")
+                    () -> assertThat(descriptor.getKey()).isEqualTo("myService"),
+                    () -> assertThat(descriptor.getQualifier()).isNull()
+            );
+        }
+
+        @Test
+        void shouldCreateWithEndpointKeyAndQualifier() {
+            var descriptor = new CacheDescriptor("health.service", "myService", "passing=true&dc=dc2");
+
+            assertAll(
+                    () -> assertThat(descriptor.getEndpoint()).isEqualTo("health.service"),
+                    () -> assertThat(descriptor.getKey()).isEqualTo("myService"),
+                    () -> assertThat(descriptor.getQualifier()).isEqualTo("passing=true&dc=dc2")
             );
         }
     }
@@ -48,5 +62,35 @@ class CacheDescriptorTest {
 
             assertThat(descriptor).hasToString("catalog.service \"myService\"");
         }
+
+        @Test
+        void shouldNotIncludeQualifier() {
+            var descriptor = new CacheDescriptor("catalog.service", "myService", "token=secret");
+
+            assertThat(descriptor).hasToString("catalog.service \"myService\"");
+        }
+    }
+
+    @Nested
+    class SnapshotId {
+
+        @Test
+        void shouldStartWithEndpoint_AndBeSafeForFileSystem() {
+            var kvId = new CacheDescriptor("kv", "config/app").snapshotId();
+            var otherKvId = new CacheDescriptor("kv", "config/other").snapshotId();
+
+            assertThat(kvId).isNotEqualTo(otherKvId).startsWith("kv-").matches("[A-Za-z0-9._-]+");
+            assertThat(new CacheDescriptor("health.service", "payments").snapshotId()).startsWith("health.service-");
+        }
+
+        @Test
+        void shouldDiffer_ForDifferentQualifiers() {
+            var unqualified = new CacheDescriptor("health.service", "payments").snapshotId();
+            var passing = new CacheDescriptor("health.service", "payments", "passing=true").snapshotId();
+            var all = new CacheDescriptor("health.service", "payments", "passing=false").snapshotId();
+
+            assertThat(List.of(unqualified, passing, all)).doesNotHaveDuplicates();
+            assertThat(passing).startsWith("health.service-").doesNotContain("passing");
+        }
     }
 }
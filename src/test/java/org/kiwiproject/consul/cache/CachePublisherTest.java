@@ -0,0 +1,182 @@
+package org.kiwiproject.consul.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.kiwiproject.consul.config.CacheConfig;
+import org.kiwiproject.consul.model.kv.ImmutableValue;
+import org.kiwiproject.consul.model.kv.Value;
+import org.kiwiproject.consul.monitoring.ClientEventHandler;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+class CachePublisherTest {
+
+    @Nested
+    class Of {
+
+        private ConsulCache<String, Integer> cache;
+        private RecordingSubscriber<Map<String, Integer>> subscriber;
+        private ConsulCache.Listener<String, Integer> listener;
+        private CachePublisher<String, Integer> publisher;
+
+        @BeforeEach
+        @SuppressWarnings("unchecked")
+        void setUp() {
+            cache = mock(ConsulCache.class);
+            subscriber = new RecordingSubscriber<>();
+            publisher = CachePublisher.of(cache, Runnable::run);
+            publisher.subscribe(subscriber);
+
+            var listenerCaptor = ArgumentCaptor.forClass(ConsulCache.Listener.class);
+            verify(cache).addListener(listenerCaptor.capture());
+            listener = listenerCaptor.getValue();
+        }
+
+        @Test
+        void shouldDeliverOnlyRequestedSnapshots() {
+            listener.notify(Map.of("a", 1));
+            assertThat(subscriber.getItems()).isEmpty();
+
+            subscriber.request(1);
+            assertThat(subscriber.getItems()).containsExactly(Map.of("a", 1));
+
+            listener.notify(Map.of("a", 2));
+            assertThat(subscriber.getItems()).hasSize(1);
+
+            subscriber.request(5);
+            listener.notify(Map.of("a", 3));
+            assertThat(subscriber.getItems()).containsExactly(Map.of("a", 1), Map.of("a", 2), Map.of("a", 3));
+        }
+
+        @Test
+        void shouldDeliverOnlyLatestSnapshot_WhenSubscriberHasNoDemand() {
+            listener.notify(Map.of("a", 1));
+            listener.notify(Map.of("a", 2));
+            listener.notify(Map.of("a", 3));
+
+            subscriber.request(Long.MAX_VALUE);
+
+            assertThat(subscriber.getItems()).containsExactly(Map.of("a", 3));
+        }
+
+        @Test
+        void shouldRemoveListener_WhenCancelled() {
+            assertThat(publisher.getSubscriberCount()).isOne();
+
+            subscriber.cancel();
+            listener.notify(Map.of("a", 1));
+            subscriber.request(1);
+
+            verify(cache).removeListener(listener);
+            assertThat(publisher.getSubscriberCount()).isZero();
+            assertThat(subscriber.getItems()).isEmpty();
+        }
+
+        @Test
+        void shouldSignalError_WhenRequestIsNotPositive() {
+            subscriber.request(0);
+
+            assertThat(subscriber.getError()).isInstanceOf(IllegalArgumentException.class);
+            verify(cache).removeListener(any());
+            assertThat(publisher.getSubscriberCount()).isZero();
+        }
+    }
+
+    @Nested
+    class Watching {
+
+        private List<ConsulCache<String, Value>> caches;
+        private CachePublisher<String, Value> publisher;
+
+        @BeforeEach
+        void setUp() {
+            caches = new ArrayList<>();
+            publisher = CachePublisher.watching(() -> {
+                var cache = new ConsulCache<>(Value::getKey, new StubCallbackConsumer(List.of(newValue())),
+                        CacheConfig.builder().build(), mock(ClientEventHandler.class), new CacheDescriptor(""));
+                caches.add(cache);
+                return cache;
+            }, Runnable::run);
+        }
+
+        @Test
+        void shouldNotCreateCache_UntilSubscribed() {
+            assertThat(caches).isEmpty();
+        }
+
+        @Test
+        void shouldStartCache_WhenFirstSubscriberSubscribes_AndStopIt_WhenLastCancels() {
+            var subscriber1 = new RecordingSubscriber<Map<String, Value>>();
+            var subscriber2 = new RecordingSubscriber<Map<String, Value>>();
+
+            publisher.subscribe(subscriber1);
+            publisher.subscribe(subscriber2);
+            subscriber1.request(1);
+            subscriber2.request(1);
+
+            assertThat(caches).singleElement()
+                    .satisfies(cache -> assertThat(cache.getState()).isEqualTo(ConsulCache.State.STARTED));
+            assertThat(subscriber1.getItems()).singleElement()
+                    .satisfies(values -> assertThat(values).containsOnlyKeys("foo"));
+            assertThat(subscriber2.getItems()).isEqualTo(subscriber1.getItems());
+
+            subscriber1.cancel();
+            assertThat(caches.get(0).getState()).isEqualTo(ConsulCache.State.STARTED);
+
+            subscriber2.cancel();
+            assertThat(caches.get(0).getState()).isEqualTo(ConsulCache.State.STOPPED);
+        }
+
+        @Test
+        void shouldCreateNewCache_WhenSubscribedAgainAfterStopping() {
+            var subscriber1 = new RecordingSubscriber<Map<String, Value>>();
+            publisher.subscribe(subscriber1);
+            subscriber1.cancel();
+
+            var subscriber2 = new RecordingSubscriber<Map<String, Value>>();
+            publisher.subscribe(subscriber2);
+            subscriber2.request(1);
+
+            assertThat(caches).hasSize(2);
+            assertThat(caches.get(0).getState()).isEqualTo(ConsulCache.State.STOPPED);
+            assertThat(caches.get(1).getState()).isEqualTo(ConsulCache.State.STARTED);
+            assertThat(subscriber2.getItems()).hasSize(1);
+
+            subscriber2.cancel();
+        }
+
+        @Test
+        void shouldSignalError_WhenCacheFactoryFails() {
+            var failing = CachePublisher.<String, Value>watching(() -> {
+                throw new IllegalStateException("no cache for you");
+            }, Runnable::run);
+            var subscriber = new RecordingSubscriber<Map<String, Value>>();
+
+            failing.subscribe(subscriber);
+
+            assertThat(subscriber.getError()).hasMessage("no cache for you");
+            assertThat(failing.getSubscriberCount()).isZero();
+        }
+    }
+
+    private static Value newValue() {
+        return ImmutableValue.builder()
+                .createIndex(1)
+                .modifyIndex(1)
+                .lockIndex(0)
+                .key("foo")
+                .flags(0)
+                .value(Optional.of("bar"))
+                .build();
+    }
+}
@@ -0,0 +1,136 @@
+package org.kiwiproject.consul.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.awaitility.Durations.FIVE_SECONDS;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class ConflatingListenerTest {
+
+    private Queue<Runnable> tasks;
+    private List<Map<String, Integer>> received;
+    private ConflatingListener<String, Integer> listener;
+
+    @BeforeEach
+    void setUp() {
+        tasks = new ArrayDeque<>();
+        received = new ArrayList<>();
+        listener = new ConflatingListener<>(received::add, tasks::add);
+    }
+
+    @Test
+    void shouldNotifyOnExecutor() {
+        listener.notify(Map.of("a", 1));
+
+        assertThat(received).isEmpty();
+        assertThat(tasks).hasSize(1);
+
+        runTasks();
+
+        assertThat(received).containsExactly(Map.of("a", 1));
+        assertThat(listener.hasPendingNotification()).isFalse();
+    }
+
+    @Test
+    void shouldDeliverOnlyLatestSnapshot_WhenNotificationsArriveBeforeDelivery() {
+        listener.notify(Map.of("a", 1));
+        listener.notify(Map.of("a", 2));
+        listener.notify(Map.of("a", 3));
+
+        assertThat(tasks)
+                .describedAs("only one task should be scheduled at a time")
+                .hasSize(1);
+
+        runTasks();
+
+        assertThat(received).containsExactly(Map.of("a", 3));
+    }
+
+    @Test
+    void shouldScheduleAgain_AfterPreviousDeliveryCompleted() {
+        listener.notify(Map.of("a", 1));
+        runTasks();
+        listener.notify(Map.of("a", 2));
+        runTasks();
+
+        assertThat(received).containsExactly(Map.of("a", 1), Map.of("a", 2));
+    }
+
+    @Test
+    void shouldKeepDelivering_WhenDelegateThrows() {
+        var throwing = new ConflatingListener<String, Integer>(values -> {
+            throw new IllegalStateException("oops");
+        }, tasks::add);
+
+        throwing.notify(Map.of("a", 1));
+        runTasks();
+        throwing.notify(Map.of("a", 2));
+
+        assertThat(tasks).hasSize(1);
+    }
+
+    @Test
+    void shouldRecover_WhenExecutorRejects() {
+        var rejecting = new ConflatingListener<String, Integer>(received::add, task -> {
+            throw new RejectedExecutionException("shut down");
+        });
+
+        rejecting.notify(Map.of("a", 1));
+
+        assertThat(received).isEmpty();
+        assertThat(rejecting.hasPendingNotification()).isTrue();
+    }
+
+    @Test
+    void shouldNotDelayCaller_WhenDelegateIsSlow() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            var release = new CountDownLatch(1);
+            List<Map<String, Integer>> delivered = Collections.synchronizedList(new ArrayList<>());
+            var slow = new ConflatingListener<String, Integer>(values -> {
+                awaitQuietly(release);
+                delivered.add(values);
+            }, executor);
+
+            for (int i = 1; i <= 100; i++) {
+                slow.notify(Map.of("a", i));
+            }
+            release.countDown();
+
+            await().atMost(FIVE_SECONDS).until(() -> delivered.contains(Map.of("a", 100)));
+            assertThat(delivered.size()).isLessThanOrEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.kiwiproject.consul.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.kiwiproject.consul.cache.ConsulCache.CallbackConsumer;
+import org.kiwiproject.consul.config.CacheConfig;
+import org.kiwiproject.consul.model.kv.ImmutableValue;
+import org.kiwiproject.consul.model.kv.Value;
+import org.kiwiproject.consul.monitoring.ClientEventHandler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+class ConsulCacheGroupTest {
+
+    private static final CacheConfig CACHE_CONFIG = CacheConfig.builder()
+            .withMinDelayBetweenRequests(Duration.ofSeconds(10))
+            .withBackOffDelay(Duration.ofSeconds(10))
+            .build();
+
+    @Test
+    void shouldRequirePositiveThreadCount() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ConsulCacheGroup.newGroup(0));
+    }
+
+    @Test
+    void shouldStartAndStopAllCachesTogether() throws InterruptedException {
+        try (var group = ConsulCacheGroup.newGroup()) {
+            var cache1 = group.newCache(executor -> newCache("one", new StubCallbackConsumer(List.of(newValue("a"))), executor));
+            var cache2 = group.newCache(executor -> newCache("two", new StubCallbackConsumer(List.of(newValue("b"))), executor));
+
+            assertThat(group.getCaches()).containsExactly(cache1, cache2);
+            assertThat(group.getHealth().getLatent()).isEqualTo(2);
+            assertThat(group.getHealth().isHealthy()).isFalse();
+
+            group.start();
+
+            assertThat(group.awaitInitialized(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(cache1.getState()).isEqualTo(ConsulCache.State.STARTED);
+            assertThat(cache2.getState()).isEqualTo(ConsulCache.State.STARTED);
+            assertThat(group.getHealth().isHealthy()).isTrue();
+
+            group.stop();
+
+            assertThat(cache1.getState()).isEqualTo(ConsulCache.State.STOPPED);
+            assertThat(cache2.getState()).isEqualTo(ConsulCache.State.STOPPED);
+            assertThat(group.getScheduledExecutorService().isShutdown()).isTrue();
+        }
+    }
+
+    @Test
+    void shouldStartCachesAddedAfterGroupStarted() throws InterruptedException {
+        try (var group = ConsulCacheGroup.newGroup(1)) {
+            group.start();
+
+            var cache = group.newCache(executor -> newCache("late", new StubCallbackConsumer(List.of(newValue("a"))), executor));
+
+            assertThat(cache.awaitInitialized(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    void shouldStartEachCacheOnce_WhenCachesAreAddedWhileGroupStarts() {
+        for (var i = 0; i < 50; i++) {
+            try (var group = ConsulCacheGroup.newGroup(1)) {
+                var starting = new CountDownLatch(1);
+                var adding = CompletableFuture.runAsync(() -> {
+                    awaitQuietly(starting);
+                    for (var j = 0; j < 10; j++) {
+                        var name = "cache-" + j;
+                        group.newCache(executor -> newCache(name, new StubCallbackConsumer(List.of()), executor));
+                    }
+                });
+
+                starting.countDown();
+                group.start();
+                adding.join();
+
+                assertThat(group.getCaches())
+                        .hasSize(10)
+                        .noneMatch(cache -> cache.getState() == ConsulCache.State.LATENT);
+            }
+        }
+    }
+
+    @Test
+    void shouldReportFailingCaches() {
+        CallbackConsumer<Value> failingConsumer = (index, callback) -> callback.onFailure(new RuntimeException("boom"));
+
+        try (var group = ConsulCacheGroup.newGroup(1)) {
+            var cache = group.newCache(executor -> newCache("failing", failingConsumer, executor));
+            group.start();
+
+            var health = group.getHealth();
+            assertThat(health.getFailing()).containsExactly(cache.getCacheDescriptor());
+            assertThat(health.getStarting()).isOne();
+            assertThat(health.isHealthy()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldNotShutDownExternalExecutor() {
+        var executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            var group = ConsulCacheGroup.newGroup(executor);
+            group.add(newCache("one", new StubCallbackConsumer(List.of()), executor));
+            group.start();
+            group.stop();
+
+            assertThat(executor.isShutdown()).isFalse();
+            assertThatIllegalStateException().isThrownBy(() -> group.add(newCache("two", new StubCallbackConsumer(List.of()), executor)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ConsulCache<String, Value> newCache(String name,
+                                                       CallbackConsumer<Value> callbackConsumer,
+                                                       ScheduledExecutorService executor) {
+        return new ConsulCache<>(Value::getKey, callbackConsumer, CACHE_CONFIG, mock(ClientEventHandler.class),
+                new CacheDescriptor("test", name), executor);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Value newValue(String key) {
+        return ImmutableValue.builder()
+                .createIndex(1)
+                .modifyIndex(1)
+                .lockIndex(0)
+                .key(key)
+                .flags(0)
+                .build();
+    }
+}
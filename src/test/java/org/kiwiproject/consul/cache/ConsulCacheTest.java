@@ -2,6 +2,7 @@ package org.kiwiproject.consul.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.awaitility.Durations.FIVE_SECONDS;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -28,15 +29,22 @@ import com.google.common.util.concurrent.Runnables;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.kiwiproject.consul.ConsulException;
 import org.kiwiproject.consul.TestUtils;
 import org.kiwiproject.consul.async.ConsulResponseCallback;
 import org.kiwiproject.consul.cache.ConsulCache.CallbackConsumer;
+import org.kiwiproject.consul.cache.ConsulCache.ContentHashCallbackConsumer;
 import org.kiwiproject.consul.cache.ConsulCache.Scheduler;
+import org.kiwiproject.consul.config.BackOffPolicy;
 import org.kiwiproject.consul.config.CacheConfig;
+import org.kiwiproject.consul.config.CacheConfig.StalenessPolicy;
+import org.kiwiproject.consul.config.CacheSnapshot;
 import org.kiwiproject.consul.model.ConsulResponse;
 import org.kiwiproject.consul.model.kv.ImmutableValue;
 import org.kiwiproject.consul.model.kv.Value;
@@ -44,11 +52,20 @@ import org.kiwiproject.consul.monitoring.ClientEventHandler;
 import org.kiwiproject.consul.option.ConsistencyMode;
 import org.kiwiproject.consul.option.ImmutableQueryOptions;
 import org.kiwiproject.consul.option.Options;
+import org.kiwiproject.consul.option.QueryOptions;
+import org.mockito.ArgumentCaptor;
 
 import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
@@ -189,6 +206,55 @@ class ConsulCacheTest {
             }
         }
 
+        @Test
+        void shouldReuseUnchangedValuesFromPreviousSnapshot() {
+            var callbackHolder = new AtomicReference<ConsulResponseCallback<List<Value>>>();
+            CallbackConsumer<Value> capturingConsumer = (index, callback) -> callbackHolder.set(callback);
+
+            try (var consulCache = new ConsulCache<>(Value::getKey, capturingConsumer, CacheConfig.builder().build(),
+                    mock(ClientEventHandler.class), new CacheDescriptor("kv"), mock(Scheduler.class))) {
+                consulCache.start();
+                var a = createTestValue("a");
+                var b = createTestValue("b");
+                callbackHolder.get().onComplete(
+                        new ConsulResponse<>(List.of(a, b), 0, true, BigInteger.ONE, null, null));
+                var previous = consulCache.getMap();
+
+                var newB = ImmutableValue.copyOf(b).withValue("changed");
+                var map = consulCache.convertToMap(new ConsulResponse<>(
+                        List.of(createTestValue("a"), newB), 0, true, BigInteger.TWO, null, null));
+
+                assertThat(map.get("a"))
+                        .describedAs("equal value should be the instance from the previous snapshot")
+                        .isSameAs(a);
+                assertThat(map.get("b")).isSameAs(newB);
+                assertThat(map).isNotSameAs(previous);
+            }
+        }
+
+        @Test
+        void shouldReturnPreviousSnapshot_WhenNothingChanged() {
+            var callbackHolder = new AtomicReference<ConsulResponseCallback<List<Value>>>();
+            CallbackConsumer<Value> capturingConsumer = (index, callback) -> callbackHolder.set(callback);
+
+            try (var consulCache = new ConsulCache<>(Value::getKey, capturingConsumer, CacheConfig.builder().build(),
+                    mock(ClientEventHandler.class), new CacheDescriptor("kv"), mock(Scheduler.class))) {
+                consulCache.start();
+                callbackHolder.get().onComplete(new ConsulResponse<>(
+                        List.of(createTestValue("a"), createTestValue("b")), 0, true, BigInteger.ONE, null, null));
+                var previous = consulCache.getMap();
+
+                var map = consulCache.convertToMap(new ConsulResponse<>(
+                        List.of(createTestValue("b"), createTestValue("a")), 0, true, BigInteger.TWO, null, null));
+
+                assertThat(map).isSameAs(previous);
+
+                var withRemoved = consulCache.convertToMap(new ConsulResponse<>(
+                        List.of(createTestValue("a")), 0, true, BigInteger.TWO, null, null));
+                assertThat(withRemoved).containsOnlyKeys("a").isNotSameAs(previous);
+            }
+        }
+
         private Value createTestValue(String key) {
             return ImmutableValue.builder()
                     .key(key)
@@ -305,6 +371,334 @@ class ConsulCacheTest {
                 .isThrownBy(() -> ConsulCache.watchParams(index, 10, additionalQueryOptions));
     }
 
+    @Test
+    void testHashWatchParamsWithNoHash() {
+        var actualQueryOptions = ConsulCache.hashWatchParams(null, 10, Options.BLANK_QUERY_OPTIONS);
+        assertThat(actualQueryOptions).isEqualTo(Options.BLANK_QUERY_OPTIONS);
+    }
+
+    @Test
+    void testHashWatchParamsWithAdditionalOptions() {
+        var additionalQueryOptions = ImmutableQueryOptions.builder()
+                .token("186596")
+                .filter("someFilter")
+                .build();
+
+        var expectedQueryOptions = ImmutableQueryOptions.builder()
+                .hash("aa0e22ab6f7a4b84")
+                .wait("10s")
+                .token("186596")
+                .filter("someFilter")
+                .build();
+
+        var actualQueryOptions = ConsulCache.hashWatchParams("aa0e22ab6f7a4b84", 10, additionalQueryOptions);
+        assertThat(actualQueryOptions).isEqualTo(expectedQueryOptions);
+        assertThat(actualQueryOptions.toQuery()).containsEntry("hash", "aa0e22ab6f7a4b84").doesNotContainKey("index");
+    }
+
+    @Test
+    void testWatchParamsWithAdditionalHashAndWaitingThrows() {
+        var additionalQueryOptions = QueryOptions.blockSeconds(10, "aa0e22ab6f7a4b84").build();
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ConsulCache.hashWatchParams("aa0e22ab6f7a4b84", 10, additionalQueryOptions));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ConsulCache.watchParams(BigInteger.TEN, 10, additionalQueryOptions));
+    }
+
+    @Test
+    void shouldHaveNoQualifier_ForBlankQueryOptions() {
+        assertThat(ConsulCache.qualifierOf(Options.BLANK_QUERY_OPTIONS)).isNull();
+    }
+
+    @Test
+    void shouldDescribeQueryOptionsAndParameters_InQualifier() {
+        var queryOptions = ImmutableQueryOptions.builder()
+                .datacenter("dc2")
+                .addTag("primary")
+                .consistencyMode(ConsistencyMode.STALE)
+                .build();
+
+        assertThat(ConsulCache.qualifierOf(queryOptions, "passing=true"))
+                .isEqualTo("passing=true&dc=dc2&stale=&tag=primary");
+        assertThat(ConsulCache.qualifierOf(queryOptions, "passing=false"))
+                .isNotEqualTo(ConsulCache.qualifierOf(queryOptions, "passing=true"));
+    }
+
+    @Test
+    void shouldPassContentHashOfPreviousResponse_ToContentHashCallbackConsumer() {
+        Function<Value, String> keyExtractor = Value::getKey;
+        var cacheConfig = CacheConfig.builder().build();
+        var eventHandler = mock(ClientEventHandler.class);
+        var scheduler = mock(Scheduler.class);
+
+        var hashes = new ArrayList<String>();
+        var callbackHolder = new AtomicReference<ConsulResponseCallback<List<Value>>>();
+        ContentHashCallbackConsumer<Value> hashConsumer = (contentHash, callback) -> {
+            hashes.add(contentHash);
+            callbackHolder.set(callback);
+        };
+
+        try (var cache = new ConsulCache<>(keyExtractor, hashConsumer, cacheConfig, eventHandler,
+                new CacheDescriptor(""), scheduler)) {
+            cache.start();
+
+            callbackHolder.get().onComplete(
+                    new ConsulResponse<>(List.of(newSampleValue()), 0, true, BigInteger.ZERO, null, null, "hash-1"));
+
+            var runCallback = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduler).schedule(runCallback.capture(), anyLong(), any(TimeUnit.class));
+            runCallback.getValue().run();
+
+            assertThat(hashes).containsExactly(null, "hash-1");
+        }
+    }
+
+    @Test
+    void shouldAdaptMapResponses_ToListOfValues() {
+        var received = new AtomicReference<ConsulResponse<List<Value>>>();
+        var value = newSampleValue();
+
+        ConsulCache.<Value>mapValuesCallback(new ConsulResponseCallback<>() {
+            @Override
+            public void onComplete(ConsulResponse<List<Value>> consulResponse) {
+                received.set(consulResponse);
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                throw new AssertionError(throwable);
+            }
+        }).onComplete(new ConsulResponse<>(Map.of("foo", value), 5, true, BigInteger.TEN, null, null, "hash-1"));
+
+        assertThat(received.get().getResponse()).containsExactly(value);
+        assertThat(received.get().getIndex()).isEqualTo(BigInteger.TEN);
+        assertThat(received.get().getLastContact()).isEqualTo(5);
+        assertThat(received.get().isKnownLeader()).isTrue();
+        assertThat(received.get().getContentHash()).contains("hash-1");
+    }
+
+    @Nested
+    class Snapshots {
+
+        @TempDir
+        Path tempDir;
+
+        private FileCacheSnapshotStore store;
+        private CacheConfig cacheConfig;
+        private CacheDescriptor descriptor;
+        private List<BigInteger> requestedIndexes;
+        private AtomicReference<ConsulResponseCallback<List<Value>>> callbackHolder;
+        private CallbackConsumer<Value> capturingConsumer;
+
+        @BeforeEach
+        void setUp() {
+            store = new FileCacheSnapshotStore(tempDir);
+            cacheConfig = CacheConfig.builder().withSnapshotStore(store).build();
+            descriptor = new CacheDescriptor("kv", "foo");
+            requestedIndexes = new ArrayList<>();
+            callbackHolder = new AtomicReference<>();
+            capturingConsumer = (index, callback) -> {
+                requestedIndexes.add(index);
+                callbackHolder.set(callback);
+            };
+        }
+
+        @Test
+        void shouldInitializeFromSnapshot_AndResumeFromSavedIndex() throws Exception {
+            var value = newSampleValue();
+            store.save(descriptor.snapshotId(), new CacheSnapshot<>(List.of(value), BigInteger.valueOf(42), null, Instant.now()));
+
+            try (var cache = newCache()) {
+                var notified = new ArrayList<Map<String, Value>>();
+                cache.addListener(notified::add);
+                cache.start();
+
+                assertThat(cache.awaitInitialized(0, TimeUnit.MILLISECONDS)).isTrue();
+                assertThat(cache.getState()).isEqualTo(ConsulCache.State.STARTED);
+                assertThat(cache.getMap()).containsExactly(Map.entry("foo", value));
+                assertThat(notified).containsExactly(Map.<String, Value>of("foo", value));
+                assertThat(requestedIndexes).containsExactly(BigInteger.valueOf(42));
+            }
+        }
+
+        @Test
+        void shouldSaveSnapshot_WhenContentsChange() throws Exception {
+            var value = newSampleValue();
+
+            try (var cache = newCache()) {
+                cache.start();
+                assertThat(cache.awaitInitialized(0, TimeUnit.MILLISECONDS)).isFalse();
+
+                callbackHolder.get().onComplete(new ConsulResponse<>(List.of(value), 0, true, BigInteger.TEN, null, null));
+            }
+
+            var snapshot = await().atMost(FIVE_SECONDS)
+                    .until(() -> store.load(descriptor.snapshotId(), Value.class), Optional::isPresent)
+                    .orElseThrow();
+            assertThat(snapshot.getValues()).containsExactly(value);
+            assertThat(snapshot.getIndex()).contains(BigInteger.TEN);
+        }
+
+        @Test
+        void shouldWaitForConsul_WhenSnapshotCannotBeRead() throws Exception {
+            Files.writeString(store.pathFor(descriptor.snapshotId()), "not json");
+
+            try (var cache = newCache()) {
+                cache.start();
+
+                assertThat(cache.awaitInitialized(0, TimeUnit.MILLISECONDS)).isFalse();
+                assertThat(cache.getMap()).isEmpty();
+                assertThat(requestedIndexes).containsExactly((BigInteger) null);
+            }
+        }
+
+        @Test
+        void shouldNotUseSnapshots_WhenValueTypeIsNotProvided() throws Exception {
+            store.save(descriptor.snapshotId(), new CacheSnapshot<>(List.of(newSampleValue()), BigInteger.TEN, null, Instant.now()));
+
+            try (var cache = new ConsulCache<>(Value::getKey, capturingConsumer, cacheConfig,
+                    mock(ClientEventHandler.class), descriptor, mock(Scheduler.class))) {
+                cache.start();
+
+                assertThat(cache.awaitInitialized(0, TimeUnit.MILLISECONDS)).isFalse();
+            }
+        }
+
+        private ConsulCache<String, Value> newCache() {
+            return new ConsulCache<>(Value::getKey, capturingConsumer, cacheConfig,
+                    mock(ClientEventHandler.class), descriptor, mock(Scheduler.class), Value.class);
+        }
+    }
+
+    @Nested
+    class Staleness {
+
+        private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+        private AtomicReference<ConsulResponseCallback<List<Value>>> callbackHolder;
+        private CallbackConsumer<Value> capturingConsumer;
+
+        @BeforeEach
+        void setUp() {
+            callbackHolder = new AtomicReference<>();
+            capturingConsumer = (index, callback) -> callbackHolder.set(callback);
+        }
+
+        @Test
+        void shouldNotHaveStaleness_BeforeFirstSuccessfulPoll() {
+            try (var cache = newCache(CacheConfig.builder()
+                    .withWatchDuration(Duration.ofSeconds(5))
+                    .withMaxStaleness(Duration.ofSeconds(10), StalenessPolicy.FAIL)
+                    .build())) {
+                cache.start();
+
+                assertThat(cache.getLastSuccessfulPollTime()).isEmpty();
+                assertThat(cache.getStaleness()).isEmpty();
+                assertThat(cache.isStale()).isFalse();
+                assertThat(cache.getMap()).isEmpty();
+            }
+        }
+
+        @Test
+        void shouldTrackTimeSinceLastSuccessfulPoll() {
+            try (var cache = newCache(CacheConfig.builder().build())) {
+                cache.start();
+                respond(newSampleValue(), null, null);
+
+                cache.setClock(clockAt(START.plusSeconds(30)));
+                callbackHolder.get().onFailure(new ConsulException("connection refused"));
+
+                assertThat(cache.getLastSuccessfulPollTime()).contains(START);
+                assertThat(cache.getStaleness()).contains(Duration.ofSeconds(30));
+                assertThat(cache.isStale())
+                        .describedAs("data never becomes stale without a max staleness")
+                        .isFalse();
+            }
+        }
+
+        @Test
+        void shouldIncludeAgeOfAgentCachedResponse() {
+            try (var cache = newCache(CacheConfig.builder().build())) {
+                cache.start();
+                respond(newSampleValue(), "HIT", "5");
+
+                cache.setClock(clockAt(START.plusSeconds(2)));
+
+                assertThat(cache.getStaleness()).contains(Duration.ofSeconds(7));
+            }
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = StalenessPolicy.class, names = { "SERVE", "WARN" })
+        void shouldServeStaleData_WhenPolicyAllows(StalenessPolicy policy) {
+            var value = newSampleValue();
+            try (var cache = newCache(CacheConfig.builder()
+                    .withWatchDuration(Duration.ofSeconds(5))
+                    .withMaxStaleness(Duration.ofSeconds(10), policy)
+                    .build())) {
+                cache.start();
+                respond(value, null, null);
+
+                cache.setClock(clockAt(START.plusSeconds(11)));
+                callbackHolder.get().onFailure(new ConsulException("connection refused"));
+
+                assertThat(cache.isStale()).isTrue();
+                assertThat(cache.getMap()).containsExactly(Map.entry("foo", value));
+                assertThat(cache.getMapWithMetadata().getResponse()).containsExactly(Map.entry("foo", value));
+            }
+        }
+
+        @Test
+        void shouldRefuseToServeStaleData_WhenPolicyIsFail() {
+            var value = newSampleValue();
+            try (var cache = newCache(CacheConfig.builder()
+                    .withWatchDuration(Duration.ofSeconds(5))
+                    .withMaxStaleness(Duration.ofSeconds(10), StalenessPolicy.FAIL)
+                    .build())) {
+                cache.start();
+                respond(value, null, null);
+
+                cache.setClock(clockAt(START.plusSeconds(10)));
+                assertThat(cache.isStale()).isFalse();
+                assertThat(cache.getMap()).containsOnlyKeys("foo");
+
+                cache.setClock(clockAt(START.plusSeconds(11)));
+                assertThatThrownBy(cache::getMap)
+                        .isExactlyInstanceOf(StaleCacheException.class)
+                        .hasMessageContaining("PT11S")
+                        .extracting("staleness", "maxStaleness")
+                        .containsExactly(Duration.ofSeconds(11), Duration.ofSeconds(10));
+                assertThatThrownBy(cache::getMapWithMetadata).isExactlyInstanceOf(StaleCacheException.class);
+                assertThat(cache.size())
+                        .describedAs("size should not check staleness")
+                        .isOne();
+
+                // a successful poll makes the data fresh again
+                callbackHolder.get().onComplete(
+                        new ConsulResponse<>(List.<Value>of(value), 0, true, BigInteger.TWO, null, null));
+                assertThat(cache.isStale()).isFalse();
+                assertThat(cache.getMap()).containsOnlyKeys("foo");
+            }
+        }
+
+        private void respond(Value value, String cacheHeader, String ageHeader) {
+            callbackHolder.get().onComplete(
+                    new ConsulResponse<>(List.of(value), 0, true, BigInteger.ONE, cacheHeader, ageHeader));
+        }
+
+        private ConsulCache<String, Value> newCache(CacheConfig cacheConfig) {
+            var cache = new ConsulCache<>(Value::getKey, capturingConsumer, cacheConfig,
+                    mock(ClientEventHandler.class), new CacheDescriptor("kv", "foo"), mock(Scheduler.class));
+            cache.setClock(clockAt(START));
+            return cache;
+        }
+
+        private static Clock clockAt(Instant instant) {
+            return Clock.fixed(instant, ZoneOffset.UTC);
+        }
+    }
+
     @ParameterizedTest(name = "min Delay: {0}, max Delay: {1}")
     @MethodSource("getRetryDurationSamples")
     void testRetryDuration(Duration minDelay, Duration maxDelay) {
@@ -328,6 +722,75 @@ class ConsulCacheTest {
         );
     }
 
+    @Test
+    void shouldUseBackOffPolicy_WithConsecutiveFailuresAndPreviousDelay() {
+        List<String> calls = new ArrayList<>();
+        BackOffPolicy policy = (failures, previousDelay) -> {
+            calls.add(failures + ":" + previousDelay.toMillis());
+            return Duration.ofMillis(100L * failures);
+        };
+        var cacheConfig = CacheConfig.builder().withBackOffPolicy(policy).build();
+        var callbackHolder = new AtomicReference<ConsulResponseCallback<List<Value>>>();
+        CallbackConsumer<Value> capturingConsumer = (index, callback) -> callbackHolder.set(callback);
+        var scheduler = mock(Scheduler.class);
+
+        try (var cache = new ConsulCache<>(Value::getKey, capturingConsumer, cacheConfig,
+                mock(ClientEventHandler.class), new CacheDescriptor("kv", "foo"), scheduler)) {
+            cache.start();
+
+            callbackHolder.get().onFailure(new ConsulException("first"));
+            callbackHolder.get().onFailure(new ConsulException("second"));
+            callbackHolder.get().onFailure(new ConsulException("third"));
+            callbackHolder.get().onComplete(
+                    new ConsulResponse<>(List.of(newSampleValue()), 0, true, BigInteger.ONE, null, null));
+            callbackHolder.get().onFailure(new ConsulException("after success"));
+
+            assertThat(calls)
+                    .describedAs("failure count and previous delay should reset after a successful poll")
+                    .containsExactly("1:0", "2:100", "3:200", "1:0");
+            verify(scheduler).schedule(any(Runnable.class), eq(300L), eq(TimeUnit.MILLISECONDS));
+            verify(scheduler, atLeastOnce()).schedule(any(Runnable.class), eq(100L), eq(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    void shouldDelayNextRequestAfterChange_WithAdaptiveRateLimit() {
+        var cacheConfig = CacheConfig.builder().withAdaptiveRateLimit(2, Duration.ofSeconds(5)).build();
+        var callbackHolder = new AtomicReference<ConsulResponseCallback<List<Value>>>();
+        CallbackConsumer<Value> capturingConsumer = (index, callback) -> callbackHolder.set(callback);
+        var scheduler = mock(Scheduler.class);
+
+        try (var cache = new ConsulCache<>(Value::getKey, capturingConsumer, cacheConfig,
+                mock(ClientEventHandler.class), new CacheDescriptor("kv", "foo"), scheduler)) {
+            cache.start();
+
+            callbackHolder.get().onComplete(
+                    new ConsulResponse<>(List.of(newSampleValue()), 0, true, BigInteger.ONE, null, null));
+
+            verify(scheduler).schedule(any(Runnable.class), eq(500L), eq(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    void shouldStartAdaptiveDelayWhenChangeArrives_NotWhenRequestWasSent() {
+        var cacheConfig = CacheConfig.builder().withAdaptiveRateLimit(2, Duration.ofSeconds(5)).build();
+        var callbackHolder = new AtomicReference<ConsulResponseCallback<List<Value>>>();
+        CallbackConsumer<Value> capturingConsumer = (index, callback) -> callbackHolder.set(callback);
+        var scheduler = mock(Scheduler.class);
+
+        try (var cache = new ConsulCache<>(Value::getKey, capturingConsumer, cacheConfig,
+                mock(ClientEventHandler.class), new CacheDescriptor("kv", "foo"), scheduler)) {
+            cache.start();
+
+            // a blocking query that returns with a change after most of the coalescing window
+            await().pollDelay(Duration.ofMillis(450)).until(() -> true);
+            callbackHolder.get().onComplete(
+                    new ConsulResponse<>(List.of(newSampleValue()), 0, true, BigInteger.ONE, null, null));
+
+            verify(scheduler).schedule(any(Runnable.class), eq(500L), eq(TimeUnit.MILLISECONDS));
+        }
+    }
+
     @Test
     void shouldAddAndRemoveListeners() {
         Function<Value, String> keyExtractor = Value::getKey;
@@ -376,6 +839,33 @@ class ConsulCacheTest {
         }
     }
 
+    @Test
+    void shouldNotifyAsyncListenersOnTheirExecutor() {
+        var value = newSampleValue();
+        var callbackConsumer = new StubCallbackConsumer(List.of(value));
+        List<Runnable> tasks = new ArrayList<>();
+
+        try (var cache = new ConsulCache<>(Value::getKey, callbackConsumer, CacheConfig.builder().build(),
+                mock(ClientEventHandler.class), new CacheDescriptor(""))) {
+            var listener = new StubListener();
+            cache.addListener(listener, tasks::add);
+            assertThat(cache.getListeners()).containsExactly(listener);
+
+            cache.start();
+            await().atMost(FIVE_SECONDS).until(() -> cache.getState() == ConsulCache.State.STARTED);
+
+            assertThat(listener.getCallCount())
+                    .describedAs("listener should only be notified when its executor runs the task")
+                    .isZero();
+            List.copyOf(tasks).forEach(Runnable::run);
+            assertThat(listener.getCallCount()).isEqualTo(1);
+            assertThat(listener.getLastValues()).containsOnlyKeys(value.getKey());
+
+            assertThat(cache.removeListener(listener)).isTrue();
+            assertThat(cache.getListeners()).isEmpty();
+        }
+    }
+
     @Test
     void testListenerIsCalled() {
         Function<Value, String> keyExtractor = Value::getKey;
@@ -482,6 +972,72 @@ class ConsulCacheTest {
         }
     }
 
+    @Test
+    void shouldNotifyDeltaListenersWithChangesBetweenSnapshots() {
+        Function<Value, String> keyExtractor = Value::getKey;
+        var cacheConfig = CacheConfig.builder().build();
+        var eventHandler = mock(ClientEventHandler.class);
+        var scheduler = mock(Scheduler.class);
+
+        var callbackHolder = new AtomicReference<ConsulResponseCallback<List<Value>>>();
+        CallbackConsumer<Value> capturingConsumer = (index, callback) -> callbackHolder.set(callback);
+
+        try (var cache = new ConsulCache<>(keyExtractor, capturingConsumer, cacheConfig, eventHandler,
+                new CacheDescriptor(""), scheduler)) {
+
+            var deltas = new ArrayList<CacheDelta<String, Value>>();
+            cache.addDeltaListener(deltas::add);
+            cache.start();
+
+            var foo = newSampleValue();
+            var bar = ImmutableValue.copyOf(foo).withKey("bar");
+            callbackHolder.get().onComplete(new ConsulResponse<>(List.of(foo, bar), 0, true, BigInteger.ONE, null, null));
+
+            assertThat(deltas).hasSize(1);
+            assertThat(deltas.get(0).getAdded()).containsOnlyKeys("foo", "bar");
+            assertThat(deltas.get(0).getRemoved()).isEmpty();
+            assertThat(deltas.get(0).getChanged()).isEmpty();
+
+            var changedBar = bar.withModifyIndex(3);
+            callbackHolder.get().onComplete(new ConsulResponse<>(List.of(changedBar), 0, true, BigInteger.TWO, null, null));
+
+            assertThat(deltas).hasSize(2);
+            var delta = deltas.get(1);
+            assertThat(delta.getAdded()).isEmpty();
+            assertThat(delta.getRemoved()).containsExactly(Map.entry("foo", foo));
+            assertThat(delta.getChanged()).containsExactly(Map.entry("bar", changedBar));
+            assertThat(delta.getSnapshot()).isSameAs(cache.getMap());
+
+            // an identical response must not produce another delta
+            callbackHolder.get().onComplete(new ConsulResponse<>(List.of(changedBar), 0, true, BigInteger.TWO, null, null));
+            assertThat(deltas).hasSize(2);
+        }
+    }
+
+    @Test
+    void shouldReceiveCurrentSnapshotAsAdded_WhenDeltaListenerAddedAfterStart() {
+        Function<Value, String> keyExtractor = Value::getKey;
+        var cacheConfig = CacheConfig.builder()
+                .withMinDelayBetweenRequests(Duration.ofSeconds(10))
+                .build();
+        var eventHandler = mock(ClientEventHandler.class);
+
+        var value = newSampleValue();
+        var callbackConsumer = new StubCallbackConsumer(List.of(value));
+
+        try (var cache = new ConsulCache<>(keyExtractor, callbackConsumer, cacheConfig, eventHandler, new CacheDescriptor(""))) {
+            cache.start();
+
+            var delta = new AtomicReference<CacheDelta<String, Value>>();
+            cache.addDeltaListener(delta::set);
+
+            assertThat(delta.get().getAdded()).containsExactly(Map.entry(value.getKey(), value));
+            assertThat(cache.getDeltaListeners()).hasSize(1);
+            assertThat(cache.removeDeltaListener(cache.getDeltaListeners().get(0))).isTrue();
+            assertThat(cache.getDeltaListeners()).isEmpty();
+        }
+    }
+
     @Nested
     class StopIfRunningQuietly {
 
@@ -0,0 +1,115 @@
+package org.kiwiproject.consul.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.kiwiproject.consul.config.CacheSnapshot;
+import org.kiwiproject.consul.model.kv.ImmutableValue;
+import org.kiwiproject.consul.model.kv.Value;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+
+class FileCacheSnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private FileCacheSnapshotStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new FileCacheSnapshotStore(tempDir.resolve("snapshots"));
+    }
+
+    @Test
+    void shouldRoundTripSnapshot() throws IOException {
+        var cacheId = "kv-1a2b3c4d5e6f7a8b";
+        var savedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        var values = List.<Value>of(newValue("config/app/a", "one"), newValue("config/app/b", "two"));
+
+        store.save(cacheId, new CacheSnapshot<>(values, BigInteger.valueOf(1234), null, savedAt));
+        var loaded = store.load(cacheId, Value.class).orElseThrow();
+
+        assertThat(loaded.getValues()).isEqualTo(values);
+        assertThat(loaded.getIndex()).contains(BigInteger.valueOf(1234));
+        assertThat(loaded.getContentHash()).isEmpty();
+        assertThat(loaded.getSavedAt()).isEqualTo(savedAt);
+    }
+
+    @Test
+    void shouldRoundTripContentHash() throws IOException {
+        var cacheId = "agent.services-0f1e2d3c4b5a6978";
+
+        store.save(cacheId, new CacheSnapshot<>(List.of(), null, "aa0e22ab6f7a4b84", Instant.now()));
+        var loaded = store.load(cacheId, Value.class).orElseThrow();
+
+        assertThat(loaded.getValues()).isEmpty();
+        assertThat(loaded.getIndex()).isEmpty();
+        assertThat(loaded.getContentHash()).contains("aa0e22ab6f7a4b84");
+    }
+
+    @Test
+    void shouldReplacePreviousSnapshot() throws IOException {
+        var cacheId = "kv-1a2b3c4d5e6f7a8b";
+
+        store.save(cacheId, new CacheSnapshot<>(List.of(newValue("a", "1")), BigInteger.ONE, null, Instant.now()));
+        store.save(cacheId, new CacheSnapshot<>(List.of(newValue("b", "2")), BigInteger.TWO, null, Instant.now()));
+
+        var loaded = store.load(cacheId, Value.class).orElseThrow();
+        assertThat(loaded.getValues()).extracting(Value::getKey).containsExactly("b");
+        assertThat(loaded.getIndex()).contains(BigInteger.TWO);
+        try (var files = Files.list(tempDir.resolve("snapshots"))) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    void shouldReturnEmpty_WhenNoSnapshotExists() throws IOException {
+        assertThat(store.load("kv-missing", Value.class)).isEmpty();
+    }
+
+    @Test
+    void shouldThrow_WhenSnapshotIsCorrupt() throws IOException {
+        var cacheId = "kv-corrupt";
+        Files.createDirectories(tempDir.resolve("snapshots"));
+        Files.writeString(store.pathFor(cacheId), "{\"values\": [");
+
+        assertThatThrownBy(() -> store.load(cacheId, Value.class)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldNameFileAfterCacheId() {
+        assertThat(store.pathFor("kv-1a2b3c4d5e6f7a8b"))
+                .isEqualTo(tempDir.resolve("snapshots").resolve("kv-1a2b3c4d5e6f7a8b.json"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "../kv", "kv/config", "kv config" })
+    void shouldRejectCacheIds_ThatAreNotSafeFileNames(String cacheId) {
+        assertThatIllegalArgumentException().isThrownBy(() -> store.pathFor(cacheId));
+    }
+
+    private static Value newValue(String key, String value) {
+        return ImmutableValue.builder()
+                .key(key)
+                .createIndex(1)
+                .modifyIndex(2)
+                .lockIndex(3)
+                .flags(4)
+                .value(Base64.getEncoder().encodeToString(value.getBytes()))
+                .build();
+    }
+}
@@ -1,9 +1,12 @@
 package org.kiwiproject.consul.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.awaitility.Awaitility.await;
 import static org.awaitility.Durations.FIVE_SECONDS;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.junit.jupiter.api.Test;
@@ -15,9 +18,11 @@ import org.kiwiproject.consul.NetworkTimeoutConfig;
 import org.kiwiproject.consul.KeyValueClientFactory;
 import org.kiwiproject.consul.MockApiService;
 import org.kiwiproject.consul.config.CacheConfig;
+import org.kiwiproject.consul.config.CacheConfig.StalenessPolicy;
 import org.kiwiproject.consul.config.ClientConfig;
 import org.kiwiproject.consul.model.kv.ImmutableValue;
 import org.kiwiproject.consul.model.kv.Value;
+import org.kiwiproject.consul.monitoring.ClientEventHandler;
 import org.kiwiproject.consul.monitoring.NoOpClientEventCallback;
 import retrofit2.Retrofit;
 import retrofit2.mock.BehaviorDelegate;
@@ -120,4 +125,47 @@ class KVCacheTest {
         }
 
     }
+
+    @Test
+    void shouldRemoveSubTreeListener_ForAllPrefixes_WhenEqualToRegisteredListener() {
+        var keyValueClient = mock(KeyValueClient.class);
+        when(keyValueClient.getConfig()).thenReturn(new ClientConfig(CacheConfig.builder().build()));
+        when(keyValueClient.getEventHandler()).thenReturn(mock(ClientEventHandler.class));
+
+        try (var kvCache = KVCache.newCache(keyValueClient, "config", 5)) {
+            kvCache.addSubTreeListener("feature/", new NamedSubTreeListener("flags"));
+            kvCache.addSubTreeListener("service/", new NamedSubTreeListener("flags"));
+            kvCache.addSubTreeListener("service/", new NamedSubTreeListener("limits"));
+
+            assertThat(kvCache.removeSubTreeListener(new NamedSubTreeListener("flags"))).isTrue();
+            assertThat(kvCache.getSubTreeListeners()).containsExactly(new NamedSubTreeListener("limits"));
+            assertThat(kvCache.removeSubTreeListener(new NamedSubTreeListener("flags"))).isFalse();
+        }
+    }
+
+    @Test
+    void shouldRejectMaxStaleness_ShorterThanPollCycle_OfExplicitWatchSeconds() {
+        var cacheConfig = CacheConfig.builder()
+                .withMaxStaleness(Duration.ofSeconds(60), StalenessPolicy.FAIL)
+                .build();
+        var keyValueClient = mock(KeyValueClient.class);
+        when(keyValueClient.getConfig()).thenReturn(new ClientConfig(cacheConfig));
+        when(keyValueClient.getEventHandler()).thenReturn(mock(ClientEventHandler.class));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> KVCache.newCache(keyValueClient, "config", 300))
+                .withMessageStartingWith("Max staleness (PT1M) must be longer than the cache watch duration (300 sec)");
+
+        try (var kvCache = KVCache.newCache(keyValueClient, "config", 30)) {
+            assertThat(kvCache.getCacheDescriptor().getKey()).isEqualTo("config");
+        }
+    }
+
+    private record NamedSubTreeListener(String name) implements KVCache.SubTreeListener {
+
+        @Override
+        public void notify(KVTrie subTree) {
+            // not used
+        }
+    }
 }
@@ -0,0 +1,204 @@
+package org.kiwiproject.consul.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.kiwiproject.consul.model.kv.ImmutableValue;
+import org.kiwiproject.consul.model.kv.Value;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+
+class KVTrieTest {
+
+    private static final List<String> KEYS = List.of(
+            "feature",
+            "feature/",
+            "feature/flags",
+            "feature/flags/dark-mode",
+            "feature/flags/new-checkout",
+            "feature/flags-old/beta",
+            "feature/limits/rate",
+            "service/payments/timeout"
+    );
+
+    @Test
+    void shouldBeEmpty() {
+        var trie = KVTrie.empty();
+
+        assertThat(trie.isEmpty()).isTrue();
+        assertThat(trie.size()).isZero();
+        assertThat(trie.asMap()).isEmpty();
+        assertThat(trie.get("any")).isEmpty();
+    }
+
+    @Test
+    void shouldContainAllEntries() {
+        var values = valuesFor(KEYS);
+        var trie = KVTrie.of(values);
+
+        assertThat(trie.size()).isEqualTo(KEYS.size());
+        assertThat(trie.asMap()).isEqualTo(values);
+        KEYS.forEach(key -> assertThat(trie.get(key)).contains(values.get(key)));
+        assertThat(trie.get("feature/flags/missing")).isEmpty();
+        assertThat(trie.get("feature/fla")).isEmpty();
+    }
+
+    @Test
+    void shouldIterateInPathSegmentOrder() {
+        var trie = KVTrie.of(valuesFor(List.of("a/c", "a/b/c", "a/b", "a")));
+
+        List<String> keys = new ArrayList<>();
+        trie.forEach((key, value) -> keys.add(key));
+
+        assertThat(keys).containsExactly("a", "a/b", "a/b/c", "a/c");
+    }
+
+    @Test
+    void shouldSupportEmptyKey() {
+        var trie = KVTrie.of(valuesFor(List.of("", "a")));
+
+        assertThat(trie.size()).isEqualTo(2);
+        assertThat(trie.get("")).isPresent();
+    }
+
+    @Nested
+    class SubTree {
+
+        @ParameterizedTest
+        @CsvSource(textBlock = """
+                feature/flags/, 'feature/flags/dark-mode,feature/flags/new-checkout'
+                feature/flags, 'feature/flags,feature/flags/dark-mode,feature/flags/new-checkout,feature/flags-old/beta'
+                feature/flags/dark, feature/flags/dark-mode
+                feature/, 'feature/,feature/flags,feature/flags/dark-mode,feature/flags/new-checkout,feature/flags-old/beta,feature/limits/rate'
+                service, service/payments/timeout
+                """)
+        void shouldContainKeysStartingWithPrefix(String prefix, String expectedKeys) {
+            var trie = KVTrie.of(valuesFor(KEYS));
+
+            var expected = List.of(expectedKeys.split(","));
+            assertThat(trie.subTree(prefix).asMap()).containsOnlyKeys(expected);
+            assertThat(expected).allMatch(key -> key.startsWith(prefix));
+            assertThat(KEYS.stream().filter(key -> key.startsWith(prefix))).hasSameSizeAs(expected);
+        }
+
+        @Test
+        void shouldReturnSameTrie_ForEmptyPrefix() {
+            var trie = KVTrie.of(valuesFor(KEYS));
+
+            assertThat(trie.subTree("")).isSameAs(trie);
+        }
+
+        @Test
+        void shouldBeEmpty_WhenNoKeyMatches() {
+            var trie = KVTrie.of(valuesFor(KEYS));
+
+            assertThat(trie.subTree("missing/").isEmpty()).isTrue();
+            assertThat(trie.subTree("feature/flags/x").isEmpty()).isTrue();
+        }
+
+        @Test
+        void shouldKeepFullKeys() {
+            var trie = KVTrie.of(valuesFor(KEYS));
+
+            assertThat(trie.subTree("feature/limits/").get("feature/limits/rate")).isPresent();
+        }
+    }
+
+    @Nested
+    class Updates {
+
+        @Test
+        void shouldAddAndReplaceEntries_WithoutChangingOriginal() {
+            var original = KVTrie.of(valuesFor(List.of("a/b")));
+            var newValue = value("a/b", "new");
+
+            var updated = original.with("a/c", value("a/c", "c")).with("a/b", newValue);
+
+            assertThat(original.asMap()).containsOnlyKeys("a/b");
+            assertThat(updated.asMap()).containsOnlyKeys("a/b", "a/c");
+            assertThat(updated.get("a/b")).contains(newValue);
+        }
+
+        @Test
+        void shouldRemoveEntriesAndEmptyBranches() {
+            var trie = KVTrie.of(valuesFor(List.of("a/b/c", "x")));
+
+            var updated = trie.without("a/b/c");
+
+            assertThat(updated.asMap()).containsOnlyKeys("x");
+            assertThat(updated.subTree("a/").isEmpty()).isTrue();
+            assertThat(updated).isEqualTo(KVTrie.of(valuesFor(List.of("x"))));
+        }
+
+        @Test
+        void shouldReturnSameTrie_WhenRemovingMissingKey() {
+            var trie = KVTrie.of(valuesFor(KEYS));
+
+            assertThat(trie.without("feature/flags/missing")).isSameAs(trie);
+            assertThat(trie.without("feature/limits")).isSameAs(trie);
+        }
+
+        @Test
+        void shouldApplyDelta() {
+            var previous = valuesFor(KEYS);
+            var next = new LinkedHashMap<>(previous);
+            next.put("feature/flags/dark-mode", value("feature/flags/dark-mode", "on"));
+            next.put("feature/flags/brand-new", value("feature/flags/brand-new", "1"));
+            next.remove("service/payments/timeout");
+            var current = ImmutableMap.copyOf(next);
+
+            var trie = KVTrie.of(previous).apply(CacheDelta.between(previous, current));
+
+            assertThat(trie).isEqualTo(KVTrie.of(current));
+            assertThat(trie.asMap()).isEqualTo(current);
+        }
+
+        @Test
+        void shouldShareUnchangedSubTrees() {
+            var original = KVTrie.of(valuesFor(KEYS));
+
+            var updated = original.with("feature/flags/dark-mode", value("feature/flags/dark-mode", "on"));
+
+            assertThat(updated.subTree("service/")).isEqualTo(original.subTree("service/"));
+            assertThat(updated.subTree("feature/limits/")).isEqualTo(original.subTree("feature/limits/"));
+            assertThat(updated.subTree("feature/flags/")).isNotEqualTo(original.subTree("feature/flags/"));
+        }
+    }
+
+    @Test
+    void shouldBeEqual_WhenContentsAreEqual() {
+        var trie1 = KVTrie.of(valuesFor(KEYS));
+        var trie2 = KVTrie.empty();
+        for (String key : KEYS) {
+            trie2 = trie2.with(key, value(key, key));
+        }
+
+        assertThat(trie1).isEqualTo(trie2);
+        assertThat(trie1).hasSameHashCodeAs(trie2);
+        assertThat(trie1).isNotEqualTo(trie2.without("feature"));
+    }
+
+    private static ImmutableMap<String, Value> valuesFor(List<String> keys) {
+        var builder = ImmutableMap.<String, Value>builder();
+        keys.forEach(key -> builder.put(key, value(key, key)));
+        return builder.build();
+    }
+
+    private static Value value(String key, String value) {
+        return ImmutableValue.builder()
+                .createIndex(1)
+                .modifyIndex(1)
+                .lockIndex(0)
+                .flags(0)
+                .key(key)
+                .value(Optional.of(value))
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package org.kiwiproject.consul.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.kiwiproject.consul.model.catalog.CatalogService;
+import org.kiwiproject.consul.model.catalog.ImmutableCatalogService;
+import org.kiwiproject.consul.model.health.HealthCheck;
+import org.kiwiproject.consul.model.health.ImmutableHealthCheck;
+import org.kiwiproject.consul.model.health.ImmutableNode;
+import org.kiwiproject.consul.model.health.ImmutableService;
+import org.kiwiproject.consul.model.health.ImmutableServiceHealth;
+import org.kiwiproject.consul.model.health.ServiceHealth;
+import org.kiwiproject.consul.util.Jackson;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+class ModifyIndexesTest {
+
+    @Nested
+    class HealthChecks {
+
+        @Test
+        void shouldBeSameVersion_WhenModifyIndexIsEqual() {
+            var previous = check(10L, "output 1");
+            var current = check(10L, "output 1");
+
+            assertThat(ModifyIndexes.isSameVersion(previous, current)).isTrue();
+        }
+
+        @Test
+        void shouldNotBeSameVersion_WhenModifyIndexDiffers() {
+            var previous = check(10L, "output 1");
+            var current = check(11L, "output 1");
+
+            assertThat(ModifyIndexes.isSameVersion(previous, current)).isFalse();
+        }
+
+        @Test
+        void shouldCompareValues_WhenModifyIndexIsMissing() {
+            assertThat(ModifyIndexes.isSameVersion(check(null, "output"), check(null, "output"))).isTrue();
+            assertThat(ModifyIndexes.isSameVersion(check(null, "output"), check(null, "changed"))).isFalse();
+            assertThat(ModifyIndexes.isSameVersion(check(10L, "output"), check(null, "output"))).isFalse();
+        }
+    }
+
+    @Nested
+    class ServiceHealths {
+
+        @Test
+        void shouldBeSameVersion_WhenAllModifyIndexesAreEqual() {
+            var previous = serviceHealth(5L, 7L, List.of(check(10L, "ok"), check(11L, "ok")));
+            var current = serviceHealth(5L, 7L, List.of(check(10L, "ok"), check(11L, "ok")));
+
+            assertThat(ModifyIndexes.isSameVersion(previous, current)).isTrue();
+        }
+
+        @Test
+        void shouldNotBeSameVersion_WhenNodeServiceOrCheckChanged() {
+            var previous = serviceHealth(5L, 7L, List.of(check(10L, "ok")));
+
+            assertThat(ModifyIndexes.isSameVersion(previous, serviceHealth(6L, 7L, List.of(check(10L, "ok")))))
+                    .describedAs("node changed")
+                    .isFalse();
+            assertThat(ModifyIndexes.isSameVersion(previous, serviceHealth(5L, 8L, List.of(check(10L, "ok")))))
+                    .describedAs("service changed")
+                    .isFalse();
+            assertThat(ModifyIndexes.isSameVersion(previous, serviceHealth(5L, 7L, List.of(check(12L, "failing")))))
+                    .describedAs("check changed")
+                    .isFalse();
+            assertThat(ModifyIndexes.isSameVersion(previous, serviceHealth(5L, 7L, List.of())))
+                    .describedAs("check removed")
+                    .isFalse();
+        }
+    }
+
+    @Nested
+    class CatalogServices {
+
+        @Test
+        void shouldBeSameVersion_WhenModifyIndexAndNodeAreEqual() {
+            var previous = catalogService(7L, "10.0.0.1", Map.of("rack", "a"));
+            var current = catalogService(7L, "10.0.0.1", Map.of("rack", "a"));
+
+            assertThat(ModifyIndexes.isSameVersion(previous, current)).isTrue();
+        }
+
+        @Test
+        void shouldNotBeSameVersion_WhenModifyIndexDiffers() {
+            var previous = catalogService(7L, "10.0.0.1", Map.of());
+            var current = catalogService(8L, "10.0.0.1", Map.of());
+
+            assertThat(ModifyIndexes.isSameVersion(previous, current)).isFalse();
+        }
+
+        @Test
+        void shouldNotBeSameVersion_WhenOnlyNodeChanged() {
+            var previous = catalogService(7L, "10.0.0.1", Map.of("rack", "a"));
+
+            assertThat(ModifyIndexes.isSameVersion(previous, catalogService(7L, "10.0.0.2", Map.of("rack", "a"))))
+                    .describedAs("node address changed")
+                    .isFalse();
+            assertThat(ModifyIndexes.isSameVersion(previous, catalogService(7L, "10.0.0.1", Map.of("rack", "b"))))
+                    .describedAs("node meta changed")
+                    .isFalse();
+        }
+    }
+
+    @Test
+    void shouldReadModifyIndexes_FromHealthServiceResponse() throws Exception {
+        var json = """
+                {
+                  "Node": {"Node": "node-1", "Address": "10.0.0.1", "CreateIndex": 1, "ModifyIndex": 5},
+                  "Service": {"ID": "web-1", "Service": "web", "Address": "", "Port": 80, "CreateIndex": 2, "ModifyIndex": 7},
+                  "Checks": [{"Node": "node-1", "CheckID": "serfHealth", "Name": "Serf", "Status": "passing", "CreateIndex": 1, "ModifyIndex": 3}]
+                }
+                """;
+
+        var serviceHealth = Jackson.MAPPER.readValue(json, ServiceHealth.class);
+
+        assertThat(serviceHealth.getNode().getModifyIndex()).contains(5L);
+        assertThat(serviceHealth.getService().getModifyIndex()).contains(7L);
+        assertThat(serviceHealth.getChecks()).singleElement()
+                .satisfies(check -> assertThat(check.getModifyIndex()).contains(3L));
+    }
+
+    private static HealthCheck check(Long modifyIndex, String output) {
+        return ImmutableHealthCheck.builder()
+                .node("node-1")
+                .checkId("check-1")
+                .name("check")
+                .status("passing")
+                .output(output)
+                .modifyIndex(Optional.ofNullable(modifyIndex))
+                .build();
+    }
+
+    private static CatalogService catalogService(long modifyIndex, String address, Map<String, String> nodeMeta) {
+        return ImmutableCatalogService.builder()
+                .node("node-1")
+                .address(address)
+                .serviceName("web")
+                .serviceId("web-1")
+                .serviceAddress("")
+                .servicePort(80)
+                .nodeMeta(nodeMeta)
+                .modifyIndex(modifyIndex)
+                .build();
+    }
+
+    private static ServiceHealth serviceHealth(long nodeIndex, long serviceIndex, List<HealthCheck> checks) {
+        return ImmutableServiceHealth.builder()
+                .node(ImmutableNode.builder().node("node-1").address("10.0.0.1").modifyIndex(nodeIndex).build())
+                .service(ImmutableService.builder()
+                        .id("web-1")
+                        .service("web")
+                        .address("10.0.0.1")
+                        .port(80)
+                        .modifyIndex(serviceIndex)
+                        .build())
+                .checks(checks)
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package org.kiwiproject.consul.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+
+final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+    private final List<T> items = new CopyOnWriteArrayList<>();
+    private volatile Flow.Subscription subscription;
+    private volatile Throwable error;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(T item) {
+        items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+        throw new IllegalStateException("onComplete is not expected");
+    }
+
+    public void request(long n) {
+        subscription.request(n);
+    }
+
+    public void cancel() {
+        subscription.cancel();
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+}
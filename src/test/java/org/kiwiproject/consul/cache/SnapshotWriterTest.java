@@ -0,0 +1,106 @@
+package org.kiwiproject.consul.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kiwiproject.consul.config.CacheSnapshot;
+import org.kiwiproject.consul.config.CacheSnapshotStore;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+
+class SnapshotWriterTest {
+
+    private static final CacheDescriptor DESCRIPTOR = new CacheDescriptor("kv", "config");
+
+    private Queue<Runnable> tasks;
+    private CacheSnapshotStore store;
+    private SnapshotWriter<String> writer;
+
+    @BeforeEach
+    void setUp() {
+        tasks = new ArrayDeque<>();
+        store = mock(CacheSnapshotStore.class);
+        writer = new SnapshotWriter<>(store, DESCRIPTOR, tasks::add);
+    }
+
+    @Test
+    void shouldSaveOnExecutor() throws IOException {
+        var snapshot = newSnapshot(1);
+
+        writer.save(snapshot);
+
+        verifyNoInteractions(store);
+        assertThat(tasks).hasSize(1);
+
+        runTasks();
+
+        verify(store).save(DESCRIPTOR.snapshotId(), snapshot);
+        assertThat(writer.hasPendingSnapshot()).isFalse();
+    }
+
+    @Test
+    void shouldSaveOnlyLatestSnapshot_WhenSnapshotsArriveBeforeSaving() throws IOException {
+        var latest = newSnapshot(3);
+
+        writer.save(newSnapshot(1));
+        writer.save(newSnapshot(2));
+        writer.save(latest);
+
+        assertThat(tasks)
+                .describedAs("only one task should be scheduled at a time")
+                .hasSize(1);
+
+        runTasks();
+
+        verify(store).save(any(), any());
+        verify(store).save(DESCRIPTOR.snapshotId(), latest);
+    }
+
+    @Test
+    void shouldKeepSaving_WhenStoreThrows() throws IOException {
+        doThrow(new IOException("disk full")).when(store).save(any(), any());
+
+        writer.save(newSnapshot(1));
+        runTasks();
+        writer.save(newSnapshot(2));
+        runTasks();
+
+        verify(store, times(2)).save(any(), any());
+    }
+
+    @Test
+    void shouldKeepSnapshotPending_WhenExecutorRejects() {
+        var rejecting = new SnapshotWriter<String>(store, DESCRIPTOR, task -> {
+            throw new RejectedExecutionException("shut down");
+        });
+
+        rejecting.save(newSnapshot(1));
+
+        assertThat(rejecting.hasPendingSnapshot()).isTrue();
+        verifyNoInteractions(store);
+    }
+
+    private static CacheSnapshot<String> newSnapshot(long index) {
+        return new CacheSnapshot<>(List.of("value-" + index), BigInteger.valueOf(index), null, Instant.now());
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.kiwiproject.consul.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+
+class BackOffPolicyTest {
+
+    private static final Duration ONE_SECOND = Duration.ofSeconds(1);
+    private static final Duration THIRTY_SECONDS = Duration.ofSeconds(30);
+
+    @Nested
+    class Uniform {
+
+        @Test
+        void shouldReturnDelaysBetweenMinAndMax_RegardlessOfFailures() {
+            var policy = BackOffPolicy.uniform(ONE_SECOND, Duration.ofSeconds(2));
+
+            for (int failures = 1; failures <= 1_000; failures++) {
+                assertThat(policy.nextDelay(failures, Duration.ZERO)).isBetween(ONE_SECOND, Duration.ofSeconds(2));
+            }
+        }
+
+        @Test
+        void shouldReturnFixedDelay_WhenMinEqualsMax() {
+            var policy = BackOffPolicy.uniform(ONE_SECOND, ONE_SECOND);
+
+            assertThat(policy.nextDelay(7, THIRTY_SECONDS)).isEqualTo(ONE_SECOND);
+        }
+
+        @Test
+        void shouldRejectMinGreaterThanMax() {
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> BackOffPolicy.uniform(Duration.ofSeconds(2), ONE_SECOND));
+        }
+    }
+
+    @Nested
+    class Exponential {
+
+        @ParameterizedTest
+        @CsvSource(textBlock = """
+                1, 1
+                2, 2
+                3, 4
+                4, 8
+                5, 16
+                6, 30
+                7, 30
+                1000, 30
+                """)
+        void shouldDoubleDelay_UpToMax(int failures, long expectedSeconds) {
+            var policy = BackOffPolicy.exponential(ONE_SECOND, THIRTY_SECONDS);
+
+            assertThat(policy.nextDelay(failures, Duration.ZERO)).isEqualTo(Duration.ofSeconds(expectedSeconds));
+        }
+
+        @Test
+        void shouldRejectZeroInitialDelay() {
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> BackOffPolicy.exponential(Duration.ZERO, THIRTY_SECONDS));
+        }
+    }
+
+    @Nested
+    class ExponentialWithJitter {
+
+        @Test
+        void shouldReturnDelaysBetweenInitialAndExponentialDelay() {
+            var policy = BackOffPolicy.exponentialWithJitter(ONE_SECOND, THIRTY_SECONDS);
+
+            for (int i = 0; i < 1_000; i++) {
+                assertThat(policy.nextDelay(1, Duration.ZERO)).isEqualTo(ONE_SECOND);
+                assertThat(policy.nextDelay(3, Duration.ZERO)).isBetween(ONE_SECOND, Duration.ofSeconds(4));
+                assertThat(policy.nextDelay(100, Duration.ZERO)).isBetween(ONE_SECOND, THIRTY_SECONDS);
+            }
+        }
+    }
+
+    @Nested
+    class DecorrelatedJitter {
+
+        @Test
+        void shouldReturnDelaysBetweenBaseAndThreeTimesPreviousDelay() {
+            var policy = BackOffPolicy.decorrelatedJitter(ONE_SECOND, THIRTY_SECONDS);
+
+            for (int i = 0; i < 1_000; i++) {
+                assertThat(policy.nextDelay(1, Duration.ZERO)).isBetween(ONE_SECOND, Duration.ofSeconds(3));
+                assertThat(policy.nextDelay(2, Duration.ofSeconds(4))).isBetween(ONE_SECOND, Duration.ofSeconds(12));
+            }
+        }
+
+        @Test
+        void shouldCapDelayAtMax() {
+            var policy = BackOffPolicy.decorrelatedJitter(ONE_SECOND, THIRTY_SECONDS);
+
+            var previousDelay = Duration.ZERO;
+            for (int failures = 1; failures <= 1_000; failures++) {
+                previousDelay = policy.nextDelay(failures, previousDelay);
+                assertThat(previousDelay).isBetween(ONE_SECOND, THIRTY_SECONDS);
+            }
+        }
+
+        @Test
+        void shouldNotOverflow_WithHugePreviousDelay() {
+            var max = Duration.ofDays(365);
+            var policy = BackOffPolicy.decorrelatedJitter(ONE_SECOND, max);
+
+            assertThat(policy.nextDelay(2, Duration.ofMillis(Long.MAX_VALUE))).isBetween(ONE_SECOND, max);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.kiwiproject.consul.config;
 import static java.util.Objects.nonNull;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.assertj.core.api.Assertions.fail;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -23,12 +24,15 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.kiwiproject.consul.cache.CacheDescriptor;
 import org.kiwiproject.consul.cache.ConsulCache;
+import org.kiwiproject.consul.cache.FileCacheSnapshotStore;
 import org.kiwiproject.consul.config.CacheConfig.RefreshErrorLogConsumer;
+import org.kiwiproject.consul.config.CacheConfig.StalenessPolicy;
 import org.kiwiproject.consul.model.ConsulResponse;
 import org.kiwiproject.consul.monitoring.ClientEventHandler;
 import org.slf4j.Logger;
 
 import java.math.BigInteger;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.LocalTime;
 import java.util.Collections;
@@ -228,6 +232,88 @@ class CacheConfigTest {
         }
     }
 
+    @Test
+    void shouldNotHaveMaxStalenessByDefault() {
+        var cacheConfig = CacheConfig.builder().build();
+
+        assertThat(cacheConfig.getMaxStaleness()).isEmpty();
+        assertThat(cacheConfig.getStalenessPolicy()).isEqualTo(CacheConfig.DEFAULT_STALENESS_POLICY);
+    }
+
+    @Test
+    void shouldSetMaxStaleness() {
+        var cacheConfig = CacheConfig.builder()
+                .withMaxStaleness(Duration.ofSeconds(30), StalenessPolicy.FAIL)
+                .build();
+
+        assertThat(cacheConfig.getMaxStaleness()).contains(Duration.ofSeconds(30));
+        assertThat(cacheConfig.getStalenessPolicy()).isEqualTo(StalenessPolicy.FAIL);
+    }
+
+    @Test
+    void shouldRejectNegativeMaxStaleness() {
+        var builder = CacheConfig.builder();
+        var maxStaleness = Duration.ofSeconds(-1);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.withMaxStaleness(maxStaleness, StalenessPolicy.SERVE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 5_000, 10_000, 10_625 })
+    void shouldRejectMaxStaleness_NotLongerThanHealthyPollCycle(long maxStalenessMillis) {
+        var maxStaleness = Duration.ofMillis(maxStalenessMillis);
+        var builder = CacheConfig.builder()
+                .withWatchDuration(Duration.ofSeconds(10))
+                .withMaxStaleness(maxStaleness, StalenessPolicy.FAIL);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(builder::build)
+                .withMessageStartingWith("Max staleness (" + maxStaleness + ") must be longer than")
+                .withMessageContaining("(PT10.625S)");
+    }
+
+    @Test
+    void shouldIncludeLongestDelayBetweenRequests_WhenValidatingMaxStaleness() {
+        var builder = CacheConfig.builder()
+                .withWatchDuration(Duration.ofSeconds(16))
+                .withMinDelayBetweenRequests(Duration.ofSeconds(1))
+                .withMinDelayOnEmptyResult(Duration.ofSeconds(2))
+                .withAdaptiveRateLimit(5, Duration.ofSeconds(3))
+                .withMaxStaleness(Duration.ofSeconds(20), StalenessPolicy.FAIL);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(builder::build)
+                .withMessageContaining("(PT20S)");
+
+        assertThat(builder.withMaxStaleness(Duration.ofMillis(20_001), StalenessPolicy.FAIL).build().getMaxStaleness())
+                .contains(Duration.ofMillis(20_001));
+    }
+
+    @Test
+    void shouldComputeLongestPollCycle_ForGivenWatchDuration() {
+        var cacheConfig = CacheConfig.builder()
+                .withMinDelayBetweenRequests(Duration.ofSeconds(1))
+                .withMinDelayOnEmptyResult(Duration.ofSeconds(2))
+                .build();
+
+        assertThat(cacheConfig.getLongestPollCycle(Duration.ofSeconds(320))).isEqualTo(Duration.ofSeconds(342));
+    }
+
+    @Test
+    void shouldNotHaveSnapshotStoreByDefault() {
+        assertThat(CacheConfig.builder().build().getSnapshotStore()).isEmpty();
+    }
+
+    @Test
+    void shouldNotIncludeSnapshotStoreWhenSerializingToJson() throws JsonProcessingException {
+        var cacheConfig = CacheConfig.builder()
+                .withSnapshotStore(new FileCacheSnapshotStore(Path.of("snapshots")))
+                .build();
+        var json = OBJECT_MAPPER.writeValueAsString(cacheConfig);
+        assertThat(json).doesNotContain("snapshotStore");
+    }
+
     @Test
     void shouldNotIncludeRefreshErrorLoggingConsumerWhenSerializingToJson() throws JsonProcessingException {
         var cacheConfig = CacheConfig.builder().build();
@@ -237,6 +323,124 @@ class CacheConfigTest {
                 .doesNotContain("refreshErrorLoggingConsumer", "refreshErrorLogConsumer");
     }
 
+    @Test
+    void shouldCopyAllSettings_UsingFrom() {
+        var original = CacheConfig.builder()
+                .withWatchDuration(Duration.ofSeconds(42))
+                .withBackOffDelay(Duration.ofSeconds(1), Duration.ofSeconds(3))
+                .withMinDelayBetweenRequests(Duration.ofMillis(250))
+                .withMinDelayOnEmptyResult(Duration.ofMillis(500))
+                .withTimeoutAutoAdjustmentEnabled(false)
+                .withTimeoutAutoAdjustmentMargin(Duration.ofSeconds(7))
+                .withRefreshErrorLoggedAsWarning()
+                .withSnapshotStore(new FileCacheSnapshotStore(Path.of("snapshots")))
+                .withMaxStaleness(Duration.ofMinutes(5), StalenessPolicy.WARN)
+                .withBackOffPolicy(BackOffPolicy.exponential(Duration.ofSeconds(1), Duration.ofSeconds(30)))
+                .withAdaptiveRateLimit(5, Duration.ofSeconds(10))
+                .build();
+
+        var copy = CacheConfig.builder().from(original).withVirtualThreadScheduler(true).build();
+
+        assertAll(
+                () -> assertThat(copy.getWatchDuration()).isEqualTo(original.getWatchDuration()),
+                () -> assertThat(copy.getMinimumBackOffDelay()).isEqualTo(original.getMinimumBackOffDelay()),
+                () -> assertThat(copy.getMaximumBackOffDelay()).isEqualTo(original.getMaximumBackOffDelay()),
+                () -> assertThat(copy.getMinimumDurationBetweenRequests()).isEqualTo(original.getMinimumDurationBetweenRequests()),
+                () -> assertThat(copy.getMinimumDurationDelayOnEmptyResult()).isEqualTo(original.getMinimumDurationDelayOnEmptyResult()),
+                () -> assertThat(copy.isTimeoutAutoAdjustmentEnabled()).isFalse(),
+                () -> assertThat(copy.getTimeoutAutoAdjustmentMargin()).isEqualTo(original.getTimeoutAutoAdjustmentMargin()),
+                () -> assertThat(copy.getRefreshErrorLoggingConsumer()).isSameAs(original.getRefreshErrorLoggingConsumer()),
+                () -> assertThat(original.isVirtualThreadSchedulerEnabled()).isFalse(),
+                () -> assertThat(copy.isVirtualThreadSchedulerEnabled()).isTrue(),
+                () -> assertThat(copy.getSnapshotStore()).isEqualTo(original.getSnapshotStore()),
+                () -> assertThat(copy.getMaxStaleness()).contains(Duration.ofMinutes(5)),
+                () -> assertThat(copy.getStalenessPolicy()).isEqualTo(StalenessPolicy.WARN),
+                () -> assertThat(copy.getBackOffPolicy()).isSameAs(original.getBackOffPolicy()),
+                () -> assertThat(copy.getAdaptiveRateLimit()).isEqualTo(original.getAdaptiveRateLimit())
+        );
+    }
+
+    @Test
+    void shouldUseUniformBackOffPolicy_BetweenBackOffDelays_ByDefault() {
+        var config = CacheConfig.builder()
+                .withBackOffDelay(Duration.ofSeconds(2), Duration.ofSeconds(4))
+                .build();
+
+        for (int failures = 1; failures <= 20; failures++) {
+            assertThat(config.getBackOffPolicy().nextDelay(failures, Duration.ZERO))
+                    .isBetween(Duration.ofSeconds(2), Duration.ofSeconds(4));
+        }
+    }
+
+    @Test
+    void shouldSetBackOffPolicy() {
+        BackOffPolicy policy = (failures, previousDelay) -> Duration.ofSeconds(failures);
+        var config = CacheConfig.builder().withBackOffPolicy(policy).build();
+
+        assertThat(config.getBackOffPolicy()).isSameAs(policy);
+    }
+
+    @Test
+    void shouldReplaceBackOffPolicy_WhenBackOffDelayIsSetAfterIt() {
+        BackOffPolicy policy = (failures, previousDelay) -> Duration.ofMinutes(1);
+        var config = CacheConfig.builder()
+                .withBackOffPolicy(policy)
+                .withBackOffDelay(Duration.ofSeconds(3))
+                .build();
+
+        assertThat(config.getBackOffPolicy()).isNotSameAs(policy);
+        assertThat(config.getBackOffPolicy().nextDelay(5, Duration.ZERO)).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void shouldNotHaveAdaptiveRateLimitByDefault() {
+        assertThat(CacheConfig.builder().build().getAdaptiveRateLimit()).isEmpty();
+    }
+
+    @Test
+    void shouldSetAdaptiveRateLimit() {
+        var config = CacheConfig.builder().withAdaptiveRateLimit(4, Duration.ofSeconds(5)).build();
+
+        assertThat(config.getAdaptiveRateLimit()).hasValueSatisfying(limit -> assertAll(
+                () -> assertThat(limit.getMaxUpdatesPerSecond()).isEqualTo(4),
+                () -> assertThat(limit.getMinDelay()).isEqualTo(Duration.ofMillis(250)),
+                () -> assertThat(limit.getMaxDelay()).isEqualTo(Duration.ofSeconds(5))
+        ));
+    }
+
+    @Test
+    void shouldDisableAdaptiveRateLimit() {
+        var config = CacheConfig.builder()
+                .withAdaptiveRateLimit(4, Duration.ofSeconds(5))
+                .withoutAdaptiveRateLimit()
+                .build();
+
+        assertThat(config.getAdaptiveRateLimit()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidAdaptiveRateLimits")
+    void shouldRejectInvalidAdaptiveRateLimit(int maxUpdatesPerSecond, Duration maxDelay) {
+        var builder = CacheConfig.builder();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.withAdaptiveRateLimit(maxUpdatesPerSecond, maxDelay));
+    }
+
+    static Stream<Arguments> invalidAdaptiveRateLimits() {
+        return Stream.of(
+                arguments(0, Duration.ofSeconds(1)),
+                arguments(-1, Duration.ofSeconds(1)),
+                arguments(2, Duration.ofMillis(499))
+        );
+    }
+
+    @Test
+    void shouldRejectNullBackOffPolicy() {
+        var builder = CacheConfig.builder();
+        assertThatNullPointerException()
+                .isThrownBy(() -> builder.withBackOffPolicy(null));
+    }
+
     @Nested
     class RefreshErrorLoggingConsumer {
 
@@ -13,6 +13,16 @@ class ServiceTest {
         assertThat(service2).isEqualTo(service1);
     }
 
+    @Test
+    void shouldIgnoreIndexes_InEqualsAndHashCode() {
+        var service1 = ImmutableService.copyOf(newTaggedService("a")).withCreateIndex(10L).withModifyIndex(12L);
+        var service2 = ImmutableService.copyOf(newTaggedService("a")).withCreateIndex(10L).withModifyIndex(15L);
+        var service3 = newTaggedService("a");
+
+        assertThat(service1).isEqualTo(service2).isEqualTo(service3);
+        assertThat(service1).hasSameHashCodeAs(service2).hasSameHashCodeAs(service3);
+    }
+
     @Test
     void testNullTags() {
         var service = newTaggedService();
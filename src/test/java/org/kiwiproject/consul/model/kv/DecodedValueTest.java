@@ -0,0 +1,101 @@
+package org.kiwiproject.consul.model.kv;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.Test;
+import org.kiwiproject.consul.util.Jackson;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+class DecodedValueTest {
+
+    private static final String JSON = """
+            {
+              "Key": "config/greeting",
+              "CreateIndex": 10,
+              "ModifyIndex": 12,
+              "LockIndex": 0,
+              "Flags": 0,
+              "Value": "aGVsbG8gd29ybGQ="
+            }
+            """;
+
+    @Test
+    void shouldDecodeValueWhileParsing() throws JsonProcessingException {
+        var value = Jackson.MAPPER.readValue(JSON, DecodedValue.class);
+
+        assertThat(value.getKey()).isEqualTo("config/greeting");
+        assertThat(value.getModifyIndex()).isEqualTo(12);
+        assertThat(value.getValueSize()).isEqualTo(11);
+        assertThat(value.getValueAsString(StandardCharsets.UTF_8)).contains("hello world");
+        assertThat(value.getValueAsBytes()).hasValue("hello world".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldDecodeSameBytesAsValue() throws JsonProcessingException {
+        var decodedValue = Jackson.MAPPER.readValue(JSON, DecodedValue.class);
+        var value = Jackson.MAPPER.readValue(JSON, Value.class);
+
+        assertThat(decodedValue.getValueAsBytes().orElseThrow()).isEqualTo(value.getValueAsBytes().orElseThrow());
+    }
+
+    @Test
+    void shouldBeEmpty_WhenValueIsAbsent() throws JsonProcessingException {
+        var json = "{\"Key\":\"config/\",\"CreateIndex\":1,\"ModifyIndex\":1,\"LockIndex\":0,\"Flags\":0}";
+
+        var value = Jackson.MAPPER.readValue(json, DecodedValue.class);
+
+        assertThat(value.getValueAsByteBuffer()).isEmpty();
+        assertThat(value.getValueAsInputStream()).isEmpty();
+        assertThat(value.getValueAsString()).isEmpty();
+        assertThat(value.getValueSize()).isZero();
+    }
+
+    @Test
+    void shouldReturnIndependentReadOnlyViews() {
+        var value = newDecodedValue("abc");
+
+        ByteBuffer first = value.getValueAsByteBuffer().orElseThrow();
+        first.get();
+        ByteBuffer second = value.getValueAsByteBuffer().orElseThrow();
+
+        assertThat(first.isReadOnly()).isTrue();
+        assertThat(first.remaining()).isEqualTo(2);
+        assertThat(second.remaining()).isEqualTo(3);
+        assertThat(value.getValueAsString(StandardCharsets.UTF_8)).contains("abc");
+    }
+
+    @Test
+    void shouldReadValueFromInputStream() throws IOException {
+        var value = newDecodedValue("streamed");
+
+        try (var in = value.getValueAsInputStream().orElseThrow()) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("streamed");
+        }
+    }
+
+    @Test
+    void shouldSerializeValueAsBase64() throws JsonProcessingException {
+        var value = newDecodedValue("hello world");
+
+        var json = Jackson.MAPPER.writeValueAsString(value);
+        var roundTripped = Jackson.MAPPER.readValue(json, DecodedValue.class);
+
+        assertThat(json).contains("\"Value\":\"aGVsbG8gd29ybGQ=\"");
+        assertThat(roundTripped).isEqualTo(value);
+    }
+
+    private static DecodedValue newDecodedValue(String content) {
+        return ImmutableDecodedValue.builder()
+                .key("key")
+                .createIndex(1)
+                .modifyIndex(2)
+                .lockIndex(3)
+                .flags(4)
+                .valueBuffer(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)))
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package org.kiwiproject.consul.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.awaitility.Awaitility.await;
+import static org.awaitility.Durations.FIVE_SECONDS;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.kiwiproject.consul.monitoring.ClientEventDispatcher.OverflowPolicy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+class ClientEventDispatcherTest {
+
+    private ClientEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    void shouldRoundCapacityUpToPowerOfTwo() {
+        dispatcher = ClientEventDispatcher.create(1_000, OverflowPolicy.DROP);
+
+        assertThat(dispatcher.getCapacity()).isEqualTo(1_024);
+    }
+
+    @Test
+    void shouldNotAllowInvalidCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ClientEventDispatcher.create(0, OverflowPolicy.DROP));
+    }
+
+    @Test
+    void shouldRunAllEvents_WhenProducerOutpacesDispatcher() {
+        dispatcher = ClientEventDispatcher.create(64, OverflowPolicy.CALLER_RUNS);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+
+        IntStream.range(0, 10_000).forEach(i -> dispatcher.dispatch(() -> received.add(i)));
+
+        await().atMost(FIVE_SECONDS).until(() -> received.size() == 10_000);
+        assertThat(received).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 10_000).boxed().toList());
+    }
+
+    @Test
+    void shouldRunEventsInOrder_FromOneProducer() {
+        dispatcher = ClientEventDispatcher.create(2_048, OverflowPolicy.DROP);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+
+        IntStream.range(0, 1_000).forEach(i -> dispatcher.dispatch(() -> received.add(i)));
+
+        await().atMost(FIVE_SECONDS).until(() -> received.size() == 1_000);
+        assertThat(received).isEqualTo(IntStream.range(0, 1_000).boxed().toList());
+        assertThat(dispatcher.getDroppedEventCount()).isZero();
+    }
+
+    @Test
+    void shouldDropEvents_WhenFull() throws InterruptedException {
+        dispatcher = ClientEventDispatcher.create(4, OverflowPolicy.DROP);
+        var release = blockDispatcherThread();
+
+        var results = IntStream.range(0, 6).mapToObj(i -> dispatcher.dispatch(() -> { })).toList();
+
+        assertThat(results).containsExactly(true, true, true, true, false, false);
+        assertThat(dispatcher.getDroppedEventCount()).isEqualTo(2);
+        release.countDown();
+    }
+
+    @Test
+    void shouldRunOnCallingThread_WhenFullAndPolicyIsCallerRuns() throws InterruptedException {
+        dispatcher = ClientEventDispatcher.create(1, OverflowPolicy.CALLER_RUNS);
+        var release = blockDispatcherThread();
+        var threadName = new AtomicReference<String>();
+
+        dispatcher.dispatch(() -> { });
+        var dispatched = dispatcher.dispatch(() -> threadName.set(Thread.currentThread().getName()));
+
+        assertThat(dispatched).isTrue();
+        assertThat(threadName).hasValue(Thread.currentThread().getName());
+        assertThat(dispatcher.getDroppedEventCount()).isZero();
+        release.countDown();
+    }
+
+    @Test
+    void shouldKeepRunning_WhenEventThrows() {
+        dispatcher = ClientEventDispatcher.create(16, OverflowPolicy.DROP);
+        var ran = new CountDownLatch(1);
+
+        dispatcher.dispatch(() -> {
+            throw new IllegalStateException("oops");
+        });
+        dispatcher.dispatch(ran::countDown);
+
+        await().atMost(FIVE_SECONDS).until(() -> ran.getCount() == 0);
+    }
+
+    @Test
+    void shouldDropEvents_AfterStop() {
+        dispatcher = ClientEventDispatcher.create(16, OverflowPolicy.DROP);
+
+        dispatcher.stop();
+
+        assertThat(dispatcher.dispatch(() -> { })).isFalse();
+    }
+
+    /**
+     * Occupies the dispatcher thread until the returned latch is released, so that later events stay queued.
+     */
+    private CountDownLatch blockDispatcherThread() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        dispatcher.dispatch(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        return release;
+    }
+}
@@ -0,0 +1,97 @@
+package org.kiwiproject.consul.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kiwiproject.consul.cache.CacheDescriptor;
+
+import java.time.Duration;
+
+class ClientEventHandlerTest {
+
+    private ClientEventDispatcher dispatcher;
+    private CacheDescriptor cacheDescriptor;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = mock(ClientEventDispatcher.class);
+        cacheDescriptor = new CacheDescriptor("health.service", "web");
+    }
+
+    @Test
+    void shouldNotDispatch_WhenCallbackIsNoOp() {
+        var handler = new ClientEventHandler("test", new NoOpClientEventCallback(), dispatcher);
+
+        handler.cacheStart(cacheDescriptor);
+        handler.cachePollingSuccess(cacheDescriptor, true, Duration.ofMillis(5));
+        handler.cachePollingError(cacheDescriptor, new RuntimeException("oops"));
+
+        verifyNoInteractions(dispatcher);
+    }
+
+    @Test
+    void shouldNotDispatch_WhenCallbackIsNull() {
+        var handler = new ClientEventHandler("test", null, dispatcher);
+
+        handler.cacheStop(cacheDescriptor);
+
+        verifyNoInteractions(dispatcher);
+    }
+
+    @Test
+    void shouldDispatch_WhenCallbackExtendsNoOp() {
+        var callback = new NoOpClientEventCallback() {
+            @Override
+            public void onCacheStart(String clientName, CacheDescriptor cacheDescriptor) {
+                // only this event is of interest
+            }
+        };
+        var handler = new ClientEventHandler("test", callback, dispatcher);
+
+        handler.cacheStart(cacheDescriptor);
+
+        verify(dispatcher).dispatch(any());
+    }
+
+    @Test
+    void shouldRecordCachePolls_WhenMetricsRegistryIsSet() {
+        var registry = new InMemoryConsulMetricsRegistry();
+        var handler = new ClientEventHandler("health", new NoOpClientEventCallback(), dispatcher, registry);
+
+        handler.cachePollingSuccess(cacheDescriptor, true, Duration.ofMillis(20));
+        handler.cachePollingSuccess(cacheDescriptor, false, 30_000L);
+        handler.cachePollingError(cacheDescriptor, new RuntimeException("oops"));
+        handler.cacheListenersNotified(cacheDescriptor, Duration.ofMillis(3).toNanos());
+
+        assertThat(registry.getCachePollMetrics()).singleElement().satisfies(metrics -> {
+            assertThat(metrics.getClientName()).isEqualTo("health");
+            assertThat(metrics.getSuccessCount()).isEqualTo(2);
+            assertThat(metrics.getChangeCount()).isOne();
+            assertThat(metrics.getFailureCount()).isOne();
+            assertThat(metrics.getDuration().getMax()).isEqualTo(Duration.ofSeconds(30));
+            assertThat(metrics.getListenerDispatch().getMax()).isEqualTo(Duration.ofMillis(3));
+        });
+        verifyNoInteractions(dispatcher);
+    }
+
+    @Test
+    void shouldDispatchToCallback() {
+        var callback = mock(ClientEventCallback.class);
+        var handler = new ClientEventHandler("test", callback,
+                ClientEventDispatcher.create(16, ClientEventDispatcher.OverflowPolicy.DROP));
+
+        try {
+            handler.cacheStart(cacheDescriptor);
+
+            verify(callback, timeout(5_000)).onCacheStart("test", cacheDescriptor);
+        } finally {
+            handler.stop();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.kiwiproject.consul.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Percentage.withPercentage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldBeEmpty() {
+        var histogram = new LatencyHistogram();
+
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getMax()).isZero();
+        assertThat(histogram.getMean()).isZero();
+        assertThat(histogram.getValueAtPercentile(99)).isZero();
+    }
+
+    @Test
+    void shouldReportPercentiles_WithinBucketPrecision() {
+        var histogram = new LatencyHistogram();
+        IntStream.rangeClosed(1, 1_000).forEach(millis -> histogram.record(Duration.ofMillis(millis)));
+
+        assertThat(histogram.getCount()).isEqualTo(1_000);
+        assertThat(histogram.getMax()).isEqualTo(Duration.ofMillis(1_000));
+        assertThat(histogram.getMean().toMillis()).isBetween(499L, 501L);
+        assertWithinSixPercent(histogram.getValueAtPercentile(50), Duration.ofMillis(500));
+        assertWithinSixPercent(histogram.getValueAtPercentile(99), Duration.ofMillis(990));
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(Duration.ofMillis(1_000));
+    }
+
+    @Test
+    void shouldRecordNegativeValuesAsZero() {
+        var histogram = new LatencyHistogram();
+
+        histogram.recordNanos(-5);
+
+        assertThat(histogram.getCount()).isOne();
+        assertThat(histogram.getMax()).isZero();
+    }
+
+    @Test
+    void shouldNotAllowInvalidPercentile() {
+        var histogram = new LatencyHistogram();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> histogram.getValueAtPercentile(100.1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 31, 32, 33, 63, 64, 1_000, 123_456, 10_000_000, (1L << 36) - 1})
+    void shouldPlaceValuesInBucketsContainingThem(long micros) {
+        var index = LatencyHistogram.bucketIndex(micros);
+
+        assertThat(index).isBetween(0, LatencyHistogram.BUCKET_COUNT - 1);
+        assertThat(LatencyHistogram.bucketUpperBound(index)).isGreaterThanOrEqualTo(micros);
+        if (index > 0) {
+            assertThat(LatencyHistogram.bucketUpperBound(index - 1)).isLessThan(micros);
+        }
+    }
+
+    private static void assertWithinSixPercent(Duration actual, Duration expected) {
+        assertThat((double) actual.toNanos()).isCloseTo(expected.toNanos(),
+                withPercentage(6.25));
+    }
+}
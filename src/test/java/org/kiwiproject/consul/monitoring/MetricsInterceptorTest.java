@@ -0,0 +1,118 @@
+package org.kiwiproject.consul.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.kiwiproject.consul.TestUtils.findFirstOpenPortFromOrThrow;
+
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.junit5.StartStop;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.kiwiproject.consul.Consul;
+import org.kiwiproject.consul.ConsulException;
+import org.kiwiproject.consul.config.CacheConfig;
+import org.kiwiproject.consul.config.ClientConfig;
+import org.kiwiproject.consul.option.QueryOptions;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+
+class MetricsInterceptorTest {
+
+    private static final String LEADER_RESPONSE_BODY = "\"127.0.0.1:8300\"";
+
+    @StartStop
+    public final MockWebServer server = new MockWebServer();
+
+    private InMemoryConsulMetricsRegistry registry;
+    private Consul consul;
+
+    @BeforeEach
+    void setUp() {
+        registry = new InMemoryConsulMetricsRegistry();
+        consul = Consul.builder()
+                .withUrl(server.url("/").toString())
+                .withClientConfiguration(new ClientConfig(CacheConfig.builder().build(),
+                        ClientEventDispatcher.shared(), registry))
+                .build();
+    }
+
+    @Test
+    void shouldRecordRequests_ByClientAndEndpointTemplate() {
+        server.enqueue(new MockResponse.Builder().code(200).body(LEADER_RESPONSE_BODY).build());
+        server.enqueue(new MockResponse.Builder().code(500).body("oops").build());
+
+        consul.statusClient().getLeader();
+        assertThatExceptionOfType(ConsulException.class).isThrownBy(() -> consul.statusClient().getLeader());
+
+        assertThat(registry.getEndpointMetrics("status", "GET", "status/leader")).hasValueSatisfying(metrics -> {
+            assertThat(metrics.getStatusCodeCounts()).isEqualTo(Map.of(200, 1L, 500, 1L));
+            assertThat(metrics.getLatency().getCount()).isEqualTo(2);
+            assertThat(metrics.getBytesReceived()).isEqualTo(LEADER_RESPONSE_BODY.length() + "oops".length());
+            assertThat(metrics.getBytesSent()).isZero();
+            assertThat(metrics.getFailureCount()).isZero();
+        });
+        assertThat(registry.getEndpointMetrics()).hasSize(1);
+    }
+
+    @Test
+    void shouldRecordBlockingQueries_Separately() {
+        server.enqueue(new MockResponse.Builder().code(404).build());
+        server.enqueue(new MockResponse.Builder().code(404).build());
+
+        consul.keyValueClient().getValue("foo");
+        consul.keyValueClient().getValue("foo", QueryOptions.blockSeconds(5, BigInteger.TEN).build());
+
+        assertThat(registry.getEndpointMetrics("keyvalue", "GET", "kv/{key}")).hasValueSatisfying(metrics -> {
+            assertThat(metrics.getLatency().getCount()).isOne();
+            assertThat(metrics.getBlockingLatency().getCount()).isOne();
+            assertThat(metrics.getStatusCodeCounts()).isEqualTo(Map.of(404, 2L));
+        });
+    }
+
+    @Test
+    void shouldRecordFailures() {
+        var unreachableConsul = Consul.builder()
+                .withUrl("http://localhost:" + findFirstOpenPortFromOrThrow(9_000))
+                .withClientConfiguration(new ClientConfig(CacheConfig.builder().build(),
+                        ClientEventDispatcher.shared(), registry))
+                .build();
+
+        assertThatExceptionOfType(ConsulException.class)
+                .isThrownBy(() -> unreachableConsul.statusClient().getPeers());
+
+        assertThat(registry.getEndpointMetrics("status", "GET", "status/peers")).hasValueSatisfying(metrics -> {
+            assertThat(metrics.getFailureCount()).isOne();
+            assertThat(metrics.getStatusCodeCounts()).isEmpty();
+        });
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            org.kiwiproject.consul.AclClient$Api, acl
+            org.kiwiproject.consul.AgentClient$Api, agent
+            org.kiwiproject.consul.CatalogClient$Api, catalog
+            org.kiwiproject.consul.CoordinateClient$Api, coordinate
+            org.kiwiproject.consul.EventClient$Api, event
+            org.kiwiproject.consul.HealthClient$Api, health
+            org.kiwiproject.consul.KeyValueClient$Api, keyvalue
+            org.kiwiproject.consul.OperatorClient$Api, operator
+            org.kiwiproject.consul.PreparedQueryClient$Api, preparedquery
+            org.kiwiproject.consul.SessionClient$Api, session
+            org.kiwiproject.consul.SnapshotClient$Api, snapshot
+            org.kiwiproject.consul.StatusClient$Api, status
+            """)
+    void shouldUseClientNames(String apiClassName, String expectedClientName) throws Exception {
+        var method = Arrays.stream(Class.forName(apiClassName).getDeclaredMethods())
+                .filter(declaredMethod -> !declaredMethod.isSynthetic())
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(MetricsInterceptor.clientNameOf(method)).isEqualTo(expectedClientName);
+        assertThat(MetricsInterceptor.endpointOf(method)).isNotEqualTo(MetricsInterceptor.UNKNOWN);
+    }
+}
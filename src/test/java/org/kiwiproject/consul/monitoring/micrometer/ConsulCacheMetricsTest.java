@@ -0,0 +1,100 @@
+package org.kiwiproject.consul.monitoring.micrometer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kiwiproject.consul.cache.CacheDescriptor;
+import org.kiwiproject.consul.cache.ConsulCache;
+import org.kiwiproject.consul.cache.StaleCacheException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+class ConsulCacheMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConsulCache<String, String> cache;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = mock(ConsulCache.class);
+        when(cache.getCacheDescriptor()).thenReturn(new CacheDescriptor("keyvalue", "config"));
+        new ConsulCacheMetrics("keyvalue", cache).bindTo(meterRegistry);
+    }
+
+    @Test
+    void shouldReportStaleness() {
+        when(cache.getStaleness()).thenReturn(Optional.of(Duration.ofMillis(2_500)));
+
+        assertThat(meterRegistry.get(ConsulCacheMetrics.STALENESS)
+                .tags("client", "keyvalue", "endpoint", "keyvalue", "key", "config")
+                .gauge()
+                .value())
+                .isEqualTo(2.5);
+    }
+
+    @Test
+    void shouldReportNaNStaleness_WhenCacheHasNotPolledSuccessfully() {
+        when(cache.getStaleness()).thenReturn(Optional.empty());
+
+        assertThat(meterRegistry.get(ConsulCacheMetrics.STALENESS).gauge().value()).isNaN();
+    }
+
+    @Test
+    void shouldReportConsecutiveFailuresAndSize() {
+        when(cache.getConsecutiveFailures()).thenReturn(3);
+        when(cache.size()).thenReturn(2);
+
+        assertThat(meterRegistry.get(ConsulCacheMetrics.CONSECUTIVE_FAILURES).gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get(ConsulCacheMetrics.SIZE).gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReportSize_WithoutCheckingStaleness() {
+        when(cache.size()).thenReturn(2);
+        when(cache.getMap()).thenThrow(new StaleCacheException(new CacheDescriptor("keyvalue", "config"),
+                Duration.ofMinutes(2), Duration.ofMinutes(1)));
+
+        assertThat(meterRegistry.get(ConsulCacheMetrics.SIZE).gauge().value()).isEqualTo(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldReportEachCache_OfSameEndpointAndKey_WithDifferentQualifiers() {
+        ConsulCache<String, String> otherCache = mock(ConsulCache.class);
+        when(otherCache.getCacheDescriptor()).thenReturn(new CacheDescriptor("keyvalue", "config", "recurse=true"));
+        when(otherCache.size()).thenReturn(5);
+        when(cache.size()).thenReturn(2);
+
+        new ConsulCacheMetrics("keyvalue", otherCache).bindTo(meterRegistry);
+
+        assertThat(meterRegistry.get(ConsulCacheMetrics.SIZE)
+                .tags("qualifier", MicrometerConsulMetricsRegistry.NO_QUALIFIER)
+                .gauge()
+                .value())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get(ConsulCacheMetrics.SIZE).gauges())
+                .extracting(Gauge::value)
+                .containsExactlyInAnyOrder(2.0, 5.0);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldRefuseToBindCache_WithSameTagsAsBoundCache() {
+        ConsulCache<String, String> otherCache = mock(ConsulCache.class);
+        when(otherCache.getCacheDescriptor()).thenReturn(new CacheDescriptor("keyvalue", "config"));
+        var metrics = new ConsulCacheMetrics("keyvalue", otherCache);
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> metrics.bindTo(meterRegistry))
+                .withMessageContaining("already registered");
+    }
+}
@@ -0,0 +1,147 @@
+package org.kiwiproject.consul.monitoring.micrometer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kiwiproject.consul.cache.CacheDescriptor;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+class MicrometerConsulMetricsRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MicrometerConsulMetricsRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new MicrometerConsulMetricsRegistry(meterRegistry);
+    }
+
+    @Test
+    void shouldRecordResponses_ByStatusCode() {
+        var recorder = registry.httpRequestRecorder("health", "GET", "health/service/{service}");
+
+        recorder.recordResponse(200, Duration.ofMillis(10).toNanos(), 0, 512);
+        recorder.recordResponse(200, Duration.ofMillis(30).toNanos(), 0, 256);
+        recorder.recordResponse(500, Duration.ofMillis(5).toNanos(), 0, 4);
+
+        var ok = meterRegistry.get(MicrometerConsulMetricsRegistry.REQUESTS)
+                .tags("client", "health", "method", "GET", "endpoint", "health/service/{service}", "status", "200")
+                .timer();
+        assertThat(ok.count()).isEqualTo(2);
+        assertThat(ok.max(TimeUnit.MILLISECONDS)).isEqualTo(30);
+        assertThat(meterRegistry.get(MicrometerConsulMetricsRegistry.REQUESTS).tag("status", "500").timer().count())
+                .isOne();
+        assertThat(meterRegistry.get(MicrometerConsulMetricsRegistry.RESPONSE_SIZE).summary().totalAmount())
+                .isEqualTo(772);
+    }
+
+    @Test
+    void shouldRecordBlockingQueries_Separately() {
+        var recorder = registry.httpRequestRecorder("health", "GET", "health/service/{service}");
+
+        recorder.recordResponse(200, Duration.ofMillis(10).toNanos(), 0, 0);
+        recorder.recordBlockingResponse(200, Duration.ofSeconds(5).toNanos(), 0, 0);
+
+        assertThat(meterRegistry.get(MicrometerConsulMetricsRegistry.REQUESTS).timer().max(TimeUnit.MILLISECONDS))
+                .isEqualTo(10);
+        assertThat(meterRegistry.get(MicrometerConsulMetricsRegistry.BLOCKING_QUERIES).timer().max(TimeUnit.SECONDS))
+                .isEqualTo(5);
+    }
+
+    @Test
+    void shouldCountFailures_ByException() {
+        var recorder = registry.httpRequestRecorder("status", "GET", "status/leader");
+
+        recorder.recordFailure(1_000, new IOException("connection refused"));
+
+        assertThat(meterRegistry.get(MicrometerConsulMetricsRegistry.REQUEST_FAILURES)
+                .tags("client", "status", "exception", "IOException")
+                .counter()
+                .count())
+                .isOne();
+    }
+
+    @Test
+    void shouldRecordCachePolls() {
+        var cacheDescriptor = new CacheDescriptor("health.service", "my-service");
+        var recorder = registry.cachePollRecorder("health", cacheDescriptor);
+
+        recorder.recordSuccess(true, Duration.ofMillis(20).toNanos());
+        recorder.recordSuccess(false, Duration.ofSeconds(10).toNanos());
+        recorder.recordFailure(new IllegalStateException("oops"));
+        recorder.recordListenerDispatch(Duration.ofMillis(2).toNanos());
+
+        assertThat(meterRegistry.get(MicrometerConsulMetricsRegistry.CACHE_POLLS)
+                .tags("client", "health", "endpoint", "health.service", "key", "my-service", "changed", "true")
+                .timer()
+                .count())
+                .isOne();
+        assertThat(meterRegistry.get(MicrometerConsulMetricsRegistry.CACHE_POLLS).tag("changed", "false").timer()
+                .count())
+                .isOne();
+        assertThat(meterRegistry.get(MicrometerConsulMetricsRegistry.CACHE_POLL_FAILURES)
+                .tag("exception", "IllegalStateException")
+                .counter()
+                .count())
+                .isOne();
+        assertThat(meterRegistry.get(MicrometerConsulMetricsRegistry.CACHE_LISTENER_DISPATCH).timer()
+                .max(TimeUnit.MILLISECONDS))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldReuseCachePollRecorders() {
+        var recorder = registry.cachePollRecorder("kv", new CacheDescriptor("keyvalue", "config"));
+
+        assertThat(registry.cachePollRecorder("kv", new CacheDescriptor("keyvalue", "config"))).isSameAs(recorder);
+    }
+
+    @Test
+    void shouldRecordCachesOfSameEndpointAndKey_WithDifferentQualifiers_Separately() {
+        var passing = registry.cachePollRecorder("health",
+                new CacheDescriptor("health.service", "my-service", "passing=true"));
+        var all = registry.cachePollRecorder("health",
+                new CacheDescriptor("health.service", "my-service", "passing=false"));
+
+        passing.recordSuccess(true, 1_000);
+        all.recordSuccess(true, 1_000);
+        all.recordSuccess(true, 1_000);
+
+        assertThat(passing).isNotSameAs(all);
+        var timers = meterRegistry.get(MicrometerConsulMetricsRegistry.CACHE_POLLS).tag("changed", "true").timers();
+        assertThat(timers)
+                .extracting(timer -> timer.getId().getTag("qualifier"))
+                .doesNotHaveDuplicates()
+                .noneMatch(tag -> tag.contains("passing"));
+        assertThat(timers).extracting(Timer::count).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void shouldTagCachesWithoutQualifier() {
+        registry.cachePollRecorder("kv", new CacheDescriptor("keyvalue", "config")).recordSuccess(true, 1_000);
+
+        assertThat(meterRegistry.get(MicrometerConsulMetricsRegistry.CACHE_POLLS)
+                .tag("qualifier", MicrometerConsulMetricsRegistry.NO_QUALIFIER)
+                .timer()
+                .count())
+                .isOne();
+    }
+
+    @Test
+    void shouldTagCachesWithoutKey() {
+        registry.cachePollRecorder("catalog", new CacheDescriptor("catalog.services")).recordSuccess(true, 1_000);
+
+        assertThat(meterRegistry.get(MicrometerConsulMetricsRegistry.CACHE_POLLS)
+                .tag("key", MicrometerConsulMetricsRegistry.NO_KEY)
+                .timer()
+                .count())
+                .isOne();
+    }
+}
@@ -0,0 +1,112 @@
+package org.kiwiproject.consul.monitoring.micrometer;
+
+import static io.micrometer.observation.tck.TestObservationRegistryAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.kiwiproject.consul.TestUtils.findFirstOpenPortFromOrThrow;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.transport.SenderContext;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.junit5.StartStop;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kiwiproject.consul.Consul;
+import org.kiwiproject.consul.ConsulException;
+import org.kiwiproject.consul.option.QueryOptions;
+
+import java.math.BigInteger;
+
+class ObservationInterceptorTest {
+
+    @StartStop
+    public final MockWebServer server = new MockWebServer();
+
+    private TestObservationRegistry observationRegistry;
+    private Consul consul;
+
+    @BeforeEach
+    void setUp() {
+        observationRegistry = TestObservationRegistry.create();
+        consul = Consul.builder()
+                .withUrl(server.url("/").toString())
+                .withObservationInterceptor(new ObservationInterceptor(observationRegistry))
+                .build();
+    }
+
+    @Test
+    void shouldObserveRequests() {
+        server.enqueue(new MockResponse.Builder().code(200).body("\"127.0.0.1:8300\"").build());
+
+        consul.statusClient().getLeader();
+
+        assertThat(observationRegistry)
+                .hasSingleObservationThat()
+                .hasNameEqualTo(ObservationInterceptor.OBSERVATION_NAME)
+                .hasContextualNameEqualTo("GET status/leader")
+                .hasLowCardinalityKeyValue("client", "status")
+                .hasLowCardinalityKeyValue("endpoint", "status/leader")
+                .hasLowCardinalityKeyValue("blocking", "false")
+                .hasLowCardinalityKeyValue("status", "200")
+                .hasHighCardinalityKeyValue("path", "/v1/status/leader")
+                .hasBeenStarted()
+                .hasBeenStopped();
+    }
+
+    @Test
+    void shouldTagBlockingQueries() {
+        server.enqueue(new MockResponse.Builder().code(404).build());
+
+        consul.keyValueClient().getValue("foo", QueryOptions.blockSeconds(5, BigInteger.TEN).build());
+
+        assertThat(observationRegistry)
+                .hasSingleObservationThat()
+                .hasLowCardinalityKeyValue("client", "keyvalue")
+                .hasLowCardinalityKeyValue("blocking", "true")
+                .hasLowCardinalityKeyValue("status", "404");
+    }
+
+    @Test
+    void shouldPropagateContext_InRequestHeaders() throws InterruptedException {
+        observationRegistry.observationConfig().observationHandler(new PropagatingHandler());
+        server.enqueue(new MockResponse.Builder().code(200).body("[]").build());
+
+        consul.statusClient().getPeers();
+
+        var recordedRequest = server.takeRequest();
+        assertThat(recordedRequest.getHeaders().get("traceparent")).isEqualTo("00-trace-span-01");
+    }
+
+    @Test
+    void shouldRecordErrors() {
+        var unreachableConsul = Consul.builder()
+                .withUrl("http://localhost:" + findFirstOpenPortFromOrThrow(9_000))
+                .withObservationInterceptor(new ObservationInterceptor(observationRegistry))
+                .build();
+
+        assertThatExceptionOfType(ConsulException.class)
+                .isThrownBy(() -> unreachableConsul.statusClient().getPeers());
+
+        assertThat(observationRegistry)
+                .hasSingleObservationThat()
+                .hasLowCardinalityKeyValue("status", "IO_ERROR")
+                .hasError()
+                .hasBeenStopped();
+    }
+
+    private static class PropagatingHandler implements ObservationHandler<SenderContext<Object>> {
+
+        @Override
+        public void onStart(SenderContext<Object> context) {
+            context.getSetter().set(context.getCarrier(), "traceparent", "00-trace-span-01");
+        }
+
+        @Override
+        public boolean supportsContext(Observation.Context context) {
+            return context instanceof SenderContext<?>;
+        }
+    }
+}
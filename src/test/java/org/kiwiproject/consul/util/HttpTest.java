@@ -24,10 +24,14 @@ import org.kiwiproject.consul.monitoring.ClientEventHandler;
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
+import retrofit2.mock.Calls;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -370,4 +374,142 @@ class HttpTest {
 
         assertThat(consulResponse.isKnownLeader()).isTrue();
     }
+
+    @Test
+    void consulResponseShouldHaveContentHashIfPresentInHeader() {
+        Response<String> response = Response.success("", Headers.of("X-Consul-ContentHash", "aa0e22ab6f7a4b84"));
+        ConsulResponse<String> consulResponse = Http.consulResponse(response);
+
+        assertThat(consulResponse.getContentHash()).contains("aa0e22ab6f7a4b84");
+    }
+
+    @Test
+    void consulResponseShouldNotHaveContentHash_WhenNotPresentInHeader() {
+        Response<String> response = Response.success("", Headers.of("X-Consul-Index", "10"));
+        ConsulResponse<String> consulResponse = Http.consulResponse(response);
+
+        assertThat(consulResponse.getContentHash()).isEmpty();
+    }
+
+    @Test
+    void extractingStreamingConsulResponseShouldReadBodyAndHeaders() throws IOException {
+        var body = ResponseBody.create("[1,2,3]", MediaType.parse("application/json"));
+        Response<ResponseBody> response = Response.success(body, Headers.of("X-Consul-Index", "10"));
+        Call<ResponseBody> call = mock();
+        mockRequestForCall(call);
+        when(call.execute()).thenReturn(response);
+
+        ConsulResponse<String> consulResponse = http.extractStreamingConsulResponse(call,
+                in -> new String(in.readAllBytes(), StandardCharsets.UTF_8));
+
+        assertThat(consulResponse.getResponse()).isEqualTo("[1,2,3]");
+        assertThat(consulResponse.getIndex()).isEqualTo(BigInteger.TEN);
+        verify(clientEventHandler, only()).httpRequestSuccess(any(Request.class));
+    }
+
+    @Test
+    void extractingStreamingConsulResponseShouldReadEmptyBody_WhenStatusIsAnOkCode() throws IOException {
+        Response<ResponseBody> response = Response.error(404, ResponseBody.create("", MediaType.parse("")));
+        Call<ResponseBody> call = mock();
+        mockRequestForCall(call);
+        when(call.execute()).thenReturn(response);
+
+        ConsulResponse<Integer> consulResponse = http.extractStreamingConsulResponse(call,
+                in -> in.readAllBytes().length, 404);
+
+        assertThat(consulResponse.getResponse()).isZero();
+    }
+
+    @Test
+    void extractingOptionalStreamingConsulResponseShouldReturnNull_WithoutReading_WhenStatusIsAnAbsentCode()
+            throws IOException {
+        Response<ResponseBody> response = Response.error(404, ResponseBody.create("", MediaType.parse("")));
+        Call<ResponseBody> call = mock();
+        mockRequestForCall(call);
+        when(call.execute()).thenReturn(response);
+
+        ConsulResponse<Integer> consulResponse = http.extractOptionalStreamingConsulResponse(call, in -> {
+            throw new AssertionError("should not be called");
+        }, 404);
+
+        assertThat(consulResponse.getResponse()).isNull();
+        verify(clientEventHandler, only()).httpRequestSuccess(any(Request.class));
+    }
+
+    @Test
+    void extractingOptionalStreamingConsulResponseShouldReadBody_WhenSuccessful() throws IOException {
+        var body = ResponseBody.create("", MediaType.parse("text/plain"));
+        Call<ResponseBody> call = mock();
+        mockRequestForCall(call);
+        when(call.execute()).thenReturn(Response.success(body));
+
+        ConsulResponse<Integer> consulResponse = http.extractOptionalStreamingConsulResponse(call,
+                in -> in.readAllBytes().length, 404);
+
+        assertThat(consulResponse.getResponse()).isZero();
+    }
+
+    @Test
+    void extractingStreamingConsulResponseShouldThrowWhenRequestIsInvalid() {
+        assertThatExceptionOfType(ConsulException.class).isThrownBy(() ->
+                checkForInvalidRequest(
+                        (Call<ResponseBody> call) -> http.extractStreamingConsulResponse(call, InputStream::read)));
+    }
+
+    @Test
+    void extractingStreamingConsulResponseShouldThrowAndSendFailureEvent_WhenReaderFails() throws IOException {
+        var body = ResponseBody.create("[1,2,3]", MediaType.parse("application/json"));
+        Response<ResponseBody> response = Response.success(body);
+        Call<ResponseBody> call = mock();
+        mockRequestForCall(call);
+        when(call.execute()).thenReturn(response);
+
+        assertThatThrownBy(() -> http.extractStreamingConsulResponse(call, in -> {
+            throw new IOException("connection reset");
+        }))
+                .isInstanceOf(ConsulException.class)
+                .hasCauseInstanceOf(IOException.class);
+
+        verify(clientEventHandler, only()).httpRequestFailure(any(Request.class), any(IOException.class));
+    }
+
+    @Test
+    void extractingAsyncShouldCompleteWithBody() throws Exception {
+        Call<String> call = Calls.response(Response.success("success", Headers.of("X-Consul-Index", "10")));
+
+        assertThat(http.extractAsync(call).get(1, TimeUnit.SECONDS)).isEqualTo("success");
+        assertThat(http.extractConsulResponseAsync(call.clone()).get(1, TimeUnit.SECONDS).getIndex())
+                .isEqualTo(BigInteger.TEN);
+    }
+
+    @Test
+    void handlingAsyncShouldCompleteExceptionallyWhenRequestIsInvalid() {
+        Call<Void> call = Calls.response(Response.error(400, ResponseBody.create("failure", MediaType.parse(""))));
+
+        var future = http.handleAsync(call);
+
+        assertThat(future).failsWithin(1, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(ConsulException.class);
+        verify(clientEventHandler, only()).httpRequestInvalid(any(Request.class), any(Throwable.class));
+    }
+
+    @Test
+    void extractingAsyncShouldCompleteExceptionallyWhenRequestFailed() {
+        Call<String> call = Calls.failure(new IOException("failure"));
+
+        assertThat(http.extractAsync(call)).failsWithin(1, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void cancellingAsyncFutureShouldCancelCall() {
+        Call<String> call = mock();
+
+        var future = http.extractAsync(call);
+        future.cancel(true);
+
+        verify(call).cancel();
+    }
 }
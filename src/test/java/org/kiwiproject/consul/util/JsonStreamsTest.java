@@ -0,0 +1,86 @@
+package org.kiwiproject.consul.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.kiwiproject.consul.model.kv.ImmutableValue;
+import org.kiwiproject.consul.model.kv.Value;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+class JsonStreamsTest {
+
+    @Test
+    void shouldPassEachElementToConsumer() throws IOException {
+        var values = List.of(newValue("a/1", 1), newValue("a/2", 2), newValue("a/3", 3));
+        var received = new ArrayList<Value>();
+
+        long count = JsonStreams.forEachArrayElement(toJson(values), Value.class, received::add);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(received).containsExactlyElementsOf(values);
+    }
+
+    @Test
+    void shouldDeliverElementsBeforeReadingTheRestOfTheArray() {
+        var json = "[{\"Key\":\"a\",\"CreateIndex\":1,\"ModifyIndex\":1,\"LockIndex\":0,\"Flags\":0}, {\"Key\":";
+        var received = new ArrayList<Value>();
+
+        assertThatThrownBy(() -> JsonStreams.forEachArrayElement(toStream(json), Value.class, received::add))
+                .isInstanceOf(IOException.class);
+
+        assertThat(received).extracting(Value::getKey).containsExactly("a");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "null", "[]", "  [ ]  ", "[null]"})
+    void shouldDeliverNothing_WhenNoElements(String json) throws IOException {
+        var received = new ArrayList<Value>();
+
+        long count = JsonStreams.forEachArrayElement(toStream(json), Value.class, received::add);
+
+        assertThat(count).isZero();
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    void shouldThrow_WhenNotAnArray() {
+        assertThatThrownBy(() -> JsonStreams.forEachArrayElement(toStream("{\"Key\":\"a\"}"), Value.class, value -> {}))
+                .isInstanceOf(JsonParseException.class)
+                .hasMessageStartingWith("Expected a JSON array but found START_OBJECT");
+    }
+
+    @Test
+    void shouldThrow_WhenArrayIsNotTerminated() {
+        assertThatThrownBy(() -> JsonStreams.forEachArrayElement(toStream("[1, 2"), Integer.class, value -> {}))
+                .isInstanceOf(JsonParseException.class);
+    }
+
+    private static Value newValue(String key, long index) {
+        return ImmutableValue.builder()
+                .key(key)
+                .value("dmFsdWU=")
+                .createIndex(index)
+                .modifyIndex(index)
+                .lockIndex(index)
+                .flags(index)
+                .build();
+    }
+
+    private static InputStream toJson(List<Value> values) throws IOException {
+        return new ByteArrayInputStream(Jackson.MAPPER.writeValueAsBytes(values));
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,337 @@
+package org.kiwiproject.consul.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Timeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import retrofit2.Invocation;
+import retrofit2.http.GET;
+import retrofit2.http.Streaming;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class RequestCoalescingInterceptorTest {
+
+    private static final String URL = "http://localhost:8500/v1/health/service/payments?passing=true";
+
+    private RequestCoalescingInterceptor interceptor;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new RequestCoalescingInterceptor();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldSendOneRequest_ForIdenticalConcurrentGets() throws Exception {
+        var request = get("token-a");
+        var release = new CountDownLatch(1);
+        var leaderChain = blockingChain(request, release, okResponse(request, "[\"instance\"]"));
+        var followerChain = chainReturning(request, okResponse(request, "unused"));
+
+        Future<String> leader = executor.submit(() -> bodyOf(interceptor.intercept(leaderChain)));
+        await().atMost(Duration.ofSeconds(5)).until(() -> interceptor.inFlightCount() == 1);
+
+        var followerThread = new CompletableFuture<Thread>();
+        Future<String> follower = executor.submit(() -> {
+            followerThread.complete(Thread.currentThread());
+            return bodyOf(interceptor.intercept(followerChain));
+        });
+        var thread = followerThread.get(5, TimeUnit.SECONDS);
+        await().atMost(Duration.ofSeconds(5)).until(() -> thread.getState() == Thread.State.TIMED_WAITING);
+
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("[\"instance\"]");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("[\"instance\"]");
+        verify(followerChain, never()).proceed(any());
+        assertThat(interceptor.inFlightCount()).isZero();
+    }
+
+    @Test
+    void shouldNotCoalesce_RequestsWithDifferentTokens() throws Exception {
+        var release = new CountDownLatch(1);
+        var requestA = get("token-a");
+        var leaderChain = blockingChain(requestA, release, okResponse(requestA, "a"));
+        var requestB = get("token-b");
+        var otherChain = chainReturning(requestB, okResponse(requestB, "b"));
+
+        Future<String> leader = executor.submit(() -> bodyOf(interceptor.intercept(leaderChain)));
+        await().atMost(Duration.ofSeconds(5)).until(() -> interceptor.inFlightCount() == 1);
+
+        assertThat(bodyOf(interceptor.intercept(otherChain))).isEqualTo("b");
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+    }
+
+    @Test
+    void shouldSendEachSequentialRequest() throws IOException {
+        var request = get("token-a");
+        var first = chainReturning(request, okResponse(request, "first"));
+        var second = chainReturning(request, okResponse(request, "second"));
+
+        assertThat(bodyOf(interceptor.intercept(first))).isEqualTo("first");
+        assertThat(bodyOf(interceptor.intercept(second))).isEqualTo("second");
+    }
+
+    @Test
+    void shouldNotCoalesce_RequestsOtherThanGet() throws IOException {
+        var request = new Request.Builder()
+                .url("http://localhost:8500/v1/kv/key")
+                .put(RequestBody.create("value", MediaType.get("text/plain")))
+                .build();
+        var response = okResponse(request, "true");
+        var chain = chainReturning(request, response);
+
+        assertThat(interceptor.intercept(chain)).isSameAs(response);
+        assertThat(interceptor.inFlightCount()).isZero();
+    }
+
+    @Test
+    void shouldFailWaitingRequests_WhenSharedRequestFails() throws Exception {
+        var request = get("token-a");
+        var release = new CountDownLatch(1);
+        var leaderChain = mockChain(request, newCall());
+        when(leaderChain.proceed(any())).thenAnswer(invocation -> {
+            release.await();
+            throw new IOException("connection reset");
+        });
+
+        Future<String> leader = executor.submit(() -> bodyOf(interceptor.intercept(leaderChain)));
+        await().atMost(Duration.ofSeconds(5)).until(() -> interceptor.inFlightCount() == 1);
+
+        var followerThread = new CompletableFuture<Thread>();
+        Future<String> follower = executor.submit(() -> {
+            followerThread.complete(Thread.currentThread());
+            return bodyOf(interceptor.intercept(chainReturning(request, okResponse(request, "unused"))));
+        });
+        var thread = followerThread.get(5, TimeUnit.SECONDS);
+        await().atMost(Duration.ofSeconds(5)).until(() -> thread.getState() == Thread.State.TIMED_WAITING);
+
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("connection reset");
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IOException.class)
+                .hasRootCauseMessage("connection reset");
+        assertThat(interceptor.inFlightCount()).isZero();
+    }
+
+    @Test
+    void shouldNotBufferResponse_WhenNoOtherRequestWaits() throws IOException {
+        var request = get("token-a");
+        var response = okResponse(request, "[]");
+
+        assertThat(interceptor.intercept(chainReturning(request, response))).isSameAs(response);
+    }
+
+    @Test
+    void shouldNotCoalesce_BlockingQueries() throws Exception {
+        var request = new Request.Builder().url(URL + "&index=42&wait=5s").get().build();
+        var release = new CountDownLatch(1);
+        var leaderChain = blockingChain(request, release, okResponse(request, "a"));
+
+        Future<String> leader = executor.submit(() -> bodyOf(interceptor.intercept(leaderChain)));
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> verify(leaderChain).proceed(request));
+
+        assertThat(interceptor.inFlightCount()).isZero();
+        assertThat(bodyOf(interceptor.intercept(chainReturning(request, okResponse(request, "b"))))).isEqualTo("b");
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+    }
+
+    @Test
+    void shouldNotCoalesce_StreamingCalls() throws Exception {
+        var method = StreamingApi.class.getMethod("streamValues");
+        var request = new Request.Builder()
+                .url(URL)
+                .tag(Invocation.class, Invocation.of(method, List.of()))
+                .get()
+                .build();
+        var response = okResponse(request, "[]");
+
+        assertThat(interceptor.intercept(chainReturning(request, response))).isSameAs(response);
+        assertThat(interceptor.inFlightCount()).isZero();
+    }
+
+    @Test
+    void shouldSendWaitingRequests_WhenSharedRequestIsCancelled() throws Exception {
+        var request = get("token-a");
+        var release = new CountDownLatch(1);
+        var leaderCancelled = new AtomicBoolean();
+        var leaderChain = mockChain(request, newCall(leaderCancelled));
+        when(leaderChain.proceed(any())).thenAnswer(invocation -> {
+            release.await();
+            leaderCancelled.set(true);
+            throw new IOException("Canceled");
+        });
+
+        Future<String> leader = executor.submit(() -> bodyOf(interceptor.intercept(leaderChain)));
+        await().atMost(Duration.ofSeconds(5)).until(() -> interceptor.inFlightCount() == 1);
+
+        var followerChain = chainReturning(request, okResponse(request, "own"));
+        var followerThread = new CompletableFuture<Thread>();
+        Future<String> follower = executor.submit(() -> {
+            followerThread.complete(Thread.currentThread());
+            return bodyOf(interceptor.intercept(followerChain));
+        });
+        var thread = followerThread.get(5, TimeUnit.SECONDS);
+        await().atMost(Duration.ofSeconds(5)).until(() -> thread.getState() == Thread.State.TIMED_WAITING);
+
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("Canceled");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("own");
+        verify(followerChain).proceed(request);
+    }
+
+    @Test
+    void shouldStopWaiting_WhenWaitingCallIsCancelled() throws Exception {
+        var request = get("token-a");
+        var release = new CountDownLatch(1);
+        var leaderChain = blockingChain(request, release, okResponse(request, "a"));
+
+        Future<String> leader = executor.submit(() -> bodyOf(interceptor.intercept(leaderChain)));
+        await().atMost(Duration.ofSeconds(5)).until(() -> interceptor.inFlightCount() == 1);
+
+        var followerCancelled = new AtomicBoolean();
+        var followerChain = mockChain(request, newCall(followerCancelled));
+        var followerThread = new CompletableFuture<Thread>();
+        Future<String> follower = executor.submit(() -> {
+            followerThread.complete(Thread.currentThread());
+            return bodyOf(interceptor.intercept(followerChain));
+        });
+        var thread = followerThread.get(5, TimeUnit.SECONDS);
+        await().atMost(Duration.ofSeconds(5)).until(() -> thread.getState() == Thread.State.TIMED_WAITING);
+
+        followerCancelled.set(true);
+
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IOException.class)
+                .hasRootCauseMessage("Canceled");
+        verify(followerChain, never()).proceed(any());
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+    }
+
+    @Test
+    void shouldStopWaiting_WhenCallTimeoutElapses() throws Exception {
+        var request = get("token-a");
+        var release = new CountDownLatch(1);
+        var leaderChain = blockingChain(request, release, okResponse(request, "a"));
+
+        Future<String> leader = executor.submit(() -> bodyOf(interceptor.intercept(leaderChain)));
+        await().atMost(Duration.ofSeconds(5)).until(() -> interceptor.inFlightCount() == 1);
+
+        Call followerCall = newCall();
+        followerCall.timeout().timeout(100, TimeUnit.MILLISECONDS);
+        var followerChain = mockChain(request, followerCall);
+
+        assertThatThrownBy(() -> interceptor.intercept(followerChain))
+                .isInstanceOf(InterruptedIOException.class)
+                .hasMessage("timeout");
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+    }
+
+    interface StreamingApi {
+
+        @Streaming
+        @GET("kv/{key}")
+        retrofit2.Call<ResponseBody> streamValues();
+    }
+
+    private static Request get(String token) {
+        return new Request.Builder().url(URL).header("X-Consul-Token", token).get().build();
+    }
+
+    private static Response okResponse(Request request, String body) {
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .header("X-Consul-Index", "42")
+                .body(ResponseBody.create(body, MediaType.get("application/json")))
+                .build();
+    }
+
+    private static Call newCall() {
+        return newCall(new AtomicBoolean());
+    }
+
+    private static Call newCall(AtomicBoolean cancelled) {
+        Call call = mock();
+        var timeout = new Timeout();
+        when(call.timeout()).thenReturn(timeout);
+        when(call.isCanceled()).thenAnswer(invocation -> cancelled.get());
+        return call;
+    }
+
+    private static Interceptor.Chain mockChain(Request request, Call call) {
+        Interceptor.Chain chain = mock();
+        when(chain.request()).thenReturn(request);
+        when(chain.call()).thenReturn(call);
+        return chain;
+    }
+
+    private static Interceptor.Chain chainReturning(Request request, Response response) throws IOException {
+        var chain = mockChain(request, newCall());
+        when(chain.proceed(any())).thenReturn(response);
+        return chain;
+    }
+
+    private static Interceptor.Chain blockingChain(Request request, CountDownLatch release, Response response)
+            throws IOException {
+        var chain = mockChain(request, newCall());
+        when(chain.proceed(any())).thenAnswer(invocation -> {
+            release.await();
+            return response;
+        });
+        return chain;
+    }
+
+    private static String bodyOf(Response response) throws IOException {
+        try (response) {
+            assertThat(response.header("X-Consul-Index")).isEqualTo("42");
+            return response.body().string();
+        }
+    }
+}
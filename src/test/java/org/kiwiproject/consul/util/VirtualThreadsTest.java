@@ -0,0 +1,38 @@
+package org.kiwiproject.consul.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+class VirtualThreadsTest {
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void shouldNotBeSupported_BeforeJava21() {
+        assertThat(VirtualThreads.isSupported()).isFalse();
+        assertThatIllegalStateException()
+                .isThrownBy(() -> VirtualThreads.newThreadFactory("test-"))
+                .withMessageStartingWith("Virtual threads require Java 21 or later");
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void shouldCreateNamedVirtualThreads() throws Exception {
+        assertThat(VirtualThreads.isSupported()).isTrue();
+
+        var executor = VirtualThreads.newThreadPerTaskExecutor("test-vt-");
+        try {
+            var threadName = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor)
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(threadName).startsWith("test-vt-");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -4,8 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -25,6 +27,7 @@ import org.slf4j.Logger;
 
 import javax.net.ssl.SSLProtocolException;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Optional;
 
 class ConsulFailoverInterceptorTest {
@@ -114,6 +117,52 @@ class ConsulFailoverInterceptorTest {
         verify(chain, times(3)).proceed(any(Request.class));
     }
 
+    @Test
+    void shouldTellStrategy_WhenRequestsStartAndEnd() throws IOException {
+        when(strategy.isRequestViable(any(Request.class))).thenReturn(true);
+
+        var request = newMockRequest();
+        when(strategy.computeNextStage(any(Request.class))).thenReturn(Optional.of(request));
+
+        var response = mock(Response.class);
+
+        var chain = mock(Chain.class, RETURNS_DEEP_STUBS);
+        when(chain.proceed(any(Request.class)))
+                .thenThrow(new RuntimeException("request 1 to consul failed"))
+                .thenReturn(response);
+
+        assertThat(interceptor.intercept(chain)).isSameAs(response);
+
+        verify(strategy, times(2)).markRequestStarted(request);
+        verify(strategy).markRequestFailed(request);
+        verify(strategy).markRequestCompleted(same(request), same(response), any(Duration.class));
+    }
+
+    @Test
+    void shouldNotPenalizeOrRetry_WhenCallIsCancelled() throws IOException {
+        when(strategy.isRequestViable(any(Request.class))).thenReturn(true);
+
+        var request = newMockRequest();
+        when(strategy.computeNextStage(any(Request.class))).thenReturn(Optional.of(request));
+
+        var chain = mock(Chain.class, RETURNS_DEEP_STUBS);
+        when(chain.call().isCanceled()).thenReturn(true);
+        var canceled = new IOException("Canceled");
+        when(chain.proceed(any(Request.class))).thenThrow(canceled);
+
+        //noinspection resource
+        assertThatExceptionOfType(ConsulException.class)
+                .isThrownBy(() -> interceptor.intercept(chain))
+                .withCause(canceled);
+
+        //noinspection resource
+        verify(chain).proceed(any(Request.class));
+        verify(strategy).markRequestStarted(request);
+        verify(strategy).markRequestCancelled(request);
+        verify(strategy, never()).markRequestFailed(any(Request.class));
+        verify(strategy).reset();
+    }
+
     @Test
     void shouldThrowException_WhenMaxFailoverAttemptsExceeded() throws IOException {
         when(strategy.isRequestViable(any(Request.class))).thenReturn(true);
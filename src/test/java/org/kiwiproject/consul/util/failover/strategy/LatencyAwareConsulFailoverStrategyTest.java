@@ -0,0 +1,271 @@
+package org.kiwiproject.consul.util.failover.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+
+import com.google.common.base.Ticker;
+import com.google.common.net.HostAndPort;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+@DisplayName("LatencyAwareConsulFailoverStrategy")
+class LatencyAwareConsulFailoverStrategyTest {
+
+    private static final HostAndPort FAST = HostAndPort.fromParts("10.116.42.1", 8501);
+    private static final HostAndPort MEDIUM = HostAndPort.fromParts("10.116.42.2", 8501);
+    private static final HostAndPort DEGRADED = HostAndPort.fromParts("10.116.42.3", 8501);
+
+    private FakeTicker ticker;
+    private LatencyAwareConsulFailoverStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        ticker = new FakeTicker();
+        strategy = new LatencyAwareConsulFailoverStrategy(List.of(FAST, MEDIUM, DEGRADED),
+                Duration.ofSeconds(10), Duration.ofSeconds(5), ticker);
+    }
+
+    @Nested
+    class Constructors {
+
+        @ParameterizedTest
+        @NullAndEmptySource
+        void shouldRequireNonEmptyTargetsCollection(List<HostAndPort> invalidTargets) {
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> new LatencyAwareConsulFailoverStrategy(invalidTargets))
+                    .withMessage("targets must not be null or empty");
+        }
+
+        @ParameterizedTest
+        @ValueSource(longs = { -1, 0 })
+        void shouldRequirePositiveDecayTime(long decayMillis) {
+            var decayTime = Duration.ofMillis(decayMillis);
+            var failurePenalty = Duration.ofSeconds(1);
+            var targets = List.of(FAST);
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> new LatencyAwareConsulFailoverStrategy(targets, decayTime, failurePenalty))
+                    .withMessage("decayTime must be positive");
+        }
+
+        @ParameterizedTest
+        @ValueSource(longs = { -1, 0 })
+        void shouldRequirePositiveFailurePenalty(long penaltyMillis) {
+            var decayTime = Duration.ofSeconds(10);
+            var failurePenalty = Duration.ofMillis(penaltyMillis);
+            var targets = List.of(FAST);
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> new LatencyAwareConsulFailoverStrategy(targets, decayTime, failurePenalty))
+                    .withMessage("failurePenalty must be positive");
+        }
+    }
+
+    @Nested
+    class ComputeNextStage {
+
+        @Test
+        void shouldRewriteRequestToTarget_KeepingPathAndQuery() {
+            var request = newRequest("https://consul.acme.com:8500/v1/health/service/api?passing=true");
+
+            var nextUrl = strategy.computeNextStage(request).map(Request::url).orElseThrow();
+
+            assertThat(List.of(FAST, MEDIUM, DEGRADED))
+                    .contains(HostAndPort.fromParts(nextUrl.host(), nextUrl.port()));
+            assertThat(nextUrl.encodedPath()).isEqualTo("/v1/health/service/api");
+            assertThat(nextUrl.queryParameter("passing")).isEqualTo("true");
+        }
+
+        @Test
+        void shouldNeverChooseSlowestTarget() {
+            respond(FAST, Duration.ofMillis(2));
+            respond(MEDIUM, Duration.ofMillis(5));
+            respond(DEGRADED, Duration.ofMillis(800));
+
+            var choices = choose(1_000);
+
+            assertThat(choices).doesNotContainKey(DEGRADED);
+            assertThat(choices.get(FAST)).isGreaterThan(choices.get(MEDIUM));
+        }
+
+        @Test
+        void shouldAvoidTarget_AfterSingleSlowResponse() {
+            IntStream.range(0, 50).forEach(i -> {
+                respond(FAST, Duration.ofMillis(2));
+                respond(MEDIUM, Duration.ofMillis(2));
+                respond(DEGRADED, Duration.ofMillis(2));
+            });
+
+            respond(DEGRADED, Duration.ofMillis(500));
+
+            assertThat(choose(1_000)).doesNotContainKey(DEGRADED);
+        }
+
+        @Test
+        void shouldPreferTargetWithFewerRequestsInFlight() {
+            var twoTargets = new LatencyAwareConsulFailoverStrategy(List.of(FAST, MEDIUM),
+                    Duration.ofSeconds(10), Duration.ofSeconds(5), ticker);
+            twoTargets.markRequestStarted(newRequest(urlOf(FAST)));
+            twoTargets.markRequestStarted(newRequest(urlOf(FAST)));
+
+            var nextUrl = twoTargets.computeNextStage(newRequest(urlOf(FAST))).map(Request::url).orElseThrow();
+
+            assertThat(nextUrl.host()).isEqualTo(MEDIUM.getHost());
+        }
+
+        @Test
+        void shouldNotRetryFailedTargets_UntilReset() {
+            strategy.markRequestFailed(newRequest(urlOf(FAST)));
+            strategy.markRequestFailed(newRequest(urlOf(MEDIUM)));
+
+            var nextUrl = strategy.computeNextStage(newRequest(urlOf(FAST))).map(Request::url).orElseThrow();
+            assertThat(nextUrl.host()).isEqualTo(DEGRADED.getHost());
+
+            strategy.markRequestFailed(newRequest(urlOf(DEGRADED)));
+            assertThat(strategy.computeNextStage(newRequest(urlOf(FAST)))).isEmpty();
+            assertThat(strategy.isRequestViable(newRequest(urlOf(FAST)))).isFalse();
+
+            strategy.reset();
+            assertThat(strategy.computeNextStage(newRequest(urlOf(FAST)))).isPresent();
+            assertThat(strategy.isRequestViable(newRequest(urlOf(FAST)))).isTrue();
+        }
+    }
+
+    @Nested
+    class Statistics {
+
+        @Test
+        void shouldCountRequestsInFlight() {
+            var request = newRequest(urlOf(FAST));
+
+            strategy.markRequestStarted(request);
+            strategy.markRequestStarted(request);
+            assertThat(strategy.statsFor(FAST).getInFlight()).isEqualTo(2);
+
+            strategy.markRequestCompleted(request, newResponse(request, 200), Duration.ofMillis(3));
+            strategy.markRequestFailed(request);
+            assertThat(strategy.statsFor(FAST).getInFlight()).isZero();
+        }
+
+        @Test
+        void shouldRecordFailurePenalty_ForServerErrors() {
+            var request = newRequest(urlOf(MEDIUM));
+            strategy.markRequestStarted(request);
+
+            strategy.markRequestCompleted(request, newResponse(request, 503), Duration.ofMillis(3));
+
+            assertThat(averageMillis(MEDIUM)).isEqualTo(5_000);
+        }
+
+        @Test
+        void shouldDecayAverage_WhileNoRequestsAreMade() {
+            strategy.markRequestFailed(newRequest(urlOf(DEGRADED)));
+            assertThat(averageMillis(DEGRADED)).isEqualTo(5_000);
+
+            ticker.advance(Duration.ofSeconds(10));
+            assertThat(averageMillis(DEGRADED)).isCloseTo(5_000 / Math.E, offset(1.0));
+
+            ticker.advance(Duration.ofMinutes(5));
+            assertThat(averageMillis(DEGRADED)).isLessThan(0.001);
+        }
+
+        @Test
+        void shouldMoveAverageGradually_TowardFasterResponses() {
+            respond(FAST, Duration.ofMillis(100));
+            ticker.advance(Duration.ofSeconds(1));
+
+            respond(FAST, Duration.ofMillis(10));
+
+            assertThat(averageMillis(FAST)).isBetween(10.0, 100.0);
+        }
+
+        @Test
+        void shouldOnlyStopCountingInFlight_WhenRequestIsCancelled() {
+            var request = newRequest(urlOf(FAST));
+            strategy.markRequestStarted(request);
+
+            strategy.markRequestCancelled(request);
+
+            assertThat(strategy.statsFor(FAST).getInFlight()).isZero();
+            assertThat(averageMillis(FAST)).isZero();
+            assertThat(strategy.isRequestViable(request)).isTrue();
+            assertThat(choose(1_000)).containsKey(FAST);
+        }
+
+        @Test
+        void shouldIgnoreBlockingQueries() {
+            var request = newRequest(urlOf(FAST) + "?index=42&wait=5s");
+
+            strategy.markRequestStarted(request);
+            assertThat(strategy.statsFor(FAST).getInFlight()).isZero();
+
+            strategy.markRequestCompleted(request, newResponse(request, 200), Duration.ofSeconds(5));
+            assertThat(averageMillis(FAST)).isZero();
+        }
+    }
+
+    private void respond(HostAndPort target, Duration latency) {
+        var request = newRequest(urlOf(target));
+        strategy.markRequestStarted(request);
+        strategy.markRequestCompleted(request, newResponse(request, 200), latency);
+        ticker.advance(Duration.ofMillis(1));
+    }
+
+    private Map<HostAndPort, Integer> choose(int times) {
+        var choices = new HashMap<HostAndPort, Integer>();
+        IntStream.range(0, times).forEach(i -> {
+            var url = strategy.computeNextStage(newRequest(urlOf(FAST))).map(Request::url).orElseThrow();
+            choices.merge(HostAndPort.fromParts(url.host(), url.port()), 1, Integer::sum);
+        });
+        return choices;
+    }
+
+    private double averageMillis(HostAndPort target) {
+        return strategy.statsFor(target).averageNanos(ticker.read(), Duration.ofSeconds(10).toNanos()) / 1e6;
+    }
+
+    private static String urlOf(HostAndPort target) {
+        return String.format("https://%s:%d/v1/kv/config", target.getHost(), target.getPort());
+    }
+
+    private static Request newRequest(String url) {
+        return new Request.Builder().url(url).build();
+    }
+
+    private static Response newResponse(Request request, int code) {
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("test")
+                .build();
+    }
+
+    private static class FakeTicker extends Ticker {
+
+        private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+
+        void advance(Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    }
+}